@@ -8,6 +8,7 @@
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toList;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -35,21 +36,41 @@ class ChangeStreamPipelineFactory {
     public static final String LIST_DELIMITER = ",";
     private static final Logger LOGGER = LoggerFactory.getLogger(ChangeStreamPipelineFactory.class);
 
+    /**
+     * The maximum estimated size of the stage that excludes the collections of other tasks. The whole pipeline is sent
+     * in a single command, which must not exceed the maximum BSON document size of 16 MB, so half of it is left for
+     * the other stages and the rest of the command.
+     */
+    static final long MAX_TASK_STAGE_SIZE = 8 * 1024 * 1024;
+    private static final int NAMESPACE_ELEMENT_OVERHEAD = 34;
+
     private final MongoDbConnectorConfig connectorConfig;
     private final FilterConfig filterConfig;
+    private final List<CollectionId> otherTaskCollections;
 
     ChangeStreamPipelineFactory(MongoDbConnectorConfig connectorConfig, FilterConfig filterConfig) {
+        this(connectorConfig, filterConfig, List.of());
+    }
+
+    /**
+     * @param otherTaskCollections the known collections assigned to other tasks when the collections are partitioned
+     *                             over multiple tasks
+     */
+    ChangeStreamPipelineFactory(MongoDbConnectorConfig connectorConfig, FilterConfig filterConfig, List<CollectionId> otherTaskCollections) {
         this.connectorConfig = connectorConfig;
         this.filterConfig = filterConfig;
+        this.otherTaskCollections = otherTaskCollections;
     }
 
     ChangeStreamPipeline create() {
+        var taskPipeline = createTaskPipeline();
         var sizePipeline = createSizePipeline();
         var splitPipeline = createSplitPipeline();
         var userAndInternalPipeline = createUserAndInternalPipeline();
 
         // Resolve and combine pipelines serially
-        var effectivePipeline = sizePipeline
+        var effectivePipeline = taskPipeline
+                .then(sizePipeline)
                 .then(userAndInternalPipeline)
                 .then(splitPipeline);
 
@@ -74,6 +95,27 @@ private ChangeStreamPipeline createUserAndInternalPipeline() {
         }
     }
 
+    private ChangeStreamPipeline createTaskPipeline() {
+        if (!filterConfig.isTaskPartitioned() || otherTaskCollections.isEmpty()) {
+            return new ChangeStreamPipeline();
+        }
+        var stageSize = otherTaskCollections.stream()
+                .mapToLong(ChangeStreamPipelineFactory::estimateNamespaceSize)
+                .sum();
+        if (stageSize > MAX_TASK_STAGE_SIZE) {
+            LOGGER.warn("The {} collections assigned to other tasks do not fit into the change stream pipeline, "
+                    + "their events are filtered by the connector instead", otherTaskCollections.size());
+            return new ChangeStreamPipeline();
+        }
+        // Collections created after the change stream was opened are not known here, so their events are
+        // filtered by the task collection filter instead
+        var stage = Aggregates.match(Filters.nin("ns", otherTaskCollections.stream()
+                .map(ChangeStreamPipelineFactory::namespaceBson)
+                .collect(toList())));
+
+        return new ChangeStreamPipeline(stage);
+    }
+
     private ChangeStreamPipeline createSizePipeline() {
         if (connectorConfig.getOversizeHandlingMode() != MongoDbConnectorConfig.OversizeHandlingMode.SKIP) {
             return new ChangeStreamPipeline();
@@ -322,6 +364,22 @@ private static Bson expr(Object expr) {
         return new BasicDBObject("$expr", expr);
     }
 
+    /**
+     * Estimates the size of the namespace of a collection as an element of the {@code $nin} array, that is the type,
+     * the array index and the embedded document with the database and collection names.
+     */
+    private static long estimateNamespaceSize(CollectionId collectionId) {
+        return NAMESPACE_ELEMENT_OVERHEAD
+                + collectionId.dbName().getBytes(StandardCharsets.UTF_8).length
+                + collectionId.name().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static Bson namespaceBson(CollectionId collectionId) {
+        return new BasicDBObject()
+                .append("db", collectionId.dbName())
+                .append("coll", collectionId.name());
+    }
+
     private static Bson namespaceBson(String namespace) {
         var nsAndCol = namespace.trim().split("\\.", 2);
         return new BasicDBObject()
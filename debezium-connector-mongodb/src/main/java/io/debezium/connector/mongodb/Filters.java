@@ -26,6 +26,7 @@ public final class Filters {
 
     private final FilterConfig config;
     private final Predicate<String> databaseFilter;
+    private final Predicate<CollectionId> taskCollectionFilter;
     private final Predicate<CollectionId> collectionFilter;
     private final FieldSelector fieldSelector;
 
@@ -37,6 +38,7 @@ public final class Filters {
     public Filters(Configuration configuration) {
         this.config = new FilterConfig(configuration);
         this.databaseFilter = createDatabaseFilter();
+        this.taskCollectionFilter = createTaskCollectionFilter();
         this.collectionFilter = createCollectionFilter();
         this.fieldSelector = createFieldSelector();
     }
@@ -51,6 +53,13 @@ private Predicate<String> createDatabaseFilter() {
                 .orElse((db) -> true);
     }
 
+    private Predicate<CollectionId> createTaskCollectionFilter() {
+        if (!config.isTaskPartitioned()) {
+            return (id) -> true;
+        }
+        return (id) -> taskOf(id, config.getTaskCount()) == config.getTaskId();
+    }
+
     private Predicate<CollectionId> createCollectionFilter() {
         var collectionIncludeList = config.getCollectionIncludeList();
         var collectionExcludeList = config.getCollectionExcludeList();
@@ -59,7 +68,8 @@ private Predicate<CollectionId> createCollectionFilter() {
                 .or(() -> collectionIncludeList.map(list -> includes(list, CollectionId::namespace)))
                 .or(() -> collectionExcludeList.map(list -> excludes(list, CollectionId::namespace)))
                 .orElse((id) -> true)
-                .and(this::isNotBuiltIn);
+                .and(this::isNotBuiltIn)
+                .and(taskCollectionFilter);
 
         // Create signal collection filter if specified and not included
         Optional<Predicate<CollectionId>> signalCollectionFilter = config.getSignalDataCollection()
@@ -97,6 +107,29 @@ public Predicate<CollectionId> collectionFilter() {
         return collectionFilter;
     }
 
+    /**
+     * Get the predicate function that determines whether the given collection is assigned to this task. All collections
+     * are assigned to the task unless the collections are partitioned over multiple tasks.
+     *
+     * @return the task collection filter; never null
+     * @see MongoDbConnectorConfig#TASK_PARTITIONING_MODE
+     */
+    public Predicate<CollectionId> taskCollectionFilter() {
+        return taskCollectionFilter;
+    }
+
+    /**
+     * Get the task a collection is assigned to when the collections are partitioned over multiple tasks. The assignment
+     * depends only on the namespace of the collection, so that all changes of a collection are captured by the same task.
+     *
+     * @param id the collection identifier; may not be null
+     * @param taskCount the number of tasks
+     * @return the identifier of the task, between 0 and {@code taskCount - 1}
+     */
+    public static int taskOf(CollectionId id, int taskCount) {
+        return Math.floorMod(id.namespace().hashCode(), taskCount);
+    }
+
     /**
      * Get the field filter for a given collection identifier.
      *
@@ -143,6 +176,9 @@ public static class FilterConfig {
         private final ChangeStreamPipeline userPipeline;
         private final FiltersMatchMode filtersMatchMode;
         private final boolean literalMatchMode;
+        private final boolean taskPartitioned;
+        private final int taskId;
+        private final int taskCount;
 
         public FilterConfig(Configuration config) {
             var connectorConfig = new MongoDbConnectorConfig(config);
@@ -156,6 +192,9 @@ public FilterConfig(Configuration config) {
             this.userPipeline = resolveChangeStreamPipeline(config, MongoDbConnectorConfig.CURSOR_PIPELINE);
             this.filtersMatchMode = connectorConfig.getFiltersMatchMode();
             this.literalMatchMode = FiltersMatchMode.LITERAL.equals(filtersMatchMode);
+            this.taskPartitioned = connectorConfig.isTaskPartitioned();
+            this.taskId = connectorConfig.getTaskId();
+            this.taskCount = connectorConfig.getTaskCount();
         }
 
         public Optional<String> getDbIncludeList() {
@@ -202,6 +241,18 @@ public boolean isLiteralsMatchMode() {
             return literalMatchMode;
         }
 
+        public boolean isTaskPartitioned() {
+            return taskPartitioned;
+        }
+
+        public int getTaskId() {
+            return taskId;
+        }
+
+        public int getTaskCount() {
+            return taskCount;
+        }
+
         private static String resolveString(Configuration config, Field key) {
             return normalize(config.getString(key));
         }
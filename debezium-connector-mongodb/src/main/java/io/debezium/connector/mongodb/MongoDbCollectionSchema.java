@@ -38,11 +38,18 @@ public class MongoDbCollectionSchema implements DataCollectionSchema {
     private final Envelope envelopeSchema;
     private final Schema valueSchema;
     private final Function<BsonDocument, Object> keyGenerator;
-    private final Function<BsonDocument, String> valueGenerator;
+    private final Function<BsonDocument, Object> valueGenerator;
+    private final Function<BsonDocument, Object> updatedFieldsGenerator;
 
     public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema keySchema,
                                    Function<BsonDocument, Object> keyGenerator, Envelope envelopeSchema, Schema valueSchema,
-                                   Function<BsonDocument, String> valueGenerator) {
+                                   Function<BsonDocument, Object> valueGenerator) {
+        this(id, fieldFilter, keySchema, keyGenerator, envelopeSchema, valueSchema, valueGenerator, BsonDocument::toJson);
+    }
+
+    public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema keySchema,
+                                   Function<BsonDocument, Object> keyGenerator, Envelope envelopeSchema, Schema valueSchema,
+                                   Function<BsonDocument, Object> valueGenerator, Function<BsonDocument, Object> updatedFieldsGenerator) {
         this.id = id;
         this.fieldFilter = fieldFilter;
         this.keySchema = keySchema;
@@ -50,6 +57,7 @@ public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema
         this.valueSchema = valueSchema;
         this.keyGenerator = keyGenerator != null ? keyGenerator : (BsonDocument) -> null;
         this.valueGenerator = valueGenerator != null ? valueGenerator : (Document) -> null;
+        this.updatedFieldsGenerator = updatedFieldsGenerator != null ? updatedFieldsGenerator : (Document) -> null;
     }
 
     @Override
@@ -79,8 +87,8 @@ public Struct valueFromDocumentSnapshot(BsonDocument document, Envelope.Operatio
         Struct value = new Struct(valueSchema);
         switch (operation) {
             case READ:
-                final String jsonStr = valueGenerator.apply(fieldFilter.apply(document));
-                value.put(FieldName.AFTER, jsonStr);
+                final Object documentValue = valueGenerator.apply(fieldFilter.apply(document));
+                value.put(FieldName.AFTER, documentValue);
                 break;
         }
         return value;
@@ -104,7 +112,7 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> d
                 }
 
                 if (document.getUpdateDescription() != null) {
-                    final Struct updateDescription = new Struct(MongoDbSchema.UPDATED_DESCRIPTION_SCHEMA);
+                    final Struct updateDescription = new Struct(valueSchema.field(MongoDbFieldName.UPDATE_DESCRIPTION).schema());
                     List<String> removedFields = document.getUpdateDescription().getRemovedFields();
                     if (removedFields != null && !removedFields.isEmpty()) {
                         removedFields = removedFields.stream()
@@ -118,7 +126,7 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> d
 
                     final BsonDocument updatedFields = document.getUpdateDescription().getUpdatedFields();
                     if (updatedFields != null) {
-                        updateDescription.put(MongoDbFieldName.UPDATED_FIELDS, fieldFilter.applyChange(updatedFields).toJson());
+                        updateDescription.put(MongoDbFieldName.UPDATED_FIELDS, updatedFieldsGenerator.apply(fieldFilter.applyChange(updatedFields)));
                     }
 
                     // TODO Test filters for truncated arrays
@@ -152,13 +160,13 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> d
     }
 
     private void extractFullDocument(ChangeStreamDocument<BsonDocument> document, Struct value) {
-        final String fullDocStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
-        value.put(FieldName.AFTER, fullDocStr);
+        final Object fullDoc = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
+        value.put(FieldName.AFTER, fullDoc);
     }
 
     private void extractFullDocumentBeforeChange(ChangeStreamDocument<BsonDocument> document, Struct value) {
-        final String fullDocBeforeChangeStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocumentBeforeChange()));
-        value.put(FieldName.BEFORE, fullDocBeforeChangeStr);
+        final Object fullDocBeforeChange = valueGenerator.apply(fieldFilter.apply(document.getFullDocumentBeforeChange()));
+        value.put(FieldName.BEFORE, fullDocBeforeChange);
     }
 
     @Override
@@ -7,6 +7,7 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -73,8 +74,23 @@ public List<Map<String, String>> taskConfigs(int maxTasks) {
             LOGGER.error("Configuring a maximum of {} tasks with no connector configuration available", maxTasks);
             return Collections.emptyList();
         }
-        LOGGER.debug("Configuring MongoDB connector task");
-        return List.of(config.asMap());
+        final MongoDbConnectorConfig connectorConfig = new MongoDbConnectorConfig(config);
+        if (connectorConfig.getTaskPartitioningMode() == MongoDbConnectorConfig.TaskPartitioningMode.NONE || maxTasks == 1) {
+            LOGGER.debug("Configuring MongoDB connector task");
+            return List.of(config.asMap());
+        }
+
+        // Each task captures the collections whose namespace hash falls into its partition
+        LOGGER.info("Configuring {} MongoDB connector tasks partitioned by collection", maxTasks);
+        final Map<String, String> properties = config.asMap();
+        final List<Map<String, String>> taskConfigs = new ArrayList<>(maxTasks);
+        for (int taskIndex = 0; taskIndex < maxTasks; taskIndex++) {
+            final Map<String, String> taskProperties = new HashMap<>(properties);
+            taskProperties.put(MongoDbConnectorConfig.TASK_ID.name(), String.valueOf(taskIndex));
+            taskProperties.put(MongoDbConnectorConfig.TASK_COUNT.name(), String.valueOf(maxTasks));
+            taskConfigs.add(Collections.unmodifiableMap(taskProperties));
+        }
+        return taskConfigs;
     }
 
     @Override
@@ -21,6 +21,7 @@
 import org.apache.kafka.common.config.ConfigDef.Width;
 import org.apache.kafka.connect.data.Struct;
 import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -322,6 +323,136 @@ public boolean isPostImage() {
         }
     }
 
+    /**
+     * The set of predefined DocumentFormat options.
+     */
+    public enum DocumentFormat implements EnumeratedValue {
+
+        /**
+         * Documents are emitted as extended JSON strings
+         */
+        JSON("json"),
+
+        /**
+         * Documents are emitted as raw BSON bytes that are decoded lazily by the consumers
+         */
+        BSON("bson");
+
+        private final String value;
+
+        DocumentFormat(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static DocumentFormat parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+
+            for (DocumentFormat option : DocumentFormat.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static DocumentFormat parse(String value, String defaultValue) {
+            DocumentFormat format = parse(value);
+
+            if (format == null && defaultValue != null) {
+                format = parse(defaultValue);
+            }
+
+            return format;
+        }
+    }
+
+    /**
+     * The set of predefined TaskPartitioningMode options.
+     */
+    public enum TaskPartitioningMode implements EnumeratedValue {
+
+        /**
+         * All collections are captured by a single task
+         */
+        NONE("none"),
+
+        /**
+         * The collections are distributed over the tasks by the hash of their namespace
+         */
+        COLLECTION("collection");
+
+        private final String value;
+
+        TaskPartitioningMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static TaskPartitioningMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+
+            for (TaskPartitioningMode option : TaskPartitioningMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static TaskPartitioningMode parse(String value, String defaultValue) {
+            TaskPartitioningMode mode = parse(value);
+
+            if (mode == null && defaultValue != null) {
+                mode = parse(defaultValue);
+            }
+
+            return mode;
+        }
+    }
+
     /**
      * The set of predefined CaptureScope options or aliases.
      */
@@ -921,6 +1052,12 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
             .withValidation(Field::isInteger)
             .withInvisibleRecommender();
 
+    protected static final Field TASK_COUNT = Field.create("mongodb.task.count")
+            .withDescription("Internal use only")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withInvisibleRecommender();
+
     public static final Field SNAPSHOT_MODE = Field.create("snapshot.mode")
             .withDisplayName("Snapshot mode")
             .withEnum(SnapshotMode.class, SnapshotMode.INITIAL)
@@ -942,6 +1079,30 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
                     + " the initial snapshot may be a subset of data present in the data source. The subset would be defined"
                     + " by mongodb filter query specified as value for property snapshot.collection.filter.override.<dbname>.<collectionName>");
 
+    public static final Field SNAPSHOT_COLLECTION_MAX_RANGES = Field.create("snapshot.collection.max.ranges")
+            .withDisplayName("Snapshot collection max ranges")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 2))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of ranges of the '_id' field a collection is split into during the initial snapshot. "
+                    + "The ranges are snapshotted concurrently by the snapshot threads and the snapshot resumes from the ranges "
+                    + "that were not completed when the connector is restarted. "
+                    + "Defaults to 1, which means that each collection is snapshotted as a whole.");
+
+    public static final Field SNAPSHOT_COLLECTION_RANGE_MIN_DOCUMENTS = Field.create("snapshot.collection.range.min.documents")
+            .withDisplayName("Snapshot collection range min documents")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 3))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(100_000L)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The estimated minimal number of documents in a range of a collection that is split "
+                    + "according to 'snapshot.collection.max.ranges'. Collections with fewer documents are split into fewer ranges.");
+
     public static final Field CURSOR_MAX_AWAIT_TIME_MS = Field.create("cursor.max.await.time.ms")
             .withDisplayName("Server's oplog streaming cursor max await time")
             .withType(Type.INT)
@@ -1006,6 +1167,34 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
                     "for data change, schema change, transaction, heartbeat event etc.")
             .withDefault(DefaultTopicNamingStrategy.class.getName());
 
+    public static final Field DOCUMENT_FORMAT = Field.create("document.format")
+            .withDisplayName("Document format")
+            .withEnum(DocumentFormat.class, DocumentFormat.JSON)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 9))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The format of the documents in the 'before', 'after' and 'updateDescription.updatedFields' fields of change events. "
+                    + "Options include: "
+                    + "'json' (the default) the documents are extended JSON strings; "
+                    + "'bson' the documents are raw BSON bytes, which avoids converting every document to JSON and parsing it back "
+                    + "in the MongoDB specific transformations");
+
+    public static final Field TASK_PARTITIONING_MODE = Field.create("task.partitioning.mode")
+            .withDisplayName("Task partitioning mode")
+            .withEnum(TaskPartitioningMode.class, TaskPartitioningMode.NONE)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 10))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Determines how the captured collections are distributed over the connector tasks. "
+                    + "Options include: "
+                    + "'none' (the default) a single task captures all collections; "
+                    + "'collection' the collections are distributed over 'tasks.max' tasks by the hash of their namespace, "
+                    + "each task snapshots its collections and reads its own change stream with its own resume token. "
+                    + "A multi-document transaction that changes collections assigned to different tasks is split over these tasks, "
+                    + "so the transaction metadata ('provide.transaction.metadata') of each task covers only its part of the transaction "
+                    + "and the events of the transaction are not ordered across the tasks. "
+                    + "Changing the number of tasks reassigns the collections, the tasks then resume from the offset recorded by a single task if it exists.");
+
     public static final Field SOURCE_INFO_STRUCT_MAKER = CommonConnectorConfig.SOURCE_INFO_STRUCT_MAKER
             .withDefault(MongoDbSourceInfoStructMaker.class.getName());
 
@@ -1034,10 +1223,14 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
                     FIELD_EXCLUDE_LIST,
                     FIELD_RENAMES,
                     SNAPSHOT_FILTER_QUERY_BY_COLLECTION,
+                    SNAPSHOT_COLLECTION_MAX_RANGES,
+                    SNAPSHOT_COLLECTION_RANGE_MIN_DOCUMENTS,
                     SOURCE_INFO_STRUCT_MAKER)
             .connector(
                     SNAPSHOT_MODE,
                     CAPTURE_MODE,
+                    DOCUMENT_FORMAT,
+                    TASK_PARTITIONING_MODE,
                     SCHEMA_NAME_ADJUSTMENT_MODE)
             .create();
 
@@ -1053,10 +1246,16 @@ public static ConfigDef configDef() {
     private final SnapshotMode snapshotMode;
     private final CaptureMode captureMode;
     private final FullUpdateType captureModeFullUpdateType;
+    private final DocumentFormat documentFormat;
+    private final TaskPartitioningMode taskPartitioningMode;
+    private final int taskId;
+    private final int taskCount;
     private final CaptureScope captureScope;
     private final String captureTarget;
     private final boolean offsetInvalidationAllowed;
     private final int snapshotMaxThreads;
+    private final int snapshotCollectionMaxRanges;
+    private final long snapshotCollectionRangeMinDocuments;
     private final int cursorMaxAwaitTimeMs;
     private final ConnectionString connectionString;
     private final String user;
@@ -1111,6 +1310,13 @@ public MongoDbConnectorConfig(Configuration config) {
         this.captureMode = CaptureMode.parse(captureModeValue, MongoDbConnectorConfig.CAPTURE_MODE.defaultValueAsString());
         String fullUpdateTypeValue = config.getString(MongoDbConnectorConfig.CAPTURE_MODE_FULL_UPDATE_TYPE);
         this.captureModeFullUpdateType = FullUpdateType.parse(fullUpdateTypeValue, MongoDbConnectorConfig.CAPTURE_MODE_FULL_UPDATE_TYPE.defaultValueAsString());
+        String documentFormatValue = config.getString(MongoDbConnectorConfig.DOCUMENT_FORMAT);
+        this.documentFormat = DocumentFormat.parse(documentFormatValue, MongoDbConnectorConfig.DOCUMENT_FORMAT.defaultValueAsString());
+
+        String taskPartitioningModeValue = config.getString(MongoDbConnectorConfig.TASK_PARTITIONING_MODE);
+        this.taskPartitioningMode = TaskPartitioningMode.parse(taskPartitioningModeValue, MongoDbConnectorConfig.TASK_PARTITIONING_MODE.defaultValueAsString());
+        this.taskId = config.getInteger(MongoDbConnectorConfig.TASK_ID);
+        this.taskCount = config.getInteger(MongoDbConnectorConfig.TASK_COUNT);
 
         this.offsetInvalidationAllowed = config.getBoolean(ALLOW_OFFSET_INVALIDATION);
 
@@ -1129,6 +1335,8 @@ public MongoDbConnectorConfig(Configuration config) {
         this.filtersMatchMode = FiltersMatchMode.parse(filterMatchModeValue, MongoDbConnectorConfig.FILTERS_MATCH_MODE.defaultValueAsString());
 
         this.snapshotMaxThreads = resolveSnapshotMaxThreads(config);
+        this.snapshotCollectionMaxRanges = config.getInteger(SNAPSHOT_COLLECTION_MAX_RANGES);
+        this.snapshotCollectionRangeMinDocuments = config.getLong(SNAPSHOT_COLLECTION_RANGE_MIN_DOCUMENTS);
         this.cursorMaxAwaitTimeMs = config.getInteger(MongoDbConnectorConfig.CURSOR_MAX_AWAIT_TIME_MS, 0);
     }
 
@@ -1284,6 +1492,29 @@ public FullUpdateType getCaptureModeFullUpdateType() {
         return captureModeFullUpdateType;
     }
 
+    public DocumentFormat getDocumentFormat() {
+        return documentFormat;
+    }
+
+    public TaskPartitioningMode getTaskPartitioningMode() {
+        return taskPartitioningMode;
+    }
+
+    public int getTaskId() {
+        return taskId;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * @return true if the collections are distributed over more than one task
+     */
+    public boolean isTaskPartitioned() {
+        return taskPartitioningMode == TaskPartitioningMode.COLLECTION && taskCount > 1;
+    }
+
     public CaptureScope getCaptureScope() {
         return captureScope;
     }
@@ -1397,6 +1628,14 @@ public int getSnapshotMaxThreads() {
         return snapshotMaxThreads;
     }
 
+    public int getSnapshotCollectionMaxRanges() {
+        return snapshotCollectionMaxRanges;
+    }
+
+    public long getSnapshotCollectionRangeMinDocuments() {
+        return snapshotCollectionRangeMinDocuments;
+    }
+
     @Override
     protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStructMaker(Version version) {
         return getSourceInfoStructMaker(SOURCE_INFO_STRUCT_MAKER, Module.name(), Module.version(), this);
@@ -1453,14 +1692,16 @@ private static ConnectionString resolveConnectionString(Configuration config) {
 
     @Override
     public Optional<String[]> parseSignallingMessage(Struct value) {
-        final String after = value.getString(Envelope.FieldName.AFTER);
+        final Object after = value.get(Envelope.FieldName.AFTER);
         if (after == null) {
             LOGGER.warn("After part of signal '{}' is missing", value);
             return Optional.empty();
         }
-        final Document fields = Document.parse(after);
+        final Document fields = RawBson.isRawBson(after)
+                ? RawBson.toDocument(after).decode(new DocumentCodec())
+                : Document.parse(after.toString());
         if (fields.size() != 3) {
-            LOGGER.warn("The signal event '{}' should have 3 fields but has {}", after, fields.size());
+            LOGGER.warn("The signal event '{}' should have 3 fields but has {}", fields.toJson(), fields.size());
             return Optional.empty();
         }
         final String[] result = new String[3];
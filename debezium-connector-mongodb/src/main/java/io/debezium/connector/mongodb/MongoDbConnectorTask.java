@@ -20,6 +20,7 @@
 
 import io.debezium.DebeziumException;
 import io.debezium.annotation.ThreadSafe;
+import io.debezium.annotation.VisibleForTesting;
 import io.debezium.bean.StandardBeanNames;
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
@@ -86,7 +87,8 @@ public ChangeEventSourceCoordinator<MongoDbPartition, MongoDbOffsetContext> star
         this.connectionContext = new MongoDbConnectionContext(config);
 
         final Schema structSchema = connectorConfig.getSourceInfoStructMaker().schema();
-        this.schema = new MongoDbSchema(taskContext.getFilters(), taskContext.getTopicNamingStrategy(), structSchema, schemaNameAdjuster);
+        this.schema = new MongoDbSchema(taskContext.getFilters(), taskContext.getTopicNamingStrategy(), structSchema, schemaNameAdjuster,
+                connectorConfig.getDocumentFormat());
 
         final Offsets<MongoDbPartition, MongoDbOffsetContext> previousOffsets = getPreviousOffsets(connectorConfig);
         final Clock clock = Clock.system();
@@ -100,6 +102,7 @@ public ChangeEventSourceCoordinator<MongoDbPartition, MongoDbOffsetContext> star
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
                     .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .queueType(connectorConfig.getQueueType())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
@@ -171,7 +174,8 @@ public ChangeEventSourceCoordinator<MongoDbPartition, MongoDbOffsetContext> star
         }
     }
 
-    private Offsets<MongoDbPartition, MongoDbOffsetContext> getPreviousOffsets(MongoDbConnectorConfig connectorConfig) {
+    @VisibleForTesting
+    Offsets<MongoDbPartition, MongoDbOffsetContext> getPreviousOffsets(MongoDbConnectorConfig connectorConfig) {
         var partitionProvider = new MongoDbPartition.Provider(connectorConfig);
         var offsetLoader = new MongoDbOffsetContext.Loader(connectorConfig);
         var offsets = getPreviousOffsets(partitionProvider, offsetLoader);
@@ -179,6 +183,21 @@ private Offsets<MongoDbPartition, MongoDbOffsetContext> getPreviousOffsets(Mongo
         if (offsets.getTheOnlyOffset() != null) {
             return offsets;
         }
+
+        if (connectorConfig.isTaskPartitioned()) {
+            // The change stream position of a single task covers all collections, so each task can resume from it
+            LOGGER.info("Previous offset of the task partition not found, checking the offset of a single task");
+            var singleTaskOffset = getPreviousOffsets(
+                    new MongoDbPartition.Provider(connectorConfig, Set.of()),
+                    new MongoDbOffsetContext.Loader(connectorConfig))
+                    .getTheOnlyOffset();
+
+            if (singleTaskOffset != null) {
+                LOGGER.warn("Found offset of a single task, streaming of the task partition will resume from it");
+                offsets.getOffsets().put(offsets.getTheOnlyPartition(), singleTaskOffset);
+                return offsets;
+            }
+        }
         LOGGER.info("Previous valid offset not found, checking compatible offsets from older versions");
         var name = connectionContext.getRequiredReplicaSetName()
                 .orElse(ConnectionStrings.CLUSTER_RS_NAME);
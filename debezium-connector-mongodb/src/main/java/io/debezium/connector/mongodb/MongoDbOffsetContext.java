@@ -12,6 +12,7 @@
 import static io.debezium.connector.mongodb.SourceInfo.LSID;
 import static io.debezium.connector.mongodb.SourceInfo.ORDER;
 import static io.debezium.connector.mongodb.SourceInfo.RESUME_TOKEN;
+import static io.debezium.connector.mongodb.SourceInfo.SNAPSHOT_RANGES;
 import static io.debezium.connector.mongodb.SourceInfo.TIMESTAMP;
 import static io.debezium.connector.mongodb.SourceInfo.TXN_NUMBER;
 
@@ -50,6 +51,7 @@ public class MongoDbOffsetContext extends CommonOffsetContext<SourceInfo> {
 
     private final TransactionContext transactionContext;
     private final IncrementalSnapshotContext<CollectionId> incrementalSnapshotContext;
+    private volatile SnapshotRanges snapshotRanges;
 
     public MongoDbOffsetContext(SourceInfo sourceInfo, TransactionContext transactionContext,
                                 IncrementalSnapshotContext<CollectionId> incrementalSnapshotContext) {
@@ -64,6 +66,30 @@ void startInitialSnapshot() {
 
     void stopInitialSnapshot() {
         sourceInfo.stopInitialSnapshot();
+        snapshotRanges = null;
+    }
+
+    /**
+     * Continues an initial snapshot that was interrupted, from the position at which it was started.
+     */
+    void resumeInitialSnapshot(SnapshotRanges snapshotRanges) {
+        this.snapshotRanges = snapshotRanges;
+        sourceInfo.setSnapshot(SnapshotRecord.TRUE);
+        sourceInfo.startInitialSnapshot();
+    }
+
+    /**
+     * Records the progress of the collection ranges of the initial snapshot in the offsets.
+     */
+    void trackSnapshotRanges(SnapshotRanges snapshotRanges) {
+        this.snapshotRanges = snapshotRanges;
+    }
+
+    /**
+     * @return the ranges of the initial snapshot, or null if their progress is not tracked
+     */
+    SnapshotRanges snapshotRanges() {
+        return snapshotRanges;
     }
 
     @Override
@@ -74,6 +100,10 @@ void stopInitialSnapshot() {
                 ORDER, position.getInc());
         if (isSnapshotRunning()) {
             offset.put(INITIAL_SYNC, true);
+            final SnapshotRanges ranges = snapshotRanges;
+            if (ranges != null) {
+                offset.put(SNAPSHOT_RANGES, ranges.toOffsetValue());
+            }
         }
 
         addSessionTxnIdToOffset(position, offset);
@@ -216,15 +246,21 @@ public Loader(MongoDbConnectorConfig connectorConfig) {
         public MongoDbOffsetContext load(Map<String, ?> offset) {
             var sourceInfo = new SourceInfo(connectorConfig);
 
-            if (!booleanOffsetValue(offset, INITIAL_SYNC)) {
+            // An interrupted snapshot that tracked its ranges is resumed from the position at which it was started
+            final String snapshotRanges = booleanOffsetValue(offset, INITIAL_SYNC) ? stringOffsetValue(offset, SNAPSHOT_RANGES) : null;
+            if (!booleanOffsetValue(offset, INITIAL_SYNC) || snapshotRanges != null) {
                 var position = positionFromOffset(offset);
                 sourceInfo.setPosition(position);
             }
 
-            return new MongoDbOffsetContext(
+            final MongoDbOffsetContext offsetContext = new MongoDbOffsetContext(
                     sourceInfo,
                     new TransactionContext(),
                     MongoDbIncrementalSnapshotContext.load(offset, false));
+            if (snapshotRanges != null) {
+                offsetContext.resumeInitialSnapshot(SnapshotRanges.fromOffsetValue(snapshotRanges));
+            }
+            return offsetContext;
         }
 
         private SourceInfo.Position positionFromOffset(Map<String, ?> offset) {
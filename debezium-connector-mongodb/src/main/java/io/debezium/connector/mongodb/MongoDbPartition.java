@@ -20,25 +20,38 @@
 public class MongoDbPartition implements Partition {
     private static final String SERVER_ID_KEY = "server_id";
     private static final String REPLICA_SET_NAME = "rs";
+    private static final String TASK_PARTITION_KEY = "task_partition";
 
     private final String serverId;
     private final String replicaSetName;
+    private final String taskPartition;
 
     public MongoDbPartition(String serverId) {
-        this.serverId = serverId;
-        this.replicaSetName = null;
+        this(serverId, null, null);
     }
 
     /**
      * This should not be used outside of {@link MongoDbConnectorTask#getPreviousOffsets(MongoDbConnectorConfig)}
      */
     MongoDbPartition(String serverId, String replicaSetName) {
+        this(serverId, replicaSetName, null);
+    }
+
+    /**
+     * @param taskPartition the partition of the collections captured by the task when the collections are partitioned
+     *                      over multiple tasks, null otherwise
+     */
+    MongoDbPartition(String serverId, String replicaSetName, String taskPartition) {
         this.serverId = serverId;
         this.replicaSetName = replicaSetName;
+        this.taskPartition = taskPartition;
     }
 
     @Override
     public Map<String, String> getSourcePartition() {
+        if (taskPartition != null) {
+            return Collect.hashMapOf(SERVER_ID_KEY, serverId, TASK_PARTITION_KEY, taskPartition);
+        }
         return replicaSetName != null
                 ? Collect.hashMapOf(SERVER_ID_KEY, serverId, REPLICA_SET_NAME, replicaSetName)
                 : Collect.hashMapOf(SERVER_ID_KEY, serverId);
@@ -53,12 +66,13 @@ public boolean equals(Object obj) {
             return false;
         }
         final MongoDbPartition other = (MongoDbPartition) obj;
-        return Objects.equals(serverId, other.serverId) && Objects.equals(replicaSetName, other.replicaSetName);
+        return Objects.equals(serverId, other.serverId) && Objects.equals(replicaSetName, other.replicaSetName)
+                && Objects.equals(taskPartition, other.taskPartition);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(serverId, replicaSetName);
+        return Objects.hash(serverId, replicaSetName, taskPartition);
     }
 
     @Override
@@ -73,9 +87,14 @@ public String toString() {
     public static class Provider implements Partition.Provider<MongoDbPartition> {
         private final String logicalName;
         private final Set<String> replicaSetNames;
+        private final String taskPartition;
 
         public Provider(MongoDbConnectorConfig connectorConfig) {
-            this(connectorConfig, Set.of());
+            this.logicalName = connectorConfig.getLogicalName();
+            this.replicaSetNames = Set.of();
+            this.taskPartition = connectorConfig.isTaskPartitioned()
+                    ? connectorConfig.getTaskId() + "/" + connectorConfig.getTaskCount()
+                    : null;
         }
 
         /**
@@ -84,12 +103,13 @@ public Provider(MongoDbConnectorConfig connectorConfig) {
         Provider(MongoDbConnectorConfig connectorConfig, Set<String> replicaSetNames) {
             this.logicalName = connectorConfig.getLogicalName();
             this.replicaSetNames = replicaSetNames;
+            this.taskPartition = null;
         }
 
         @Override
         public Set<MongoDbPartition> getPartitions() {
             if (replicaSetNames.isEmpty()) {
-                return Set.of(new MongoDbPartition(logicalName));
+                return Set.of(new MongoDbPartition(logicalName, null, taskPartition));
             }
 
             return replicaSetNames.stream()
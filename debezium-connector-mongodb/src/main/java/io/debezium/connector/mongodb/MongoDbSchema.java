@@ -10,11 +10,13 @@
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
+import org.bson.BsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.mongodb.FieldSelector.FieldFilter;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig.DocumentFormat;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.Json;
@@ -40,19 +42,28 @@ public class MongoDbSchema implements DatabaseSchema<CollectionId> {
 
     public static final Schema UPDATED_DESCRIPTION_SCHEMA = MongoDbSchemaFactory.get().updatedDescriptionSchema();
 
+    public static final Schema RAW_BSON_UPDATED_DESCRIPTION_SCHEMA = MongoDbSchemaFactory.get().updatedDescriptionSchema(RawBson.builder().optional().build());
+
     private final Filters filters;
     private final TopicNamingStrategy<CollectionId> topicNamingStrategy;
     private final Schema sourceSchema;
     private final SchemaNameAdjuster adjuster;
     private final ConcurrentMap<CollectionId, MongoDbCollectionSchema> collections = new ConcurrentHashMap<>();
     private final JsonSerialization serialization = new JsonSerialization();
+    private final DocumentFormat documentFormat;
 
     public MongoDbSchema(Filters filters, TopicNamingStrategy<CollectionId> topicNamingStrategy, Schema sourceSchema,
                          SchemaNameAdjuster schemaNameAdjuster) {
+        this(filters, topicNamingStrategy, sourceSchema, schemaNameAdjuster, DocumentFormat.JSON);
+    }
+
+    public MongoDbSchema(Filters filters, TopicNamingStrategy<CollectionId> topicNamingStrategy, Schema sourceSchema,
+                         SchemaNameAdjuster schemaNameAdjuster, DocumentFormat documentFormat) {
         this.filters = filters;
         this.topicNamingStrategy = topicNamingStrategy;
         this.sourceSchema = sourceSchema;
         this.adjuster = schemaNameAdjuster;
+        this.documentFormat = documentFormat;
     }
 
     @Override
@@ -70,12 +81,13 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
                     .field("id", Schema.STRING_SCHEMA)
                     .build();
 
+            final boolean rawBson = documentFormat == DocumentFormat.BSON;
             final Schema valueSchema = SchemaBuilder.struct()
                     .name(adjuster.adjust(Envelope.schemaName(topicName)))
-                    .field(FieldName.BEFORE, Json.builder().optional().build())
-                    .field(FieldName.AFTER, Json.builder().optional().build())
+                    .field(FieldName.BEFORE, documentSchema())
+                    .field(FieldName.AFTER, documentSchema())
                     // Change Streams field
-                    .field(MongoDbFieldName.UPDATE_DESCRIPTION, UPDATED_DESCRIPTION_SCHEMA)
+                    .field(MongoDbFieldName.UPDATE_DESCRIPTION, rawBson ? RAW_BSON_UPDATED_DESCRIPTION_SCHEMA : UPDATED_DESCRIPTION_SCHEMA)
                     .field(FieldName.SOURCE, sourceSchema)
                     .field(FieldName.OPERATION, Schema.OPTIONAL_STRING_SCHEMA)
                     .field(FieldName.TIMESTAMP, Schema.OPTIONAL_INT64_SCHEMA)
@@ -91,10 +103,16 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
                     serialization::getDocumentId,
                     envelope,
                     valueSchema,
-                    serialization::getDocumentValue);
+                    rawBson ? RawBson::fromDocument : serialization::getDocumentValue,
+                    // the JSON updated fields have always been written with the default settings
+                    rawBson ? RawBson::fromDocument : BsonDocument::toJson);
         });
     }
 
+    private Schema documentSchema() {
+        return documentFormat == DocumentFormat.BSON ? RawBson.builder().optional().build() : Json.builder().optional().build();
+    }
+
     @Override
     public boolean tableInformationComplete() {
         // Mongo does not support HistonizedDatabaseSchema - so no tables are recovered
@@ -39,16 +39,25 @@ public Schema truncatedArraySchema() {
     }
 
     public Schema updatedDescriptionSchema() {
+        return updatedDescriptionSchema(Json.builder().optional().build());
+    }
+
+    public Schema updatedDescriptionSchema(Schema updatedFieldsSchema) {
         return SchemaBuilder.struct()
                 .optional()
                 .name(MongoDbSchema.SCHEMA_NAME_UPDATED_DESCRIPTION)
                 .version(MONGODB_UPDATED_DESCRIPTION_SCHEMA_VERSION)
                 .field(MongoDbFieldName.REMOVED_FIELDS,
                         SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
-                .field(MongoDbFieldName.UPDATED_FIELDS,
-                        Json.builder().optional().build())
+                .field(MongoDbFieldName.UPDATED_FIELDS, updatedFieldsSchema)
                 .field(MongoDbFieldName.TRUNCATED_ARRAYS,
                         SchemaBuilder.array(MongoDbSchema.TRUNCATED_ARRAY_SCHEMA).optional().build())
                 .build();
     }
+
+    public SchemaBuilder datatypeRawBsonSchema() {
+        return SchemaBuilder.bytes()
+                .name(RawBson.LOGICAL_NAME)
+                .version(RawBson.SCHEMA_VERSION);
+    }
 }
@@ -5,22 +5,27 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
@@ -28,11 +33,16 @@
 
 import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
 
+import io.debezium.annotation.VisibleForTesting;
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.connector.mongodb.connection.MongoDbConnection;
 import io.debezium.connector.mongodb.recordemitter.MongoDbSnapshotRecordEmitter;
@@ -64,6 +74,9 @@ public class MongoDbSnapshotChangeEventSource extends AbstractSnapshotChangeEven
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbSnapshotChangeEventSource.class);
 
+    private static final String ID_FIELD_NAME = "_id";
+    private static final int SAMPLES_PER_RANGE = 20;
+
     private final MongoDbConnectorConfig connectorConfig;
     private final MongoDbTaskContext taskContext;
     private final EventDispatcher<MongoDbPartition, CollectionId> dispatcher;
@@ -95,11 +108,23 @@ protected SnapshotResult<MongoDbOffsetContext> doExecute(ChangeEventSourceContex
 
         LOGGER.info("Snapshot step 1 - Preparing");
         if (prevOffsetCtx != null && prevOffsetCtx.isSnapshotRunning()) {
-            LOGGER.info("Previous snapshot was cancelled before completion; a new snapshot will be taken.");
+            if (prevOffsetCtx.snapshotRanges() != null) {
+                LOGGER.info("Previous snapshot was cancelled before completion; the snapshot will be resumed with the ranges that were not completed.");
+                mongoDbSnapshotContext.resumed = true;
+            }
+            else {
+                LOGGER.info("Previous snapshot was cancelled before completion; a new snapshot will be taken.");
+            }
         }
 
         LOGGER.info("Snapshot step 2 - Determining snapshot offsets");
-        initSnapshotStartOffsets(mongoDbSnapshotContext);
+        if (mongoDbSnapshotContext.resumed) {
+            LOGGER.info("Resuming snapshot from offset {}", prevOffsetCtx.getOffset());
+            mongoDbSnapshotContext.offset = prevOffsetCtx;
+        }
+        else {
+            initSnapshotStartOffsets(mongoDbSnapshotContext);
+        }
 
         LOGGER.info("Snapshot step 3 - Snapshotting data");
         try {
@@ -161,7 +186,9 @@ protected SnapshotContext<MongoDbPartition, MongoDbOffsetContext> prepare(MongoD
     private void doSnapshot(ChangeEventSourceContext sourceCtx, MongoDbSnapshotContext snapshotCtx, SnapshottingTask snapshottingTask)
             throws InterruptedException {
         try (MongoDbConnection mongo = taskContext.getConnection(dispatcher, snapshotCtx.partition)) {
-            initSnapshotStartOffsets(snapshotCtx, mongo);
+            if (!snapshotCtx.resumed) {
+                initSnapshotStartOffsets(snapshotCtx, mongo);
+            }
             SnapshotReceiver<MongoDbPartition> snapshotReceiver = dispatcher.getSnapshotChangeEventReceiver();
             snapshotCtx.offset.preSnapshotStart();
 
@@ -198,8 +225,11 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
                                   MongoDbConnection mongo,
                                   SnapshottingTask snapshottingTask)
             throws InterruptedException {
-        snapshotContext.lastCollection = false;
+        snapshotContext.lastRange = false;
         snapshotContext.offset.startInitialSnapshot();
+        if (snapshotContext.offset.snapshotRanges() == null && connectorConfig.getSnapshotCollectionMaxRanges() > 1) {
+            snapshotContext.offset.trackSnapshotRanges(new SnapshotRanges());
+        }
 
         LOGGER.info("Beginning snapshot at {}", snapshotContext.offset.getOffset());
 
@@ -209,10 +239,12 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
                 .collect(Collectors.toList());
         snapshotProgressListener.monitoredDataCollectionsDetermined(snapshotContext.partition, collections);
 
+        final List<SnapshotRange> ranges = determineRangesToBeSnapshotted(snapshotContext, mongo, collections);
+
         // Since multiple snapshot threads are to be used, create a thread pool and initiate the snapshot.
         // The current thread will wait until the snapshot threads either have completed or an error occurred.
-        final int numThreads = Math.min(collections.size(), connectorConfig.getSnapshotMaxThreads());
-        final Queue<CollectionId> collectionsToCopy = new ConcurrentLinkedQueue<>(collections);
+        final int numThreads = Math.min(ranges.size(), connectorConfig.getSnapshotMaxThreads());
+        final Queue<SnapshotRange> rangesToCopy = new ConcurrentLinkedQueue<>(ranges);
 
         LOGGER.info("Creating snapshot worker pool with {} worker thread(s)", numThreads);
         final ExecutorService executorService = Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.getServerName(), "snapshot-main",
@@ -221,28 +253,28 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
         final AtomicBoolean aborted = new AtomicBoolean(false);
         final AtomicInteger threadCounter = new AtomicInteger(0);
 
-        LOGGER.info("Preparing to use {} thread(s) to snapshot {} collection(s): {}", numThreads, collections.size(),
+        LOGGER.info("Preparing to use {} thread(s) to snapshot {} range(s) of {} collection(s): {}", numThreads, ranges.size(), collections.size(),
                 Strings.join(", ", collections));
 
         for (int i = 0; i < numThreads; ++i) {
             executorService.submit(() -> {
                 taskContext.configureLoggingContext("snapshot" + threadCounter.incrementAndGet());
                 try {
-                    CollectionId id = null;
-                    while (!aborted.get() && (id = collectionsToCopy.poll()) != null) {
+                    SnapshotRange range = null;
+                    while (!aborted.get() && (range = rangesToCopy.poll()) != null) {
                         if (!sourceContext.isRunning()) {
                             throw new InterruptedException("Interrupted while snapshotting");
                         }
 
-                        if (collectionsToCopy.isEmpty()) {
-                            snapshotContext.lastCollection = true;
+                        if (rangesToCopy.isEmpty()) {
+                            snapshotContext.lastRange = true;
                         }
 
-                        createDataEventsForCollection(
+                        createDataEventsForRange(
                                 sourceContext,
                                 snapshotContext,
                                 snapshotReceiver,
-                                id,
+                                range,
                                 mongo, snapshottingTask.getFilterQueries());
                     }
                 }
@@ -273,6 +305,99 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
         snapshotContext.offset.stopInitialSnapshot();
     }
 
+    /**
+     * Splits the collections into ranges of the {@code _id} field, skipping the ranges that were completed before the
+     * snapshot was resumed.
+     */
+    @VisibleForTesting
+    List<SnapshotRange> determineRangesToBeSnapshotted(MongoDbSnapshotContext snapshotContext, MongoDbConnection mongo,
+                                                       List<CollectionId> collections)
+            throws InterruptedException {
+        final SnapshotRanges snapshotRanges = snapshotContext.offset.snapshotRanges();
+        final List<SnapshotRange> ranges = new ArrayList<>();
+        int plannedRanges = 0;
+        for (CollectionId collectionId : collections) {
+            if (snapshotRanges == null) {
+                ranges.add(new SnapshotRange(collectionId, 0, null, null));
+                snapshotContext.rangesByCollection.put(collectionId, new AtomicInteger(1));
+                plannedRanges++;
+                continue;
+            }
+
+            List<BsonValue> bounds = snapshotRanges.bounds(collectionId);
+            if (bounds == null) {
+                bounds = mongo.execute("split '" + collectionId + "'", client -> {
+                    return determineRangeBounds(client, collectionId);
+                });
+            }
+            final List<SnapshotRange> collectionRanges = snapshotRanges.split(collectionId, bounds);
+            plannedRanges += collectionRanges.size();
+            final List<SnapshotRange> remaining = new ArrayList<>();
+            for (SnapshotRange range : collectionRanges) {
+                if (snapshotRanges.isCompleted(range)) {
+                    dispatcher.dispatchConnectorEvent(snapshotContext.partition, new SnapshotRangeEvent(range, 0, true));
+                }
+                else {
+                    remaining.add(range);
+                }
+            }
+
+            if (remaining.isEmpty()) {
+                LOGGER.info("\t Collection '{}' was already snapshotted before the snapshot was resumed", collectionId);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, 0);
+                continue;
+            }
+            LOGGER.info("\t Snapshotting {} of {} range(s) of collection '{}'", remaining.size(), bounds.size() + 1, collectionId);
+            ranges.addAll(remaining);
+            snapshotContext.rangesByCollection.put(collectionId, new AtomicInteger(remaining.size()));
+        }
+        dispatcher.dispatchConnectorEvent(snapshotContext.partition, new SnapshotRangesDeterminedEvent(plannedRanges));
+        return ranges;
+    }
+
+    /**
+     * Determines the bounds between the ranges of a collection from a sample of the {@code _id} values.
+     * Only a collection with values of a single type is split, so that the ranges together contain all documents.
+     */
+    private List<BsonValue> determineRangeBounds(MongoClient client, CollectionId collectionId) {
+        final MongoCollection<BsonDocument> collection = client.getDatabase(collectionId.dbName())
+                .getCollection(collectionId.name(), BsonDocument.class);
+
+        final long estimatedDocuments = collection.estimatedDocumentCount();
+        final int numRanges = (int) Math.min(connectorConfig.getSnapshotCollectionMaxRanges(),
+                estimatedDocuments / connectorConfig.getSnapshotCollectionRangeMinDocuments());
+        if (numRanges < 2) {
+            return List.of();
+        }
+
+        final List<BsonValue> samples = new ArrayList<>();
+        collection.aggregate(List.of(
+                Aggregates.sample(numRanges * SAMPLES_PER_RANGE),
+                Aggregates.project(Projections.include(ID_FIELD_NAME)),
+                Aggregates.sort(Sorts.ascending(ID_FIELD_NAME))))
+                .allowDiskUse(true)
+                .forEach(document -> samples.add(document.get(ID_FIELD_NAME)));
+
+        if (samples.stream().map(MongoDbSnapshotChangeEventSource::rangeType).distinct().count() != 1) {
+            LOGGER.info("\t Collection '{}' is not split as its '{}' values are not of a single type", collectionId, ID_FIELD_NAME);
+            return List.of();
+        }
+
+        final List<BsonValue> bounds = new ArrayList<>(numRanges - 1);
+        for (int i = 1; i < numRanges; i++) {
+            final BsonValue bound = samples.get(i * samples.size() / numRanges);
+            if (bounds.isEmpty() || !bounds.get(bounds.size() - 1).equals(bound)) {
+                bounds.add(bound);
+            }
+        }
+        return bounds;
+    }
+
+    private static BsonType rangeType(BsonValue value) {
+        // numbers of different types are compared by their value
+        return value.isNumber() ? BsonType.DOUBLE : value.getBsonType();
+    }
+
     @Override
     protected <T extends DataCollectionId> Stream<T> determineDataCollectionsToBeSnapshotted(final Collection<T> allDataCollections,
                                                                                              Set<Pattern> snapshotAllowedDataCollections) {
@@ -286,17 +411,26 @@ protected <T extends DataCollectionId> Stream<T> determineDataCollectionsToBeSna
         }
     }
 
-    private void createDataEventsForCollection(ChangeEventSourceContext sourceContext,
-                                               MongoDbSnapshotContext snapshotContext,
-                                               SnapshotReceiver<MongoDbPartition> snapshotReceiver,
-                                               CollectionId collectionId, MongoDbConnection mongo,
-                                               Map<String, String> snapshotFilterQueryForCollection)
+    private void createDataEventsForRange(ChangeEventSourceContext sourceContext,
+                                          MongoDbSnapshotContext snapshotContext,
+                                          SnapshotReceiver<MongoDbPartition> snapshotReceiver,
+                                          SnapshotRange range, MongoDbConnection mongo,
+                                          Map<String, String> snapshotFilterQueryForCollection)
             throws InterruptedException {
+        final CollectionId collectionId = range.collectionId();
         long exportStart = clock.currentTimeInMillis();
-        LOGGER.info("\t Exporting data for collection '{}'", collectionId);
-        notificationService.initialSnapshotNotificationService().notifyTableInProgress(snapshotContext.partition, snapshotContext.offset, collectionId.namespace());
+        if (range.isWholeCollection()) {
+            LOGGER.info("\t Exporting data for collection '{}'", collectionId);
+        }
+        else {
+            LOGGER.info("\t Exporting data for range {} of collection '{}'", range.index(), collectionId);
+        }
+        if (snapshotContext.startedCollections.add(collectionId)) {
+            notificationService.initialSnapshotNotificationService().notifyTableInProgress(snapshotContext.partition, snapshotContext.offset,
+                    collectionId.namespace());
+        }
 
-        mongo.execute("sync '" + collectionId + "'", client -> {
+        mongo.execute("sync '" + range.id() + "'", client -> {
             final MongoDatabase database = client.getDatabase(collectionId.dbName());
             final MongoCollection<BsonDocument> collection = database.getCollection(collectionId.name(), BsonDocument.class);
 
@@ -304,7 +438,7 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
 
             long docs = 0;
             Optional<String> snapshotFilterForCollectionId = Optional.ofNullable(snapshotFilterQueryForCollection.get(collectionId.dbName() + "." + collectionId.name()));
-            Bson filterQuery = Document.parse(snapshotFilterForCollectionId.orElse("{}"));
+            Bson filterQuery = range.filter(Document.parse(snapshotFilterForCollectionId.orElse("{}")));
 
             try (MongoCursor<BsonDocument> cursor = collection.find(filterQuery).batchSize(batchSize).iterator()) {
                 snapshotContext.lastRecordInCollection = false;
@@ -319,25 +453,38 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
 
                         snapshotContext.lastRecordInCollection = !cursor.hasNext();
 
-                        if (snapshotContext.lastCollection && snapshotContext.lastRecordInCollection) {
+                        if (snapshotContext.lastRange && snapshotContext.lastRecordInCollection) {
                             snapshotContext.offset.markSnapshotRecord(SnapshotRecord.LAST);
                         }
 
                         dispatcher.dispatchSnapshotEvent(snapshotContext.partition, collectionId,
                                 getChangeRecordEmitter(snapshotContext, collectionId, document),
                                 snapshotReceiver);
+
+                        if (docs % batchSize == 0) {
+                            dispatcher.dispatchConnectorEvent(snapshotContext.partition, new SnapshotRangeEvent(range, docs, false));
+                        }
                     }
                 }
-                else if (snapshotContext.lastCollection) {
-                    // if the last collection does not contain any records we still need to mark the last processed event as last one
+                else if (snapshotContext.lastRange) {
+                    // if the last range does not contain any records we still need to mark the last processed event as last one
                     snapshotContext.offset.markSnapshotRecord(SnapshotRecord.LAST);
                 }
 
-                notificationService.initialSnapshotNotificationService().notifyCompletedTableSuccessfully(snapshotContext.partition, snapshotContext.offset,
-                        collectionId.namespace());
-                LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", docs, collectionId,
+                if (snapshotContext.offset.snapshotRanges() != null) {
+                    snapshotContext.offset.snapshotRanges().complete(range);
+                }
+                dispatcher.dispatchConnectorEvent(snapshotContext.partition, new SnapshotRangeEvent(range, docs, true));
+                LOGGER.info("\t Finished snapshotting {} records for range {} of collection '{}'; total duration '{}'", docs, range.index(), collectionId,
                         Strings.duration(clock.currentTimeInMillis() - exportStart));
-                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, docs);
+
+                final long collectionDocs = snapshotContext.documentsByCollection.computeIfAbsent(collectionId, id -> new AtomicLong()).addAndGet(docs);
+                if (snapshotContext.rangesByCollection.get(collectionId).decrementAndGet() == 0) {
+                    notificationService.initialSnapshotNotificationService().notifyCompletedTableSuccessfully(snapshotContext.partition, snapshotContext.offset,
+                            collectionId.namespace());
+                    LOGGER.info("\t Finished snapshotting {} records for collection '{}'", collectionDocs, collectionId);
+                    snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, collectionDocs);
+                }
             }
         });
     }
@@ -366,9 +513,13 @@ private Clock getClock() {
     /**
      * Mutable context that is populated in the course of snapshotting.
      */
-    private static class MongoDbSnapshotContext extends SnapshotContext<MongoDbPartition, MongoDbOffsetContext> {
-        public boolean lastCollection;
+    static class MongoDbSnapshotContext extends SnapshotContext<MongoDbPartition, MongoDbOffsetContext> {
+        public boolean resumed;
+        public boolean lastRange;
         public boolean lastRecordInCollection;
+        public final Map<CollectionId, AtomicInteger> rangesByCollection = new ConcurrentHashMap<>();
+        public final Map<CollectionId, AtomicLong> documentsByCollection = new ConcurrentHashMap<>();
+        public final Set<CollectionId> startedCollections = ConcurrentHashMap.newKeySet();
 
         MongoDbSnapshotContext(MongoDbPartition partition) {
             super(partition);
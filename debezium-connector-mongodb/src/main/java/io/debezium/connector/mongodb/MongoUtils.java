@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -211,7 +213,9 @@ public static Optional<String> replicaSetName(ClusterDescription clusterDescript
      */
     public static ChangeStreamIterable<BsonDocument> openChangeStream(MongoClient client, MongoDbTaskContext taskContext) {
         var config = taskContext.getConnectorConfig();
-        final ChangeStreamPipeline pipeline = new ChangeStreamPipelineFactory(config, taskContext.getFilters().getConfig()).create();
+        var filters = taskContext.getFilters();
+        var otherTaskCollections = config.isTaskPartitioned() ? otherTaskCollections(client, filters) : List.<CollectionId> of();
+        final ChangeStreamPipeline pipeline = new ChangeStreamPipelineFactory(config, filters.getConfig(), otherTaskCollections).create();
 
         // capture scope is database
         if (config.getCaptureScope() == MongoDbConnectorConfig.CaptureScope.DATABASE) {
@@ -224,6 +228,30 @@ public static ChangeStreamIterable<BsonDocument> openChangeStream(MongoClient cl
         return client.watch(pipeline.getStages(), BsonDocument.class);
     }
 
+    /**
+     * Get the existing collections that are assigned to other tasks when the collections are partitioned over multiple
+     * tasks, so that their events are filtered out by the server. The signal collection is captured by every task.
+     *
+     * @param client mongodb client
+     * @param filters the filters of the task
+     * @return the collections assigned to other tasks; never null
+     */
+    private static List<CollectionId> otherTaskCollections(MongoClient client, Filters filters) {
+        var collections = new ArrayList<CollectionId>();
+        forEachDatabaseName(client, dbName -> {
+            if (filters.databaseFilter().test(dbName)) {
+                forEachCollectionNameInDatabase(client, dbName, collectionName -> {
+                    var collectionId = new CollectionId(dbName, collectionName);
+                    if (!filters.taskCollectionFilter().test(collectionId) && !filters.collectionFilter().test(collectionId)) {
+                        collections.add(collectionId);
+                    }
+                });
+            }
+        });
+        LOGGER.info("Change stream excludes {} collections assigned to other tasks", collections.size());
+        return collections;
+    }
+
     public static BsonTimestamp hello(MongoClient client, String dbName) {
         var database = client.getDatabase(dbName);
         var result = database.runCommand(new Document("hello", 1), BsonDocument.class);
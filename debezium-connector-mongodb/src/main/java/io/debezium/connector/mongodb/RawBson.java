@@ -0,0 +1,100 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.bson.BsonDocument;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * A semantic type for a MongoDB document encoded as raw BSON bytes.
+ * <p>
+ * Unlike a {@link io.debezium.data.Json} string the document is not converted to text, the consumers read the
+ * bytes through a {@link RawBsonDocument} which decodes the fields only when they are accessed.
+ *
+ * @see MongoDbConnectorConfig.DocumentFormat#BSON
+ */
+public class RawBson {
+
+    public static final String LOGICAL_NAME = "io.debezium.connector.mongodb.RawBson";
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+
+    /**
+     * Returns a {@link SchemaBuilder} for a raw BSON field. You can use the resulting SchemaBuilder
+     * to set additional schema settings such as required/optional, default value, and documentation.
+     *
+     * @return the schema builder
+     */
+    public static SchemaBuilder builder() {
+        return MongoDbSchemaFactory.get().datatypeRawBsonSchema();
+    }
+
+    /**
+     * Returns a {@link SchemaBuilder} for a raw BSON field, with all other default Schema settings.
+     *
+     * @return the schema
+     * @see #builder()
+     */
+    public static Schema schema() {
+        return builder().build();
+    }
+
+    /**
+     * Encodes a document to raw BSON bytes, reusing the bytes of documents that are already encoded.
+     *
+     * @param document the document; may be null
+     * @return the BSON bytes of the document, or null if the document is null
+     */
+    public static byte[] fromDocument(BsonDocument document) {
+        if (document == null) {
+            return null;
+        }
+        final RawBsonDocument rawDocument = document instanceof RawBsonDocument
+                ? (RawBsonDocument) document
+                : new RawBsonDocument(document, CODEC);
+        final ByteBuf buffer = rawDocument.getByteBuffer();
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Determines whether a field value holds raw BSON bytes rather than a JSON string.
+     *
+     * @param value the value of a document field; may be null
+     * @return {@code true} if the value is binary, {@code false} otherwise
+     */
+    public static boolean isRawBson(Object value) {
+        return value instanceof byte[] || value instanceof ByteBuffer;
+    }
+
+    /**
+     * Wraps the raw BSON bytes of a field value, without decoding them.
+     *
+     * @param value the value of a raw BSON field, either a {@code byte[]} or a {@link ByteBuffer}; may not be null
+     * @return the immutable document backed by the bytes
+     * @throws IllegalArgumentException if the value is not binary
+     */
+    public static RawBsonDocument toDocument(Object value) {
+        if (value instanceof byte[]) {
+            return new RawBsonDocument((byte[]) value);
+        }
+        if (value instanceof ByteBuffer) {
+            final ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return new RawBsonDocument(bytes);
+        }
+        throw new IllegalArgumentException("Unable to read raw BSON from value of type " + value.getClass().getName());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.Objects;
+
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Filters;
+
+import io.debezium.annotation.Immutable;
+
+/**
+ * A range of the {@code _id} field of a collection that is snapshotted by a single cursor.
+ * <p>
+ * The first range of a collection has no lower bound and contains all documents whose {@code _id} is not greater than
+ * or equal to the upper bound, including those with an {@code _id} of another type than the bounds. The last range has
+ * no upper bound. The ranges of a collection are thus disjoint and together contain all of its documents.
+ *
+ * @see SnapshotRanges
+ */
+@Immutable
+public final class SnapshotRange {
+
+    private static final String ID_FIELD_NAME = "_id";
+
+    private final CollectionId collectionId;
+    private final int index;
+    private final BsonValue lowerBound;
+    private final BsonValue upperBound;
+
+    public SnapshotRange(CollectionId collectionId, int index, BsonValue lowerBound, BsonValue upperBound) {
+        this.collectionId = collectionId;
+        this.index = index;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    public CollectionId collectionId() {
+        return collectionId;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    /**
+     * @return the inclusive lower bound of the range, or null if the range is the first one of the collection
+     */
+    public BsonValue lowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * @return the exclusive upper bound of the range, or null if the range is the last one of the collection
+     */
+    public BsonValue upperBound() {
+        return upperBound;
+    }
+
+    /**
+     * @return whether the range covers the whole collection
+     */
+    public boolean isWholeCollection() {
+        return lowerBound == null && upperBound == null;
+    }
+
+    /**
+     * Restricts a query to the documents of this range.
+     *
+     * @param filterQuery the query of the snapshot of the collection; may not be null
+     * @return the query restricted to the range
+     */
+    public Bson filter(Bson filterQuery) {
+        if (isWholeCollection()) {
+            return filterQuery;
+        }
+        final Bson rangeQuery;
+        if (lowerBound == null) {
+            rangeQuery = Filters.not(Filters.gte(ID_FIELD_NAME, upperBound));
+        }
+        else if (upperBound == null) {
+            rangeQuery = Filters.gte(ID_FIELD_NAME, lowerBound);
+        }
+        else {
+            rangeQuery = Filters.and(Filters.gte(ID_FIELD_NAME, lowerBound), Filters.lt(ID_FIELD_NAME, upperBound));
+        }
+        return Filters.and(filterQuery, rangeQuery);
+    }
+
+    /**
+     * @return the identifier of the range, unique within a snapshot
+     */
+    public String id() {
+        return collectionId.namespace() + "#" + index;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SnapshotRange)) {
+            return false;
+        }
+        final SnapshotRange that = (SnapshotRange) obj;
+        return index == that.index && collectionId.equals(that.collectionId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(collectionId, index);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotRange [id=" + id() + ", lowerBound=" + lowerBound + ", upperBound=" + upperBound + "]";
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import io.debezium.pipeline.ConnectorEvent;
+
+/**
+ * An event that reports the progress of the snapshot of a {@link SnapshotRange collection range}.
+ */
+public class SnapshotRangeEvent implements ConnectorEvent {
+
+    private final String rangeId;
+    private final long documentsScanned;
+    private final boolean completed;
+
+    public SnapshotRangeEvent(SnapshotRange range, long documentsScanned, boolean completed) {
+        this.rangeId = range.id();
+        this.documentsScanned = documentsScanned;
+        this.completed = completed;
+    }
+
+    public String getRangeId() {
+        return rangeId;
+    }
+
+    /**
+     * @return the number of documents of the range scanned so far
+     */
+    public long getDocumentsScanned() {
+        return documentsScanned;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * The ranges into which the collections of an initial snapshot are split, and which of them were already snapshotted.
+ * <p>
+ * The progress is stored in the offsets of the snapshot events, so that a snapshot interrupted by a restart of the task
+ * continues with the ranges that were not completed, using the same range bounds. The bounds are stored in extended
+ * JSON to retain their BSON types.
+ *
+ * @see SourceInfo#SNAPSHOT_RANGES
+ */
+@ThreadSafe
+public class SnapshotRanges {
+
+    private static final String BOUNDS = "bounds";
+    private static final String COMPLETED = "completed";
+
+    private static final JsonWriterSettings OFFSET_JSON_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private final Map<CollectionId, CollectionRanges> collections = new LinkedHashMap<>();
+    private volatile String offsetValue;
+
+    /**
+     * Returns the bounds of the ranges a collection was split into.
+     *
+     * @param collectionId the collection; may not be null
+     * @return the bounds, or null if the collection was not split yet
+     */
+    public synchronized List<BsonValue> bounds(CollectionId collectionId) {
+        final CollectionRanges ranges = collections.get(collectionId);
+        return ranges == null ? null : Collections.unmodifiableList(ranges.bounds);
+    }
+
+    /**
+     * Records the bounds of the ranges a collection is split into.
+     *
+     * @param collectionId the collection; may not be null
+     * @param bounds the ascending bounds between the ranges, empty if the collection is not split; may not be null
+     * @return all ranges of the collection
+     */
+    public synchronized List<SnapshotRange> split(CollectionId collectionId, List<BsonValue> bounds) {
+        CollectionRanges ranges = collections.get(collectionId);
+        if (ranges == null) {
+            ranges = new CollectionRanges(new ArrayList<>(bounds), new BitSet());
+            collections.put(collectionId, ranges);
+            offsetValue = null;
+        }
+        final List<SnapshotRange> result = new ArrayList<>(ranges.bounds.size() + 1);
+        for (int i = 0; i <= ranges.bounds.size(); i++) {
+            result.add(new SnapshotRange(collectionId, i,
+                    i == 0 ? null : ranges.bounds.get(i - 1),
+                    i == ranges.bounds.size() ? null : ranges.bounds.get(i)));
+        }
+        return result;
+    }
+
+    public synchronized boolean isCompleted(SnapshotRange range) {
+        final CollectionRanges ranges = collections.get(range.collectionId());
+        return ranges != null && ranges.completed.get(range.index());
+    }
+
+    public synchronized void complete(SnapshotRange range) {
+        final CollectionRanges ranges = collections.get(range.collectionId());
+        if (ranges == null) {
+            throw new IllegalStateException("Range " + range + " does not belong to a split collection");
+        }
+        ranges.completed.set(range.index());
+        offsetValue = null;
+    }
+
+    /**
+     * @return the representation of the ranges and their progress stored in the offsets
+     */
+    public String toOffsetValue() {
+        String value = offsetValue;
+        if (value == null) {
+            synchronized (this) {
+                final BsonDocument document = new BsonDocument();
+                collections.forEach((collectionId, ranges) -> {
+                    final BsonArray completed = new BsonArray();
+                    ranges.completed.stream().forEach(index -> completed.add(new BsonInt32(index)));
+                    document.append(collectionId.namespace(), new BsonDocument(BOUNDS, new BsonArray(ranges.bounds))
+                            .append(COMPLETED, completed));
+                });
+                value = document.toJson(OFFSET_JSON_SETTINGS);
+                offsetValue = value;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Restores the ranges and their progress from the offsets.
+     *
+     * @param offsetValue the value returned by {@link #toOffsetValue()}; may not be null
+     * @return the restored ranges
+     */
+    public static SnapshotRanges fromOffsetValue(String offsetValue) {
+        final SnapshotRanges snapshotRanges = new SnapshotRanges();
+        BsonDocument.parse(offsetValue).forEach((namespace, value) -> {
+            final BsonDocument document = value.asDocument();
+            final BitSet completed = new BitSet();
+            document.getArray(COMPLETED).forEach(index -> completed.set(index.asInt32().getValue()));
+            snapshotRanges.collections.put(CollectionId.parse(namespace),
+                    new CollectionRanges(new ArrayList<>(document.getArray(BOUNDS).getValues()), completed));
+        });
+        return snapshotRanges;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotRanges " + toOffsetValue();
+    }
+
+    private static class CollectionRanges {
+        private final List<BsonValue> bounds;
+        private final BitSet completed;
+
+        CollectionRanges(List<BsonValue> bounds, BitSet completed) {
+            this.bounds = bounds;
+            this.completed = completed;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import io.debezium.pipeline.ConnectorEvent;
+
+/**
+ * An event that reports the number of {@link SnapshotRange ranges} the snapshotted collections are split into.
+ */
+public class SnapshotRangesDeterminedEvent implements ConnectorEvent {
+
+    private final int numberOfRanges;
+
+    public SnapshotRangesDeterminedEvent(int numberOfRanges) {
+        this.numberOfRanges = numberOfRanges;
+    }
+
+    /**
+     * @return the number of ranges of all snapshotted collections, including the ranges completed before the snapshot was resumed
+     */
+    public int getNumberOfRanges() {
+        return numberOfRanges;
+    }
+}
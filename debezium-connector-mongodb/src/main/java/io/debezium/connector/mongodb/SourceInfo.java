@@ -67,6 +67,7 @@ public final class SourceInfo extends BaseSourceInfo {
     public static final String TIMESTAMP = "sec";
     public static final String ORDER = "ord";
     public static final String INITIAL_SYNC = "initsync";
+    public static final String SNAPSHOT_RANGES = "snapshot_ranges";
     public static final String COLLECTION = "collection";
     public static final String LSID = "lsid";
     public static final String TXN_NUMBER = "txnNumber";
@@ -5,6 +5,11 @@
  */
 package io.debezium.connector.mongodb.metrics;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.debezium.annotation.ThreadSafe;
@@ -12,6 +17,8 @@
 import io.debezium.connector.common.CdcSourceTaskContext;
 import io.debezium.connector.mongodb.DisconnectEvent;
 import io.debezium.connector.mongodb.MongoDbPartition;
+import io.debezium.connector.mongodb.SnapshotRangeEvent;
+import io.debezium.connector.mongodb.SnapshotRangesDeterminedEvent;
 import io.debezium.pipeline.ConnectorEvent;
 import io.debezium.pipeline.metrics.DefaultSnapshotChangeEventSourceMetrics;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
@@ -25,6 +32,9 @@ public class MongoDbSnapshotChangeEventSourceMetrics extends DefaultSnapshotChan
         implements MongoDbSnapshotChangeEventSourceMetricsMBean {
 
     private final AtomicLong numberOfDisconnects = new AtomicLong();
+    private final AtomicLong numberOfSnapshotRanges = new AtomicLong();
+    private final ConcurrentMap<String, Long> snapshotRangeDocumentsScanned = new ConcurrentHashMap<>();
+    private final Set<String> completedSnapshotRanges = ConcurrentHashMap.newKeySet();
 
     public <T extends CdcSourceTaskContext> MongoDbSnapshotChangeEventSourceMetrics(T taskContext, ChangeEventQueueMetrics changeEventQueueMetrics,
                                                                                     EventMetadataProvider metadataProvider) {
@@ -37,16 +47,44 @@ public long getNumberOfDisconnects() {
         return numberOfDisconnects.get();
     }
 
+    @Override
+    public long getNumberOfSnapshotRanges() {
+        return numberOfSnapshotRanges.get();
+    }
+
+    @Override
+    public long getNumberOfCompletedSnapshotRanges() {
+        return completedSnapshotRanges.size();
+    }
+
+    @Override
+    public Map<String, Long> getSnapshotRangeDocumentsScanned() {
+        return new HashMap<>(snapshotRangeDocumentsScanned);
+    }
+
     @Override
     public void onConnectorEvent(MongoDbPartition partition, ConnectorEvent event) {
         if (event instanceof DisconnectEvent) {
             numberOfDisconnects.incrementAndGet();
         }
+        else if (event instanceof SnapshotRangesDeterminedEvent) {
+            numberOfSnapshotRanges.set(((SnapshotRangesDeterminedEvent) event).getNumberOfRanges());
+        }
+        else if (event instanceof SnapshotRangeEvent) {
+            final SnapshotRangeEvent rangeEvent = (SnapshotRangeEvent) event;
+            snapshotRangeDocumentsScanned.put(rangeEvent.getRangeId(), rangeEvent.getDocumentsScanned());
+            if (rangeEvent.isCompleted()) {
+                completedSnapshotRanges.add(rangeEvent.getRangeId());
+            }
+        }
     }
 
     @Override
     public void reset() {
         super.reset();
         numberOfDisconnects.set(0);
+        numberOfSnapshotRanges.set(0);
+        snapshotRangeDocumentsScanned.clear();
+        completedSnapshotRanges.clear();
     }
 }
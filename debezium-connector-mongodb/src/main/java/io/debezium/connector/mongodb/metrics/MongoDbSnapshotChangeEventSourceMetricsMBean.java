@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.mongodb.metrics;
 
+import java.util.Map;
+
 import io.debezium.pipeline.metrics.SnapshotChangeEventSourceMetricsMXBean;
 
 /**
@@ -14,4 +16,13 @@
  */
 public interface MongoDbSnapshotChangeEventSourceMetricsMBean extends SnapshotChangeEventSourceMetricsMXBean {
     long getNumberOfDisconnects();
+
+    long getNumberOfSnapshotRanges();
+
+    long getNumberOfCompletedSnapshotRanges();
+
+    /**
+     * @return the number of documents scanned so far in each range of the snapshotted collections
+     */
+    Map<String, Long> getSnapshotRangeDocumentsScanned();
 }
@@ -395,6 +395,19 @@ public void addDataCollectionNamesToSnapshot(SignalPayload<MongoDbPartition> sig
         context = (IncrementalSnapshotContext<CollectionId>) offsetContext.getIncrementalSnapshotContext();
         final boolean shouldReadChunk = !context.snapshotRunning();
         List<String> dataCollectionIds = snapshotConfiguration.getDataCollections();
+        if (connectorConfig.isTaskPartitioned()) {
+            // Every task receives the signal, each snapshots only the collections assigned to it
+            dataCollectionIds = dataCollectionIds.stream()
+                    .filter(id -> {
+                        final CollectionId collectionId = CollectionId.parse(id);
+                        return collectionId != null && taskContext.getFilters().taskCollectionFilter().test(collectionId);
+                    })
+                    .collect(Collectors.toList());
+            if (dataCollectionIds.isEmpty()) {
+                LOGGER.info("None of the requested collections is assigned to this task, incremental snapshot request ignored");
+                return;
+            }
+        }
         final List<DataCollection<CollectionId>> newDataCollectionIds = context.addDataCollectionNamesToSnapshot(correlationId, dataCollectionIds, List.of(), "");
 
         if (shouldReadChunk) {
@@ -270,6 +270,22 @@ public String getCorrelationId() {
         return this.correlationId;
     }
 
+    /**
+     * The collections are snapshotted one after another, so only the collection being snapshotted has a context.
+     */
+    @Override
+    public IncrementalSnapshotContext<T> concurrentDataCollectionContext(DataCollection<T> dataCollection) {
+        if (!dataCollection.equals(currentDataCollectionId())) {
+            throw new IllegalArgumentException("Collection '" + dataCollection.getId() + "' is not the collection being snapshotted");
+        }
+        return this;
+    }
+
+    @Override
+    public void concurrentDataCollectionCompleted(DataCollection<T> dataCollection) {
+        dataCollectionsToSnapshot.remove(dataCollection);
+    }
+
     protected static <U> IncrementalSnapshotContext<U> init(MongoDbIncrementalSnapshotContext<U> context, Map<String, ?> offsets) {
         final String lastEventSentKeyStr = (String) offsets.get(EVENT_PRIMARY_KEY);
         context.chunkEndPosition = (lastEventSentKeyStr != null)
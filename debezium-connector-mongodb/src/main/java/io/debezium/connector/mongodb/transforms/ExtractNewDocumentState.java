@@ -26,6 +26,8 @@
 import org.bson.BsonBoolean;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +36,7 @@
 import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
 import io.debezium.connector.mongodb.MongoDbFieldName;
+import io.debezium.connector.mongodb.RawBson;
 import io.debezium.data.Envelope;
 import io.debezium.schema.FieldNameSelector;
 import io.debezium.schema.SchemaNameAdjuster;
@@ -215,6 +218,7 @@ public R doApply(R record) {
 
         // add rewrite field
         if (extractRecordStrategy.isRewriteMode()) {
+            valueDocument = toMutableDocument(valueDocument);
             valueDocument.append(DELETED_FIELD, new BsonBoolean(isDeletion));
         }
 
@@ -317,15 +321,15 @@ private BsonDocument getPartialUpdateDocument(R beforeRecord, R updateDescriptio
 
         Struct updateDescription = requireStruct(updateDescriptionRecord.value(), MongoDbFieldName.UPDATE_DESCRIPTION);
 
-        String updated = updateDescription.getString(MongoDbFieldName.UPDATED_FIELDS);
+        Object updated = updateDescription.get(MongoDbFieldName.UPDATED_FIELDS);
         List<String> removed = updateDescription.getArray(MongoDbFieldName.REMOVED_FIELDS);
 
         if (beforeRecord.value() != null) {
-            valueDocument = BsonDocument.parse(beforeRecord.value().toString());
+            valueDocument = toMutableDocument(toDocument(beforeRecord.value()));
         }
 
         if (updated != null) {
-            BsonDocument updatedBson = BsonDocument.parse(updated);
+            BsonDocument updatedBson = toDocument(updated);
             for (Entry<String, BsonValue> valueEntry : updatedBson.entrySet()) {
                 valueDocument.append(valueEntry.getKey(), valueEntry.getValue());
             }
@@ -351,6 +355,17 @@ private BsonDocument getPartialUpdateDocument(R beforeRecord, R updateDescriptio
     }
 
     private BsonDocument getFullDocument(R record, BsonDocument key) {
-        return BsonDocument.parse(record.value().toString());
+        return toDocument(record.value());
+    }
+
+    /**
+     * Reads a document emitted by the connector, raw BSON documents are decoded lazily as their fields are accessed.
+     */
+    private static BsonDocument toDocument(Object value) {
+        return RawBson.isRawBson(value) ? RawBson.toDocument(value) : BsonDocument.parse(value.toString());
+    }
+
+    private static BsonDocument toMutableDocument(BsonDocument document) {
+        return document instanceof RawBsonDocument ? ((RawBsonDocument) document).decode(new BsonDocumentCodec()) : document;
     }
 }
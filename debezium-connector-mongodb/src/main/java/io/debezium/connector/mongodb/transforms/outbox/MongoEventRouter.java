@@ -27,6 +27,7 @@
 import io.debezium.common.annotation.Incubating;
 import io.debezium.config.Configuration;
 import io.debezium.connector.mongodb.Module;
+import io.debezium.connector.mongodb.RawBson;
 import io.debezium.connector.mongodb.transforms.ExtractNewDocumentState;
 import io.debezium.connector.mongodb.transforms.MongoDataConverter;
 import io.debezium.time.Timestamp;
@@ -112,17 +113,17 @@ public String version() {
     private R expandAfterField(R originalRecord) throws IllegalStateException {
         final R afterRecord = afterExtractor.apply(originalRecord);
 
-        // Convert 'after' field format from JSON String to Struct
+        // Convert 'after' field format from JSON String or raw BSON to Struct
         Object after = afterRecord.value();
 
-        if (!(after instanceof String)) {
-            throw new IllegalStateException("Unable to expand non-String after field: " + after.getClass());
+        if (!(after instanceof String) && !RawBson.isRawBson(after)) {
+            throw new IllegalStateException("Unable to expand after field that is neither a String nor raw BSON: " + after.getClass());
         }
 
         Schema originalValueSchema = originalRecord.valueSchema();
 
         String afterSchemaName = afterRecord.valueSchema().name();
-        BsonDocument afterBsonDocument = BsonDocument.parse((String) after);
+        BsonDocument afterBsonDocument = RawBson.isRawBson(after) ? RawBson.toDocument(after) : BsonDocument.parse((String) after);
 
         Schema newAfterSchema = buildNewAfterSchema(afterSchemaName, afterBsonDocument);
         Struct newAfterStruct = buildNewAfterStruct(newAfterSchema, afterBsonDocument);
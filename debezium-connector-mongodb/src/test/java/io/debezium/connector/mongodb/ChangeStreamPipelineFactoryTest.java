@@ -14,6 +14,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.bson.conversions.Bson;
@@ -107,6 +108,16 @@ public class ChangeStreamPipelineFactoryTest {
                     "  }\n" +
                     "}");
 
+    private static final List<String> TASK_PIPELINE = List.of(
+            "" +
+                    "{\n" +
+                    "  \"$match\" : {\n" +
+                    "    \"ns\" : {\n" +
+                    "      \"$nin\" : [ { \"db\" : \"dbit\", \"coll\" : \"col1\" }, { \"db\" : \"dbit\", \"coll\" : \"col2\" } ]\n" +
+                    "    }\n" +
+                    "  }\n" +
+                    "}");
+
     @InjectMocks
     private ChangeStreamPipelineFactory sut;
 
@@ -158,6 +169,52 @@ public void testCreateWithUserOnly() {
         assertPipelineStagesEquals(pipeline.getStages(), USER_PIPELINE);
     }
 
+    @Test
+    public void testCreateWithCollectionsOfOtherTasks() {
+        // Given:
+        givenUserOnlyPipeline();
+        given(filterConfig.isTaskPartitioned())
+                .willReturn(true);
+        var factory = new ChangeStreamPipelineFactory(connectorConfig, filterConfig,
+                List.of(new CollectionId("dbit", "col1"), new CollectionId("dbit", "col2")));
+
+        // When:
+        var pipeline = factory.create();
+
+        // Then:
+        assertPipelineStagesEquals(pipeline.getStages(), mergeStages(TASK_PIPELINE, USER_PIPELINE));
+    }
+
+    @Test
+    public void testCreateWithTooManyCollectionsOfOtherTasks() {
+        // Given:
+        givenUserOnlyPipeline();
+        given(filterConfig.isTaskPartitioned())
+                .willReturn(true);
+        var collectionName = "c".repeat(100);
+        var otherTaskCollections = IntStream.range(0, (int) (ChangeStreamPipelineFactory.MAX_TASK_STAGE_SIZE / collectionName.length()))
+                .mapToObj(i -> new CollectionId("dbit", collectionName + i))
+                .collect(Collectors.toList());
+        var factory = new ChangeStreamPipelineFactory(connectorConfig, filterConfig, otherTaskCollections);
+
+        // When:
+        var pipeline = factory.create();
+
+        // Then: the collections are left to the task collection filter
+        assertPipelineStagesEquals(pipeline.getStages(), USER_PIPELINE);
+    }
+
+    private void givenUserOnlyPipeline() {
+        given(connectorConfig.getCursorPipelineOrder())
+                .willReturn(CursorPipelineOrder.USER_ONLY);
+        given(connectorConfig.getSkippedOperations())
+                .willReturn(EnumSet.of(Envelope.Operation.TRUNCATE)); // The default
+        given(filterConfig.getCollectionIncludeList())
+                .willReturn(Optional.of("dbit.*"));
+        given(filterConfig.getUserPipeline())
+                .willReturn(new ChangeStreamPipeline(asJsonArray(USER_PIPELINE)));
+    }
+
     @SafeVarargs
     private List<String> mergeStages(List<String>... stages) {
         return Stream.of(stages)
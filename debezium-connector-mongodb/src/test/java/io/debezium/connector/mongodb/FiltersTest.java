@@ -8,6 +8,9 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.kafka.connect.errors.ConnectException;
 import org.bson.Document;
 import org.junit.Before;
@@ -397,6 +400,46 @@ public void renameFilterShouldRenameMatchingFieldWithTrailingWhiteSpaces() {
                 filters.fieldFilterFor(id).apply(Document.parse(" { \"key1\" : \"valueA\", \"key3\" : \"valueB\" }")));
     }
 
+    @Test
+    public void shouldAssignEachCollectionToExactlyOneTask() {
+        final int taskCount = 3;
+        final List<Filters> taskFilters = new ArrayList<>();
+        for (int taskId = 0; taskId < taskCount; taskId++) {
+            taskFilters.add(build.with(MongoDbConnectorConfig.TASK_PARTITIONING_MODE, "collection")
+                    .with(MongoDbConnectorConfig.TASK_COUNT, taskCount)
+                    .with(MongoDbConnectorConfig.TASK_ID, taskId)
+                    .createFilters());
+        }
+
+        for (int i = 0; i < 100; i++) {
+            final CollectionId id = new CollectionId("db" + (i % 7), "collection" + i);
+            assertThat(taskFilters.stream().filter(f -> f.collectionFilter().test(id)).count()).isEqualTo(1);
+            assertThat(taskFilters.get(Filters.taskOf(id, taskCount)).collectionFilter().test(id)).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldIncludeSignalCollectionInEveryTask() {
+        for (int taskId = 0; taskId < 3; taskId++) {
+            filters = build.signalingCollection("db1.signal")
+                    .with(MongoDbConnectorConfig.TASK_PARTITIONING_MODE, "collection")
+                    .with(MongoDbConnectorConfig.TASK_COUNT, 3)
+                    .with(MongoDbConnectorConfig.TASK_ID, taskId)
+                    .createFilters();
+            assertCollectionIncluded("db1.signal");
+        }
+    }
+
+    @Test
+    public void shouldNotPartitionCollectionsWithoutPartitioningMode() {
+        filters = build.with(MongoDbConnectorConfig.TASK_COUNT, 3)
+                .with(MongoDbConnectorConfig.TASK_ID, 1)
+                .createFilters();
+        for (int i = 0; i < 10; i++) {
+            assertCollectionIncluded("db1.collection" + i);
+        }
+    }
+
     protected void assertCollectionIncluded(String fullyQualifiedCollectionName) {
         CollectionId id = CollectionId.parse(fullyQualifiedCollectionName);
         assertThat(id).isNotNull();
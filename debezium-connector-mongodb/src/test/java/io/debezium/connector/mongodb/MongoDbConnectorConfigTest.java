@@ -11,11 +11,13 @@
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
+import org.bson.BsonDocument;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -44,6 +46,29 @@ public void parseSignallingMessage() {
         Assert.assertEquals("{\"data-collections\": [\"database.collection\"], \"type\": \"incremental\"}", result[2]);
     }
 
+    @Test
+    public void parseRawBsonSignallingMessage() {
+        final byte[] signal = RawBson.fromDocument(BsonDocument.parse("{\"_id\":\"test-1\"," +
+                "\"type\":\"execute-snapshot\"," +
+                "\"data\":{\"data-collections\":[\"database.collection\"],\"type\":\"incremental\"}}"));
+        final Schema schema = new SchemaBuilder(Schema.Type.STRUCT).field("after", RawBson.builder().optional().build()).build();
+        final MongoDbConnectorConfig mongoDbConnectorConfig = new MongoDbConnectorConfig(TestHelper.getConfiguration());
+
+        for (Object after : new Object[]{ signal, ByteBuffer.wrap(signal) }) {
+            final Struct struct = new Struct(schema);
+            struct.put("after", after);
+
+            final Optional<String[]> resultOpt = mongoDbConnectorConfig.parseSignallingMessage(struct);
+
+            Assert.assertTrue(resultOpt.isPresent());
+            final String[] result = resultOpt.get();
+            Assert.assertEquals(3, result.length);
+            Assert.assertEquals("test-1", result[0]);
+            Assert.assertEquals("execute-snapshot", result[1]);
+            Assert.assertEquals("{\"data-collections\": [\"database.collection\"], \"type\": \"incremental\"}", result[2]);
+        }
+    }
+
     @Test
     public void parseCursorPipeline() {
         verifyCursorPipelineValidateError("This is not valid JSON pipeline",
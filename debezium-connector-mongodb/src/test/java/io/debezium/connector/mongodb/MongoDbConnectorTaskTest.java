@@ -0,0 +1,77 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.apache.kafka.connect.source.SourceTaskContext;
+import org.apache.kafka.connect.storage.OffsetStorageReader;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.pipeline.spi.Offsets;
+
+public class MongoDbConnectorTaskTest {
+
+    private static final Map<String, String> SINGLE_TASK_PARTITION = Map.of("server_id", "server1");
+    private static final Map<String, String> TASK_PARTITION = Map.of("server_id", "server1", "task_partition", "1/3");
+
+    private MongoDbConnectorTask task;
+    private OffsetStorageReader offsetStorageReader;
+    private MongoDbConnectorConfig connectorConfig;
+
+    @Before
+    public void beforeEach() {
+        offsetStorageReader = mock(OffsetStorageReader.class);
+        final SourceTaskContext context = mock(SourceTaskContext.class);
+        when(context.offsetStorageReader()).thenReturn(offsetStorageReader);
+
+        task = new MongoDbConnectorTask();
+        task.initialize(context);
+
+        connectorConfig = new MongoDbConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server1")
+                .with(MongoDbConnectorConfig.TASK_PARTITIONING_MODE, MongoDbConnectorConfig.TaskPartitioningMode.COLLECTION.getValue())
+                .with(MongoDbConnectorConfig.TASK_ID, 1)
+                .with(MongoDbConnectorConfig.TASK_COUNT, 3)
+                .build());
+    }
+
+    @Test
+    public void shouldResumeTaskPartitionFromOffsetOfSingleTask() {
+        when(offsetStorageReader.<String> offsets(any())).thenReturn(Map.of(
+                SINGLE_TASK_PARTITION, offset(100)));
+
+        final Offsets<MongoDbPartition, MongoDbOffsetContext> offsets = task.getPreviousOffsets(connectorConfig);
+
+        assertThat(offsets.getTheOnlyPartition().getSourcePartition()).isEqualTo(TASK_PARTITION);
+        assertThat(offsets.getTheOnlyOffset()).isNotNull();
+        assertThat(offsets.getTheOnlyOffset().getOffset()).containsEntry(SourceInfo.TIMESTAMP, 100);
+    }
+
+    @Test
+    public void shouldPreferOffsetOfTaskPartition() {
+        when(offsetStorageReader.<String> offsets(any())).thenReturn(Map.of(
+                SINGLE_TASK_PARTITION, offset(100),
+                TASK_PARTITION, offset(200)));
+
+        final Offsets<MongoDbPartition, MongoDbOffsetContext> offsets = task.getPreviousOffsets(connectorConfig);
+
+        assertThat(offsets.getTheOnlyPartition().getSourcePartition()).isEqualTo(TASK_PARTITION);
+        assertThat(offsets.getTheOnlyOffset().getOffset()).containsEntry(SourceInfo.TIMESTAMP, 200);
+    }
+
+    private static Map<String, Object> offset(int timestamp) {
+        return Map.of(SourceInfo.TIMESTAMP, timestamp, SourceInfo.ORDER, 1);
+    }
+}
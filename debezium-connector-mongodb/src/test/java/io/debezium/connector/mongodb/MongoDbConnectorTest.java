@@ -8,6 +8,8 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigDef.ConfigKey;
@@ -15,6 +17,9 @@
 import org.apache.kafka.connect.connector.Connector;
 import org.junit.Test;
 
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+
 /**
  * @author Randall Hauch
  *
@@ -26,6 +31,52 @@ public void shouldReturnConfigurationDefinition() {
         assertConfigDefIsValid(new MongoDbConnector(), MongoDbConnectorConfig.ALL_FIELDS);
     }
 
+    @Test
+    public void shouldConfigureSingleTaskWithoutTaskPartitioning() {
+        final MongoDbConnector connector = new MongoDbConnector();
+        connector.start(connectorProperties(MongoDbConnectorConfig.TaskPartitioningMode.NONE));
+
+        final List<Map<String, String>> taskConfigs = connector.taskConfigs(3);
+
+        assertThat(taskConfigs).hasSize(1);
+        assertThat(taskConfigs.get(0)).doesNotContainKeys(MongoDbConnectorConfig.TASK_ID.name(), MongoDbConnectorConfig.TASK_COUNT.name());
+    }
+
+    @Test
+    public void shouldConfigureTaskPerPartition() {
+        final MongoDbConnector connector = new MongoDbConnector();
+        connector.start(connectorProperties(MongoDbConnectorConfig.TaskPartitioningMode.COLLECTION));
+
+        final List<Map<String, String>> taskConfigs = connector.taskConfigs(3);
+
+        assertThat(taskConfigs).hasSize(3);
+        for (int taskId = 0; taskId < taskConfigs.size(); taskId++) {
+            final MongoDbConnectorConfig taskConfig = new MongoDbConnectorConfig(Configuration.from(taskConfigs.get(taskId)));
+            assertThat(taskConfig.isTaskPartitioned()).isTrue();
+            assertThat(taskConfig.getTaskId()).isEqualTo(taskId);
+            assertThat(taskConfig.getTaskCount()).isEqualTo(3);
+            assertThat(taskConfig.getLogicalName()).isEqualTo("mongo");
+        }
+    }
+
+    @Test
+    public void shouldConfigureSingleTaskWithTaskPartitioningAndOneTask() {
+        final MongoDbConnector connector = new MongoDbConnector();
+        connector.start(connectorProperties(MongoDbConnectorConfig.TaskPartitioningMode.COLLECTION));
+
+        final List<Map<String, String>> taskConfigs = connector.taskConfigs(1);
+
+        assertThat(taskConfigs).hasSize(1);
+        assertThat(new MongoDbConnectorConfig(Configuration.from(taskConfigs.get(0))).isTaskPartitioned()).isFalse();
+    }
+
+    private static Map<String, String> connectorProperties(MongoDbConnectorConfig.TaskPartitioningMode taskPartitioningMode) {
+        return Map.of(
+                CommonConnectorConfig.TOPIC_PREFIX.name(), "mongo",
+                MongoDbConnectorConfig.CONNECTION_STRING.name(), "mongodb://localhost:27017/?replicaSet=rs0",
+                MongoDbConnectorConfig.TASK_PARTITIONING_MODE.name(), taskPartitioningMode.getValue());
+    }
+
     protected static void assertConfigDefIsValid(Connector connector, io.debezium.config.Field.Set fields) {
         ConfigDef configDef = connector.config();
         assertThat(configDef).isNotNull();
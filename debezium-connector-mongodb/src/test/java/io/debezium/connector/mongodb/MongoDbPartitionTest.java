@@ -5,6 +5,15 @@
  */
 package io.debezium.connector.mongodb;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
 import io.debezium.connector.common.AbstractPartitionTest;
 
 public class MongoDbPartitionTest extends AbstractPartitionTest<MongoDbPartition> {
@@ -18,4 +27,32 @@ protected MongoDbPartition createPartition1() {
     protected MongoDbPartition createPartition2() {
         return new MongoDbPartition("server2", "rs2");
     }
+
+    @Test
+    public void shouldIncludeTaskPartitionInSourcePartition() {
+        final Set<MongoDbPartition> partitions = new MongoDbPartition.Provider(partitionedConfig(1, 3)).getPartitions();
+
+        assertThat(partitions).hasSize(1);
+        assertThat(partitions.iterator().next().getSourcePartition())
+                .isEqualTo(Map.of("server_id", "server1", "task_partition", "1/3"));
+        assertThat(partitions).doesNotContain(new MongoDbPartition("server1"));
+        assertThat(partitions).doesNotContainAnyElementsOf(new MongoDbPartition.Provider(partitionedConfig(1, 4)).getPartitions());
+    }
+
+    @Test
+    public void shouldNotIncludeTaskPartitionForSingleTask() {
+        final Set<MongoDbPartition> partitions = new MongoDbPartition.Provider(partitionedConfig(0, 1)).getPartitions();
+
+        assertThat(partitions).containsExactly(new MongoDbPartition("server1"));
+        assertThat(partitions.iterator().next().getSourcePartition()).isEqualTo(Map.of("server_id", "server1"));
+    }
+
+    private static MongoDbConnectorConfig partitionedConfig(int taskId, int taskCount) {
+        return new MongoDbConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server1")
+                .with(MongoDbConnectorConfig.TASK_PARTITIONING_MODE, MongoDbConnectorConfig.TaskPartitioningMode.COLLECTION.getValue())
+                .with(MongoDbConnectorConfig.TASK_ID, taskId)
+                .with(MongoDbConnectorConfig.TASK_COUNT, taskCount)
+                .build());
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig.DocumentFormat;
+import io.debezium.data.Envelope;
+import io.debezium.data.Envelope.FieldName;
+import io.debezium.data.Json;
+
+public class MongoDbSchemaTest {
+
+    private static final CollectionId ORDERS = new CollectionId("inventory", "orders");
+
+    private final BsonDocument document = new BsonDocument("_id", new BsonInt32(1))
+            .append("name", new BsonString("Sally"));
+
+    private Configuration config;
+
+    @Before
+    public void beforeEach() {
+        config = Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "mongo")
+                .build();
+    }
+
+    @Test
+    public void shouldUseJsonSchemasByDefault() {
+        final Schema valueSchema = schema(DocumentFormat.JSON).schemaFor(ORDERS).valueSchema();
+
+        assertThat(valueSchema.field(FieldName.BEFORE).schema().name()).isEqualTo(Json.LOGICAL_NAME);
+        assertThat(valueSchema.field(FieldName.AFTER).schema().name()).isEqualTo(Json.LOGICAL_NAME);
+        assertThat(valueSchema.field(MongoDbFieldName.UPDATE_DESCRIPTION).schema()).isEqualTo(MongoDbSchema.UPDATED_DESCRIPTION_SCHEMA);
+    }
+
+    @Test
+    public void shouldUseRawBsonSchemasForBsonDocumentFormat() {
+        final Schema valueSchema = schema(DocumentFormat.BSON).schemaFor(ORDERS).valueSchema();
+
+        for (String field : List.of(FieldName.BEFORE, FieldName.AFTER)) {
+            final Schema documentSchema = valueSchema.field(field).schema();
+            assertThat(documentSchema.type()).isEqualTo(Schema.Type.BYTES);
+            assertThat(documentSchema.name()).isEqualTo(RawBson.LOGICAL_NAME);
+            assertThat(documentSchema.isOptional()).isTrue();
+        }
+        final Schema updateDescriptionSchema = valueSchema.field(MongoDbFieldName.UPDATE_DESCRIPTION).schema();
+        assertThat(updateDescriptionSchema).isEqualTo(MongoDbSchema.RAW_BSON_UPDATED_DESCRIPTION_SCHEMA);
+        assertThat(updateDescriptionSchema.field(MongoDbFieldName.UPDATED_FIELDS).schema().name()).isEqualTo(RawBson.LOGICAL_NAME);
+    }
+
+    @Test
+    public void shouldEncodeSnapshotDocumentAsRawBson() {
+        final MongoDbCollectionSchema collectionSchema = (MongoDbCollectionSchema) schema(DocumentFormat.BSON).schemaFor(ORDERS);
+
+        final Struct value = collectionSchema.valueFromDocumentSnapshot(document, Envelope.Operation.READ);
+
+        assertThat(value.get(FieldName.AFTER)).isInstanceOf(byte[].class);
+        assertThat(RawBson.toDocument(value.get(FieldName.AFTER))).isEqualTo(document);
+        assertThat(collectionSchema.keyFromDocument(document).getString("id")).isEqualTo("1");
+    }
+
+    @Test
+    public void shouldEncodeChangeStreamDocumentsAsRawBson() {
+        final MongoDbCollectionSchema collectionSchema = (MongoDbCollectionSchema) schema(DocumentFormat.BSON).schemaFor(ORDERS);
+        final BsonDocument before = new BsonDocument("_id", new BsonInt32(1))
+                .append("name", new BsonString("John"))
+                .append("phone", new BsonString("123"));
+        final BsonDocument updatedFields = new BsonDocument("name", new BsonString("Sally"));
+
+        final Struct value = collectionSchema.valueFromDocumentChangeStream(
+                changeEvent(OperationType.UPDATE, before, document, new UpdateDescription(List.of("phone"), updatedFields)),
+                Envelope.Operation.UPDATE);
+
+        assertThat(RawBson.toDocument(value.get(FieldName.BEFORE))).isEqualTo(before);
+        assertThat(RawBson.toDocument(value.get(FieldName.AFTER))).isEqualTo(document);
+        final Struct updateDescription = value.getStruct(MongoDbFieldName.UPDATE_DESCRIPTION);
+        assertThat(updateDescription.get(MongoDbFieldName.UPDATED_FIELDS)).isInstanceOf(byte[].class);
+        assertThat(RawBson.toDocument(updateDescription.get(MongoDbFieldName.UPDATED_FIELDS))).isEqualTo(updatedFields);
+        assertThat(updateDescription.getArray(MongoDbFieldName.REMOVED_FIELDS)).containsExactly("phone");
+    }
+
+    private MongoDbSchema schema(DocumentFormat documentFormat) {
+        final MongoDbConnectorConfig connectorConfig = new MongoDbConnectorConfig(config);
+        return new MongoDbSchema(new Filters(config), connectorConfig.getTopicNamingStrategy(MongoDbConnectorConfig.TOPIC_NAMING_STRATEGY),
+                connectorConfig.getSourceInfoStructMaker().schema(), connectorConfig.schemaNameAdjuster(), documentFormat);
+    }
+
+    private static ChangeStreamDocument<BsonDocument> changeEvent(OperationType operationType, BsonDocument before, BsonDocument after,
+                                                                  UpdateDescription updateDescription) {
+        return new ChangeStreamDocument<>(
+                operationType.getValue(), // operation type
+                BsonDocument.parse("{_data: \"8263515979000000022B0429296E1404\"}"), // resumeToken
+                BsonDocument.parse("{db: \"inventory\", coll: \"orders\"}"), // namespaceDocument
+                null, // destinationNamespaceDocument
+                after, // fullDocument
+                before, // fullDocumentBeforeChange
+                new BsonDocument("_id", new BsonInt32(1)), // documentKey
+                null, // clusterTime
+                updateDescription, // updateDescription
+                null, // txnNumber
+                null, // lsid
+                null, // wallTime
+                null // extraElements
+        );
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonInt64;
+import org.bson.BsonValue;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+
+import com.mongodb.client.MongoClient;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.mongodb.MongoDbSnapshotChangeEventSource.MongoDbSnapshotContext;
+import io.debezium.connector.mongodb.connection.MongoDbConnection;
+import io.debezium.function.BlockingFunction;
+import io.debezium.pipeline.ConnectorEvent;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.SnapshotProgressListener;
+import io.debezium.util.Clock;
+
+public class MongoDbSnapshotChangeEventSourceTest {
+
+    private static final CollectionId ORDERS = new CollectionId("inventory", "orders");
+    private static final CollectionId CUSTOMERS = new CollectionId("inventory", "customers");
+    private static final CollectionId INVOICES = new CollectionId("inventory", "invoices");
+
+    private MongoDbConnectorConfig connectorConfig;
+    private EventDispatcher<MongoDbPartition, CollectionId> dispatcher;
+    private SnapshotProgressListener<MongoDbPartition> snapshotProgressListener;
+    private MongoDbConnection mongo;
+    private MongoDbSnapshotChangeEventSource source;
+    private MongoDbSnapshotContext snapshotContext;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void beforeEach() {
+        connectorConfig = new MongoDbConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "mongo")
+                .build());
+        dispatcher = mock(EventDispatcher.class);
+        snapshotProgressListener = mock(SnapshotProgressListener.class);
+        mongo = mock(MongoDbConnection.class);
+        source = new MongoDbSnapshotChangeEventSource(connectorConfig, null, dispatcher, Clock.system(), snapshotProgressListener, null, null, null);
+        snapshotContext = new MongoDbSnapshotContext(new MongoDbPartition("mongo"));
+    }
+
+    @Test
+    public void shouldSkipCompletedRangesAndReuseBoundsWhenResumed() throws Exception {
+        final List<BsonValue> orderBounds = List.of(new BsonInt64(100), new BsonInt64(200));
+        final SnapshotRanges snapshotRanges = new SnapshotRanges();
+        final List<SnapshotRange> orderRanges = snapshotRanges.split(ORDERS, orderBounds);
+        snapshotRanges.complete(orderRanges.get(1));
+        snapshotRanges.complete(snapshotRanges.split(CUSTOMERS, List.of()).get(0));
+        snapshotContext.offset = resumedOffset(snapshotRanges);
+
+        // the collection that was not split before the snapshot was interrupted is split now
+        when(mongo.execute(anyString(), ArgumentMatchers.<BlockingFunction<MongoClient, List<BsonValue>>> any()))
+                .thenReturn(List.of(new BsonInt64(50)));
+
+        final List<SnapshotRange> ranges = source.determineRangesToBeSnapshotted(snapshotContext, mongo, List.of(ORDERS, CUSTOMERS, INVOICES));
+
+        assertThat(ranges).extracting(SnapshotRange::id)
+                .containsExactly("inventory.orders#0", "inventory.orders#2", "inventory.invoices#0", "inventory.invoices#1");
+        assertThat(ranges.get(0).upperBound()).isEqualTo(new BsonInt64(100));
+        assertThat(ranges.get(1).lowerBound()).isEqualTo(new BsonInt64(200));
+        assertThat(snapshotContext.rangesByCollection).containsOnlyKeys(ORDERS, INVOICES);
+        assertThat(snapshotContext.rangesByCollection.get(ORDERS).get()).isEqualTo(2);
+        assertThat(snapshotContext.offset.snapshotRanges().bounds(INVOICES)).containsExactly(new BsonInt64(50));
+
+        // only the collection without recorded bounds is sampled
+        verify(mongo, times(1)).execute(eq("split '" + INVOICES + "'"), ArgumentMatchers.<BlockingFunction<MongoClient, List<BsonValue>>> any());
+        verify(snapshotProgressListener).dataCollectionSnapshotCompleted(snapshotContext.partition, CUSTOMERS, 0);
+
+        final List<ConnectorEvent> events = dispatchedEvents();
+        assertThat(events).filteredOn(SnapshotRangeEvent.class::isInstance)
+                .extracting(event -> ((SnapshotRangeEvent) event).getRangeId())
+                .containsExactly("inventory.orders#1", "inventory.customers#0");
+        assertThat(events).filteredOn(SnapshotRangesDeterminedEvent.class::isInstance)
+                .extracting(event -> ((SnapshotRangesDeterminedEvent) event).getNumberOfRanges())
+                .containsExactly(6);
+    }
+
+    @Test
+    public void shouldSnapshotWholeCollectionsWithoutTrackedRanges() throws Exception {
+        snapshotContext.offset = resumedOffset(null);
+
+        final List<SnapshotRange> ranges = source.determineRangesToBeSnapshotted(snapshotContext, mongo, List.of(ORDERS, CUSTOMERS));
+
+        assertThat(ranges).allMatch(SnapshotRange::isWholeCollection);
+        assertThat(dispatchedEvents()).filteredOn(SnapshotRangesDeterminedEvent.class::isInstance)
+                .extracting(event -> ((SnapshotRangesDeterminedEvent) event).getNumberOfRanges())
+                .containsExactly(2);
+    }
+
+    private MongoDbOffsetContext resumedOffset(SnapshotRanges snapshotRanges) {
+        if (snapshotRanges == null) {
+            return new MongoDbOffsetContext.Loader(connectorConfig).load(Map.of(SourceInfo.TIMESTAMP, 100, SourceInfo.ORDER, 1));
+        }
+        return new MongoDbOffsetContext.Loader(connectorConfig).load(Map.of(
+                SourceInfo.TIMESTAMP, 100,
+                SourceInfo.ORDER, 1,
+                SourceInfo.INITIAL_SYNC, true,
+                SourceInfo.SNAPSHOT_RANGES, snapshotRanges.toOffsetValue()));
+    }
+
+    private List<ConnectorEvent> dispatchedEvents() {
+        final ArgumentCaptor<ConnectorEvent> events = ArgumentCaptor.forClass(ConnectorEvent.class);
+        verify(dispatcher, atLeastOnce()).dispatchConnectorEvent(eq(snapshotContext.partition), events.capture());
+        return events.getAllValues();
+    }
+}
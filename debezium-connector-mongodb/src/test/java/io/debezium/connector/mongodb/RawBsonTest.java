@@ -0,0 +1,48 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.junit.Test;
+
+public class RawBsonTest {
+
+    private final BsonDocument document = new BsonDocument("_id", new BsonInt32(42))
+            .append("name", new BsonString("Sally"))
+            .append("address", new BsonDocument("city", new BsonString("Prague")));
+
+    @Test
+    public void shouldRoundTripDocument() {
+        final byte[] bytes = RawBson.fromDocument(document);
+
+        assertThat(RawBson.isRawBson(bytes)).isTrue();
+        assertThat(RawBson.toDocument(bytes)).isEqualTo(document);
+        assertThat(RawBson.toDocument(ByteBuffer.wrap(bytes))).isEqualTo(document);
+    }
+
+    @Test
+    public void shouldReuseBytesOfRawDocument() {
+        final byte[] bytes = RawBson.fromDocument(document);
+
+        assertThat(RawBson.fromDocument(new RawBsonDocument(bytes))).isEqualTo(bytes);
+    }
+
+    @Test
+    public void shouldNotReadJsonAsRawBson() {
+        final String json = document.toJson();
+
+        assertThat(RawBson.isRawBson(json)).isFalse();
+        assertThatThrownBy(() -> RawBson.toDocument(json)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonValue;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+public class SnapshotRangesTest {
+
+    private static final CollectionId ORDERS = new CollectionId("inventory", "orders");
+    private static final CollectionId CUSTOMERS = new CollectionId("inventory", "customers");
+
+    @Test
+    public void shouldSplitCollectionIntoRanges() {
+        final SnapshotRanges snapshotRanges = new SnapshotRanges();
+        final List<BsonValue> bounds = List.of(new BsonInt64(100), new BsonInt64(200));
+
+        final List<SnapshotRange> ranges = snapshotRanges.split(ORDERS, bounds);
+
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0).lowerBound()).isNull();
+        assertThat(ranges.get(0).upperBound()).isEqualTo(new BsonInt64(100));
+        assertThat(ranges.get(1).lowerBound()).isEqualTo(new BsonInt64(100));
+        assertThat(ranges.get(1).upperBound()).isEqualTo(new BsonInt64(200));
+        assertThat(ranges.get(2).lowerBound()).isEqualTo(new BsonInt64(200));
+        assertThat(ranges.get(2).upperBound()).isNull();
+        assertThat(ranges.get(2).id()).isEqualTo("inventory.orders#2");
+    }
+
+    @Test
+    public void shouldNotSplitCollectionWithoutBounds() {
+        final List<SnapshotRange> ranges = new SnapshotRanges().split(CUSTOMERS, List.of());
+
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).isWholeCollection()).isTrue();
+        assertThat(ranges.get(0).filter(new BsonDocument())).isEqualTo(new BsonDocument());
+    }
+
+    @Test
+    public void shouldFilterFirstRangeByNegatedLowerBoundOfNextRange() {
+        final List<SnapshotRange> ranges = new SnapshotRanges().split(ORDERS, List.of(new BsonInt64(100)));
+        final BsonDocument query = BsonDocument.parse("{\"status\": \"open\"}");
+
+        // {$lt: 100} would only match numbers, {$not: {$gte: 100}} also matches _id values of any other type
+        assertThat(ranges.get(0).filter(query).toBsonDocument())
+                .isEqualTo(BsonDocument.parse("{\"$and\": [{\"status\": \"open\"}, {\"_id\": {\"$not\": {\"$gte\": {\"$numberLong\": \"100\"}}}}]}"));
+        assertThat(ranges.get(1).filter(query).toBsonDocument())
+                .isEqualTo(BsonDocument.parse("{\"$and\": [{\"status\": \"open\"}, {\"_id\": {\"$gte\": {\"$numberLong\": \"100\"}}}]}"));
+    }
+
+    @Test
+    public void shouldFilterMiddleRangeByBothBounds() {
+        final List<SnapshotRange> ranges = new SnapshotRanges().split(ORDERS, List.of(new BsonInt64(100), new BsonInt64(200)));
+
+        assertThat(ranges.get(1).filter(new BsonDocument()).toBsonDocument())
+                .isEqualTo(BsonDocument.parse("{\"$and\": [{}, {\"$and\": [{\"_id\": {\"$gte\": {\"$numberLong\": \"100\"}}}, {\"_id\": {\"$lt\": {\"$numberLong\": \"200\"}}}]}]}"));
+    }
+
+    @Test
+    public void shouldRestoreRangesAndProgressFromOffset() {
+        final SnapshotRanges snapshotRanges = new SnapshotRanges();
+        final List<BsonValue> bounds = List.of(new BsonObjectId(new ObjectId()), new BsonObjectId(new ObjectId()));
+        final List<SnapshotRange> ranges = snapshotRanges.split(ORDERS, bounds);
+        snapshotRanges.split(CUSTOMERS, List.of());
+        snapshotRanges.complete(ranges.get(1));
+
+        final SnapshotRanges restored = SnapshotRanges.fromOffsetValue(snapshotRanges.toOffsetValue());
+
+        assertThat(restored.bounds(ORDERS)).isEqualTo(bounds);
+        assertThat(restored.bounds(CUSTOMERS)).isEmpty();
+        final List<SnapshotRange> restoredRanges = restored.split(ORDERS, List.of());
+        assertThat(restoredRanges).hasSize(3);
+        assertThat(restored.isCompleted(restoredRanges.get(0))).isFalse();
+        assertThat(restored.isCompleted(restoredRanges.get(1))).isTrue();
+        assertThat(restored.isCompleted(restoredRanges.get(2))).isFalse();
+    }
+
+    @Test
+    public void shouldUpdateOffsetValueWhenRangeIsCompleted() {
+        final SnapshotRanges snapshotRanges = new SnapshotRanges();
+        final List<SnapshotRange> ranges = snapshotRanges.split(ORDERS, List.of(new BsonInt64(100)));
+        final String before = snapshotRanges.toOffsetValue();
+
+        snapshotRanges.complete(ranges.get(0));
+
+        assertThat(snapshotRanges.toOffsetValue()).isNotEqualTo(before);
+        assertThat(SnapshotRanges.fromOffsetValue(snapshotRanges.toOffsetValue()).isCompleted(ranges.get(0))).isTrue();
+    }
+}
@@ -5,8 +5,33 @@
  */
 package io.debezium.connector.mongodb.transforms;
 
+import static io.debezium.transforms.ExtractNewRecordStateConfigDefinition.DELETED_FIELD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
 import org.junit.Before;
+import org.junit.Test;
 
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.mongodb.CollectionId;
+import io.debezium.connector.mongodb.Filters;
+import io.debezium.connector.mongodb.MongoDbCollectionSchema;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig.DocumentFormat;
+import io.debezium.connector.mongodb.MongoDbFieldName;
+import io.debezium.connector.mongodb.MongoDbSchema;
+import io.debezium.connector.mongodb.RawBson;
+import io.debezium.data.Envelope;
+import io.debezium.data.Envelope.FieldName;
 import io.debezium.transforms.extractnewstate.DefaultDeleteHandlingStrategy;
 import io.debezium.util.Collect;
 
@@ -16,6 +41,11 @@
  * @author Harvey Yue
  */
 public class ExtractNewDocumentStateTest extends LegacyExtractNewDocumentStateTest {
+
+    private final BsonDocument document = new BsonDocument("_id", new BsonInt32(1))
+            .append("name", new BsonString("Sally"))
+            .append("address", new BsonDocument("city", new BsonString("Prague")));
+
     @Before
     public void setup() {
         transformation = new ExtractNewDocumentState<>();
@@ -23,4 +53,103 @@ public void setup() {
                 "array.encoding", "array",
                 "delete.tombstone.handling.mode", "tombstone"));
     }
+
+    @Test
+    public void shouldExtractRawBsonDocument() {
+        for (boolean byteBuffer : List.of(false, true)) {
+            final SourceRecord transformed = transformation.apply(rawBsonRecord(Envelope.Operation.CREATE, null, document, null, byteBuffer));
+
+            assertThat(((Struct) transformed.key()).getInt32("id")).isEqualTo(1);
+            final Struct value = (Struct) transformed.value();
+            assertThat(value.schema().name()).isEqualTo("mongo.inventory.orders");
+            assertThat(value.getInt32("_id")).isEqualTo(1);
+            assertThat(value.getString("name")).isEqualTo("Sally");
+            assertThat(value.getStruct("address").getString("city")).isEqualTo("Prague");
+        }
+    }
+
+    @Test
+    public void shouldRewriteRawBsonDocument() {
+        configureRewrite();
+
+        for (boolean byteBuffer : List.of(false, true)) {
+            final Struct value = (Struct) transformation.apply(rawBsonRecord(Envelope.Operation.CREATE, null, document, null, byteBuffer)).value();
+            assertThat(value.getString("name")).isEqualTo("Sally");
+            assertThat(value.getBoolean(DELETED_FIELD)).isFalse();
+
+            final Struct deleted = (Struct) transformation.apply(rawBsonRecord(Envelope.Operation.DELETE, document, null, null, byteBuffer)).value();
+            assertThat(deleted.getString("name")).isEqualTo("Sally");
+            assertThat(deleted.getBoolean(DELETED_FIELD)).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldMergeRawBsonPartialUpdate() {
+        configureRewrite();
+        final BsonDocument updatedFields = new BsonDocument("name", new BsonString("John"))
+                .append("phone", new BsonString("123"));
+
+        for (boolean byteBuffer : List.of(false, true)) {
+            final Struct value = (Struct) transformation.apply(rawBsonRecord(Envelope.Operation.UPDATE, null, null,
+                    updateDescription(updatedFields, List.of("phone"), byteBuffer), byteBuffer)).value();
+
+            assertThat(value.getInt32("_id")).isEqualTo(1);
+            assertThat(value.getString("name")).isEqualTo("John");
+            assertThat(value.schema().field("phone")).isNull();
+            assertThat(value.getBoolean(DELETED_FIELD)).isFalse();
+        }
+    }
+
+    private void configureRewrite() {
+        transformation.close();
+        transformation = new ExtractNewDocumentState<>();
+        transformation.configure(Collect.hashMapOf(
+                "array.encoding", "array",
+                "delete.tombstone.handling.mode", "rewrite"));
+    }
+
+    /**
+     * Creates an event the way the connector emits it with {@code document.format=bson}, the documents are passed either as
+     * the {@code byte[]} the connector produces or as the {@link ByteBuffer} a converter may deserialize them to.
+     */
+    private SourceRecord rawBsonRecord(Envelope.Operation operation, BsonDocument before, BsonDocument after, Struct updateDescription,
+                                       boolean byteBuffer) {
+        final MongoDbCollectionSchema collectionSchema = rawBsonSchema();
+        final Struct value = new Struct(collectionSchema.valueSchema())
+                .put(FieldName.OPERATION, operation.code())
+                .put(FieldName.TIMESTAMP, 1565787098802L);
+        if (before != null) {
+            value.put(FieldName.BEFORE, rawBson(before, byteBuffer));
+        }
+        if (after != null) {
+            value.put(FieldName.AFTER, rawBson(after, byteBuffer));
+        }
+        if (updateDescription != null) {
+            value.put(MongoDbFieldName.UPDATE_DESCRIPTION, updateDescription);
+        }
+        return new SourceRecord(new HashMap<>(), new HashMap<>(), "mongo.inventory.orders",
+                collectionSchema.keySchema(), collectionSchema.keyFromDocument(document), collectionSchema.valueSchema(), value);
+    }
+
+    private static Struct updateDescription(BsonDocument updatedFields, List<String> removedFields, boolean byteBuffer) {
+        return new Struct(MongoDbSchema.RAW_BSON_UPDATED_DESCRIPTION_SCHEMA)
+                .put(MongoDbFieldName.UPDATED_FIELDS, rawBson(updatedFields, byteBuffer))
+                .put(MongoDbFieldName.REMOVED_FIELDS, removedFields);
+    }
+
+    private static Object rawBson(BsonDocument document, boolean byteBuffer) {
+        final byte[] bytes = RawBson.fromDocument(document);
+        return byteBuffer ? ByteBuffer.wrap(bytes) : bytes;
+    }
+
+    private static MongoDbCollectionSchema rawBsonSchema() {
+        final Configuration config = Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "mongo")
+                .build();
+        final MongoDbConnectorConfig connectorConfig = new MongoDbConnectorConfig(config);
+        final MongoDbSchema schema = new MongoDbSchema(new Filters(config),
+                connectorConfig.getTopicNamingStrategy(MongoDbConnectorConfig.TOPIC_NAMING_STRATEGY),
+                connectorConfig.getSourceInfoStructMaker().schema(), connectorConfig.schemaNameAdjuster(), DocumentFormat.BSON);
+        return (MongoDbCollectionSchema) schema.schemaFor(new CollectionId("inventory", "orders"));
+    }
 }
@@ -5,10 +5,12 @@
  */
 package io.debezium.connector.mongodb.transforms.outbox;
 
+import static io.debezium.connector.mongodb.MongoDbSchema.RAW_BSON_UPDATED_DESCRIPTION_SCHEMA;
 import static io.debezium.connector.mongodb.MongoDbSchema.UPDATED_DESCRIPTION_SCHEMA;
 import static org.apache.kafka.connect.transforms.util.Requirements.requireStruct;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
@@ -34,6 +36,7 @@
 
 import io.debezium.connector.AbstractSourceInfo;
 import io.debezium.connector.mongodb.MongoDbFieldName;
+import io.debezium.connector.mongodb.RawBson;
 import io.debezium.data.Envelope;
 import io.debezium.data.Json;
 import io.debezium.data.VerifyRecord;
@@ -907,6 +910,56 @@ public void shouldNotExpandJSONPayloadIfNotConfigured() {
         assertThat(payload.get("age")).isEqualTo(42);
     }
 
+    @Test
+    public void canExpandRawBsonPayloadIfConfigured() {
+        final Map<String, String> config = new HashMap<>();
+        config.put(
+                MongoEventRouterConfigDefinition.EXPAND_JSON_PAYLOAD.name(),
+                "true");
+        router.configure(config);
+
+        for (boolean byteBuffer : new boolean[]{ false, true }) {
+            final SourceRecord eventRouted = router.apply(createRawBsonEventRecord(new Document()
+                    .append("fullName", "John Doe")
+                    .append("enabled", true)
+                    .append("rating", 4.9)
+                    .append("age", 42L)
+                    .append("pets", Arrays.asList("dog", "cat")), byteBuffer));
+
+            assertThat(eventRouted).isNotNull();
+            assertThat(eventRouted.key()).isEqualTo("000000000000000000000001");
+            assertThat(eventRouted.headers().lastWithName("id").value()).isEqualTo("000000000000000000000000");
+
+            Schema valueSchema = eventRouted.valueSchema();
+            assertThat(valueSchema.fields().size()).isEqualTo(5);
+            assertThat(valueSchema.field("age").schema().type().getName()).isEqualTo("int64");
+
+            Struct valueStruct = (Struct) eventRouted.value();
+            assertThat(valueStruct.get("fullName")).isEqualTo("John Doe");
+            assertThat(valueStruct.get("enabled")).isEqualTo(true);
+            assertThat(valueStruct.get("rating")).isEqualTo(4.9);
+            assertThat(valueStruct.get("age")).isEqualTo(42L);
+            assertThat(valueStruct.getArray("pets")).containsExactly("dog", "cat");
+        }
+    }
+
+    @Test
+    public void shouldNotExpandRawBsonPayloadIfNotConfigured() {
+        router.configure(new HashMap<>());
+
+        for (boolean byteBuffer : new boolean[]{ false, true }) {
+            final SourceRecord eventRouted = router.apply(createRawBsonEventRecord(new Document()
+                    .append("fullName", "John Doe")
+                    .append("age", 42), byteBuffer));
+
+            assertThat(eventRouted).isNotNull();
+            assertThat(eventRouted.valueSchema()).isEqualTo(Schema.OPTIONAL_STRING_SCHEMA);
+            Document payload = Document.parse((String) eventRouted.value());
+            assertThat(payload.get("fullName")).isEqualTo("John Doe");
+            assertThat(payload.get("age")).isEqualTo(42);
+        }
+    }
+
     private SourceRecord createEventRecord() {
         return createEventRecord(
                 "da8d6de63b7745ff8f4457db",
@@ -949,11 +1002,28 @@ private SourceRecord createEventRecord(
 
         String after = outboxEvent.toJson(COMPACT_JSON_SETTINGS);
 
+        return createEventRecord(after, Json.builder().optional().build(), UPDATED_DESCRIPTION_SCHEMA);
+    }
+
+    private SourceRecord createRawBsonEventRecord(Document payload, boolean byteBuffer) {
+        final Document outboxEvent = new Document()
+                .append("_id", new ObjectId("000000000000000000000000"))
+                .append("aggregatetype", "User")
+                .append("aggregateid", new ObjectId("000000000000000000000001"))
+                .append("type", "UserCreated")
+                .append("payload", payload);
+        final byte[] after = RawBson.fromDocument(outboxEvent.toBsonDocument());
+
+        return createEventRecord(byteBuffer ? ByteBuffer.wrap(after) : after, RawBson.builder().optional().build(),
+                RAW_BSON_UPDATED_DESCRIPTION_SCHEMA);
+    }
+
+    private SourceRecord createEventRecord(Object after, Schema afterSchema, Schema updateDescriptionSchema) {
         final Schema valueSchema = SchemaBuilder.struct()
                 .name("event.Envelope")
-                .field(Envelope.FieldName.AFTER, Json.builder().optional().build())
+                .field(Envelope.FieldName.AFTER, afterSchema)
                 // Change Streams field
-                .field(MongoDbFieldName.UPDATE_DESCRIPTION, UPDATED_DESCRIPTION_SCHEMA)
+                .field(MongoDbFieldName.UPDATE_DESCRIPTION, updateDescriptionSchema)
                 // .field(Envelope.FieldName.SOURCE, SchemaBuilder.struct().build())
                 .field(Envelope.FieldName.OPERATION, Schema.OPTIONAL_STRING_SCHEMA)
                 .field(Envelope.FieldName.TIMESTAMP, Schema.OPTIONAL_INT64_SCHEMA)
@@ -0,0 +1,313 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient.EventListener;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.DebeziumException;
+import io.debezium.util.Threads;
+
+/**
+ * Splits the processing of the binlog into three stages so that a slow stage does not throttle the others:
+ * <ul>
+ *     <li>the binary log client thread reads the events from the network and frames them; the bodies of rows
+ *     events are only copied and handed over to the deserialization stage,</li>
+ *     <li>a pool of threads deserializes the rows events in parallel,</li>
+ *     <li>a single dispatcher thread takes the events in binlog order, waits for their rows to be deserialized if
+ *     needed and passes them to the registered {@link EventListener}s, i.e. converts and dispatches them.</li>
+ * </ul>
+ * The stages are connected by a bounded buffer, so the number of events read ahead of the dispatcher, including
+ * those that are being deserialized, never exceeds the configured {@link MySqlConnectorConfig#BINLOG_PIPELINE_BUFFER_SIZE
+ * buffer size}. The reader is blocked when the buffer is full.
+ * <p>
+ * Rows that cannot be deserialized are dispatched as an {@link EventType#INCIDENT} event with
+ * {@link EventDataDeserializationExceptionData}, the same as events the binary log client fails to deserialize.
+ * If the dispatcher thread dies, the failure is reported and the reader is no longer blocked but fails.
+ *
+ * @see MySqlStreamingChangeEventSourceMetrics for the throughput and wait times of the stages
+ */
+public class BinlogPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinlogPipeline.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final MySqlConnectorConfig connectorConfig;
+    private final MySqlStreamingChangeEventSourceMetrics metrics;
+    private final BlockingQueue<Event> buffer;
+    private final List<EventListener> eventListeners = new CopyOnWriteArrayList<>();
+
+    private ThreadLocal<WorkerDeserializer> workerDeserializers;
+    private ExecutorService deserializationExecutor;
+    private ExecutorService dispatcherExecutor;
+    private volatile boolean running;
+    private volatile Throwable dispatcherFailure;
+
+    public BinlogPipeline(MySqlConnectorConfig connectorConfig, MySqlStreamingChangeEventSourceMetrics metrics) {
+        this.connectorConfig = connectorConfig;
+        this.metrics = metrics;
+        this.buffer = new ArrayBlockingQueue<>(connectorConfig.binlogPipelineBufferSize());
+    }
+
+    /**
+     * Replaces the deserializers of the rows events so that the binary log client thread only frames these events
+     * and their rows are deserialized by the pipeline.
+     *
+     * @param eventDeserializer the deserializer used by the binary log client; may not be null
+     * @param tableMapEventByTableId the table map events as recorded by the binary log client; may not be null
+     * @param workerDeserializerFactory creates an event deserializer for each deserialization thread, backed by
+     *                                  the given table map events; may not be null
+     */
+    public void deferRowsDeserialization(EventDeserializer eventDeserializer, Map<Long, TableMapEventData> tableMapEventByTableId,
+                                         Function<Map<Long, TableMapEventData>, EventDeserializer> workerDeserializerFactory) {
+        workerDeserializers = ThreadLocal.withInitial(() -> new WorkerDeserializer(workerDeserializerFactory));
+        for (EventType eventType : RowDeserializers.ROWS_EVENT_TYPES) {
+            final EventDataDeserializer<?> rowsDeserializer = eventDeserializer.getEventDataDeserializer(eventType);
+            eventDeserializer.setEventDataDeserializer(eventType, new DeferredRowsDeserializer(eventType, tableMapEventByTableId,
+                    rowsDeserializer instanceof ExcludedTableRowsDeserializer ? (ExcludedTableRowsDeserializer) rowsDeserializer : null));
+        }
+    }
+
+    /**
+     * Registers a listener to which the dispatcher thread passes the events in binlog order.
+     */
+    public void registerEventListener(EventListener eventListener) {
+        eventListeners.add(eventListener);
+    }
+
+    /**
+     * Starts the deserialization and dispatch stages; the events are passed to the pipeline by registering
+     * {@link #add(Event)} as a listener of the binary log client.
+     *
+     * @param failureHandler notified when the dispatcher thread stops unexpectedly; may not be null
+     */
+    public synchronized void start(Consumer<Throwable> failureHandler) {
+        if (running) {
+            return;
+        }
+        running = true;
+        dispatcherFailure = null;
+        buffer.clear();
+        deserializationExecutor = Threads.newFixedThreadPool(MySqlConnector.class, connectorConfig.getLogicalName(), "binlog-pipeline-deserializer",
+                connectorConfig.binlogPipelineDeserializationThreads());
+        dispatcherExecutor = Threads.newSingleThreadExecutor(MySqlConnector.class, connectorConfig.getLogicalName(), "binlog-pipeline-dispatcher");
+        dispatcherExecutor.submit(() -> runDispatcher(failureHandler));
+        LOGGER.info("Started binlog pipeline with buffer size {} and {} deserialization threads", connectorConfig.binlogPipelineBufferSize(),
+                connectorConfig.binlogPipelineDeserializationThreads());
+    }
+
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcherExecutor.shutdownNow();
+        deserializationExecutor.shutdownNow();
+        try {
+            if (!dispatcherExecutor.awaitTermination(POLL_INTERVAL_MS * 10, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Binlog pipeline dispatcher did not stop in time");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        buffer.clear();
+        LOGGER.info("Stopped binlog pipeline");
+    }
+
+    /**
+     * Passes an event read by the binary log client thread to the pipeline, waiting while the buffer is full.
+     *
+     * @throws DebeziumException if the dispatcher thread has stopped unexpectedly
+     */
+    public void add(Event event) {
+        final long started = System.nanoTime();
+        try {
+            while (running && !buffer.offer(event, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                // the dispatcher is behind, keep waiting unless it is gone
+                checkDispatcher();
+            }
+            checkDispatcher();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metrics.onBinlogPipelineEventRead(System.nanoTime() - started);
+    }
+
+    private void checkDispatcher() {
+        final Throwable failure = dispatcherFailure;
+        if (failure != null) {
+            throw new DebeziumException("The binlog pipeline dispatcher has stopped", failure);
+        }
+    }
+
+    private void runDispatcher(Consumer<Throwable> failureHandler) {
+        Throwable failure;
+        try {
+            dispatchEvents();
+            // the dispatcher only returns while running when it is interrupted other than by stop()
+            failure = running ? new DebeziumException("The binlog pipeline dispatcher was interrupted") : null;
+        }
+        catch (Throwable e) {
+            failure = e;
+        }
+        if (failure != null && running) {
+            LOGGER.error("Binlog pipeline dispatcher stopped unexpectedly", failure);
+            dispatcherFailure = failure;
+            failureHandler.accept(failure);
+        }
+    }
+
+    private void dispatchEvents() {
+        while (running) {
+            final long started = System.nanoTime();
+            Event event;
+            try {
+                event = buffer.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (event == null) {
+                metrics.onBinlogPipelineIdle(System.nanoTime() - started);
+                continue;
+            }
+            if (event.getData() instanceof DeferredRowsEventData) {
+                try {
+                    event = new Event(event.getHeader(), ((DeferredRowsEventData) event.getData()).rows.get());
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                catch (ExecutionException e) {
+                    // Same as the binary log client, an event that cannot be deserialized is passed on as an incident
+                    event = EventDataDeserializationExceptionData.toIncidentEvent(new EventDataDeserializationException(event.getHeader(), e.getCause()));
+                }
+            }
+            metrics.onBinlogPipelineEventDispatched(System.nanoTime() - started);
+            for (EventListener eventListener : eventListeners) {
+                try {
+                    eventListener.onEvent(event);
+                }
+                catch (Exception e) {
+                    LOGGER.warn("{} choked on {}", eventListener, event, e);
+                }
+            }
+        }
+    }
+
+    private EventData deserializeRows(EventType eventType, long tableId, TableMapEventData tableMapEvent, byte[] body) {
+        final long started = System.nanoTime();
+        final WorkerDeserializer worker = workerDeserializers.get();
+        worker.tableMapEventByTableId.clear();
+        if (tableMapEvent != null) {
+            worker.tableMapEventByTableId.put(tableId, tableMapEvent);
+        }
+        try {
+            return worker.eventDeserializer.getEventDataDeserializer(eventType).deserialize(new ByteArrayInputStream(body));
+        }
+        catch (IOException e) {
+            throw new CompletionException(e);
+        }
+        finally {
+            metrics.onBinlogPipelineEventDeserialized(System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Copies the body of a rows event and schedules its deserialization, capturing the table map event that is
+     * current at the position of the event in the binlog. The rows of excluded tables are skipped right away.
+     */
+    private class DeferredRowsDeserializer implements EventDataDeserializer<EventData> {
+
+        private final EventType eventType;
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+        private final ExcludedTableRowsDeserializer excludedTableRowsDeserializer;
+
+        DeferredRowsDeserializer(EventType eventType, Map<Long, TableMapEventData> tableMapEventByTableId,
+                                 ExcludedTableRowsDeserializer excludedTableRowsDeserializer) {
+            this.eventType = eventType;
+            this.tableMapEventByTableId = tableMapEventByTableId;
+            this.excludedTableRowsDeserializer = excludedTableRowsDeserializer;
+        }
+
+        @Override
+        public EventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            if (excludedTableRowsDeserializer != null) {
+                return excludedTableRowsDeserializer.deserialize(inputStream, this::defer);
+            }
+            final byte[] body = inputStream.read(inputStream.available());
+            return defer(ExcludedTableRowsDeserializer.readTableId(body), body);
+        }
+
+        private EventData defer(long tableId, byte[] body) {
+            final TableMapEventData tableMapEvent = tableMapEventByTableId.get(tableId);
+            return new DeferredRowsEventData(CompletableFuture.supplyAsync(
+                    () -> deserializeRows(eventType, tableId, tableMapEvent, body), deserializationExecutor));
+        }
+    }
+
+    /**
+     * A placeholder for the data of a rows event that is being deserialized by the pipeline.
+     */
+    static class DeferredRowsEventData implements EventData {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CompletableFuture<EventData> rows;
+
+        DeferredRowsEventData(CompletableFuture<EventData> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public String toString() {
+            return "DeferredRowsEventData [done=" + rows.isDone() + "]";
+        }
+    }
+
+    /**
+     * The event deserializer and table map events used by a single deserialization thread.
+     */
+    private static class WorkerDeserializer {
+
+        private final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
+        private final EventDeserializer eventDeserializer;
+
+        WorkerDeserializer(Function<Map<Long, TableMapEventData>, EventDeserializer> workerDeserializerFactory) {
+            this.eventDeserializer = workerDeserializerFactory.apply(tableMapEventByTableId);
+        }
+    }
+}
@@ -5,7 +5,9 @@
  */
 package io.debezium.connector.mysql;
 
+import com.github.shyiko.mysql.binlog.event.Event;
 import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
 import com.github.shyiko.mysql.binlog.event.EventType;
 import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
 
@@ -28,6 +30,25 @@ public EventDataDeserializationException getCause() {
         return cause;
     }
 
+    /**
+     * Creates the pseudo-event of type {@link EventType#INCIDENT} reporting a failure to deserialize a binlog event,
+     * carrying over the position of the failed event.
+     */
+    public static Event toIncidentEvent(EventDataDeserializationException cause) {
+        EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(EventType.INCIDENT);
+        header.setTimestamp(cause.getEventHeader().getTimestamp());
+        header.setServerId(cause.getEventHeader().getServerId());
+
+        if (cause.getEventHeader() instanceof EventHeaderV4) {
+            header.setEventLength(((EventHeaderV4) cause.getEventHeader()).getEventLength());
+            header.setNextPosition(((EventHeaderV4) cause.getEventHeader()).getNextPosition());
+            header.setFlags(((EventHeaderV4) cause.getEventHeader()).getFlags());
+        }
+
+        return new Event(header, new EventDataDeserializationExceptionData(cause));
+    }
+
     @Override
     public String toString() {
         return "EventDataDeserializationExceptionData [cause=" + cause + "]";
@@ -0,0 +1,128 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.relational.TableId;
+
+/**
+ * A deserializer of rows events that skips the rows of the tables excluded by the connector's table filters, so
+ * that no row objects are created for them. The events of such tables are represented by {@link SkippedRowsEventData},
+ * all other events are deserialized by the wrapped deserializer.
+ */
+public class ExcludedTableRowsDeserializer implements EventDataDeserializer<EventData> {
+
+    /**
+     * The length of the table id stored at the beginning of the post-header of rows events.
+     */
+    private static final int TABLE_ID_LENGTH = 6;
+
+    private final EventDataDeserializer<?> delegate;
+    private final Map<Long, TableMapEventData> tableMapEventByTableId;
+    private final Predicate<TableId> tableFilter;
+    private final Map<TableId, Boolean> excludedTables = new ConcurrentHashMap<>();
+
+    /**
+     * Wraps the deserializers of all rows events registered with the given event deserializer.
+     *
+     * @param eventDeserializer the event deserializer; may not be null
+     * @param tableMapEventByTableId the table map events recorded by the event deserializer; may not be null
+     * @param tableFilter the predicate returning {@code true} for the tables whose rows are to be deserialized; may not be null
+     */
+    public static void skipExcludedTables(EventDeserializer eventDeserializer, Map<Long, TableMapEventData> tableMapEventByTableId,
+                                          Predicate<TableId> tableFilter) {
+        for (EventType eventType : RowDeserializers.ROWS_EVENT_TYPES) {
+            eventDeserializer.setEventDataDeserializer(eventType,
+                    new ExcludedTableRowsDeserializer(eventDeserializer.getEventDataDeserializer(eventType), tableMapEventByTableId, tableFilter));
+        }
+    }
+
+    public ExcludedTableRowsDeserializer(EventDataDeserializer<?> delegate, Map<Long, TableMapEventData> tableMapEventByTableId,
+                                         Predicate<TableId> tableFilter) {
+        this.delegate = delegate;
+        this.tableMapEventByTableId = tableMapEventByTableId;
+        this.tableFilter = tableFilter;
+    }
+
+    @Override
+    public EventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+        final byte[] tableIdBytes = inputStream.read(TABLE_ID_LENGTH);
+        final long tableId = readTableId(tableIdBytes);
+        final int remaining = inputStream.available();
+        if (isExcluded(tableMapEventByTableId.get(tableId))) {
+            return skip(inputStream, tableId, remaining);
+        }
+
+        // Replay the table id in front of the rest of the event rather than copying the whole body
+        final ByteArrayInputStream rowsInputStream = new ByteArrayInputStream(
+                new SequenceInputStream(new java.io.ByteArrayInputStream(tableIdBytes), inputStream));
+        rowsInputStream.enterBlock(TABLE_ID_LENGTH + remaining);
+        return delegate.deserialize(rowsInputStream);
+    }
+
+    /**
+     * Skips the rows of an excluded table, or reads the whole data of the event and passes it to the given handler.
+     * The data is copied as the handler may deserialize it after the input stream has moved on to the next event.
+     */
+    EventData deserialize(ByteArrayInputStream inputStream, IncludedRowsHandler handler) throws IOException {
+        final byte[] tableIdBytes = inputStream.read(TABLE_ID_LENGTH);
+        final long tableId = readTableId(tableIdBytes);
+        final int remaining = inputStream.available();
+        if (isExcluded(tableMapEventByTableId.get(tableId))) {
+            return skip(inputStream, tableId, remaining);
+        }
+
+        final byte[] body = new byte[TABLE_ID_LENGTH + remaining];
+        System.arraycopy(tableIdBytes, 0, body, 0, TABLE_ID_LENGTH);
+        inputStream.fill(body, TABLE_ID_LENGTH, remaining);
+        return handler.handle(tableId, body);
+    }
+
+    /**
+     * Whether the rows of the table described by the given table map event are to be skipped.
+     *
+     * @param tableMapEvent the table map event preceding the rows event; may be null if it is not known
+     * @return {@code true} if the table is excluded, {@code false} if it is included or not known
+     */
+    public boolean isExcluded(TableMapEventData tableMapEvent) {
+        if (tableMapEvent == null) {
+            // Let the wrapped deserializer report the missing table map
+            return false;
+        }
+        final TableId tableId = new TableId(tableMapEvent.getDatabase(), null, tableMapEvent.getTable());
+        return excludedTables.computeIfAbsent(tableId, id -> !tableFilter.test(id));
+    }
+
+    private static EventData skip(ByteArrayInputStream inputStream, long tableId, int remaining) throws IOException {
+        inputStream.skip(remaining);
+        return new SkippedRowsEventData(tableId, TABLE_ID_LENGTH + remaining);
+    }
+
+    static long readTableId(byte[] body) {
+        long tableId = 0;
+        for (int i = 0; i < TABLE_ID_LENGTH && i < body.length; i++) {
+            tableId |= ((long) body[i] & 0xFF) << (i << 3);
+        }
+        return tableId;
+    }
+
+    @FunctionalInterface
+    interface IncludedRowsHandler {
+        EventData handle(long tableId, byte[] body) throws IOException;
+    }
+}
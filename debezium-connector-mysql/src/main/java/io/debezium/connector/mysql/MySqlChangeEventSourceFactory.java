@@ -132,7 +132,8 @@ public StreamingChangeEventSource<MySqlPartition, MySqlOffsetContext> getStreami
         }
         return Optional.of(new SignalBasedIncrementalSnapshotChangeEventSource<>(
                 configuration,
-                connectionFactory.mainConnection(),
+                MySqlConnector.class,
+                connectionFactory,
                 dispatcher,
                 schema,
                 clock,
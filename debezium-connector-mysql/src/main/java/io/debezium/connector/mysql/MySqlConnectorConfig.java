@@ -589,6 +589,8 @@ public static ConnectorAdapterMode parse(String value, String defaultValue) {
      * client.
      */
     private static final int DEFAULT_BINLOG_BUFFER_SIZE = 0;
+    private static final int DEFAULT_BINLOG_PIPELINE_BUFFER_SIZE = 0;
+    private static final int DEFAULT_BINLOG_PIPELINE_DESERIALIZATION_THREADS = 2;
 
     public static final Field PORT = RelationalDatabaseConnectorConfig.PORT
             .withDefault(DEFAULT_PORT);
@@ -807,6 +809,32 @@ public static ConnectorAdapterMode parse(String value, String defaultValue) {
             .withDefault(DEFAULT_BINLOG_BUFFER_SIZE)
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field BINLOG_PIPELINE_BUFFER_SIZE = Field.create("binlog.pipeline.buffer.size")
+            .withDisplayName("Binlog pipeline buffer size")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 4))
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of binlog events read ahead of the event dispatching. "
+                    + "When positive, reading the binlog from the network, deserializing the rows of the events "
+                    + "and dispatching the change events happen in separate threads, while the binlog order is preserved. "
+                    + "Use 0 to process each event on the binlog reader thread. "
+                    + "Pipelining is not applied when '" + BUFFER_SIZE_FOR_BINLOG_READER.name() + "' is used. "
+                    + "Defaults to " + DEFAULT_BINLOG_PIPELINE_BUFFER_SIZE + " (i.e. pipelining is disabled).")
+            .withDefault(DEFAULT_BINLOG_PIPELINE_BUFFER_SIZE)
+            .withValidation(Field::isNonNegativeInteger);
+
+    public static final Field BINLOG_PIPELINE_DESERIALIZATION_THREADS = Field.create("binlog.pipeline.deserialization.threads")
+            .withDisplayName("Binlog pipeline deserialization threads")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 5))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of threads deserializing the rows of binlog events in parallel when '"
+                    + BINLOG_PIPELINE_BUFFER_SIZE.name() + "' is positive. Defaults to " + DEFAULT_BINLOG_PIPELINE_DESERIALIZATION_THREADS + ".")
+            .withDefault(DEFAULT_BINLOG_PIPELINE_DESERIALIZATION_THREADS)
+            .withValidation(Field::isPositiveInteger);
+
     public static final Field TOPIC_NAMING_STRATEGY = Field.create("topic.naming.strategy")
             .withDisplayName("Topic naming strategy class")
             .withType(Type.CLASS)
@@ -1003,6 +1031,8 @@ public static ConnectorAdapterMode parse(String value, String defaultValue) {
                     GTID_SOURCE_EXCLUDES,
                     GTID_SOURCE_FILTER_DML_EVENTS,
                     BUFFER_SIZE_FOR_BINLOG_READER,
+                    BINLOG_PIPELINE_BUFFER_SIZE,
+                    BINLOG_PIPELINE_DESERIALIZATION_THREADS,
                     EVENT_DESERIALIZATION_FAILURE_HANDLING_MODE,
                     INCONSISTENT_SCHEMA_HANDLING_MODE,
                     SOURCE_INFO_STRUCT_MAKER)
@@ -1227,6 +1257,14 @@ public int bufferSizeForStreamingChangeEventSource() {
         return config.getInteger(MySqlConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER);
     }
 
+    public int binlogPipelineBufferSize() {
+        return config.getInteger(MySqlConnectorConfig.BINLOG_PIPELINE_BUFFER_SIZE);
+    }
+
+    public int binlogPipelineDeserializationThreads() {
+        return config.getInteger(MySqlConnectorConfig.BINLOG_PIPELINE_DESERIALIZATION_THREADS);
+    }
+
     public ConnectorAdapter getConnectorAdapter() {
         return connectorAdapter;
     }
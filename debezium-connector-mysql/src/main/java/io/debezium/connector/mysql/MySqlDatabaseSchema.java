@@ -90,12 +90,16 @@ public MySqlDatabaseSchema(MySqlConnectorConfig connectorConfig, MySqlValueConve
                         connectorConfig.getEventConvertingFailureHandlingMode()),
                 tableIdCaseInsensitive, connectorConfig.getKeyMapper());
 
-        this.ddlParser = new MySqlAntlrDdlParser(
+        final MySqlAntlrDdlParser parser = new MySqlAntlrDdlParser(
                 true,
                 false,
                 connectorConfig.isSchemaCommentsHistoryEnabled(),
                 valueConverter,
                 getTableFilter());
+        if (connectorConfig.warmUpDdlParser()) {
+            parser.warmUp();
+        }
+        this.ddlParser = parser;
         this.ddlChanges = this.ddlParser.getDdlChanges();
         this.connectorConfig = connectorConfig;
         filters = connectorConfig.getTableFilters();
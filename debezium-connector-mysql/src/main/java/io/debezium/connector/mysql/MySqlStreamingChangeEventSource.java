@@ -81,6 +81,7 @@ public class MySqlStreamingChangeEventSource implements StreamingChangeEventSour
 
     private final EnumMap<EventType, BlockingConsumer<Event>> eventHandlers = new EnumMap<>(EventType.class);
     private final BinaryLogClient client;
+    private final BinlogPipeline pipeline;
     private final MySqlStreamingChangeEventSourceMetrics metrics;
     private final Clock clock;
     private final EventProcessingFailureHandlingMode eventDeserializationFailureHandlingMode;
@@ -166,7 +167,7 @@ public boolean equals(Object obj) {
 
     @FunctionalInterface
     private interface BinlogChangeEmitter<T> {
-        void emit(TableId tableId, T data) throws InterruptedException;
+        MySqlChangeRecordEmitter emitter(T data);
     }
 
     public MySqlStreamingChangeEventSource(MySqlConnectorConfig connectorConfig, AbstractConnectorConnection connection,
@@ -186,12 +187,21 @@ public MySqlStreamingChangeEventSource(MySqlConnectorConfig connectorConfig, Abs
         inconsistentSchemaHandlingMode = connectorConfig.inconsistentSchemaFailureHandlingMode();
         this.snapshotterService = snapshotterService;
 
+        if (connectorConfig.binlogPipelineBufferSize() > 0 && connectorConfig.bufferSizeForStreamingChangeEventSource() > 0) {
+            LOGGER.warn("The binlog pipeline is disabled as it cannot be combined with '{}'", MySqlConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER.name());
+            pipeline = null;
+        }
+        else {
+            pipeline = connectorConfig.binlogPipelineBufferSize() > 0 ? new BinlogPipeline(connectorConfig, metrics) : null;
+        }
+
         // Set up the log reader ...
         client = connectorAdapter.getBinaryLogClientConfigurator().configure(
                 taskContext.getBinaryLogClient(),
                 Threads.threadFactory(MySqlConnector.class, connectorConfig.getLogicalName(), "binlog-client", false, false,
                         x -> binaryLogClientThreads.put(x.getName(), x)),
-                connection);
+                connection,
+                pipeline);
 
         Configuration configuration = connectorConfig.getConfig();
         boolean filterDmlEventsByGtidSource = configuration.getBoolean(MySqlConnectorConfig.GTID_SOURCE_FILTER_DML_EVENTS);
@@ -667,6 +677,9 @@ else if (eventData instanceof UpdateRowsEventData) {
                 else if (eventData instanceof DeleteRowsEventData) {
                     tableId = taskContext.getSchema().getExcludeTableId(((DeleteRowsEventData) eventData).getTableId());
                 }
+                else if (eventData instanceof SkippedRowsEventData) {
+                    tableId = taskContext.getSchema().getExcludeTableId(((SkippedRowsEventData) eventData).getTableId());
+                }
             }
             LOGGER.trace("Filtered {} event for {}", event.getHeader().getEventType(), tableId);
             metrics.onFilteredEvent(partition, "source = " + tableId, operation);
@@ -710,8 +723,7 @@ protected void handleInsert(MySqlPartition partition, MySqlOffsetContext offsetC
         handleChange(partition, offsetContext, event, Operation.CREATE, WriteRowsEventData.class,
                 x -> taskContext.getSchema().getTableId(x.getTableId()),
                 WriteRowsEventData::getRows,
-                (tableId, row) -> eventDispatcher.dispatchDataChangeEvent(partition, tableId,
-                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.CREATE, null, row, connectorConfig)),
+                row -> new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.CREATE, null, row, connectorConfig),
                 (tableId, row) -> validateChangeEventWithTable(taskContext.getSchema().tableFor(tableId), null, row));
     }
 
@@ -726,9 +738,8 @@ protected void handleUpdate(MySqlPartition partition, MySqlOffsetContext offsetC
         handleChange(partition, offsetContext, event, Operation.UPDATE, UpdateRowsEventData.class,
                 x -> taskContext.getSchema().getTableId(x.getTableId()),
                 UpdateRowsEventData::getRows,
-                (tableId, row) -> eventDispatcher.dispatchDataChangeEvent(partition, tableId,
-                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.UPDATE, row.getKey(), row.getValue(),
-                                connectorConfig)),
+                row -> new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.UPDATE, row.getKey(), row.getValue(),
+                        connectorConfig),
                 (tableId, row) -> validateChangeEventWithTable(taskContext.getSchema().tableFor(tableId), row.getKey(), row.getValue()));
     }
 
@@ -743,8 +754,7 @@ protected void handleDelete(MySqlPartition partition, MySqlOffsetContext offsetC
         handleChange(partition, offsetContext, event, Operation.DELETE, DeleteRowsEventData.class,
                 x -> taskContext.getSchema().getTableId(x.getTableId()),
                 DeleteRowsEventData::getRows,
-                (tableId, row) -> eventDispatcher.dispatchDataChangeEvent(partition, tableId,
-                        new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.DELETE, row, null, connectorConfig)),
+                row -> new MySqlChangeRecordEmitter(partition, offsetContext, clock, Operation.DELETE, row, null, connectorConfig),
                 (tableId, row) -> validateChangeEventWithTable(taskContext.getSchema().tableFor(tableId), row, null));
     }
 
@@ -764,23 +774,31 @@ private <T extends EventData, U> void handleChange(MySqlPartition partition, MyS
             LOGGER.debug("Skipping DML event because this GTID source is filtered: {}", event);
             return;
         }
+        if (event.getData() instanceof SkippedRowsEventData) {
+            // The rows of an excluded table were not deserialized
+            final SkippedRowsEventData skippedRows = event.getData();
+            metrics.onSkippedRowsEvent(skippedRows.getLength());
+            informAboutUnknownTableIfRequired(partition, offsetContext, event, null, operation);
+            startingRowNumber = 0;
+            return;
+        }
         final T data = unwrapData(event);
         final TableId tableId = tableIdProvider.getTableId(data);
         final List<U> rows = rowsProvider.getRows(data);
         String changeType = operation.name();
 
         if (tableId != null && taskContext.getSchema().schemaFor(tableId) != null) {
-            int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
-                for (int rowIndex = startingRowNumber; rowIndex != numRows; ++rowIndex) {
-                    U row = rows.get(rowIndex);
+                // All rows of the event are dispatched as one batch, the offset is moved to each row before it is emitted
+                final int[] rowIndex = { startingRowNumber };
+                eventDispatcher.dispatchDataChangeEvents(partition, tableId, rows.subList(startingRowNumber, numRows), row -> {
                     changeEventValidator.validate(tableId, row);
-                    offsetContext.setRowNumber(rowIndex, numRows);
+                    offsetContext.setRowNumber(rowIndex[0]++, numRows);
                     offsetContext.event(tableId, eventTimestamp);
-                    changeEmitter.emit(tableId, row);
-                    count++;
-                }
+                    return changeEmitter.emitter(row);
+                });
+                final int count = numRows - startingRowNumber;
                 if (LOGGER.isDebugEnabled()) {
                     if (startingRowNumber != 0) {
                         LOGGER.debug("Emitted {} {} record(s) for last {} row(s) in event: {}",
@@ -883,12 +901,17 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
             EventBuffer buffer = new EventBuffer(connectorConfig.bufferSizeForStreamingChangeEventSource(), this, context);
             listener = (event) -> buffer.add(partition, effectiveOffsetContext, event);
         }
-        client.registerEventListener(listener);
+        registerEventListener(listener);
 
-        client.registerLifecycleListener(new ReaderThreadLifecycleListener(effectiveOffsetContext));
-        client.registerEventListener((event) -> onEvent(effectiveOffsetContext, event));
+        final ReaderThreadLifecycleListener lifecycleListener = new ReaderThreadLifecycleListener(effectiveOffsetContext);
+        client.registerLifecycleListener(lifecycleListener);
+        registerEventListener((event) -> onEvent(effectiveOffsetContext, event));
         if (LOGGER.isDebugEnabled()) {
-            client.registerEventListener((event) -> logEvent(effectiveOffsetContext, event));
+            registerEventListener((event) -> logEvent(effectiveOffsetContext, event));
+        }
+        if (pipeline != null) {
+            // The events are converted and dispatched in binlog order by the pipeline's dispatcher thread
+            client.registerEventListener(pipeline::add);
         }
 
         metrics.setIsGtidModeEnabled(isGtidModeEnabled);
@@ -948,6 +971,12 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
         skipEvent = false;
 
         try {
+            if (pipeline != null) {
+                pipeline.start(error -> {
+                    logStreamingSourceState();
+                    errorHandler.setProducerThrowable(wrap(error));
+                });
+            }
             // Start the log reader, which starts background threads ...
             if (context.isRunning()) {
                 long timeout = connectorConfig.getConnectionTimeout().toMillis();
@@ -1007,6 +1036,18 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
             catch (Exception e) {
                 LOGGER.info("Exception while stopping binary log client", e);
             }
+            if (pipeline != null) {
+                pipeline.stop();
+            }
+        }
+    }
+
+    private void registerEventListener(BinaryLogClient.EventListener listener) {
+        if (pipeline != null) {
+            pipeline.registerEventListener(listener);
+        }
+        else {
+            client.registerEventListener(listener);
         }
     }
 
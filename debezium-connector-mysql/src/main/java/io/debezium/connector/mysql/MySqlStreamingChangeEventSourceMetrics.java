@@ -6,6 +6,7 @@
 package io.debezium.connector.mysql;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,6 +36,14 @@ public class MySqlStreamingChangeEventSourceMetrics extends DefaultStreamingChan
     private final AtomicBoolean isGtidModeEnabled = new AtomicBoolean(false);
     private final AtomicLong milliSecondsBehindMaster = new AtomicLong();
     private final AtomicReference<String> lastTransactionId = new AtomicReference<>();
+    private final AtomicLong numberOfSkippedRowsEvents = new AtomicLong();
+    private final AtomicLong numberOfSkippedRowsBytes = new AtomicLong();
+    private final AtomicLong binlogPipelineReadEvents = new AtomicLong();
+    private final AtomicLong binlogPipelineReaderWaitTime = new AtomicLong();
+    private final AtomicLong binlogPipelineDeserializedEvents = new AtomicLong();
+    private final AtomicLong binlogPipelineDeserializationTime = new AtomicLong();
+    private final AtomicLong binlogPipelineDispatchedEvents = new AtomicLong();
+    private final AtomicLong binlogPipelineDispatcherWaitTime = new AtomicLong();
 
     public MySqlStreamingChangeEventSourceMetrics(MySqlTaskContext taskContext, ChangeEventQueueMetrics changeEventQueueMetrics, EventMetadataProvider metadataProvider) {
         super(taskContext, changeEventQueueMetrics, metadataProvider);
@@ -103,6 +112,14 @@ public void reset() {
         numberOfLargeTransactions.set(0);
         lastTransactionId.set(null);
         isGtidModeEnabled.set(false);
+        numberOfSkippedRowsEvents.set(0);
+        numberOfSkippedRowsBytes.set(0);
+        binlogPipelineReadEvents.set(0);
+        binlogPipelineReaderWaitTime.set(0);
+        binlogPipelineDeserializedEvents.set(0);
+        binlogPipelineDeserializationTime.set(0);
+        binlogPipelineDispatchedEvents.set(0);
+        binlogPipelineDispatcherWaitTime.set(0);
     }
 
     @Override
@@ -149,6 +166,30 @@ public void setIsGtidModeEnabled(final boolean enabled) {
         isGtidModeEnabled.set(enabled);
     }
 
+    public void onSkippedRowsEvent(long bytes) {
+        numberOfSkippedRowsEvents.incrementAndGet();
+        numberOfSkippedRowsBytes.addAndGet(bytes);
+    }
+
+    public void onBinlogPipelineEventRead(long waitNanos) {
+        binlogPipelineReadEvents.incrementAndGet();
+        binlogPipelineReaderWaitTime.addAndGet(waitNanos);
+    }
+
+    public void onBinlogPipelineEventDeserialized(long durationNanos) {
+        binlogPipelineDeserializedEvents.incrementAndGet();
+        binlogPipelineDeserializationTime.addAndGet(durationNanos);
+    }
+
+    public void onBinlogPipelineEventDispatched(long waitNanos) {
+        binlogPipelineDispatchedEvents.incrementAndGet();
+        binlogPipelineDispatcherWaitTime.addAndGet(waitNanos);
+    }
+
+    public void onBinlogPipelineIdle(long waitNanos) {
+        binlogPipelineDispatcherWaitTime.addAndGet(waitNanos);
+    }
+
     public void setMilliSecondsBehindSource(long value) {
         milliSecondsBehindMaster.set(value);
     }
@@ -176,4 +217,43 @@ public String getLastTransactionId() {
         return lastTransactionId.get();
     }
 
+    @Override
+    public long getNumberOfSkippedRowsEvents() {
+        return numberOfSkippedRowsEvents.get();
+    }
+
+    @Override
+    public long getNumberOfSkippedRowsBytes() {
+        return numberOfSkippedRowsBytes.get();
+    }
+
+    @Override
+    public long getBinlogPipelineNumberOfReadEvents() {
+        return binlogPipelineReadEvents.get();
+    }
+
+    @Override
+    public long getBinlogPipelineReaderWaitTimeInMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(binlogPipelineReaderWaitTime.get());
+    }
+
+    @Override
+    public long getBinlogPipelineNumberOfDeserializedEvents() {
+        return binlogPipelineDeserializedEvents.get();
+    }
+
+    @Override
+    public long getBinlogPipelineDeserializationTimeInMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(binlogPipelineDeserializationTime.get());
+    }
+
+    @Override
+    public long getBinlogPipelineNumberOfDispatchedEvents() {
+        return binlogPipelineDispatchedEvents.get();
+    }
+
+    @Override
+    public long getBinlogPipelineDispatcherWaitTimeInMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(binlogPipelineDispatcherWaitTime.get());
+    }
 }
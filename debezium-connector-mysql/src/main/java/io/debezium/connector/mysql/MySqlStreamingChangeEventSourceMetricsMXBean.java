@@ -66,4 +66,44 @@ public interface MySqlStreamingChangeEventSourceMetricsMXBean extends StreamingC
      * @return true if using Gtids, false if not.
      */
     boolean getIsGtidModeEnabled();
+
+    /**
+     * Tracks the number of rows events of excluded tables whose rows were skipped without being deserialized.
+     */
+    long getNumberOfSkippedRowsEvents();
+
+    /**
+     * Tracks the number of bytes of rows events of excluded tables that were skipped without being deserialized.
+     */
+    long getNumberOfSkippedRowsBytes();
+
+    /**
+     * Tracks the number of events read from the network by the binlog pipeline.
+     */
+    long getBinlogPipelineNumberOfReadEvents();
+
+    /**
+     * Tracks the time the binlog pipeline reader was blocked because the pipeline buffer was full.
+     */
+    long getBinlogPipelineReaderWaitTimeInMilliseconds();
+
+    /**
+     * Tracks the number of rows events deserialized by the binlog pipeline.
+     */
+    long getBinlogPipelineNumberOfDeserializedEvents();
+
+    /**
+     * Tracks the total time spent by the binlog pipeline deserializing rows events.
+     */
+    long getBinlogPipelineDeserializationTimeInMilliseconds();
+
+    /**
+     * Tracks the number of events dispatched by the binlog pipeline.
+     */
+    long getBinlogPipelineNumberOfDispatchedEvents();
+
+    /**
+     * Tracks the time the binlog pipeline dispatcher waited for events to be read or deserialized.
+     */
+    long getBinlogPipelineDispatcherWaitTimeInMilliseconds();
 }
@@ -18,11 +18,15 @@
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.shyiko.mysql.binlog.event.EventType;
 import com.github.shyiko.mysql.binlog.event.TableMapEventData;
 import com.github.shyiko.mysql.binlog.event.deserialization.AbstractRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.DeleteRowsEventDataDeserializer;
@@ -56,6 +60,12 @@ public class RowDeserializers {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RowDeserializers.class);
 
+    /**
+     * The types of the events carrying rows.
+     */
+    public static final Set<EventType> ROWS_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(EventType.WRITE_ROWS, EventType.UPDATE_ROWS,
+            EventType.DELETE_ROWS, EventType.EXT_WRITE_ROWS, EventType.EXT_UPDATE_ROWS, EventType.EXT_DELETE_ROWS));
+
     /**
      * A specialization of {@link DeleteRowsEventDataDeserializer} that converts MySQL {@code DATE}, {@code TIME},
      * {@code DATETIME}, and {@code TIMESTAMP} values to {@link LocalDate}, {@link LocalTime}, {@link LocalDateTime}, and
@@ -0,0 +1,46 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import com.github.shyiko.mysql.binlog.event.EventData;
+
+/**
+ * The data of a rows event whose rows were not deserialized, because the table is excluded by the connector's
+ * table filters.
+ *
+ * @see ExcludedTableRowsDeserializer
+ */
+public class SkippedRowsEventData implements EventData {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long tableId;
+    private final int length;
+
+    public SkippedRowsEventData(long tableId, int length) {
+        this.tableId = tableId;
+        this.length = length;
+    }
+
+    /**
+     * @return the number of the table in the binlog
+     */
+    public long getTableId() {
+        return tableId;
+    }
+
+    /**
+     * @return the number of bytes of the event data that were skipped
+     */
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return "SkippedRowsEventData{tableId=" + tableId + ", length=" + length + "}";
+    }
+}
@@ -9,6 +9,7 @@
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import com.github.luben.zstd.Zstd;
 import com.github.shyiko.mysql.binlog.event.Event;
@@ -20,16 +21,29 @@
 import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
 
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
+import io.debezium.relational.TableId;
 
 public class TransactionPayloadDeserializer extends TransactionPayloadEventDataDeserializer {
 
     private final Map<Long, TableMapEventData> tableMapEventByTableId;
     private final EventProcessingFailureHandlingMode eventDeserializationFailureHandlingMode;
+    private final Predicate<TableId> tableFilter;
 
     public TransactionPayloadDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId,
                                           EventProcessingFailureHandlingMode eventDeserializationFailureHandlingMode) {
+        this(tableMapEventByTableId, eventDeserializationFailureHandlingMode, null);
+    }
+
+    /**
+     * @param tableFilter the predicate returning {@code true} for the tables whose rows are to be deserialized;
+     *                    may be null if the rows of all tables are deserialized
+     */
+    public TransactionPayloadDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId,
+                                          EventProcessingFailureHandlingMode eventDeserializationFailureHandlingMode,
+                                          Predicate<TableId> tableFilter) {
         this.tableMapEventByTableId = tableMapEventByTableId;
         this.eventDeserializationFailureHandlingMode = eventDeserializationFailureHandlingMode;
+        this.tableFilter = tableFilter;
     }
 
     @Override
@@ -100,6 +114,9 @@ public TransactionPayloadEventData deserialize(ByteArrayInputStream inputStream)
         transactionPayloadEventDeserializer.setEventDataDeserializer(EventType.EXT_DELETE_ROWS,
                 new RowDeserializers.DeleteRowsDeserializer(
                         tableMapEventByTableId, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
+        if (tableFilter != null) {
+            ExcludedTableRowsDeserializer.skipExcludedTables(transactionPayloadEventDeserializer, tableMapEventByTableId, tableFilter);
+        }
 
         ByteArrayInputStream destinationInputStream = new ByteArrayInputStream(dst);
 
@@ -94,6 +94,11 @@ protected SystemVariables createNewSystemVariablesInstance() {
         return new MySqlSystemVariables();
     }
 
+    @Override
+    protected String getWarmUpResource() {
+        return "io/debezium/connector/mysql/antlr/ddl-warmup.sql";
+    }
+
     @Override
     protected boolean isGrammarInUpperCase() {
         return true;
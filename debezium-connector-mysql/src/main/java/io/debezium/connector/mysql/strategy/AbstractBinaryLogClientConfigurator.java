@@ -18,6 +18,7 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ThreadFactory;
+import java.util.function.Predicate;
 
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
@@ -31,8 +32,6 @@
 
 import com.github.shyiko.mysql.binlog.BinaryLogClient;
 import com.github.shyiko.mysql.binlog.event.Event;
-import com.github.shyiko.mysql.binlog.event.EventData;
-import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
 import com.github.shyiko.mysql.binlog.event.EventType;
 import com.github.shyiko.mysql.binlog.event.TableMapEventData;
 import com.github.shyiko.mysql.binlog.event.TransactionPayloadEventData;
@@ -47,12 +46,15 @@
 import io.debezium.DebeziumException;
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.BinlogPipeline;
 import io.debezium.connector.mysql.EventDataDeserializationExceptionData;
+import io.debezium.connector.mysql.ExcludedTableRowsDeserializer;
 import io.debezium.connector.mysql.MySqlConnectorConfig;
 import io.debezium.connector.mysql.MySqlConnectorConfig.SecureConnectionMode;
 import io.debezium.connector.mysql.RowDeserializers;
 import io.debezium.connector.mysql.StopEventDataDeserializer;
 import io.debezium.connector.mysql.TransactionPayloadDeserializer;
+import io.debezium.relational.TableId;
 
 /**
  * @author Chris Cranford
@@ -71,7 +73,7 @@ public AbstractBinaryLogClientConfigurator(MySqlConnectorConfig connectorConfig)
     }
 
     @Override
-    public BinaryLogClient configure(BinaryLogClient client, ThreadFactory threadFactory, AbstractConnectorConnection connection) {
+    public BinaryLogClient configure(BinaryLogClient client, ThreadFactory threadFactory, AbstractConnectorConnection connection, BinlogPipeline pipeline) {
         client.setThreadFactory(threadFactory);
         client.setServerId(connectorConfig.serverId());
         client.setSSLMode(sslModeFor(connectorConfig.sslMode()));
@@ -94,14 +96,26 @@ public BinaryLogClient configure(BinaryLogClient client, ThreadFactory threadFac
         // is 0.8, and we believe the left time (0.2 * keepAliveInterval) is enough to process the packet received from the MySQL server.
         client.setHeartbeatInterval((long) (keepAliveInterval * heartbeatIntervalFactor));
 
-        client.setEventDeserializer(createEventDeserializer());
+        final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
+        final EventDeserializer eventDeserializer = createEventDeserializer(tableMapEventByTableId);
+        // The rows of excluded tables are never used, so they are skipped without being deserialized
+        ExcludedTableRowsDeserializer.skipExcludedTables(eventDeserializer, tableMapEventByTableId, getTableFilter());
+        if (pipeline != null) {
+            pipeline.deferRowsDeserialization(eventDeserializer, tableMapEventByTableId, this::createEventDeserializer);
+        }
+        client.setEventDeserializer(eventDeserializer);
 
         return client;
     }
 
-    protected EventDeserializer createEventDeserializer() {
+    /**
+     * Creates the event deserializer.
+     *
+     * @param tableMapEventByTableId the map in which the deserializer records the most recent table map event of each table
+     * @return the event deserializer
+     */
+    protected EventDeserializer createEventDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId) {
         // Set up the event deserializer with additional type(s) ...
-        final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
         EventDeserializer eventDeserializer = new EventDeserializer() {
             @Override
             public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
@@ -148,19 +162,7 @@ public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
                         throw edde;
                     }
 
-                    EventHeaderV4 header = new EventHeaderV4();
-                    header.setEventType(EventType.INCIDENT);
-                    header.setTimestamp(edde.getEventHeader().getTimestamp());
-                    header.setServerId(edde.getEventHeader().getServerId());
-
-                    if (edde.getEventHeader() instanceof EventHeaderV4) {
-                        header.setEventLength(((EventHeaderV4) edde.getEventHeader()).getEventLength());
-                        header.setNextPosition(((EventHeaderV4) edde.getEventHeader()).getNextPosition());
-                        header.setFlags(((EventHeaderV4) edde.getEventHeader()).getFlags());
-                    }
-
-                    EventData data = new EventDataDeserializationExceptionData(edde);
-                    return new Event(header, data);
+                    return EventDataDeserializationExceptionData.toIncidentEvent(edde);
                 }
             }
         };
@@ -184,7 +186,7 @@ public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
                 new RowDeserializers.DeleteRowsDeserializer(
                         tableMapEventByTableId, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
         eventDeserializer.setEventDataDeserializer(EventType.TRANSACTION_PAYLOAD,
-                new TransactionPayloadDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode));
+                new TransactionPayloadDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode, getTableFilter()));
 
         return eventDeserializer;
     }
@@ -194,6 +196,10 @@ public EventType getIncludeSqlQueryEventType() {
         return EventType.ROWS_QUERY;
     }
 
+    private Predicate<TableId> getTableFilter() {
+        return connectorConfig.getTableFilters().dataCollectionFilter()::isIncluded;
+    }
+
     protected MySqlConnectorConfig getConnectorConfig() {
         return connectorConfig;
     }
@@ -10,6 +10,8 @@
 import com.github.shyiko.mysql.binlog.BinaryLogClient;
 import com.github.shyiko.mysql.binlog.event.EventType;
 
+import io.debezium.connector.mysql.BinlogPipeline;
+
 /**
  * @author Chris Cranford
  */
@@ -20,10 +22,11 @@ public interface BinaryLogClientConfigurator {
      * @param client the client instance ot be configured; should not be null
      * @param threadFactory the thread factory to be used; should not be null
      * @param connection the connector's JDBC connection; should not be null
+     * @param pipeline the pipeline deserializing the rows events; may be null if all events are deserialized by the client
      *
      * @return the configured binary log client instance
      */
-    BinaryLogClient configure(BinaryLogClient client, ThreadFactory threadFactory, AbstractConnectorConnection connection);
+    BinaryLogClient configure(BinaryLogClient client, ThreadFactory threadFactory, AbstractConnectorConnection connection, BinlogPipeline pipeline);
 
     EventType getIncludeSqlQueryEventType();
 }
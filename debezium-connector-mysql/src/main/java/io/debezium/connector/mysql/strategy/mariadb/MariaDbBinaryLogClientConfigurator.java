@@ -5,12 +5,15 @@
  */
 package io.debezium.connector.mysql.strategy.mariadb;
 
+import java.util.Map;
 import java.util.concurrent.ThreadFactory;
 
 import com.github.shyiko.mysql.binlog.BinaryLogClient;
 import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
 import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
 
+import io.debezium.connector.mysql.BinlogPipeline;
 import io.debezium.connector.mysql.MySqlConnectorConfig;
 import io.debezium.connector.mysql.strategy.AbstractBinaryLogClientConfigurator;
 import io.debezium.connector.mysql.strategy.AbstractConnectorConnection;
@@ -27,8 +30,8 @@ public MariaDbBinaryLogClientConfigurator(MySqlConnectorConfig connectorConfig)
     }
 
     @Override
-    public BinaryLogClient configure(BinaryLogClient client, ThreadFactory threadFactory, AbstractConnectorConnection connection) {
-        BinaryLogClient result = super.configure(client, threadFactory, connection);
+    public BinaryLogClient configure(BinaryLogClient client, ThreadFactory threadFactory, AbstractConnectorConnection connection, BinlogPipeline pipeline) {
+        BinaryLogClient result = super.configure(client, threadFactory, connection, pipeline);
         if (getConnectorConfig().includeSqlQuery()) {
             // Binlog client explicitly needs to be told to enable ANNOTATE_ROWS events, which is the
             // MariaDB equivalent of ROWS_QUERY. This must be done ahead of the connection to make
@@ -51,8 +54,8 @@ protected void configureReplicaCompatibility(BinaryLogClient client) {
     }
 
     @Override
-    protected EventDeserializer createEventDeserializer() {
-        EventDeserializer eventDeserializer = super.createEventDeserializer();
+    protected EventDeserializer createEventDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId) {
+        EventDeserializer eventDeserializer = super.createEventDeserializer(tableMapEventByTableId);
         eventDeserializer.setCompatibilityMode(EventDeserializer.CompatibilityMode.CHAR_AND_BINARY_AS_BYTE_ARRAY);
         return eventDeserializer;
     }
@@ -0,0 +1,85 @@
+-- Representative DDL statements parsed on start to fill the prediction caches of the MySQL grammar
+SET character_set_server=utf8mb4, collation_server=utf8mb4_general_ci;
+SET NAMES utf8mb4;
+CREATE DATABASE IF NOT EXISTS warmup CHARACTER SET utf8mb4 COLLATE utf8mb4_general_ci;
+USE warmup;
+CREATE TABLE customers (
+  id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  first_name VARCHAR(255) NOT NULL,
+  last_name VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin DEFAULT NULL,
+  email VARCHAR(255) NOT NULL COMMENT 'contact address',
+  status ENUM('active','inactive','banned') NOT NULL DEFAULT 'active',
+  flags SET('a','b','c') DEFAULT 'a,b',
+  balance DECIMAL(12,2) NOT NULL DEFAULT 0.00,
+  score DOUBLE DEFAULT NULL,
+  ratio FLOAT(7,4) DEFAULT NULL,
+  enabled TINYINT(1) NOT NULL DEFAULT 1,
+  small_value SMALLINT DEFAULT NULL,
+  medium_value MEDIUMINT DEFAULT NULL,
+  bits BIT(8) DEFAULT b'0',
+  birth_date DATE DEFAULT NULL,
+  alarm TIME(3) DEFAULT NULL,
+  created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  birth_year YEAR DEFAULT NULL,
+  notes TEXT,
+  payload JSON DEFAULT NULL,
+  avatar BLOB,
+  token BINARY(16) DEFAULT NULL,
+  location POINT DEFAULT NULL,
+  full_name VARCHAR(511) GENERATED ALWAYS AS (CONCAT(first_name, ' ', last_name)) VIRTUAL,
+  PRIMARY KEY (id),
+  UNIQUE KEY uk_email (email),
+  KEY idx_name (last_name, first_name),
+  FULLTEXT KEY ft_notes (notes)
+) ENGINE=InnoDB AUTO_INCREMENT=1001 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci ROW_FORMAT=DYNAMIC COMMENT='customers';
+CREATE TABLE IF NOT EXISTS `orders` (
+  `order_number` INT(11) NOT NULL AUTO_INCREMENT,
+  `order_date` DATE NOT NULL,
+  `purchaser` BIGINT UNSIGNED NOT NULL,
+  `quantity` INT NOT NULL CHECK (`quantity` > 0),
+  `product_id` INT NOT NULL,
+  PRIMARY KEY (`order_number`),
+  KEY `order_customer` (`purchaser`),
+  CONSTRAINT `orders_ibfk_1` FOREIGN KEY (`purchaser`) REFERENCES `customers` (`id`) ON DELETE CASCADE ON UPDATE RESTRICT
+) ENGINE=InnoDB DEFAULT CHARSET=latin1
+PARTITION BY RANGE (`order_number`) (PARTITION p0 VALUES LESS THAN (10000), PARTITION p1 VALUES LESS THAN MAXVALUE);
+CREATE TABLE orders_copy LIKE orders;
+CREATE TEMPORARY TABLE tmp_orders AS SELECT order_number, quantity FROM orders WHERE quantity > 10;
+ALTER TABLE customers ADD COLUMN phone VARCHAR(32) NULL AFTER email, ADD INDEX idx_phone (phone);
+ALTER TABLE customers MODIFY COLUMN phone VARCHAR(64) CHARACTER SET ascii NULL FIRST;
+ALTER TABLE customers CHANGE COLUMN phone phone_number VARCHAR(64) DEFAULT '' NOT NULL;
+ALTER TABLE customers ALTER COLUMN score SET DEFAULT 1.5, ALTER COLUMN ratio DROP DEFAULT;
+ALTER TABLE customers RENAME COLUMN notes TO remarks;
+ALTER TABLE customers DROP INDEX idx_phone, DROP COLUMN phone_number;
+ALTER TABLE customers ADD CONSTRAINT chk_balance CHECK (balance >= 0);
+ALTER TABLE orders ADD UNIQUE INDEX uk_date_product (order_date, product_id) USING BTREE;
+ALTER TABLE orders DROP FOREIGN KEY orders_ibfk_1;
+ALTER TABLE orders DROP PRIMARY KEY, ADD PRIMARY KEY (order_number, order_date);
+ALTER TABLE orders ENGINE=InnoDB, ALGORITHM=INPLACE, LOCK=NONE;
+ALTER TABLE orders CONVERT TO CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+ALTER TABLE orders_copy RENAME TO orders_archive;
+RENAME TABLE orders_archive TO orders_old, tmp_orders TO tmp_orders_old;
+CREATE INDEX idx_order_date ON orders (order_date DESC);
+CREATE UNIQUE INDEX idx_customer_email ON customers (email(64));
+DROP INDEX idx_order_date ON orders;
+CREATE OR REPLACE ALGORITHM=MERGE DEFINER=`root`@`localhost` SQL SECURITY DEFINER VIEW customer_orders AS
+  SELECT c.id, c.email, COUNT(o.order_number) AS order_count FROM customers c LEFT JOIN orders o ON o.purchaser = c.id GROUP BY c.id, c.email;
+ALTER VIEW customer_orders AS SELECT id, email FROM customers;
+DROP VIEW IF EXISTS customer_orders;
+CREATE DEFINER=`root`@`%` PROCEDURE count_orders(IN customer BIGINT, OUT total INT)
+BEGIN
+  SELECT COUNT(*) INTO total FROM orders WHERE purchaser = customer;
+END;
+DROP PROCEDURE IF EXISTS count_orders;
+CREATE TRIGGER customers_bu BEFORE UPDATE ON customers FOR EACH ROW SET NEW.balance = GREATEST(NEW.balance, 0);
+DROP TRIGGER IF EXISTS customers_bu;
+CREATE USER IF NOT EXISTS 'warmup'@'%' IDENTIFIED BY 'warmup';
+GRANT SELECT, RELOAD, SHOW DATABASES, REPLICATION SLAVE, REPLICATION CLIENT ON *.* TO 'warmup'@'%';
+REVOKE RELOAD ON *.* FROM 'warmup'@'%';
+DROP USER 'warmup'@'%';
+TRUNCATE TABLE orders_old;
+DROP TEMPORARY TABLE IF EXISTS tmp_orders_old;
+DROP TABLE IF EXISTS orders_old, orders, customers;
+ALTER DATABASE warmup CHARACTER SET latin1;
+DROP DATABASE IF EXISTS warmup;
@@ -0,0 +1,188 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+
+public class BinlogPipelineTest {
+
+    private static final long TABLE_NUMBER = 42;
+
+    private BinlogPipeline pipeline;
+    private EventDeserializer eventDeserializer;
+    private List<Event> dispatched;
+
+    @Before
+    public void beforeEach() {
+        final MySqlConnectorConfig connectorConfig = new MySqlConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "test")
+                .with(MySqlConnectorConfig.BINLOG_PIPELINE_BUFFER_SIZE, 2)
+                .with(MySqlConnectorConfig.BINLOG_PIPELINE_DESERIALIZATION_THREADS, 4)
+                .build());
+        pipeline = new BinlogPipeline(connectorConfig, mock(MySqlStreamingChangeEventSourceMetrics.class));
+
+        // the workers deserialize the rows of later events faster than those of earlier events
+        eventDeserializer = new EventDeserializer();
+        pipeline.deferRowsDeserialization(eventDeserializer, new HashMap<>(), tableMapEventByTableId -> {
+            final EventDeserializer workerDeserializer = new EventDeserializer();
+            workerDeserializer.setEventDataDeserializer(EventType.WRITE_ROWS, inputStream -> {
+                final byte[] body = inputStream.read(inputStream.available());
+                final int value = body[body.length - 1];
+                if (value < 0) {
+                    throw new IOException("Unreadable rows");
+                }
+                sleep(Math.max(0, 50 - value * 5));
+                final WriteRowsEventData rows = new WriteRowsEventData();
+                rows.setTableId(TABLE_NUMBER);
+                rows.setRows(Collections.singletonList(new Serializable[]{ value }));
+                return rows;
+            });
+            return workerDeserializer;
+        });
+
+        dispatched = Collections.synchronizedList(new ArrayList<>());
+        pipeline.registerEventListener(dispatched::add);
+    }
+
+    @After
+    public void afterEach() {
+        pipeline.stop();
+    }
+
+    @Test
+    public void shouldDispatchEventsInBinlogOrder() throws Exception {
+        pipeline.start(error -> {
+        });
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            pipeline.add(rowsEvent(i));
+            expected.add(i);
+        }
+
+        awaitDispatched(10);
+        assertThat(dispatched).extracting(event -> (Integer) ((WriteRowsEventData) event.getData()).getRows().get(0)[0])
+                .containsExactlyElementsOf(expected);
+        assertThat(dispatched).extracting(event -> ((EventHeaderV4) event.getHeader()).getNextPosition())
+                .containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    public void shouldDispatchRowsDeserializationFailureAsIncident() throws Exception {
+        pipeline.start(error -> {
+        });
+
+        pipeline.add(rowsEvent(0, 1));
+        pipeline.add(rowsEvent(1, -1));
+        pipeline.add(rowsEvent(2, 3));
+
+        awaitDispatched(3);
+        assertThat(dispatched.get(0).getHeader().getEventType()).isEqualTo(EventType.WRITE_ROWS);
+        final Event incident = dispatched.get(1);
+        assertThat(incident.getHeader().getEventType()).isEqualTo(EventType.INCIDENT);
+        assertThat(((EventHeaderV4) incident.getHeader()).getNextPosition()).isEqualTo(1L);
+        assertThat(incident.getData()).isInstanceOf(EventDataDeserializationExceptionData.class);
+        assertThat(((EventDataDeserializationExceptionData) incident.getData()).getCause()).hasRootCauseInstanceOf(IOException.class);
+        assertThat(dispatched.get(2).getHeader().getEventType()).isEqualTo(EventType.WRITE_ROWS);
+    }
+
+    @Test
+    public void shouldFailReaderWhenDispatcherDies() throws Exception {
+        final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        pipeline.registerEventListener(event -> {
+            throw new AssertionError("Dispatcher failure");
+        });
+        pipeline.start(failure::complete);
+
+        pipeline.add(rowsEvent(1));
+
+        assertThat(failure.get(10, TimeUnit.SECONDS)).isInstanceOf(AssertionError.class);
+        // the reader is not blocked by the full buffer but fails
+        assertThatThrownBy(() -> {
+            for (int i = 2; i < 10; i++) {
+                pipeline.add(rowsEvent(i));
+            }
+        }).isInstanceOf(DebeziumException.class).hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    public void shouldStopWithoutReportingFailure() throws Exception {
+        final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        pipeline.start(failure::complete);
+        pipeline.add(rowsEvent(1));
+        awaitDispatched(1);
+        final List<Event> events = new ArrayList<>();
+        for (int i = 2; i < 10; i++) {
+            events.add(rowsEvent(i));
+        }
+
+        pipeline.stop();
+
+        // the reader is not blocked once the pipeline is stopped
+        for (Event event : events) {
+            pipeline.add(event);
+        }
+        Thread.sleep(200);
+        assertThat(dispatched).hasSize(1);
+        assertThat(failure).isNotDone();
+    }
+
+    private Event rowsEvent(int value) throws IOException {
+        return rowsEvent(value, value);
+    }
+
+    private Event rowsEvent(long position, int value) throws IOException {
+        // table id (6 bytes), flags (2 bytes) and the value the test deserializer reads
+        final byte[] body = { 42, 0, 0, 0, 0, 0, 0, 0, (byte) value };
+        final EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(EventType.WRITE_ROWS);
+        header.setNextPosition(position);
+        return new Event(header, eventDeserializer.getEventDataDeserializer(EventType.WRITE_ROWS).deserialize(new ByteArrayInputStream(body)));
+    }
+
+    private void awaitDispatched(int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (dispatched.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(dispatched).hasSize(count);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
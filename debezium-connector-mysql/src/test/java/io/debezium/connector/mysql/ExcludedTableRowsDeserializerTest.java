@@ -0,0 +1,119 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.ColumnType;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
+
+public class ExcludedTableRowsDeserializerTest {
+
+    private static final long TABLE_NUMBER = 42;
+
+    // table id (6 bytes), flags (2 bytes), number of columns, included columns, null columns, INT value 7
+    private static final byte[] WRITE_ROWS_EVENT_BODY = { 42, 0, 0, 0, 0, 0, 0, 0, 1, 1, 0, 7, 0, 0, 0 };
+
+    private Map<Long, TableMapEventData> tableMapEventByTableId;
+
+    @Before
+    public void beforeEach() {
+        tableMapEventByTableId = new HashMap<>();
+    }
+
+    @Test
+    public void shouldDeserializeRowsOfIncludedTable() throws Exception {
+        recordTableMap("inventory", "customers");
+        final ByteArrayInputStream inputStream = new ByteArrayInputStream(WRITE_ROWS_EVENT_BODY);
+
+        final EventData eventData = deserializer().deserialize(inputStream);
+
+        assertThat(eventData).isInstanceOf(WriteRowsEventData.class);
+        final WriteRowsEventData rowsEventData = (WriteRowsEventData) eventData;
+        assertThat(rowsEventData.getTableId()).isEqualTo(TABLE_NUMBER);
+        assertThat(rowsEventData.getRows()).hasSize(1);
+        assertThat(rowsEventData.getRows().get(0)).containsExactly(7);
+        assertThat(inputStream.available()).isZero();
+    }
+
+    @Test
+    public void shouldDeserializeRowsOfIncludedTableWithinEventBoundaries() throws Exception {
+        recordTableMap("inventory", "customers");
+        // the event is followed by the checksum, which is not part of the event's data
+        final byte[] eventWithChecksum = Arrays.copyOf(WRITE_ROWS_EVENT_BODY, WRITE_ROWS_EVENT_BODY.length + 4);
+        final ByteArrayInputStream inputStream = new ByteArrayInputStream(eventWithChecksum);
+        inputStream.enterBlock(WRITE_ROWS_EVENT_BODY.length);
+
+        final EventData eventData = deserializer().deserialize(inputStream);
+
+        assertThat(((WriteRowsEventData) eventData).getRows().get(0)).containsExactly(7);
+        inputStream.skipToTheEndOfTheBlock();
+        assertThat(inputStream.available()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldPassWholeDataOfIncludedTableToHandler() throws Exception {
+        recordTableMap("inventory", "customers");
+        final ByteArrayInputStream inputStream = new ByteArrayInputStream(WRITE_ROWS_EVENT_BODY);
+
+        final EventData eventData = deserializer().deserialize(inputStream, (tableId, body) -> {
+            assertThat(tableId).isEqualTo(TABLE_NUMBER);
+            assertThat(body).isEqualTo(WRITE_ROWS_EVENT_BODY);
+            return new SkippedRowsEventData(tableId, body.length);
+        });
+
+        assertThat(eventData).isInstanceOf(SkippedRowsEventData.class);
+        assertThat(inputStream.available()).isZero();
+    }
+
+    @Test
+    public void shouldSkipRowsOfExcludedTable() throws Exception {
+        recordTableMap("inventory", "orders");
+        final ByteArrayInputStream inputStream = new ByteArrayInputStream(WRITE_ROWS_EVENT_BODY);
+
+        final EventData eventData = deserializer().deserialize(inputStream);
+
+        assertThat(eventData).isInstanceOf(SkippedRowsEventData.class);
+        final SkippedRowsEventData skippedRows = (SkippedRowsEventData) eventData;
+        assertThat(skippedRows.getTableId()).isEqualTo(TABLE_NUMBER);
+        assertThat(skippedRows.getLength()).isEqualTo(WRITE_ROWS_EVENT_BODY.length);
+        assertThat(inputStream.available()).isZero();
+    }
+
+    @Test
+    public void shouldNotExcludeTableWithoutTableMap() {
+        assertThat(deserializer().isExcluded(null)).isFalse();
+    }
+
+    private ExcludedTableRowsDeserializer deserializer() {
+        return new ExcludedTableRowsDeserializer(new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId,
+                EventProcessingFailureHandlingMode.FAIL), tableMapEventByTableId, tableId -> tableId.table().equals("customers"));
+    }
+
+    private void recordTableMap(String database, String table) {
+        final TableMapEventData tableMapEvent = new TableMapEventData();
+        tableMapEvent.setTableId(TABLE_NUMBER);
+        tableMapEvent.setDatabase(database);
+        tableMapEvent.setTable(table);
+        tableMapEvent.setColumnTypes(new byte[]{ (byte) ColumnType.LONG.getCode() });
+        tableMapEvent.setColumnMetadata(new int[]{ 0 });
+        tableMapEvent.setColumnNullability(new BitSet());
+        tableMapEventByTableId.put(TABLE_NUMBER, tableMapEvent);
+    }
+}
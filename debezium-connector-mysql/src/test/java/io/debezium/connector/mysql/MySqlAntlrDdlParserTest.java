@@ -91,6 +91,18 @@ SchemaNameAdjuster.NO_OP, new CustomConverterRegistry(null), SchemaBuilder.struc
         properties.put("topic.prefix", "test");
     }
 
+    @Test
+    public void shouldParseWarmUpStatements() {
+        final long parsed = parser.statistics().getCount();
+        parser.parse(IoUtil.readClassPathResource("io/debezium/connector/mysql/antlr/ddl-warmup.sql"), tables);
+        assertThat(((MySqlAntlrDdlParser) parser).getParsingExceptionsFromWalker()).isEmpty();
+        assertThat(parser.statistics().getCount()).isEqualTo(parsed + 1);
+        assertThat(parser.statistics().getPercentileMicros(50)).isGreaterThanOrEqualTo(0);
+
+        ((MySqlAntlrDdlParser) parser).warmUp();
+        assertThat(parser.statistics().getCount()).isEqualTo(parsed + 1);
+    }
+
     @Test
     @FixFor("DBZ-7251")
     public void shouldApplyCorrectColumnInfoWhenAlterColumnType() {
@@ -0,0 +1,23 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static io.debezium.junit.EqualityCheck.LESS_THAN;
+
+import io.debezium.config.Configuration;
+import io.debezium.junit.SkipWhenDatabaseVersion;
+
+/**
+ * Runs the parallel snapshot tests with tables split into key ranges that are read concurrently.
+ */
+@SkipWhenDatabaseVersion(check = LESS_THAN, major = 5, minor = 6, reason = "DDL uses fractional second data types, not supported until MySQL 5.6")
+public class SnapshotParallelChunkedSourceIT extends SnapshotParallelSourceIT {
+
+    @Override
+    protected Configuration.Builder simpleConfig() {
+        return super.simpleConfig().with(MySqlConnectorConfig.SNAPSHOT_TABLE_CHUNKS, 4);
+    }
+}
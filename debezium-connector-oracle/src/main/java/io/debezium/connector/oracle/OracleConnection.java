@@ -661,6 +661,44 @@ public Map<String, Object> reselectColumns(TableId tableId, List<String> columns
         });
     }
 
+    @Override
+    public List<Map<String, Object>> reselectRows(TableId tableId, List<String> columns, List<String> keyColumns, List<List<Object>> keyValues,
+                                                  Struct source)
+            throws SQLException {
+        final TableId oracleTableId = new TableId(null, tableId.schema(), tableId.table());
+        final String commitScn = getReselectPosition(source);
+        if (commitScn == null) {
+            return optionallyDoInContainer(() -> super.reselectRows(oracleTableId, columns, keyColumns, keyValues, source));
+        }
+
+        final String query = String.format("SELECT %s FROM (SELECT * FROM %s AS OF SCN ?) WHERE %s",
+                reselectRowsSelectList(columns, keyColumns),
+                quotedTableIdString(oracleTableId),
+                reselectRowsPredicate(keyColumns, keyValues.size()));
+        final List<Object> bindValues = new ArrayList<>(keyValues.size() * keyColumns.size() + 1);
+        bindValues.add(commitScn);
+        keyValues.forEach(bindValues::addAll);
+        return optionallyDoInContainer(() -> {
+            try {
+                return reselectRows(query, oracleTableId, columns, keyColumns, bindValues);
+            }
+            catch (SQLException e) {
+                if (e.getErrorCode() == 1555 || e.getMessage().startsWith("ORA-01555")) {
+                    LOGGER.warn("Failed to re-select {} rows for table {} and key columns {}. " +
+                            "Trying to perform re-selection without flashback.", keyValues.size(), tableId, keyColumns);
+                    return super.reselectRows(oracleTableId, columns, keyColumns, keyValues, source);
+                }
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public String getReselectPosition(Struct source) {
+        final String commitScn = source.getString(SourceInfo.COMMIT_SCN_KEY);
+        return Strings.isNullOrEmpty(commitScn) ? null : commitScn;
+    }
+
     @Override
     protected Map<TableId, List<Attribute>> getAttributeDetails(TableId tableId, String tableType) {
         final Map<TableId, List<Attribute>> results = new HashMap<>();
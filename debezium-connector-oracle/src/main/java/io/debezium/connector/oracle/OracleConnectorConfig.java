@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.oracle;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -39,6 +41,7 @@
 import io.debezium.connector.oracle.logminer.processor.infinispan.EmbeddedInfinispanLogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.infinispan.RemoteInfinispanLogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.memory.MemoryLogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.spillable.SpillableLogMinerEventProcessor;
 import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
@@ -69,12 +72,16 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
 
     protected final static int DEFAULT_TRANSACTION_EVENTS_THRESHOLD = 0;
 
+    protected final static long DEFAULT_SPILL_THRESHOLD_BYTES = 16 * 1024 * 1024;
+    protected final static long DEFAULT_SPILL_SEGMENT_SIZE_BYTES = 64 * 1024 * 1024;
+
     protected final static int DEFAULT_QUERY_FETCH_SIZE = 10_000;
 
     protected final static Duration MAX_SLEEP_TIME = Duration.ofMillis(3_000);
     protected final static Duration DEFAULT_SLEEP_TIME = Duration.ofMillis(1_000);
     protected final static Duration MIN_SLEEP_TIME = Duration.ZERO;
     protected final static Duration SLEEP_TIME_INCREMENT = Duration.ofMillis(200);
+    protected final static Duration DEFAULT_WINDOW_QUERY_TARGET = Duration.ofSeconds(1);
 
     protected final static Duration ARCHIVE_LOG_ONLY_POLL_TIME = Duration.ofMillis(10_000);
 
@@ -277,6 +284,30 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription(
                     "The maximum amount of time that the connector will use to tune the optimal sleep time when reading data from LogMiner. Value is in milliseconds.");
 
+    public static final Field LOG_MINING_WINDOW_ADAPTIVE = Field.create("log.mining.window.adaptive")
+            .withDisplayName("Adapt the mining window to the observed throughput")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 36))
+            .withDefault(false)
+            .withDescription("When set to true, the batch size and the sleep time between LogMiner queries are chosen after each mining session " +
+                    "based on the duration of the LogMiner query, the number of rows mined, the remaining capacity of the connector's queue " +
+                    "and the rate at which the database generates redo. The chosen values remain within the configured batch size and sleep time bounds. " +
+                    "When set to false (the default), the batch size and sleep time are adjusted in fixed increments.");
+
+    public static final Field LOG_MINING_WINDOW_QUERY_TARGET_MS = Field.create("log.mining.window.query.target.ms")
+            .withDisplayName("Target duration of a LogMiner query when adapting the mining window")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 37))
+            .withDefault(DEFAULT_WINDOW_QUERY_TARGET.toMillis())
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The LogMiner query duration, in milliseconds, that the adaptive mining window aims for when '" +
+                    "log.mining.window.adaptive' is enabled. Windows whose query takes longer are shrunk, windows that are mined faster " +
+                    "are grown while the connector is behind the database.");
+
     public static final Field LOG_MINING_ARCHIVE_LOG_ONLY_MODE = Field.create("log.mining.archive.log.only.mode")
             .withDisplayName("Specifies whether log mining should only target archive logs or both archive and redo logs")
             .withType(Type.BOOLEAN)
@@ -373,7 +404,10 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     System.lineSeparator() +
                     "infinispan_embedded - This option uses an embedded Infinispan cache to buffer transaction data and persist it to disk." + System.lineSeparator() +
                     System.lineSeparator() +
-                    "infinispan_remote - This option uses a remote Infinispan cluster to buffer transaction data and persist it to disk.");
+                    "infinispan_remote - This option uses a remote Infinispan cluster to buffer transaction data and persist it to disk." + System.lineSeparator() +
+                    System.lineSeparator() +
+                    "spillable - Uses the JVM process' heap to buffer transaction data and spills events of large transactions " +
+                    "to memory-mapped files on local disk.");
 
     public static final Field LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD = Field.create("log.mining.buffer.transaction.events.threshold")
             .withDisplayName("The maximum number of events a transaction can have before being discarded.")
@@ -440,6 +474,37 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription("When set to true the underlying buffer cache is not retained when the connector is stopped. " +
                     "When set to false (the default), the buffer cache is retained across restarts.");
 
+    public static final Field LOG_MINING_BUFFER_SPILL_DIRECTORY = Field.create("log.mining.buffer.spill.directory")
+            .withDisplayName("Directory used by the spillable buffer")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 33))
+            .withDescription("The directory where the 'spillable' buffer writes transaction events that exceed the spill threshold. " +
+                    "Defaults to a directory within the JVM temporary directory.");
+
+    public static final Field LOG_MINING_BUFFER_SPILL_THRESHOLD_BYTES = Field.create("log.mining.buffer.spill.threshold.bytes")
+            .withDisplayName("Per transaction heap threshold for the spillable buffer")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 34))
+            .withDefault(DEFAULT_SPILL_THRESHOLD_BYTES)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The approximate number of bytes of events a transaction may hold on the heap when using the 'spillable' buffer. " +
+                    "Once exceeded, the transaction's buffered events are written to disk. Defaults to " + DEFAULT_SPILL_THRESHOLD_BYTES + " bytes.");
+
+    public static final Field LOG_MINING_BUFFER_SPILL_SEGMENT_SIZE_BYTES = Field.create("log.mining.buffer.spill.segment.size.bytes")
+            .withDisplayName("Segment size for the spillable buffer")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 35))
+            .withDefault(DEFAULT_SPILL_SEGMENT_SIZE_BYTES)
+            .withValidation(OracleConnectorConfig::validateLogMiningBufferSpillSegmentSize)
+            .withDescription("The size of each memory-mapped segment file that the 'spillable' buffer appends transaction events to. " +
+                    "Defaults to " + DEFAULT_SPILL_SEGMENT_SIZE_BYTES + " bytes.");
+
     public static final Field LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN = Field.create("log.mining.scn.gap.detection.gap.size.min")
             .withDisplayName("SCN gap size used to detect SCN gap")
             .withType(Type.LONG)
@@ -666,6 +731,8 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_SLEEP_TIME_MIN_MS,
                     LOG_MINING_SLEEP_TIME_MAX_MS,
                     LOG_MINING_SLEEP_TIME_INCREMENT_MS,
+                    LOG_MINING_WINDOW_ADAPTIVE,
+                    LOG_MINING_WINDOW_QUERY_TARGET_MS,
                     LOG_MINING_TRANSACTION_RETENTION,
                     LOG_MINING_TRANSACTION_RETENTION_MS,
                     LOG_MINING_ARCHIVE_LOG_ONLY_MODE,
@@ -682,6 +749,9 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_PROCESSED_TRANSACTIONS,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_SCHEMA_CHANGES,
                     LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD,
+                    LOG_MINING_BUFFER_SPILL_DIRECTORY,
+                    LOG_MINING_BUFFER_SPILL_THRESHOLD_BYTES,
+                    LOG_MINING_BUFFER_SPILL_SEGMENT_SIZE_BYTES,
                     LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS,
                     LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN,
                     LOG_MINING_SCN_GAP_DETECTION_TIME_INTERVAL_MAX_MS,
@@ -747,6 +817,8 @@ public static ConfigDef configDef() {
     private final Duration logMiningSleepTimeMax;
     private final Duration logMiningSleepTimeDefault;
     private final Duration logMiningSleepTimeIncrement;
+    private final boolean logMiningWindowAdaptive;
+    private final Duration logMiningWindowQueryTarget;
     private final Duration logMiningTransactionRetention;
     private final boolean archiveLogOnlyMode;
     private final Duration archiveLogOnlyScnPollTime;
@@ -757,6 +829,9 @@ public static ConfigDef configDef() {
     private final LogMiningBufferType logMiningBufferType;
     private final long logMiningBufferTransactionEventsThreshold;
     private final boolean logMiningBufferDropOnStop;
+    private final Path logMiningBufferSpillDirectory;
+    private final long logMiningBufferSpillThresholdBytes;
+    private final long logMiningBufferSpillSegmentSizeBytes;
     private final int logMiningScnGapDetectionGapSizeMin;
     private final int logMiningScnGapDetectionTimeIntervalMaxMs;
     private final int logMiningLogFileQueryMaxRetries;
@@ -817,6 +892,8 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningSleepTimeMax = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_MAX_MS));
         this.logMiningSleepTimeDefault = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_DEFAULT_MS));
         this.logMiningSleepTimeIncrement = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_INCREMENT_MS));
+        this.logMiningWindowAdaptive = config.getBoolean(LOG_MINING_WINDOW_ADAPTIVE);
+        this.logMiningWindowQueryTarget = Duration.ofMillis(config.getLong(LOG_MINING_WINDOW_QUERY_TARGET_MS));
         this.logMiningTransactionRetention = resolveLogMiningTransactionRetentionDuration(config);
         this.archiveLogOnlyMode = config.getBoolean(LOG_MINING_ARCHIVE_LOG_ONLY_MODE);
         this.logMiningUsernameIncludes = Strings.setOfTrimmed(config.getString(LOG_MINING_USERNAME_INCLUDE_LIST), String::new);
@@ -825,6 +902,9 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningBufferType = LogMiningBufferType.parse(config.getString(LOG_MINING_BUFFER_TYPE));
         this.logMiningBufferTransactionEventsThreshold = config.getLong(LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD);
         this.logMiningBufferDropOnStop = config.getBoolean(LOG_MINING_BUFFER_DROP_ON_STOP);
+        this.logMiningBufferSpillDirectory = resolveLogMiningBufferSpillDirectory(config);
+        this.logMiningBufferSpillThresholdBytes = config.getLong(LOG_MINING_BUFFER_SPILL_THRESHOLD_BYTES);
+        this.logMiningBufferSpillSegmentSizeBytes = config.getLong(LOG_MINING_BUFFER_SPILL_SEGMENT_SIZE_BYTES);
         this.archiveLogOnlyScnPollTime = Duration.ofMillis(config.getInteger(LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS));
         this.logMiningScnGapDetectionGapSizeMin = config.getInteger(LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN);
         this.logMiningScnGapDetectionTimeIntervalMaxMs = config.getInteger(LOG_MINING_SCN_GAP_DETECTION_TIME_INTERVAL_MAX_MS);
@@ -849,6 +929,14 @@ public OracleConnectorConfig(Configuration config) {
         this.openLogReplicatorPort = config.getInteger(OLR_PORT, 0);
     }
 
+    private static Path resolveLogMiningBufferSpillDirectory(Configuration config) {
+        final String directory = config.getString(LOG_MINING_BUFFER_SPILL_DIRECTORY);
+        if (Strings.isNullOrBlank(directory)) {
+            return Paths.get(System.getProperty("java.io.tmpdir"), "debezium-logminer-buffer");
+        }
+        return Paths.get(directory);
+    }
+
     private String resolveArchiveLogDestinationName(Configuration config) {
 
         String archiveLogDestinationName = config.getString(ARCHIVE_DESTINATION_NAME);
@@ -1451,6 +1539,21 @@ public LogMinerEventProcessor createProcessor(ChangeEventSourceContext context,
                 return new RemoteInfinispanLogMinerEventProcessor(context, connectorConfig, connection, dispatcher,
                         partition, offsetContext, schema, metrics);
             }
+        },
+
+        SPILLABLE("spillable") {
+            @Override
+            public LogMinerEventProcessor createProcessor(ChangeEventSourceContext context,
+                                                          OracleConnectorConfig connectorConfig,
+                                                          OracleConnection connection,
+                                                          EventDispatcher<OraclePartition, TableId> dispatcher,
+                                                          OraclePartition partition,
+                                                          OracleOffsetContext offsetContext,
+                                                          OracleDatabaseSchema schema,
+                                                          LogMinerStreamingChangeEventSourceMetrics metrics) {
+                return new SpillableLogMinerEventProcessor(context, connectorConfig, connection, dispatcher, partition,
+                        offsetContext, schema, metrics);
+            }
         };
 
         private final String value;
@@ -1474,7 +1577,7 @@ public String getValue() {
         }
 
         public boolean isInfinispan() {
-            return !MEMORY.equals(this);
+            return INFINISPAN_EMBEDDED.equals(this) || INFINISPAN_REMOTE.equals(this);
         }
 
         public boolean isInfinispanEmbedded() {
@@ -1718,6 +1821,20 @@ public Duration getLogMiningSleepTimeIncrement() {
         return logMiningSleepTimeIncrement;
     }
 
+    /**
+     * @return whether the mining window is adapted to the observed throughput
+     */
+    public boolean isLogMiningWindowAdaptive() {
+        return logMiningWindowAdaptive;
+    }
+
+    /**
+     * @return the LogMiner query duration the adaptive mining window aims for
+     */
+    public Duration getLogMiningWindowQueryTarget() {
+        return logMiningWindowQueryTarget;
+    }
+
     /**
      * @return the duration for which long running transactions are permitted in the transaction buffer between log switches
      */
@@ -1788,6 +1905,27 @@ public boolean isLogMiningBufferDropOnStop() {
         return logMiningBufferDropOnStop;
     }
 
+    /**
+     * @return the directory where the spillable buffer writes transaction events
+     */
+    public Path getLogMiningBufferSpillDirectory() {
+        return logMiningBufferSpillDirectory;
+    }
+
+    /**
+     * @return the approximate number of bytes a transaction may buffer on the heap before being spilled to disk
+     */
+    public long getLogMiningBufferSpillThresholdBytes() {
+        return logMiningBufferSpillThresholdBytes;
+    }
+
+    /**
+     * @return the size of the memory-mapped segment files used by the spillable buffer
+     */
+    public long getLogMiningBufferSpillSegmentSizeBytes() {
+        return logMiningBufferSpillSegmentSizeBytes;
+    }
+
     /**
      *
      * @return int The default SCN interval used when mining redo/archive logs
@@ -2026,6 +2164,15 @@ private static int validateLogMiningBufferType(Configuration config, Field field
         return 0;
     }
 
+    private static int validateLogMiningBufferSpillSegmentSize(Configuration config, Field field, ValidationOutput problems) {
+        final long segmentSize = config.getLong(field);
+        if (segmentSize <= 0 || segmentSize > Integer.MAX_VALUE) {
+            problems.accept(field, segmentSize, "Must be a positive value no larger than " + Integer.MAX_VALUE);
+            return 1;
+        }
+        return 0;
+    }
+
     public static int validateLogMiningInfinispanCacheConfiguration(Configuration config, Field field, ValidationOutput problems) {
         final LogMiningBufferType bufferType = LogMiningBufferType.parse(config.getString(LOG_MINING_BUFFER_TYPE));
         int errors = 0;
@@ -118,6 +118,7 @@ public ChangeEventSourceCoordinator<OraclePartition, OracleOffsetContext> start(
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
                 .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .queueType(connectorConfig.getQueueType())
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .build();
 
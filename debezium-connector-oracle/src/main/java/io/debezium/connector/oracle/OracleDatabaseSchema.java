@@ -68,6 +68,9 @@ public OracleDatabaseSchema(OracleConnectorConfig connectorConfig, OracleValueCo
                 connectorConfig.isSchemaCommentsHistoryEnabled(),
                 valueConverters,
                 connectorConfig.getTableFilters().dataCollectionFilter());
+        if (connectorConfig.warmUpDdlParser()) {
+            ddlParser.warmUp();
+        }
     }
 
     public Tables getTables() {
@@ -30,7 +30,9 @@
 import io.debezium.pipeline.source.SnapshottingTask;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
+import io.debezium.relational.Column;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
+import io.debezium.relational.SnapshotTableChunk;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
@@ -239,6 +241,13 @@ protected Optional<String> getSnapshotSelect(RelationalSnapshotContext<OraclePar
         return snapshotterService.getSnapshotQuery().snapshotQuery(quote(tableId), columns);
     }
 
+    @Override
+    protected String getSnapshotChunkBoundariesSelect(RelationalSnapshotContext<OraclePartition, OracleOffsetContext> snapshotContext,
+                                                      TableId tableId, Column column) {
+        final String quotedColumn = jdbcConnection.quotedColumnIdString(column.name());
+        return "SELECT MIN(" + quotedColumn + "), MAX(" + quotedColumn + ") FROM " + quote(tableId);
+    }
+
     @Override
     protected List<Pattern> getSignalDataCollectionPattern(String signalingDataCollection) {
         // Oracle expects this value to be supplied using "<database>.<schema>.<table>"; however the
@@ -282,7 +291,7 @@ protected Callable<Void> createDataEventsForTableCallable(ChangeEventSourceConte
                                                               EventDispatcher.SnapshotReceiver<OraclePartition> snapshotReceiver, Table table,
                                                               boolean firstTable, boolean lastTable, int tableOrder, int tableCount,
                                                               String selectStatement, OptionalLong rowCount, Queue<JdbcConnection> connectionPool,
-                                                              Queue<OracleOffsetContext> offsets) {
+                                                              Queue<OracleOffsetContext> offsets, SnapshotTableChunk chunk) {
         return () -> {
             JdbcConnection connection = connectionPool.poll();
             OracleOffsetContext offset = offsets.poll();
@@ -291,7 +300,7 @@ protected Callable<Void> createDataEventsForTableCallable(ChangeEventSourceConte
                 for (int i = 0; i <= maxRetries; i++) {
                     try {
                         doCreateDataEventsForTable(sourceContext, snapshotContext, offset, snapshotReceiver, table, firstTable,
-                                lastTable, tableOrder, tableCount, selectStatement, rowCount, connection);
+                                lastTable, tableOrder, tableCount, selectStatement, rowCount, connection, chunk);
                         break;
                     }
                     catch (SQLException e) {
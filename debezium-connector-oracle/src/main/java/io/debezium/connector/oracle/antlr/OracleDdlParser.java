@@ -21,8 +21,8 @@
 import io.debezium.ddl.parser.oracle.generated.PlSqlLexer;
 import io.debezium.ddl.parser.oracle.generated.PlSqlParser;
 import io.debezium.relational.SystemVariables;
-import io.debezium.relational.Tables;
 import io.debezium.relational.Tables.TableFilter;
+import io.debezium.relational.ddl.PreparedDdl;
 
 import oracle.jdbc.OracleTypes;
 
@@ -61,11 +61,11 @@ public OracleDdlParser(boolean throwErrorsFromTreeWalk, boolean includeViews, bo
     }
 
     @Override
-    public void parse(String ddlContent, Tables databaseTables) {
+    public PreparedDdl prepare(String ddlContent) {
         if (!ddlContent.endsWith(";")) {
             ddlContent = ddlContent + ";";
         }
-        super.parse(ddlContent, databaseTables);
+        return super.prepare(ddlContent);
     }
 
     @Override
@@ -88,6 +88,11 @@ protected PlSqlParser createNewParserInstance(CommonTokenStream commonTokenStrea
         return new PlSqlParser(commonTokenStream);
     }
 
+    @Override
+    protected String getWarmUpResource() {
+        return "io/debezium/connector/oracle/antlr/ddl-warmup.sql";
+    }
+
     @Override
     protected boolean isGrammarInUpperCase() {
         return true;
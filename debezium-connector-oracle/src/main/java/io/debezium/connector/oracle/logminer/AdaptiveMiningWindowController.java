@@ -0,0 +1,182 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.time.Duration;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+
+/**
+ * Chooses the batch size of the next LogMiner mining window and the pause before it from the throughput
+ * observed during the previous mining session, rather than moving both in fixed increments.
+ *
+ * The controller considers, in order of precedence, the remaining capacity of the connector's queue, the
+ * duration of the LogMiner query compared to the configured target, how far the connector is behind the
+ * database's current SCN, and the rate at which the database generates redo. The chosen values always
+ * remain within the configured batch size and sleep time bounds.
+ */
+@NotThreadSafe
+public class AdaptiveMiningWindowController {
+
+    /**
+     * The reason for the most recent sizing decision.
+     */
+    public enum Decision {
+        /**
+         * The connector's queue is almost full, the window is shrunk and the pause extended so that
+         * the consumer can catch up.
+         */
+        BACK_PRESSURE,
+
+        /**
+         * The LogMiner query took longer than the target duration, the window is shrunk proportionally.
+         */
+        QUERY_TOO_SLOW,
+
+        /**
+         * The connector is behind the database, the window is grown proportionally and the pause removed.
+         */
+        CATCHING_UP,
+
+        /**
+         * The last window contained no rows, the pause is extended.
+         */
+        IDLE,
+
+        /**
+         * The connector keeps up with the database, the window is sized to the redo expected until the next query.
+         */
+        STEADY
+    }
+
+    static final double QUEUE_HIGH_WATERMARK = 0.8;
+    private static final double MAX_GROWTH_FACTOR = 2.0;
+    private static final double MAX_SHRINK_FACTOR = 0.5;
+    private static final double REDO_HEADROOM_FACTOR = 2.0;
+    private static final double SCN_RATE_SMOOTHING_FACTOR = 0.3;
+
+    private final long batchSizeMin;
+    private final long batchSizeMax;
+    private final long sleepTimeMin;
+    private final long sleepTimeMax;
+    private final long sleepTimeIncrement;
+    private final long queryTarget;
+
+    private int batchSize;
+    private long sleepTime;
+    private Decision decision = Decision.STEADY;
+
+    private Scn lastCurrentScn = Scn.NULL;
+    private long lastCurrentScnTime;
+    private double scnRatePerMillisecond;
+
+    public AdaptiveMiningWindowController(OracleConnectorConfig connectorConfig) {
+        this.batchSizeMin = connectorConfig.getLogMiningBatchSizeMin();
+        this.batchSizeMax = connectorConfig.getLogMiningBatchSizeMax();
+        this.sleepTimeMin = connectorConfig.getLogMiningSleepTimeMin().toMillis();
+        this.sleepTimeMax = connectorConfig.getLogMiningSleepTimeMax().toMillis();
+        this.sleepTimeIncrement = connectorConfig.getLogMiningSleepTimeIncrement().toMillis();
+        this.queryTarget = Math.max(1, connectorConfig.getLogMiningWindowQueryTarget().toMillis());
+        this.batchSize = connectorConfig.getLogMiningBatchSizeDefault();
+        this.sleepTime = connectorConfig.getLogMiningSleepTimeDefault().toMillis();
+    }
+
+    /**
+     * Records the database's current SCN, used to estimate the rate at which redo is generated.
+     *
+     * @param currentScn the database's current system change number, should not be {@code null}
+     * @param timestamp the time in milliseconds at which the current SCN was read
+     */
+    public void observeCurrentScn(Scn currentScn, long timestamp) {
+        if (!lastCurrentScn.isNull() && timestamp > lastCurrentScnTime && currentScn.compareTo(lastCurrentScn) >= 0) {
+            final double rate = currentScn.subtract(lastCurrentScn).longValue() / (double) (timestamp - lastCurrentScnTime);
+            scnRatePerMillisecond = scnRatePerMillisecond == 0
+                    ? rate
+                    : SCN_RATE_SMOOTHING_FACTOR * rate + (1 - SCN_RATE_SMOOTHING_FACTOR) * scnRatePerMillisecond;
+        }
+        lastCurrentScn = currentScn;
+        lastCurrentScnTime = timestamp;
+    }
+
+    /**
+     * Chooses the batch size and sleep time for the next mining session.
+     *
+     * @param queryDuration the duration of the LogMiner query of the last mining session
+     * @param rowCount the number of rows returned by the last mining session
+     * @param remainingScn the distance between the end of the last mining window and the database's current SCN
+     * @param queueRemainingCapacity the remaining capacity of the connector's queue
+     * @param queueTotalCapacity the total capacity of the connector's queue
+     * @return the reason for the decision, never {@code null}
+     */
+    public Decision update(Duration queryDuration, long rowCount, Scn remainingScn, int queueRemainingCapacity, int queueTotalCapacity) {
+        final long queryMillis = Math.max(1, queryDuration.toMillis());
+        final double queueUtilization = queueTotalCapacity > 0 ? 1 - (queueRemainingCapacity / (double) queueTotalCapacity) : 0;
+
+        if (queueUtilization >= QUEUE_HIGH_WATERMARK) {
+            decision = Decision.BACK_PRESSURE;
+            batchSize = clampBatchSize(batchSize * MAX_SHRINK_FACTOR);
+            sleepTime = clampSleepTime(sleepTime + sleepTimeIncrement);
+        }
+        else if (queryMillis > queryTarget) {
+            decision = Decision.QUERY_TOO_SLOW;
+            batchSize = clampBatchSize(batchSize * Math.max(MAX_SHRINK_FACTOR, queryTarget / (double) queryMillis));
+            sleepTime = sleepTimeMin;
+        }
+        else if (remainingScn.compareTo(Scn.valueOf(batchSize)) > 0) {
+            decision = Decision.CATCHING_UP;
+            batchSize = clampBatchSize(batchSize * Math.min(MAX_GROWTH_FACTOR, queryTarget / (double) queryMillis));
+            sleepTime = sleepTimeMin;
+        }
+        else if (rowCount == 0) {
+            decision = Decision.IDLE;
+            sleepTime = clampSleepTime(sleepTime + sleepTimeIncrement);
+            batchSize = clampBatchSize(expectedRedo(queryMillis));
+        }
+        else {
+            decision = Decision.STEADY;
+            sleepTime = clampSleepTime(sleepTime - sleepTimeIncrement);
+            batchSize = clampBatchSize(expectedRedo(queryMillis));
+        }
+        return decision;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getSleepTime() {
+        return sleepTime;
+    }
+
+    public Decision getDecision() {
+        return decision;
+    }
+
+    /**
+     * @return the estimated number of system change numbers the database generates per second
+     */
+    public long getScnGenerationRate() {
+        return Math.round(scnRatePerMillisecond * 1000);
+    }
+
+    /**
+     * Estimates the number of system change numbers generated until the next mining session has completed,
+     * with some headroom so that a short burst does not immediately leave the connector behind.
+     */
+    private double expectedRedo(long queryMillis) {
+        return scnRatePerMillisecond * (sleepTime + queryMillis) * REDO_HEADROOM_FACTOR;
+    }
+
+    private int clampBatchSize(double value) {
+        return (int) Math.max(batchSizeMin, Math.min(batchSizeMax, Math.round(value)));
+    }
+
+    private long clampSleepTime(long value) {
+        return Math.max(sleepTimeMin, Math.min(sleepTimeMax, value));
+    }
+}
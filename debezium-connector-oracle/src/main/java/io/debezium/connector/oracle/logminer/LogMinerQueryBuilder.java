@@ -154,7 +154,7 @@ private static String getOperationCodePredicate(OracleConnectorConfig connectorC
             final List<Integer> operationCodes = new ArrayList<>(OPERATION_CODES_NO_LOB);
             // The transaction start event needs to be handled when a persistent buffer (Infinispan) is used
             // because it is needed to reset the event id counter when re-mining transaction events.
-            if (connectorConfig.getLogMiningBufferType() == OracleConnectorConfig.LogMiningBufferType.MEMORY) {
+            if (!connectorConfig.getLogMiningBufferType().isInfinispan()) {
                 operationCodes.removeIf(operationCode -> operationCode == 6);
             }
             operationInClause.withValues(operationCodes);
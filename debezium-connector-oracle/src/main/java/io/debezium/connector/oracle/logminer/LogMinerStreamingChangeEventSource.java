@@ -89,6 +89,7 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
     private OracleOffsetContext effectiveOffset;
     private int currentBatchSize;
     private long currentSleepTime;
+    private final AdaptiveMiningWindowController windowController;
     private final SnapshotterService snapshotterService;
 
     public LogMinerStreamingChangeEventSource(OracleConnectorConfig connectorConfig,
@@ -111,6 +112,7 @@ public LogMinerStreamingChangeEventSource(OracleConnectorConfig connectorConfig,
         this.currentBatchSize = connectorConfig.getLogMiningBatchSizeDefault();
         this.currentSleepTime = connectorConfig.getLogMiningSleepTimeDefault().toMillis();
         this.continuousMining = connectorConfig.isLogMiningContinuousMining();
+        this.windowController = connectorConfig.isLogMiningWindowAdaptive() ? new AdaptiveMiningWindowController(connectorConfig) : null;
 
         this.snapshotterService = snapshotterService;
 
@@ -243,9 +245,11 @@ public void execute(ChangeEventSourceContext context, OraclePartition partition,
                             }
                             else {
                                 retryAttempts = 1;
+                                final long processedRows = streamingMetrics.getTotalProcessedRows();
                                 startScn = processor.process(startScn, endScn);
                                 streamingMetrics.setLastBatchProcessingDuration(Duration.between(start, Instant.now()));
                                 captureSessionMemoryStatistics(jdbcConnection);
+                                updateMiningWindow(streamingMetrics.getTotalProcessedRows() - processedRows);
                             }
                             pauseBetweenMiningSessions();
                         }
@@ -659,7 +663,41 @@ public void endMiningSession(OracleConnection connection, OracleOffsetContext of
         }
     }
 
+    /**
+     * Lets the adaptive mining window, if enabled, choose the batch size and sleep time of the next mining session
+     * based on the outcome of the mining session that just completed.
+     *
+     * @param rowCount the number of rows returned by the mining session
+     */
+    private void updateMiningWindow(long rowCount) {
+        streamingMetrics.setLastMiningWindowRowCount(rowCount);
+        if (windowController == null) {
+            return;
+        }
+
+        final Scn remainingScn = new Scn(streamingMetrics.getCurrentScn()).subtract(endScn);
+        final AdaptiveMiningWindowController.Decision decision = windowController.update(
+                Duration.ofMillis(streamingMetrics.getLastDurationOfFetchQueryInMilliseconds()),
+                rowCount,
+                remainingScn,
+                streamingMetrics.getQueueRemainingCapacity(),
+                streamingMetrics.getQueueTotalCapacity());
+
+        currentBatchSize = windowController.getBatchSize();
+        currentSleepTime = windowController.getSleepTime();
+        LOGGER.debug("Adaptive mining window decided {}, using batch size {} and sleep time {} (rows {}, remaining SCN {}, SCN rate {}/s).",
+                decision, currentBatchSize, currentSleepTime, rowCount, remainingScn, windowController.getScnGenerationRate());
+
+        streamingMetrics.setBatchSize(currentBatchSize);
+        streamingMetrics.setSleepTime(currentSleepTime);
+        streamingMetrics.setMiningWindowDecision(decision.name(), windowController.getScnGenerationRate());
+    }
+
     private void updateBatchSize(boolean increment) {
+        if (windowController != null) {
+            // the adaptive mining window chooses the batch size after each mining session
+            return;
+        }
         int batchSizeMin = connectorConfig.getLogMiningBatchSizeMin();
         int batchSizeMax = connectorConfig.getLogMiningBatchSizeMax();
         if (increment && currentBatchSize < batchSizeMax) {
@@ -682,6 +720,10 @@ else if (!increment && currentBatchSize > batchSizeMin) {
     }
 
     private void updateSleepTime(boolean increment) {
+        if (windowController != null) {
+            // the adaptive mining window chooses the sleep time after each mining session
+            return;
+        }
         if (increment && currentSleepTime < connectorConfig.getLogMiningSleepTimeMax().toMillis()) {
             currentSleepTime += connectorConfig.getLogMiningSleepTimeIncrement().toMillis();
         }
@@ -716,6 +758,9 @@ private Scn calculateEndScn(OracleConnection connection, Scn startScn, Scn prevE
                 ? getMaxArchiveLogScn(currentLogFiles)
                 : connection.getCurrentScn();
         streamingMetrics.setCurrentScn(currentScn);
+        if (windowController != null) {
+            windowController.observeCurrentScn(currentScn, clock.currentTimeInMillis());
+        }
 
         // Add the current batch size to the starting system change number
         final Scn currentBatchSizeScn = Scn.valueOf(streamingMetrics.getBatchSize());
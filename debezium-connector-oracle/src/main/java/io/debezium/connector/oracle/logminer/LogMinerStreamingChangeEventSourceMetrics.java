@@ -11,9 +11,12 @@
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -75,6 +78,11 @@
     private final AtomicLong oversizedTransactionCount = new AtomicLong();
     private final AtomicLong changesCount = new AtomicLong();
     private final AtomicLong scnFreezeCount = new AtomicLong();
+    private final AtomicLong lastMiningWindowRowCount = new AtomicLong();
+    private final AtomicLong scnGenerationRate = new AtomicLong();
+
+    private final AtomicReference<String> miningWindowDecision = new AtomicReference<>();
+    private final ConcurrentMap<String, AtomicLong> miningWindowDecisionCounts = new ConcurrentHashMap<>();
 
     private final DurationHistogramMetric batchProcessingDuration = new DurationHistogramMetric();
     private final DurationHistogramMetric fetchQueryDuration = new DurationHistogramMetric();
@@ -122,6 +130,11 @@ public void reset() {
         rolledBackTransactionCount.set(0);
         oversizedTransactionCount.set(0);
         scnFreezeCount.set(0);
+        lastMiningWindowRowCount.set(0);
+        scnGenerationRate.set(0);
+
+        miningWindowDecision.set(null);
+        miningWindowDecisionCounts.clear();
 
         fetchQueryDuration.reset();
         batchProcessingDuration.reset();
@@ -186,6 +199,28 @@ public int getBatchSize() {
         return batchSize.get();
     }
 
+    @Override
+    public String getMiningWindowDecision() {
+        return miningWindowDecision.get();
+    }
+
+    @Override
+    public Map<String, Long> getMiningWindowDecisionCounts() {
+        final Map<String, Long> counts = new HashMap<>();
+        miningWindowDecisionCounts.forEach((decision, count) -> counts.put(decision, count.get()));
+        return counts;
+    }
+
+    @Override
+    public long getLastMiningWindowRowCount() {
+        return lastMiningWindowRowCount.get();
+    }
+
+    @Override
+    public long getScnGenerationRate() {
+        return scnGenerationRate.get();
+    }
+
     @Override
     public long getMinimumMinedLogCount() {
         return minimumLogsMined.get();
@@ -410,6 +445,27 @@ public void setSleepTime(long sleepTime) {
         this.sleepTime.set(sleepTime);
     }
 
+    /**
+     * Records a choice of the adaptive mining window.
+     *
+     * @param decision the reason for the chosen batch size and sleep time
+     * @param scnGenerationRate the estimated number of system change numbers generated per second
+     */
+    public void setMiningWindowDecision(String decision, long scnGenerationRate) {
+        this.miningWindowDecision.set(decision);
+        this.miningWindowDecisionCounts.computeIfAbsent(decision, k -> new AtomicLong()).incrementAndGet();
+        this.scnGenerationRate.set(scnGenerationRate);
+    }
+
+    /**
+     * Sets the number of rows returned by the most recent mining session.
+     *
+     * @param rowCount number of rows returned by the mining session
+     */
+    public void setLastMiningWindowRowCount(long rowCount) {
+        this.lastMiningWindowRowCount.set(rowCount);
+    }
+
     /**
      * Set the current system change number from the database.
      *
@@ -710,6 +766,10 @@ public String toString() {
                 ", oversizedTransactionCount=" + oversizedTransactionCount +
                 ", changesCount=" + changesCount +
                 ", scnFreezeCount=" + scnFreezeCount +
+                ", lastMiningWindowRowCount=" + lastMiningWindowRowCount +
+                ", scnGenerationRate=" + scnGenerationRate +
+                ", miningWindowDecision=" + miningWindowDecision +
+                ", miningWindowDecisionCounts=" + miningWindowDecisionCounts +
                 ", batchProcessingDuration=" + batchProcessingDuration +
                 ", fetchQueryDuration=" + fetchQueryDuration +
                 ", commitDuration=" + commitDuration +
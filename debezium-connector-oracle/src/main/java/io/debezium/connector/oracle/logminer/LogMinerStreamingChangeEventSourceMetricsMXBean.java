@@ -7,6 +7,7 @@
 
 import java.math.BigInteger;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 
 import io.debezium.connector.oracle.OracleCommonStreamingChangeEventSourceMetricsMXBean;
@@ -162,6 +163,28 @@ default long getNetworkConnectionProblemsCounter() {
      */
     int getBatchSize();
 
+    /**
+     * @return the reason for the most recent batch size and sleep time choice of the adaptive mining window,
+     *         or {@code null} if the mining window is not adaptive
+     */
+    String getMiningWindowDecision();
+
+    /**
+     * @return the number of times the adaptive mining window chose each reason, keyed by reason
+     */
+    Map<String, Long> getMiningWindowDecisionCounts();
+
+    /**
+     * @return the number of rows returned by the most recent mining session
+     */
+    long getLastMiningWindowRowCount();
+
+    /**
+     * @return the estimated number of system change numbers the database generates per second,
+     *         only maintained when the mining window is adaptive
+     */
+    long getScnGenerationRate();
+
     /**
      * @return the minimum number of logs used by a mining session
      */
@@ -0,0 +1,251 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.spillable;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.LobWriteEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.XmlWriteEvent;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+
+/**
+ * A list of transaction events that keeps the most recent events on the heap and moves them to
+ * append-only, memory-mapped segments once their approximate size exceeds a threshold.
+ *
+ * The spilled events always precede the heap events, so the list order is the order in which
+ * events were added. Removal of spilled events only drops them from the index, the bytes remain
+ * in the segment until the transaction is released.
+ */
+class SpillableEventList extends AbstractList<LogMinerEvent> {
+
+    private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+    private static final int EVENT_OVERHEAD_SIZE = 128;
+    private static final int VALUE_OVERHEAD_SIZE = 16;
+
+    private final SpilledEventStore store;
+    private final long thresholdBytes;
+    private final List<LogMinerEvent> heapEvents = new ArrayList<>();
+    private final List<SpilledEventStore.Segment> segments = new ArrayList<>();
+
+    /**
+     * Positions of the spilled events, the segment index in the upper and the offset in the lower 32 bits.
+     */
+    private long[] positions = new long[0];
+    /**
+     * Row ids of the spilled events, so that undo operations do not need to read events back from disk.
+     */
+    private String[] rowIds = new String[0];
+    private int spilledCount;
+    private long heapEventsSize;
+    private boolean spilled;
+
+    SpillableEventList(SpilledEventStore store, long thresholdBytes) {
+        this.store = store;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    @Override
+    public LogMinerEvent get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return index < spilledCount ? read(positions[index]) : heapEvents.get(index - spilledCount);
+    }
+
+    @Override
+    public int size() {
+        return spilledCount + heapEvents.size();
+    }
+
+    @Override
+    public boolean add(LogMinerEvent event) {
+        heapEvents.add(event);
+        heapEventsSize += estimateSize(event);
+        modCount++;
+        if (heapEventsSize >= thresholdBytes) {
+            spill();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the event at the given index. A spilled event is read back from disk to be returned,
+     * use {@link #removeLastWithRowId(String)} to drop events without reading them.
+     */
+    @Override
+    public LogMinerEvent remove(int index) {
+        final LogMinerEvent event = get(index);
+        discard(index);
+        return event;
+    }
+
+    @Override
+    public void clear() {
+        release();
+        modCount++;
+    }
+
+    /**
+     * Returns the index of the last event with the given row id, without reading spilled events from disk.
+     *
+     * @param rowId the row id to look for, may not be null
+     * @return the index of the last matching event, or -1 if no event matches
+     */
+    int lastIndexOfRowId(String rowId) {
+        for (int i = heapEvents.size() - 1; i >= 0; i--) {
+            if (rowId.equals(heapEvents.get(i).getRowId())) {
+                return spilledCount + i;
+            }
+        }
+        for (int i = spilledCount - 1; i >= 0; i--) {
+            if (rowId.equals(rowIds[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the last event with the given row id, without reading spilled events from disk.
+     *
+     * @param rowId the row id to look for, may not be null
+     * @return {@code true} if an event was removed, {@code false} if no event matches
+     */
+    boolean removeLastWithRowId(String rowId) {
+        final int index = lastIndexOfRowId(rowId);
+        if (index < 0) {
+            return false;
+        }
+        discard(index);
+        return true;
+    }
+
+    /**
+     * @return whether any event of this list has been written to disk
+     */
+    boolean hasSpilled() {
+        return spilled;
+    }
+
+    /**
+     * Discards all events and releases the segments used by this list.
+     */
+    void release() {
+        for (SpilledEventStore.Segment segment : segments) {
+            store.releaseSegment(segment);
+        }
+        segments.clear();
+        heapEvents.clear();
+        heapEventsSize = 0;
+        positions = new long[0];
+        rowIds = new String[0];
+        spilledCount = 0;
+        spilled = false;
+    }
+
+    /**
+     * Drops the event at the given index, spilled events are only removed from the index.
+     */
+    private void discard(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (index < spilledCount) {
+            System.arraycopy(positions, index + 1, positions, index, spilledCount - index - 1);
+            System.arraycopy(rowIds, index + 1, rowIds, index, spilledCount - index - 1);
+            rowIds[--spilledCount] = null;
+        }
+        else {
+            final LogMinerEvent event = heapEvents.remove(index - spilledCount);
+            heapEventsSize = Math.max(0, heapEventsSize - estimateSize(event));
+        }
+        modCount++;
+    }
+
+    private void spill() {
+        for (LogMinerEvent event : heapEvents) {
+            append(store.serialize(event), event.getRowId());
+        }
+        heapEvents.clear();
+        heapEventsSize = 0;
+        spilled = true;
+    }
+
+    private void append(byte[] data, String rowId) {
+        final int requiredSize = LENGTH_PREFIX_SIZE + data.length;
+        if (segments.isEmpty() || segments.get(segments.size() - 1).getBuffer().remaining() < requiredSize) {
+            segments.add(store.createSegment(requiredSize));
+        }
+
+        final int segmentIndex = segments.size() - 1;
+        final MappedByteBuffer buffer = segments.get(segmentIndex).getBuffer();
+        final int offset = buffer.position();
+        buffer.putInt(data.length).put(data);
+
+        if (spilledCount == positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(16, positions.length * 2));
+            rowIds = Arrays.copyOf(rowIds, positions.length);
+        }
+        rowIds[spilledCount] = rowId;
+        positions[spilledCount++] = ((long) segmentIndex << 32) | offset;
+    }
+
+    private LogMinerEvent read(long position) {
+        final MappedByteBuffer buffer = segments.get((int) (position >>> 32)).getBuffer();
+        final int offset = (int) position;
+        final int length = buffer.getInt(offset);
+
+        final ByteBuffer view = buffer.duplicate();
+        view.limit(offset + LENGTH_PREFIX_SIZE + length);
+        view.position(offset + LENGTH_PREFIX_SIZE);
+        return store.deserialize(view);
+    }
+
+    /**
+     * Approximates the heap footprint of an event without serializing it.
+     */
+    private static long estimateSize(LogMinerEvent event) {
+        long size = EVENT_OVERHEAD_SIZE;
+        if (event instanceof DmlEvent) {
+            final LogMinerDmlEntry entry = ((DmlEvent) event).getDmlEntry();
+            size += estimateSize(entry.getOldValues()) + estimateSize(entry.getNewValues());
+        }
+        else if (event instanceof LobWriteEvent) {
+            size += estimateSize(((LobWriteEvent) event).getData());
+        }
+        else if (event instanceof XmlWriteEvent) {
+            size += estimateSize(((XmlWriteEvent) event).getXml());
+        }
+        return size;
+    }
+
+    private static long estimateSize(Object[] values) {
+        long size = 0;
+        if (values != null) {
+            for (Object value : values) {
+                size += VALUE_OVERHEAD_SIZE + estimateSize(value);
+            }
+        }
+        return size;
+    }
+
+    private static long estimateSize(Object value) {
+        if (value instanceof String) {
+            return 2L * ((String) value).length();
+        }
+        else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.spillable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OraclePartition;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.LogMinerStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryLogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.relational.TableId;
+
+/**
+ * A {@link MemoryLogMinerEventProcessor} that keeps transactions on the JVM heap until the events
+ * of a transaction exceed {@code log.mining.buffer.spill.threshold.bytes}, after which the events
+ * are moved to memory-mapped segment files in {@code log.mining.buffer.spill.directory}.
+ *
+ * Like the heap buffer, the spilled events are not retained across connector restarts.
+ */
+public class SpillableLogMinerEventProcessor extends MemoryLogMinerEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillableLogMinerEventProcessor.class);
+
+    private final SpilledEventStore eventStore;
+    private final long spillThresholdBytes;
+
+    public SpillableLogMinerEventProcessor(ChangeEventSourceContext context,
+                                           OracleConnectorConfig connectorConfig,
+                                           OracleConnection jdbcConnection,
+                                           EventDispatcher<OraclePartition, TableId> dispatcher,
+                                           OraclePartition partition,
+                                           OracleOffsetContext offsetContext,
+                                           OracleDatabaseSchema schema,
+                                           LogMinerStreamingChangeEventSourceMetrics metrics) {
+        super(context, connectorConfig, jdbcConnection, dispatcher, partition, offsetContext, schema, metrics);
+        this.eventStore = new SpilledEventStore(connectorConfig.getLogMiningBufferSpillDirectory(),
+                connectorConfig.getLogMiningBufferSpillSegmentSizeBytes());
+        this.spillThresholdBytes = connectorConfig.getLogMiningBufferSpillThresholdBytes();
+    }
+
+    @Override
+    protected MemoryTransaction createTransaction(LogMinerEventRow row) {
+        return new SpillableTransaction(row.getTransactionId(), row.getScn(), row.getChangeTime(), row.getUserName(), row.getThread(),
+                eventStore, spillThresholdBytes);
+    }
+
+    @Override
+    protected void cleanupAfterTransactionRemovedFromCache(MemoryTransaction transaction, boolean isAbandoned) {
+        super.cleanupAfterTransactionRemovedFromCache(transaction, isAbandoned);
+        release(transaction);
+    }
+
+    @Override
+    protected void finalizeTransactionRollback(String transactionId, Scn rollbackScn) {
+        final MemoryTransaction transaction = getTransactionCache().get(transactionId);
+        super.finalizeTransactionRollback(transactionId, rollbackScn);
+        release(transaction);
+    }
+
+    @Override
+    protected void abandonTransactionOverEventThreshold(MemoryTransaction transaction) {
+        super.abandonTransactionOverEventThreshold(transaction);
+        release(transaction);
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            getTransactionCache().values().forEach(this::release);
+            eventStore.close();
+        }
+        finally {
+            super.close();
+        }
+    }
+
+    private void release(MemoryTransaction transaction) {
+        if (transaction instanceof SpillableTransaction) {
+            final SpillableTransaction spillableTransaction = (SpillableTransaction) transaction;
+            if (spillableTransaction.hasSpilled()) {
+                LOGGER.debug("Releasing spilled events of transaction {}.", transaction.getTransactionId());
+            }
+            spillableTransaction.release();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.spillable;
+
+import java.time.Instant;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+
+/**
+ * A {@link MemoryTransaction} whose events are moved to local disk once their size exceeds a threshold.
+ */
+public class SpillableTransaction extends MemoryTransaction {
+
+    public SpillableTransaction(String transactionId, Scn startScn, Instant changeTime, String userName, Integer redoThreadId,
+                                SpilledEventStore store, long spillThresholdBytes) {
+        super(transactionId, startScn, changeTime, userName, redoThreadId, new SpillableEventList(store, spillThresholdBytes));
+    }
+
+    /**
+     * @return whether any event of this transaction has been written to disk
+     */
+    public boolean hasSpilled() {
+        return ((SpillableEventList) getEvents()).hasSpilled();
+    }
+
+    /**
+     * Discards all buffered events and releases any disk segments held by this transaction.
+     */
+    public void release() {
+        ((SpillableEventList) getEvents()).release();
+    }
+
+    @Override
+    public boolean removeEventWithRowId(String rowId) {
+        return ((SpillableEventList) getEvents()).removeLastWithRowId(rowId);
+    }
+
+    @Override
+    public String toString() {
+        return "SpillableTransaction{" +
+                "spilled=" + hasSpilled() +
+                "} " + super.toString();
+    }
+}
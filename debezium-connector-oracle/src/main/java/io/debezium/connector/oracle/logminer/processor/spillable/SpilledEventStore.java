@@ -0,0 +1,147 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.spillable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.apache.kafka.common.utils.ByteBufferUnmapper;
+import org.infinispan.protostream.ProtobufUtil;
+import org.infinispan.protostream.SerializationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.processor.infinispan.marshalling.LogMinerEventMarshaller;
+import io.debezium.connector.oracle.logminer.processor.infinispan.marshalling.LogMinerEventMarshallerImpl;
+
+/**
+ * Manages the local, append-only segment files used by the {@link SpillableLogMinerEventProcessor}.
+ *
+ * Each processor instance owns a private directory in which memory-mapped segment files are created
+ * on behalf of transactions whose buffered events exceed the configured heap threshold. Events are
+ * serialized using the same ProtoStream adapters registered by {@link LogMinerEventMarshaller} that
+ * are used by the Infinispan based buffers.
+ */
+public class SpilledEventStore implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpilledEventStore.class);
+
+    private final Path directory;
+    private final long segmentSize;
+    private final SerializationContext serializationContext;
+    private long segmentSequence;
+
+    public SpilledEventStore(Path baseDirectory, long segmentSize) {
+        try {
+            Files.createDirectories(baseDirectory);
+            this.directory = Files.createTempDirectory(baseDirectory, "transactions-");
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create the spillable buffer directory in " + baseDirectory, e);
+        }
+        this.segmentSize = segmentSize;
+
+        final LogMinerEventMarshallerImpl marshaller = new LogMinerEventMarshallerImpl();
+        this.serializationContext = ProtobufUtil.newSerializationContext();
+        marshaller.registerSchema(serializationContext);
+        marshaller.registerMarshallers(serializationContext);
+
+        LOGGER.info("Transaction events exceeding the heap threshold will be spilled to '{}'.", directory);
+    }
+
+    /**
+     * Creates a new memory-mapped segment.
+     *
+     * @param minimumSize the minimum number of bytes the segment must be able to hold
+     * @return the new segment, never {@code null}
+     */
+    Segment createSegment(int minimumSize) {
+        final long size = Math.max(segmentSize, minimumSize);
+        final Path file = directory.resolve("segment-" + (segmentSequence++) + ".dat");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create spillable buffer segment " + file, e);
+        }
+    }
+
+    /**
+     * Unmaps and deletes the supplied segment.
+     *
+     * @param segment the segment to release, should not be {@code null}
+     */
+    void releaseSegment(Segment segment) {
+        try {
+            ByteBufferUnmapper.unmap(segment.file.toString(), segment.buffer);
+            Files.deleteIfExists(segment.file);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to release spillable buffer segment {}", segment.file, e);
+        }
+    }
+
+    byte[] serialize(LogMinerEvent event) {
+        try {
+            return ProtobufUtil.toWrappedByteArray(serializationContext, event);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to serialize event " + event, e);
+        }
+    }
+
+    LogMinerEvent deserialize(ByteBuffer buffer) {
+        try {
+            return ProtobufUtil.fromWrappedByteBuffer(serializationContext, buffer);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to deserialize event from the spillable buffer", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                }
+                catch (IOException e) {
+                    LOGGER.warn("Failed to delete spillable buffer file {}", path, e);
+                }
+            });
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete spillable buffer directory {}", directory, e);
+        }
+    }
+
+    /**
+     * A single memory-mapped, append-only segment file.
+     */
+    static class Segment {
+        private final Path file;
+        private final MappedByteBuffer buffer;
+
+        Segment(Path file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        MappedByteBuffer getBuffer() {
+            return buffer;
+        }
+    }
+}
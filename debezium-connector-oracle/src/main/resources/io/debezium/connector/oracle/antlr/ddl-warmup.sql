@@ -0,0 +1,74 @@
+-- Representative DDL statements parsed on start to fill the prediction caches of the PL/SQL grammar
+CREATE TABLE "DEBEZIUM"."CUSTOMERS" (
+  "ID" NUMBER(19,0) GENERATED BY DEFAULT AS IDENTITY NOT NULL ENABLE,
+  "FIRST_NAME" VARCHAR2(255 BYTE) NOT NULL ENABLE,
+  "LAST_NAME" VARCHAR2(255 CHAR),
+  "EMAIL" NVARCHAR2(255),
+  "STATUS" CHAR(1) DEFAULT 'A' NOT NULL,
+  "CODE" NCHAR(4),
+  "BALANCE" NUMBER(12,2) DEFAULT 0,
+  "SCORE" BINARY_DOUBLE,
+  "RATIO" BINARY_FLOAT,
+  "WEIGHT" FLOAT(63),
+  "COUNTER" INTEGER,
+  "AMOUNT" DECIMAL(10,3),
+  "BIRTH_DATE" DATE,
+  "CREATED_AT" TIMESTAMP(6) DEFAULT SYSTIMESTAMP,
+  "UPDATED_AT" TIMESTAMP(9) WITH TIME ZONE,
+  "SEEN_AT" TIMESTAMP WITH LOCAL TIME ZONE,
+  "TRIAL" INTERVAL DAY(3) TO SECOND(2),
+  "TERM" INTERVAL YEAR(2) TO MONTH,
+  "NOTES" CLOB,
+  "NNOTES" NCLOB,
+  "AVATAR" BLOB,
+  "TOKEN" RAW(16),
+  "LEGACY" LONG,
+  "ROW_REF" ROWID,
+  CONSTRAINT "CUSTOMERS_PK" PRIMARY KEY ("ID") USING INDEX ENABLE,
+  CONSTRAINT "CUSTOMERS_EMAIL_UK" UNIQUE ("EMAIL"),
+  CONSTRAINT "CUSTOMERS_STATUS_CK" CHECK ("STATUS" IN ('A', 'I'))
+) SEGMENT CREATION IMMEDIATE PCTFREE 10 PCTUSED 40 INITRANS 1 MAXTRANS 255 NOCOMPRESS LOGGING
+  STORAGE (INITIAL 65536 NEXT 1048576 MINEXTENTS 1 MAXEXTENTS 2147483645 BUFFER_POOL DEFAULT)
+  TABLESPACE "USERS"
+  LOB ("NOTES") STORE AS SECUREFILE (ENABLE STORAGE IN ROW CHUNK 8192 NOCACHE LOGGING);
+CREATE TABLE debezium.orders (
+  order_number NUMBER(10) NOT NULL,
+  order_date DATE NOT NULL,
+  purchaser NUMBER(19) NOT NULL,
+  quantity NUMBER(5) NOT NULL,
+  CONSTRAINT orders_pk PRIMARY KEY (order_number, order_date),
+  CONSTRAINT orders_fk FOREIGN KEY (purchaser) REFERENCES debezium.customers (id) ON DELETE CASCADE
+) PARTITION BY RANGE (order_date) (
+  PARTITION p2023 VALUES LESS THAN (TO_DATE('2024-01-01', 'YYYY-MM-DD')),
+  PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+CREATE GLOBAL TEMPORARY TABLE debezium.tmp_orders (order_number NUMBER(10), quantity NUMBER(5)) ON COMMIT DELETE ROWS;
+ALTER TABLE debezium.customers ADD (phone VARCHAR2(32), fax VARCHAR2(32) DEFAULT NULL);
+ALTER TABLE debezium.customers MODIFY (phone VARCHAR2(64) NOT NULL);
+ALTER TABLE debezium.customers MODIFY phone DEFAULT 'n/a';
+ALTER TABLE debezium.customers RENAME COLUMN fax TO fax_number;
+ALTER TABLE debezium.customers DROP COLUMN fax_number;
+ALTER TABLE debezium.customers DROP (phone);
+ALTER TABLE debezium.customers ADD CONSTRAINT customers_balance_ck CHECK (balance >= 0) ENABLE NOVALIDATE;
+ALTER TABLE debezium.customers DROP CONSTRAINT customers_balance_ck;
+ALTER TABLE debezium.customers ADD SUPPLEMENTAL LOG DATA (ALL) COLUMNS;
+ALTER TABLE debezium.orders DROP PRIMARY KEY;
+ALTER TABLE debezium.orders ADD PRIMARY KEY (order_number);
+ALTER TABLE debezium.orders RENAME TO orders_old;
+CREATE INDEX debezium.orders_date_idx ON debezium.orders_old (order_date DESC) TABLESPACE users;
+CREATE UNIQUE INDEX debezium.customers_name_idx ON debezium.customers (UPPER(last_name), first_name);
+ALTER INDEX debezium.orders_date_idx REBUILD;
+DROP INDEX debezium.orders_date_idx;
+CREATE OR REPLACE VIEW debezium.customer_orders AS
+  SELECT c.id, c.email, COUNT(o.order_number) AS order_count FROM debezium.customers c LEFT JOIN debezium.orders_old o ON o.purchaser = c.id GROUP BY c.id, c.email;
+DROP VIEW debezium.customer_orders;
+CREATE SEQUENCE debezium.customers_seq START WITH 1 INCREMENT BY 1 NOCACHE;
+DROP SEQUENCE debezium.customers_seq;
+COMMENT ON TABLE debezium.customers IS 'customers';
+COMMENT ON COLUMN debezium.customers.email IS 'contact address';
+GRANT SELECT, INSERT ON debezium.customers TO c##dbzuser;
+REVOKE INSERT ON debezium.customers FROM c##dbzuser;
+TRUNCATE TABLE debezium.orders_old;
+DROP TABLE debezium.tmp_orders PURGE;
+DROP TABLE debezium.orders_old CASCADE CONSTRAINTS;
+DROP TABLE debezium.customers;
@@ -0,0 +1,108 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.AdaptiveMiningWindowController.Decision;
+import io.debezium.connector.oracle.util.TestHelper;
+
+/**
+ * Unit tests for the {@link AdaptiveMiningWindowController}.
+ */
+public class AdaptiveMiningWindowControllerTest {
+
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private AdaptiveMiningWindowController controller;
+
+    @Before
+    public void beforeEach() {
+        final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(TestHelper.defaultConfig()
+                .with(OracleConnectorConfig.LOG_MINING_BATCH_SIZE_MIN, 1_000)
+                .with(OracleConnectorConfig.LOG_MINING_BATCH_SIZE_DEFAULT, 10_000)
+                .with(OracleConnectorConfig.LOG_MINING_BATCH_SIZE_MAX, 100_000)
+                .with(OracleConnectorConfig.LOG_MINING_SLEEP_TIME_MIN_MS, 0)
+                .with(OracleConnectorConfig.LOG_MINING_SLEEP_TIME_DEFAULT_MS, 1_000)
+                .with(OracleConnectorConfig.LOG_MINING_SLEEP_TIME_MAX_MS, 3_000)
+                .with(OracleConnectorConfig.LOG_MINING_SLEEP_TIME_INCREMENT_MS, 200)
+                .with(OracleConnectorConfig.LOG_MINING_WINDOW_QUERY_TARGET_MS, 1_000)
+                .build());
+        controller = new AdaptiveMiningWindowController(connectorConfig);
+    }
+
+    @Test
+    public void shouldGrowWindowWhileBehind() {
+        final Decision decision = controller.update(Duration.ofMillis(250), 5_000, Scn.valueOf(500_000), QUEUE_CAPACITY, QUEUE_CAPACITY);
+        assertThat(decision).isEqualTo(Decision.CATCHING_UP);
+        assertThat(controller.getBatchSize()).isEqualTo(20_000);
+        assertThat(controller.getSleepTime()).isEqualTo(0);
+
+        // growth is limited by the maximum batch size
+        for (int i = 0; i < 10; i++) {
+            controller.update(Duration.ofMillis(10), 5_000, Scn.valueOf(500_000), QUEUE_CAPACITY, QUEUE_CAPACITY);
+        }
+        assertThat(controller.getBatchSize()).isEqualTo(100_000);
+    }
+
+    @Test
+    public void shouldShrinkWindowProportionallyWhenQueryIsTooSlow() {
+        final Decision decision = controller.update(Duration.ofMillis(1_250), 5_000, Scn.valueOf(500_000), QUEUE_CAPACITY, QUEUE_CAPACITY);
+        assertThat(decision).isEqualTo(Decision.QUERY_TOO_SLOW);
+        assertThat(controller.getBatchSize()).isEqualTo(8_000);
+
+        // shrinking is limited to halving the window
+        controller.update(Duration.ofMillis(10_000), 5_000, Scn.valueOf(500_000), QUEUE_CAPACITY, QUEUE_CAPACITY);
+        assertThat(controller.getBatchSize()).isEqualTo(4_000);
+    }
+
+    @Test
+    public void shouldBackOffWhenQueueIsAlmostFull() {
+        final Decision decision = controller.update(Duration.ofMillis(100), 5_000, Scn.valueOf(500_000), 100, QUEUE_CAPACITY);
+        assertThat(decision).isEqualTo(Decision.BACK_PRESSURE);
+        assertThat(controller.getBatchSize()).isEqualTo(5_000);
+        assertThat(controller.getSleepTime()).isEqualTo(1_200);
+
+        for (int i = 0; i < 20; i++) {
+            controller.update(Duration.ofMillis(100), 5_000, Scn.valueOf(500_000), 0, QUEUE_CAPACITY);
+        }
+        assertThat(controller.getBatchSize()).isEqualTo(1_000);
+        assertThat(controller.getSleepTime()).isEqualTo(3_000);
+    }
+
+    @Test
+    public void shouldExtendPauseWhenIdle() {
+        final Decision decision = controller.update(Duration.ofMillis(100), 0, Scn.valueOf(10), QUEUE_CAPACITY, QUEUE_CAPACITY);
+        assertThat(decision).isEqualTo(Decision.IDLE);
+        assertThat(controller.getSleepTime()).isEqualTo(1_200);
+        // no redo has been observed yet
+        assertThat(controller.getBatchSize()).isEqualTo(1_000);
+    }
+
+    @Test
+    public void shouldSizeWindowToRedoGenerationRateWhenKeepingUp() {
+        controller.observeCurrentScn(Scn.valueOf(1_000_000), 10_000);
+        controller.observeCurrentScn(Scn.valueOf(1_010_000), 11_000);
+        assertThat(controller.getScnGenerationRate()).isEqualTo(10_000);
+
+        final Decision decision = controller.update(Duration.ofMillis(200), 500, Scn.valueOf(10), QUEUE_CAPACITY, QUEUE_CAPACITY);
+        assertThat(decision).isEqualTo(Decision.STEADY);
+        assertThat(controller.getSleepTime()).isEqualTo(800);
+        // 10 SCN/ms over the 800ms pause and 200ms query, with twice the headroom
+        assertThat(controller.getBatchSize()).isEqualTo(20_000);
+
+        // the rate is smoothed over subsequent observations
+        controller.observeCurrentScn(Scn.valueOf(1_030_000), 12_000);
+        assertThat(controller.getScnGenerationRate()).isEqualTo(13_000);
+    }
+}
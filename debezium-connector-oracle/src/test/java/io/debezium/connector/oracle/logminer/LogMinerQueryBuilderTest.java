@@ -212,7 +212,7 @@ private String getPdbPredicate(OracleConnectorConfig config) {
 
     private String getOperationCodePredicate(OracleConnectorConfig config) {
         final String codes = config.isLobEnabled() ? OPERATION_CODES_LOB_ENABLED
-                : (config.getLogMiningBufferType() == OracleConnectorConfig.LogMiningBufferType.MEMORY)
+                : !config.getLogMiningBufferType().isInfinispan()
                         ? OPERATION_CODES_LOB_DISABLED
                         : OPERATION_CODES_LOB_DISABLED_AND_PERSISTENT_BUFFER;
         final String predicate = OPERATION_CODES_PREDICATE.replace("${operationCodes}", codes);
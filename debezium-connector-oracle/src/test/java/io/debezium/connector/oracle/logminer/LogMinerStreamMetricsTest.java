@@ -101,6 +101,26 @@ public void testMetrics() {
         assertThat(metrics.toString().contains("logMinerQueryCount"));
     }
 
+    @Test
+    public void testMiningWindowMetrics() {
+        assertThat(metrics.getMiningWindowDecision()).isNull();
+        assertThat(metrics.getMiningWindowDecisionCounts()).isEmpty();
+
+        metrics.setLastMiningWindowRowCount(25);
+        metrics.setMiningWindowDecision("CATCHING_UP", 1500);
+        metrics.setMiningWindowDecision("STEADY", 1000);
+        metrics.setMiningWindowDecision("STEADY", 800);
+        assertThat(metrics.getLastMiningWindowRowCount()).isEqualTo(25);
+        assertThat(metrics.getMiningWindowDecision()).isEqualTo("STEADY");
+        assertThat(metrics.getScnGenerationRate()).isEqualTo(800);
+        assertThat(metrics.getMiningWindowDecisionCounts()).containsEntry("CATCHING_UP", 1L).containsEntry("STEADY", 2L);
+
+        metrics.reset();
+        assertThat(metrics.getMiningWindowDecision()).isNull();
+        assertThat(metrics.getMiningWindowDecisionCounts()).isEmpty();
+        assertThat(metrics.getLastMiningWindowRowCount()).isEqualTo(0);
+    }
+
     @Test
     public void testLagMetrics() {
         // no time difference between connector and database
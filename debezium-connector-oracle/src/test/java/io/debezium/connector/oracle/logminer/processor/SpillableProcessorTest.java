@@ -0,0 +1,46 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningBufferType;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.logminer.processor.spillable.SpillableLogMinerEventProcessor;
+import io.debezium.connector.oracle.util.TestHelper;
+
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER, reason = "Only applicable for LogMiner")
+public class SpillableProcessorTest extends AbstractProcessorUnitTest<SpillableLogMinerEventProcessor> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillableProcessorTest.class);
+
+    @Override
+    protected Configuration.Builder getConfig() {
+        return TestHelper.defaultConfig()
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_TYPE, LogMiningBufferType.SPILLABLE)
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_SPILL_THRESHOLD_BYTES, 1L)
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_SPILL_SEGMENT_SIZE_BYTES, 1024L)
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_DROP_ON_STOP, true);
+    }
+
+    @Override
+    protected SpillableLogMinerEventProcessor getProcessor(OracleConnectorConfig connectorConfig) {
+        assertThat(connectorConfig.validateAndRecord(OracleConnectorConfig.ALL_FIELDS, LOGGER::error)).isTrue();
+        return new SpillableLogMinerEventProcessor(context,
+                connectorConfig,
+                connection,
+                dispatcher,
+                partition,
+                offsetContext,
+                schema,
+                metrics);
+    }
+}
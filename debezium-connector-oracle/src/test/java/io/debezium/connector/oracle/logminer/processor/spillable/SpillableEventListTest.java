@@ -0,0 +1,171 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.spillable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntryImpl;
+import io.debezium.relational.TableId;
+import io.debezium.util.Testing;
+
+/**
+ * Unit tests for the {@link SpillableEventList}.
+ */
+public class SpillableEventListTest {
+
+    private static final Path SPILL_DIRECTORY = Testing.Files.createTestingPath("spillable-buffer").toAbsolutePath();
+
+    private SpilledEventStore store;
+
+    @Before
+    public void before() {
+        Testing.Files.delete(SPILL_DIRECTORY);
+        store = new SpilledEventStore(SPILL_DIRECTORY, 256);
+    }
+
+    @After
+    public void after() {
+        if (store != null) {
+            store.close();
+        }
+        Testing.Files.delete(SPILL_DIRECTORY);
+    }
+
+    @Test
+    public void shouldKeepEventsOnHeapBelowThreshold() throws Exception {
+        final SpillableEventList events = new SpillableEventList(store, Long.MAX_VALUE);
+        final List<LogMinerEvent> expected = createEvents(10);
+        events.addAll(expected);
+
+        assertThat(events.hasSpilled()).isFalse();
+        assertThat(events).containsExactlyElementsOf(expected);
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    @Test
+    public void shouldSpillEventsAndPreserveOrder() throws Exception {
+        final SpillableEventList events = new SpillableEventList(store, 1024);
+        final List<LogMinerEvent> expected = createEvents(50);
+        events.addAll(expected);
+
+        assertThat(events.hasSpilled()).isTrue();
+        assertThat(events).hasSize(50);
+        assertThat(events).containsExactlyElementsOf(expected);
+        assertThat(((DmlEvent) events.get(0)).getDmlEntry().getNewValues()).containsExactly("0", "value-0");
+        assertThat(segmentFiles()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldRemoveSpilledAndHeapEvents() throws Exception {
+        final SpillableEventList events = new SpillableEventList(store, 1024);
+        final List<LogMinerEvent> expected = new ArrayList<>(createEvents(20));
+        events.addAll(expected);
+
+        final int last = events.size() - 1;
+        assertThat(events.remove(last)).isEqualTo(expected.remove(last));
+        assertThat(events.remove(0)).isEqualTo(expected.remove(0));
+        assertThat(events.remove(5)).isEqualTo(expected.remove(5));
+        assertThat(events).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void shouldRemoveSpilledEventsWithoutReadingThem() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        store.close();
+        store = new SpilledEventStore(SPILL_DIRECTORY, 256) {
+            @Override
+            LogMinerEvent deserialize(ByteBuffer buffer) {
+                reads.incrementAndGet();
+                return super.deserialize(buffer);
+            }
+        };
+
+        final SpillableEventList events = new SpillableEventList(store, 1024);
+        final List<LogMinerEvent> expected = new ArrayList<>(createEvents(20));
+        events.addAll(expected);
+        assertThat(events.hasSpilled()).isTrue();
+
+        assertThat(events.removeLastWithRowId("AAAAAA0")).isTrue();
+        assertThat(events.removeLastWithRowId("AAAAAA5")).isTrue();
+        assertThat(events.removeLastWithRowId("AAAAAA19")).isTrue();
+        assertThat(events.removeLastWithRowId("unknown")).isFalse();
+        assertThat(reads.get()).isZero();
+
+        expected.remove(19);
+        expected.remove(5);
+        expected.remove(0);
+        assertThat(events).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void shouldDeleteSegmentsWhenReleased() throws Exception {
+        final SpillableEventList events = new SpillableEventList(store, 1);
+        events.addAll(createEvents(20));
+        assertThat(segmentFiles()).isNotEmpty();
+
+        events.release();
+        assertThat(events).isEmpty();
+        assertThat(events.hasSpilled()).isFalse();
+        assertThat(segmentFiles()).isEmpty();
+
+        final List<LogMinerEvent> expected = createEvents(5);
+        events.addAll(expected);
+        assertThat(events).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void shouldFindLastEventWithRowIdAmongSpilledAndHeapEvents() throws Exception {
+        final SpillableEventList events = new SpillableEventList(store, 1024);
+        events.addAll(createEvents(20));
+        events.addAll(createEvents(3));
+        assertThat(events.hasSpilled()).isTrue();
+
+        assertThat(events.lastIndexOfRowId("AAAAAA1")).isEqualTo(21);
+        assertThat(events.lastIndexOfRowId("AAAAAA10")).isEqualTo(10);
+        assertThat(events.lastIndexOfRowId("unknown")).isEqualTo(-1);
+
+        events.remove(10);
+        assertThat(events.lastIndexOfRowId("AAAAAA10")).isEqualTo(-1);
+        assertThat(events.lastIndexOfRowId("AAAAAA11")).isEqualTo(10);
+        assertThat(events.get(10).getRowId()).isEqualTo("AAAAAA11");
+    }
+
+    private static List<LogMinerEvent> createEvents(int count) {
+        final TableId tableId = TableId.parse("ORCLPDB1.DEBEZIUM.TEST");
+        final List<LogMinerEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Object[] values = new Object[]{ String.valueOf(i), "value-" + i };
+            events.add(new DmlEvent(EventType.INSERT, Scn.valueOf(i + 1), tableId, "AAAAAA" + i, "rs" + i,
+                    Instant.ofEpochSecond(i), new LogMinerDmlEntryImpl(EventType.INSERT.getValue(), values, new Object[0], "DEBEZIUM", "TEST")));
+        }
+        return events;
+    }
+
+    private static List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> paths = Files.walk(SPILL_DIRECTORY)) {
+            final List<Path> files = new ArrayList<>();
+            paths.filter(Files::isRegularFile).forEach(files::add);
+            return files;
+        }
+    }
+}
@@ -101,7 +101,8 @@ public StreamingChangeEventSource<PostgresPartition, PostgresOffsetContext> getS
         }
         final PostgresSignalBasedIncrementalSnapshotChangeEventSource incrementalSnapshotChangeEventSource = new PostgresSignalBasedIncrementalSnapshotChangeEventSource(
                 configuration,
-                connectionFactory.mainConnection(),
+                PostgresConnector.class,
+                connectionFactory,
                 dispatcher,
                 schema,
                 clock,
@@ -6,6 +6,8 @@
 
 package io.debezium.connector.postgresql;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
@@ -430,6 +432,52 @@ public String getValue() {
         public abstract boolean supportsLogicalDecodingMessage();
     }
 
+    /**
+     * The set of predefined decoding modes for column values of the pgoutput plugin.
+     */
+    public enum PgOutputDecodingMode implements EnumeratedValue {
+        /**
+         * Copy each column value out of the replication message into a string when the message is decoded.
+         */
+        EAGER("eager"),
+
+        /**
+         * Keep each column value as a slice of the replication message and materialize it only when the value
+         * converter requests it. Values of columns that are excluded from the change event are never materialized.
+         */
+        LAZY("lazy");
+
+        private final String value;
+
+        PgOutputDecodingMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static PgOutputDecodingMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (PgOutputDecodingMode option : PgOutputDecodingMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
     /**
      * The set of predefined SchemaRefreshMode options or aliases.
      */
@@ -546,6 +594,7 @@ public static SnapshotLockingMode parse(String value, String defaultValue) {
     protected static final int DEFAULT_PORT = 5_432;
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 10_240;
     protected static final int DEFAULT_MAX_RETRIES = 6;
+    protected static final long DEFAULT_PGOUTPUT_STREAMING_SPILL_THRESHOLD_BYTES = 16 * 1024 * 1024;
 
     public static final Field PORT = RelationalDatabaseConnectorConfig.PORT
             .withDefault(DEFAULT_PORT);
@@ -920,6 +969,62 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                     "have TOASTed data that are rarely part of these updates. However, it is possible for the in-memory schema to " +
                     "become outdated if TOASTable columns are dropped from the table.");
 
+    public static final Field PGOUTPUT_DECODING_MODE = Field.create("pgoutput.decoding.mode")
+            .withDisplayName("pgoutput decoding mode")
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 11))
+            .withEnum(PgOutputDecodingMode.class, PgOutputDecodingMode.EAGER)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Specify how the connector decodes column values of messages that it receives from the 'pgoutput' plugin. " +
+                    "'eager' (the default) copies each column value into a string when the message is decoded. " +
+                    "'lazy' keeps each column value as a reference into the received message and converts it only when " +
+                    "the value is added to a change event, so that values of excluded columns are never converted.");
+
+    public static final Field PGOUTPUT_BINARY = Field.create("pgoutput.binary")
+            .withDisplayName("pgoutput binary format")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 12))
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the connector requests column values in the binary format of their types from the 'pgoutput' plugin, " +
+                    "which reduces the cost of rendering and parsing values. Requires PostgreSQL 14 or later. " +
+                    "The binary format is used only if the connector can read the binary format of the types of all captured columns, " +
+                    "otherwise the connector uses the text format.");
+
+    public static final Field PGOUTPUT_STREAMING = Field.create("pgoutput.streaming")
+            .withDisplayName("pgoutput streaming of in-progress transactions")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 13))
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the connector asks the 'pgoutput' plugin to stream large in-progress transactions before they commit, " +
+                    "so that the server does not have to spill them to its own disk and decode them only at commit time. " +
+                    "The connector buffers the streamed changes and emits them when the transaction commits, or discards them when it aborts. " +
+                    "Requires PostgreSQL 14 or later.");
+
+    public static final Field PGOUTPUT_STREAMING_SPILL_DIRECTORY = Field.create("pgoutput.streaming.spill.directory")
+            .withDisplayName("Directory for buffered streamed transactions")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 14))
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory where the connector writes the changes of streamed in-progress transactions that exceed the spill threshold. " +
+                    "Defaults to a directory within the JVM temporary directory.");
+
+    public static final Field PGOUTPUT_STREAMING_SPILL_THRESHOLD_BYTES = Field.create("pgoutput.streaming.spill.threshold.bytes")
+            .withDisplayName("Per transaction heap threshold for streamed transactions")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 15))
+            .withDefault(DEFAULT_PGOUTPUT_STREAMING_SPILL_THRESHOLD_BYTES)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The approximate number of bytes of changes a streamed in-progress transaction may hold on the heap. " +
+                    "Once exceeded, the transaction's buffered changes are written to disk. Defaults to "
+                    + DEFAULT_PGOUTPUT_STREAMING_SPILL_THRESHOLD_BYTES + " bytes.");
+
     public static final Field XMIN_FETCH_INTERVAL = Field.create("xmin.fetch.interval.ms")
             .withDisplayName("Xmin fetch interval (ms)")
             .withType(Type.LONG)
@@ -966,6 +1071,11 @@ public static AutoCreateMode parse(String value, String defaultValue) {
     private final HStoreHandlingMode hStoreHandlingMode;
     private final IntervalHandlingMode intervalHandlingMode;
     private final SchemaRefreshMode schemaRefreshMode;
+    private final PgOutputDecodingMode pgOutputDecodingMode;
+    private final boolean pgOutputBinary;
+    private final boolean pgOutputStreaming;
+    private final Path pgOutputStreamingSpillDirectory;
+    private final long pgOutputStreamingSpillThresholdBytes;
     private final boolean flushLsnOnSource;
     private final ReplicaIdentityMapper replicaIdentityMapper;
 
@@ -987,6 +1097,11 @@ public PostgresConnectorConfig(Configuration config) {
         this.hStoreHandlingMode = HStoreHandlingMode.parse(hstoreHandlingModeStr);
         this.intervalHandlingMode = IntervalHandlingMode.parse(config.getString(PostgresConnectorConfig.INTERVAL_HANDLING_MODE));
         this.schemaRefreshMode = SchemaRefreshMode.parse(config.getString(SCHEMA_REFRESH_MODE));
+        this.pgOutputDecodingMode = PgOutputDecodingMode.parse(config.getString(PGOUTPUT_DECODING_MODE));
+        this.pgOutputBinary = config.getBoolean(PGOUTPUT_BINARY);
+        this.pgOutputStreaming = config.getBoolean(PGOUTPUT_STREAMING);
+        this.pgOutputStreamingSpillDirectory = resolvePgOutputStreamingSpillDirectory(config);
+        this.pgOutputStreamingSpillThresholdBytes = config.getLong(PGOUTPUT_STREAMING_SPILL_THRESHOLD_BYTES);
         this.flushLsnOnSource = config.getBoolean(SHOULD_FLUSH_LSN_IN_SOURCE_DB);
         final var replicaIdentityMapping = config.getString(REPLICA_IDENTITY_AUTOSET_VALUES);
         this.replicaIdentityMapper = (replicaIdentityMapping != null) ? new ReplicaIdentityMapper(replicaIdentityMapping) : null;
@@ -1074,6 +1189,34 @@ protected boolean skipRefreshSchemaOnMissingToastableData() {
         return SchemaRefreshMode.COLUMNS_DIFF_EXCLUDE_UNCHANGED_TOAST == this.schemaRefreshMode;
     }
 
+    public PgOutputDecodingMode pgOutputDecodingMode() {
+        return pgOutputDecodingMode;
+    }
+
+    public boolean isPgOutputBinary() {
+        return pgOutputBinary;
+    }
+
+    public boolean isPgOutputStreaming() {
+        return pgOutputStreaming;
+    }
+
+    public Path getPgOutputStreamingSpillDirectory() {
+        return pgOutputStreamingSpillDirectory;
+    }
+
+    public long getPgOutputStreamingSpillThresholdBytes() {
+        return pgOutputStreamingSpillThresholdBytes;
+    }
+
+    private static Path resolvePgOutputStreamingSpillDirectory(Configuration config) {
+        final String directory = config.getString(PGOUTPUT_STREAMING_SPILL_DIRECTORY);
+        if (Strings.isNullOrBlank(directory)) {
+            return Paths.get(System.getProperty("java.io.tmpdir"), "debezium-pgoutput-streaming");
+        }
+        return Paths.get(directory);
+    }
+
     protected Duration xminFetchInterval() {
         return Duration.ofMillis(getConfig().getLong(PostgresConnectorConfig.XMIN_FETCH_INTERVAL));
     }
@@ -1142,6 +1285,11 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     STATUS_UPDATE_INTERVAL_MS,
                     TCP_KEEPALIVE,
                     XMIN_FETCH_INTERVAL,
+                    PGOUTPUT_DECODING_MODE,
+                    PGOUTPUT_BINARY,
+                    PGOUTPUT_STREAMING,
+                    PGOUTPUT_STREAMING_SPILL_DIRECTORY,
+                    PGOUTPUT_STREAMING_SPILL_THRESHOLD_BYTES,
                     // Use this connector's implementation rather than common connector's flavor
                     SKIPPED_OPERATIONS,
                     SHOULD_FLUSH_LSN_IN_SOURCE_DB)
@@ -194,6 +194,7 @@ public ChangeEventSourceCoordinator<PostgresPartition, PostgresOffsetContext> st
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
                     .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .queueType(connectorConfig.getQueueType())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
@@ -7,11 +7,13 @@
 
 import java.sql.SQLException;
 
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.jdbc.JdbcConnection;
+import io.debezium.jdbc.MainConnectionProvidingConnectionFactory;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
 import io.debezium.pipeline.source.snapshot.incremental.SignalBasedIncrementalSnapshotChangeEventSource;
@@ -51,6 +53,20 @@ public PostgresSignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabas
         this.schema = (PostgresSchema) databaseSchema;
     }
 
+    public PostgresSignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                                   Class<? extends SourceConnector> connectorType,
+                                                                   MainConnectionProvidingConnectionFactory<PostgresConnection> connectionFactory,
+                                                                   EventDispatcher<PostgresPartition, TableId> dispatcher,
+                                                                   DatabaseSchema<?> databaseSchema,
+                                                                   Clock clock,
+                                                                   SnapshotProgressListener<PostgresPartition> progressListener,
+                                                                   DataChangeEventListener<PostgresPartition> dataChangeEventListener,
+                                                                   NotificationService<PostgresPartition, ? extends OffsetContext> notificationService) {
+        super(config, connectorType, connectionFactory, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService);
+        this.jdbcConnection = connectionFactory.mainConnection();
+        this.schema = (PostgresSchema) databaseSchema;
+    }
+
     @Override
     protected Table refreshTableSchema(Table table) throws SQLException {
         LOGGER.debug("Refreshing table '{}' schema for incremental snapshot.", table.id());
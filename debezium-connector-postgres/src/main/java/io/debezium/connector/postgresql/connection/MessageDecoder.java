@@ -33,6 +33,19 @@ public interface MessageDecoder {
      */
     void processMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry) throws SQLException, InterruptedException;
 
+    /**
+     * Process a message upon arrival from logical decoder
+     *
+     * @param buffer - binary representation of replication message
+     * @param processor - message processing on arrival
+     * @param typeRegistry - registry with known types
+     * @param lastReceivedLsn - the LSN at which the message was received
+     */
+    default void processMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry, Lsn lastReceivedLsn)
+            throws SQLException, InterruptedException {
+        processMessage(buffer, processor, typeRegistry);
+    }
+
     /**
      * Allows MessageDecoder to configure options with which the replication stream is started.
      * See PostgreSQL command START_REPLICATION SLOT for more details.
@@ -54,6 +67,13 @@ public interface MessageDecoder {
      */
     boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Lsn startLsn, WalPositionLocator walPosition);
 
+    /**
+     * Discards any state this decoder keeps across the messages of a replication stream. Called whenever the
+     * stream is (re)started, as the server then sends the messages again from the requested position.
+     */
+    default void reset() {
+    }
+
     /**
      * Closes this decoder, freeing and/or closing all resources it may potentially hold.
      */
@@ -564,6 +564,7 @@ private SlotCreationResult parseSlotCreation(ResultSet rs) {
     private ReplicationStream createReplicationStream(final Lsn startLsn, WalPositionLocator walPosition) throws SQLException, InterruptedException {
         PGReplicationStream s;
 
+        messageDecoder.reset();
         try {
             try {
                 s = startPgReplicationStream(startLsn, messageDecoder::defaultOptions);
@@ -639,7 +640,25 @@ public boolean readPending(ReplicationMessageProcessor processor) throws SQLExce
             private void deserializeMessages(ByteBuffer buffer, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
                 lastReceivedLsn = Lsn.valueOf(stream.getLastReceiveLSN());
                 LOGGER.trace("Received message at LSN {}", lastReceivedLsn);
-                messageDecoder.processMessage(buffer, processor, typeRegistry);
+                final Lsn receivedLsn = lastReceivedLsn;
+                messageDecoder.processMessage(buffer, new ReplicationMessageProcessor() {
+                    @Override
+                    public void process(ReplicationMessage message) throws SQLException, InterruptedException {
+                        processor.process(message);
+                    }
+
+                    @Override
+                    public void process(ReplicationMessage message, Lsn lsn) throws SQLException, InterruptedException {
+                        // messages of streamed transactions are emitted at the position where they were received
+                        lastReceivedLsn = lsn;
+                        try {
+                            processor.process(message);
+                        }
+                        finally {
+                            lastReceivedLsn = receivedLsn;
+                        }
+                    }
+                }, typeRegistry, receivedLsn);
             }
 
             @Override
@@ -26,6 +26,16 @@ interface ReplicationMessageProcessor {
          * @param message The replication message, never {@code null}.
          */
         void process(ReplicationMessage message) throws SQLException, InterruptedException;
+
+        /**
+         * Processes the given replication message that was received at an earlier position of the stream,
+         * e.g. a change of a transaction that was streamed before it committed.
+         * @param message The replication message, never {@code null}.
+         * @param lsn The LSN at which the message was received, never {@code null}.
+         */
+        default void process(ReplicationMessage message, Lsn lsn) throws SQLException, InterruptedException {
+            process(message);
+        }
     }
 
     /**
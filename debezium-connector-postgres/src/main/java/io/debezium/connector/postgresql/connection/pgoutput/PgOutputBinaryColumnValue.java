@@ -0,0 +1,349 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.postgresql.util.ByteConverter;
+import org.postgresql.util.PGInterval;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.connection.AbstractColumnValue;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.time.Conversions;
+import io.debezium.util.HexConverter;
+
+/**
+ * A pgoutput column value sent in the binary format of its type, referring to a slice of the replication
+ * message buffer. Only the types for which {@link #hasBinaryReader(PostgresType)} returns {@code true} can
+ * be read, the values of all other types must be requested in the text format.
+ */
+public class PgOutputBinaryColumnValue extends AbstractColumnValue<byte[]> {
+
+    /**
+     * The number of microseconds between the Unix epoch and the PostgreSQL epoch, 2000-01-01.
+     */
+    private static final long PG_EPOCH_MICROS = 946_684_800_000_000L;
+
+    /**
+     * The number of days between the Unix epoch and the PostgreSQL epoch, 2000-01-01.
+     */
+    private static final int PG_EPOCH_DAYS = 10_957;
+
+    private static final long MICROS_PER_DAY = 86_400_000_000L;
+
+    private static final short NUMERIC_NAN = (short) 0xC000;
+    private static final short NUMERIC_PINF = (short) 0xD000;
+    private static final short NUMERIC_NINF = (short) 0xF000;
+
+    private final byte[] buffer;
+    private final int offset;
+    private final int length;
+    private final int oid;
+
+    public PgOutputBinaryColumnValue(byte[] buffer, int offset, int length, int oid) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        this.oid = oid;
+    }
+
+    /**
+     * Returns whether values of the given type can be read from their binary format. Domain types are read
+     * using the binary format of their base type, arrays, enumerations and extension types are not supported.
+     *
+     * @param type the column type, may be {@code null}
+     * @return {@code true} if values of the type can be read from their binary format, {@code false} otherwise
+     */
+    public static boolean hasBinaryReader(PostgresType type) {
+        if (type == null || type.getRootType().isArrayType() || type.getRootType().isEnumType()) {
+            return false;
+        }
+        switch (type.getRootType().getOid()) {
+            case PgOid.BOOL:
+            case PgOid.INT2:
+            case PgOid.INT4:
+            case PgOid.INT8:
+            case PgOid.OID:
+            case PgOid.FLOAT4:
+            case PgOid.FLOAT8:
+            case PgOid.NUMERIC:
+            case PgOid.CHAR:
+            case PgOid.BPCHAR:
+            case PgOid.VARCHAR:
+            case PgOid.TEXT:
+            case PgOid.NAME:
+            case PgOid.JSON:
+            case PgOid.JSONB:
+            case PgOid.XML:
+            case PgOid.UUID:
+            case PgOid.BYTEA:
+            case PgOid.DATE:
+            case PgOid.TIME:
+            case PgOid.TIMETZ:
+            case PgOid.TIMESTAMP:
+            case PgOid.TIMESTAMPTZ:
+            case PgOid.INTERVAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public byte[] getRawValue() {
+        return asByteArray();
+    }
+
+    @Override
+    public boolean isNull() {
+        return buffer == null;
+    }
+
+    @Override
+    public String asString() {
+        switch (oid) {
+            case PgOid.BOOL:
+                return asBoolean() ? "t" : "f";
+            case PgOid.INT2:
+            case PgOid.INT4:
+                return asInteger().toString();
+            case PgOid.INT8:
+            case PgOid.OID:
+                return asLong().toString();
+            case PgOid.FLOAT4:
+                return asFloat().toString();
+            case PgOid.FLOAT8:
+                return asDouble().toString();
+            case PgOid.NUMERIC:
+                return numericToString();
+            case PgOid.UUID:
+                return new UUID(ByteConverter.int8(buffer, offset), ByteConverter.int8(buffer, offset + 8)).toString();
+            case PgOid.JSONB:
+                // the binary format is a version number followed by the text
+                return new String(buffer, offset + 1, length - 1, StandardCharsets.UTF_8);
+            case PgOid.BYTEA:
+                return "\\x" + HexConverter.convertToHexString(asByteArray());
+            case PgOid.DATE:
+                return asLocalDate().toString();
+            case PgOid.TIMESTAMP:
+            case PgOid.TIMESTAMPTZ:
+                return asInstant().toString();
+            default:
+                return new String(buffer, offset, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return buffer[offset] != 0;
+    }
+
+    @Override
+    public Integer asInteger() {
+        return oid == PgOid.INT2 ? ByteConverter.int2(buffer, offset) : ByteConverter.int4(buffer, offset);
+    }
+
+    @Override
+    public Long asLong() {
+        // oid is an unsigned 32-bit integer
+        return oid == PgOid.OID ? Integer.toUnsignedLong(ByteConverter.int4(buffer, offset)) : ByteConverter.int8(buffer, offset);
+    }
+
+    @Override
+    public Float asFloat() {
+        return ByteConverter.float4(buffer, offset);
+    }
+
+    @Override
+    public Double asDouble() {
+        return ByteConverter.float8(buffer, offset);
+    }
+
+    @Override
+    public SpecialValueDecimal asDecimal() {
+        switch (ByteConverter.int2(buffer, offset + 4)) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_PINF:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NINF:
+                return SpecialValueDecimal.NEGATIVE_INF;
+            default:
+                return new SpecialValueDecimal((BigDecimal) ByteConverter.numeric(buffer, offset, length));
+        }
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return Arrays.copyOfRange(buffer, offset, offset + length);
+    }
+
+    @Override
+    public LocalDate asLocalDate() {
+        final int days = ByteConverter.int4(buffer, offset);
+        if (days == Integer.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE;
+        }
+        else if (days == Integer.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_LOCAL_DATE;
+        }
+        return LocalDate.ofEpochDay((long) days + PG_EPOCH_DAYS);
+    }
+
+    @Override
+    public Object asTime() {
+        return Duration.of(ByteConverter.int8(buffer, offset), ChronoUnit.MICROS);
+    }
+
+    @Override
+    public Object asLocalTime() {
+        return asTime();
+    }
+
+    @Override
+    public OffsetTime asOffsetTimeUtc() {
+        final long micros = ByteConverter.int8(buffer, offset);
+        // the zone is stored as seconds west of UTC
+        final int zone = ByteConverter.int4(buffer, offset + 8);
+        // 24:00:00 is a valid time in PostgreSQL
+        final LocalTime time = micros >= MICROS_PER_DAY ? LocalTime.MAX : LocalTime.ofNanoOfDay(micros * 1_000);
+        return OffsetTime.of(time, ZoneOffset.ofTotalSeconds(-zone)).withOffsetSameInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public OffsetDateTime asOffsetDateTimeAtUtc() {
+        final long micros = ByteConverter.int8(buffer, offset);
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        return Conversions.toInstantFromMicros(micros + PG_EPOCH_MICROS).atOffset(ZoneOffset.UTC);
+    }
+
+    @Override
+    public Instant asInstant() {
+        final long micros = ByteConverter.int8(buffer, offset);
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_INSTANT;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_INSTANT;
+        }
+        return Conversions.toInstantFromMicros(micros + PG_EPOCH_MICROS);
+    }
+
+    @Override
+    public Object asInterval() {
+        final long micros = ByteConverter.int8(buffer, offset);
+        final int days = ByteConverter.int4(buffer, offset + 8);
+        final int months = ByteConverter.int4(buffer, offset + 12);
+        return new PGInterval(months / 12, months % 12, days,
+                (int) (micros / 3_600_000_000L),
+                (int) ((micros / 60_000_000L) % 60),
+                (micros % 60_000_000L) / 1_000_000.0);
+    }
+
+    private String numericToString() {
+        final SpecialValueDecimal value = asDecimal();
+        // special values are rendered as PostgreSQL does, e.g. 'NaN' or '-Infinity'
+        return value.getDecimalValue().map(BigDecimal::toPlainString).orElseGet(() -> Double.toString(value.toDouble()));
+    }
+
+    /**
+     * Reads a binary column value of a type without a binary reader as the text representation of the value.
+     * The binary format of enumerations, as of most extension types, is the text of the value, and arrays are
+     * rendered as array literals of their elements.
+     *
+     * @param buffer the replication message buffer, positioned at the length of the value
+     * @param type the column type, may be {@code null}
+     * @return the text representation of the value, never {@code null}
+     */
+    static String readAsText(ByteBuffer buffer, PostgresType type) {
+        final PgOutputBinaryColumnValue value = read(buffer, 0);
+        if (type != null && type.getRootType().isArrayType()) {
+            return value.arrayToString(type.getRootType().getElementType());
+        }
+        return new String(value.buffer, value.offset, value.length, StandardCharsets.UTF_8);
+    }
+
+    private String arrayToString(PostgresType elementType) {
+        final ByteBuffer array = ByteBuffer.wrap(buffer, offset, length);
+        final int dimensions = array.getInt();
+        array.getInt(); // whether the array contains nulls
+        final int elementTypeOid = array.getInt();
+        // values of domain types are sent in the binary format of their base type
+        final int elementOid = elementType != null ? elementType.getRootType().getOid() : elementTypeOid;
+        if (dimensions == 0) {
+            return "{}";
+        }
+        final int[] sizes = new int[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            sizes[i] = array.getInt();
+            array.getInt(); // lower bound
+        }
+        final StringBuilder text = new StringBuilder();
+        appendArrayElements(text, array, sizes, 0, elementType, elementOid);
+        return text.toString();
+    }
+
+    private void appendArrayElements(StringBuilder text, ByteBuffer array, int[] sizes, int dimension, PostgresType elementType, int elementOid) {
+        text.append('{');
+        for (int i = 0; i < sizes[dimension]; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            if (dimension + 1 < sizes.length) {
+                appendArrayElements(text, array, sizes, dimension + 1, elementType, elementOid);
+                continue;
+            }
+            final int elementLength = array.getInt();
+            if (elementLength == -1) {
+                text.append("NULL");
+                continue;
+            }
+            final int elementOffset = array.position();
+            array.position(elementOffset + elementLength);
+            final String element = hasBinaryReader(elementType)
+                    ? new PgOutputBinaryColumnValue(buffer, elementOffset, elementLength, elementOid).asString()
+                    : new String(buffer, elementOffset, elementLength, StandardCharsets.UTF_8);
+            text.append('"').append(element.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+        text.append('}');
+    }
+
+    /**
+     * Reads a binary column value of the given type, without copying it out of the replication message buffer
+     * if the buffer is backed by an array.
+     */
+    static PgOutputBinaryColumnValue read(ByteBuffer buffer, int oid) {
+        final int length = buffer.getInt();
+        if (buffer.hasArray()) {
+            final int offset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + length);
+            return new PgOutputBinaryColumnValue(buffer.array(), offset, length, oid);
+        }
+        final byte[] value = new byte[length];
+        buffer.get(value);
+        return new PgOutputBinaryColumnValue(value, 0, length, oid);
+    }
+}
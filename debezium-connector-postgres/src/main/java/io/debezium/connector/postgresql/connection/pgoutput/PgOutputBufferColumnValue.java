@@ -0,0 +1,144 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.connection.AbstractColumnValue;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.util.Strings;
+
+/**
+ * A pgoutput text column value that refers to a slice of the replication message buffer rather than to a copy
+ * of it. The value is materialized only when a typed value is requested; booleans, integers, longs and byte
+ * arrays are read from the buffer directly without creating an intermediate string.
+ *
+ * The replication message buffer must not be modified while the value is in use.
+ */
+public class PgOutputBufferColumnValue extends AbstractColumnValue<String> {
+
+    /**
+     * Longer values may overflow a {@code long} while being parsed and are parsed from the materialized string.
+     */
+    private static final int MAX_PARSED_LENGTH = 18;
+
+    private final byte[] buffer;
+    private final int offset;
+    private final int length;
+    private String value;
+
+    public PgOutputBufferColumnValue(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public String getRawValue() {
+        return asString();
+    }
+
+    @Override
+    public boolean isNull() {
+        return buffer == null;
+    }
+
+    @Override
+    public String asString() {
+        if (value == null && buffer != null) {
+            value = new String(buffer, offset, length, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return length == 1 && (buffer[offset] == 't' || buffer[offset] == 'T');
+    }
+
+    @Override
+    public Integer asInteger() {
+        final long result = parseLong(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return result == Long.MIN_VALUE ? Integer.valueOf(asString()) : Integer.valueOf((int) result);
+    }
+
+    @Override
+    public Long asLong() {
+        final long result = parseLong(Long.MIN_VALUE + 1, Long.MAX_VALUE);
+        return result == Long.MIN_VALUE ? Long.valueOf(asString()) : Long.valueOf(result);
+    }
+
+    @Override
+    public Float asFloat() {
+        return Float.valueOf(asString());
+    }
+
+    @Override
+    public Double asDouble() {
+        return Double.valueOf(asString());
+    }
+
+    @Override
+    public SpecialValueDecimal asDecimal() {
+        final String value = asString();
+        return PostgresValueConverter.toSpecialValue(value).orElseGet(() -> new SpecialValueDecimal(new BigDecimal(value)));
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        // bytea values are sent in the hex format, prefixed with '\x'
+        if (length < 2 || buffer[offset] != '\\' || buffer[offset + 1] != 'x' || (length & 1) != 0) {
+            return Strings.hexStringToByteArray(asString().substring(2));
+        }
+        final byte[] result = new byte[(length - 2) / 2];
+        for (int i = 0, pos = offset + 2; i < result.length; i++, pos += 2) {
+            final int high = Character.digit(buffer[pos], 16);
+            final int low = Character.digit(buffer[pos + 1], 16);
+            if (high < 0 || low < 0) {
+                return Strings.hexStringToByteArray(asString().substring(2));
+            }
+            result[i] = (byte) ((high << 4) | low);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a decimal integer from the buffer without materializing it.
+     *
+     * @return the parsed value, or {@link Long#MIN_VALUE} if the slice is not a plain decimal integer within the
+     * given range, in which case the caller falls back to parsing the materialized string
+     */
+    private long parseLong(long min, long max) {
+        if (length == 0 || length > MAX_PARSED_LENGTH) {
+            return Long.MIN_VALUE;
+        }
+        int pos = offset;
+        final int end = offset + length;
+        final boolean negative = buffer[pos] == '-';
+        if (negative || buffer[pos] == '+') {
+            if (++pos == end) {
+                return Long.MIN_VALUE;
+            }
+        }
+        long result = 0;
+        for (; pos < end; pos++) {
+            final int digit = buffer[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            result = result * 10 + digit;
+        }
+        result = negative ? -result : result;
+        return result < min || result > max ? Long.MIN_VALUE : result;
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
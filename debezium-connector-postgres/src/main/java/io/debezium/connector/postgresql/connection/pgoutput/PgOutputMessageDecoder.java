@@ -19,6 +19,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.postgresql.PostgresConnectorConfig.PgOutputDecodingMode;
 import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
 import io.debezium.connector.postgresql.PostgresType;
 import io.debezium.connector.postgresql.TypeRegistry;
@@ -69,6 +71,25 @@ public class PgOutputMessageDecoder extends AbstractMessageDecoder {
 
     private final MessageDecoderContext decoderContext;
     private final PostgresConnection connection;
+    private final boolean lazyColumnValues;
+
+    /**
+     * The in-progress transactions streamed by the server, keyed by their top-level transaction identifier
+     */
+    private final Map<Long, PgOutputStreamedTransaction> streamedTransactions = new HashMap<>();
+
+    /**
+     * The transaction whose changes are being streamed, or {@code null} outside of a stream block
+     */
+    private PgOutputStreamedTransaction currentStream;
+
+    /**
+     * The locator of the position from which the replication stream resumes, consulted for the changes of
+     * streamed transactions once they are replayed
+     */
+    private WalPositionLocator walPosition;
+
+    private Lsn lastReceivedLsn;
 
     private Instant commitTimestamp;
 
@@ -87,7 +108,11 @@ public enum MessageType {
         TYPE,
         ORIGIN,
         TRUNCATE,
-        LOGICAL_DECODING_MESSAGE;
+        LOGICAL_DECODING_MESSAGE,
+        STREAM_START,
+        STREAM_STOP,
+        STREAM_COMMIT,
+        STREAM_ABORT;
 
         public static MessageType forType(char type) {
             switch (type) {
@@ -111,6 +136,14 @@ public static MessageType forType(char type) {
                     return TRUNCATE;
                 case 'M':
                     return LOGICAL_DECODING_MESSAGE;
+                case 'S':
+                    return STREAM_START;
+                case 'E':
+                    return STREAM_STOP;
+                case 'c':
+                    return STREAM_COMMIT;
+                case 'A':
+                    return STREAM_ABORT;
                 default:
                     throw new IllegalArgumentException("Unsupported message type: " + type);
             }
@@ -120,6 +153,7 @@ public static MessageType forType(char type) {
     public PgOutputMessageDecoder(MessageDecoderContext decoderContext, PostgresConnection connection) {
         this.decoderContext = decoderContext;
         this.connection = connection;
+        this.lazyColumnValues = decoderContext.getConfig().pgOutputDecodingMode() == PgOutputDecodingMode.LAZY;
     }
 
     @Override
@@ -127,6 +161,7 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         // Cache position as we're going to peak at the first byte to determine message type
         // We need to reprocess all BEGIN/COMMIT messages regardless.
         int position = buffer.position();
+        this.walPosition = walPosition;
         try {
             MessageType type = MessageType.forType((char) buffer.get());
             LOGGER.trace("Message Type: {}", type);
@@ -144,14 +179,30 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
                     }
                     // else delegate to super.shouldMessageBeSkipped
                     break;
+                case STREAM_START:
+                case STREAM_STOP:
+                case STREAM_ABORT:
+                    // STREAM_START/STREAM_STOP/STREAM_ABORT
+                    // These delimit the changes of streamed in-progress transactions and decide whether the
+                    // buffered changes are discarded. They never reach the processor, so their LSNs are
+                    // unknown to the locator and they are always reprocessed.
+                    LOGGER.trace("{} messages are always reprocessed", type);
+                    return false;
                 default:
                     // call super.shouldMessageBeSkipped for rest of the types
             }
+            if (currentStream != null && isStreamedChange(type)) {
+                // Changes of a streamed transaction are only buffered here and are emitted with their
+                // LSN when the transaction commits, which is when the locator decides about them.
+                LOGGER.trace("{} messages of streamed transactions are always buffered", type);
+                return false;
+            }
             final boolean candidateForSkipping = super.shouldMessageBeSkipped(buffer, lastReceivedLsn, startLsn, walPosition);
             switch (type) {
                 case COMMIT:
                 case BEGIN:
                 case RELATION:
+                case STREAM_COMMIT:
                     // BEGIN
                     // These types should always be processed due to the nature that they provide
                     // the stream with pertinent per-transaction boundary state we will need to
@@ -161,6 +212,9 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
                     // RELATION
                     // These messages are always sent with a lastReceivedLSN=0; and we need to
                     // always accept these to keep per-stream table state cached properly.
+                    //
+                    // STREAM_COMMIT
+                    // This emits the buffered changes of a streamed in-progress transaction.
                     LOGGER.trace("{} messages are always reprocessed", type);
                     return false;
                 default:
@@ -175,6 +229,13 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         }
     }
 
+    @Override
+    public void processMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry, Lsn lastReceivedLsn)
+            throws SQLException, InterruptedException {
+        this.lastReceivedLsn = lastReceivedLsn;
+        processMessage(buffer, processor, typeRegistry);
+    }
+
     @Override
     public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry) throws SQLException, InterruptedException {
         if (LOGGER.isTraceEnabled()) {
@@ -191,6 +252,10 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
         }
 
         final MessageType messageType = MessageType.forType((char) buffer.get());
+        if (currentStream != null && isStreamedChange(messageType)) {
+            bufferStreamedChange(buffer);
+            return;
+        }
         switch (messageType) {
             case BEGIN:
                 handleBeginMessage(buffer, processor);
@@ -221,6 +286,18 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
                     LOGGER.trace("Message Type {} skipped, not processed.", messageType);
                 }
                 break;
+            case STREAM_START:
+                handleStreamStartMessage(buffer);
+                break;
+            case STREAM_STOP:
+                handleStreamStopMessage();
+                break;
+            case STREAM_COMMIT:
+                handleStreamCommitMessage(buffer, processor, typeRegistry);
+                break;
+            case STREAM_ABORT:
+                handleStreamAbortMessage(buffer);
+                break;
             default:
                 LOGGER.trace("Message Type {} skipped, not processed.", messageType);
                 break;
@@ -229,17 +306,60 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
 
     @Override
     public ChainedLogicalStreamBuilder defaultOptions(ChainedLogicalStreamBuilder builder, Function<Integer, Boolean> hasMinimumServerVersion) {
-        builder = builder.withSlotOption("proto_version", 1)
+        // protocol version 2 adds the streaming of in-progress transactions
+        final boolean streaming = decoderContext.getConfig().isPgOutputStreaming() && hasMinimumServerVersion.apply(140000);
+        if (decoderContext.getConfig().isPgOutputStreaming() && !streaming) {
+            LOGGER.warn("Streaming of in-progress transactions by the pgoutput plugin requires PostgreSQL 14 or later, it will not be used");
+        }
+
+        builder = builder.withSlotOption("proto_version", streaming ? 2 : 1)
                 .withSlotOption("publication_names", decoderContext.getConfig().publicationName());
 
+        if (streaming) {
+            LOGGER.info("Requesting the streaming of in-progress transactions");
+            builder = builder.withSlotOption("streaming", true);
+        }
+
         // DBZ-4374 Use enum once the driver got updated
         if (hasMinimumServerVersion.apply(140000)) {
             builder = builder.withSlotOption("messages", true);
         }
 
+        if (decoderContext.getConfig().isPgOutputBinary()) {
+            if (!hasMinimumServerVersion.apply(140000)) {
+                LOGGER.warn("The binary format of the pgoutput plugin requires PostgreSQL 14 or later, using the text format");
+            }
+            else {
+                final List<String> unsupportedColumns = getColumnsWithoutBinaryReader();
+                if (unsupportedColumns.isEmpty()) {
+                    LOGGER.info("Requesting column values in the binary format");
+                    builder = builder.withSlotOption("binary", true);
+                }
+                else {
+                    LOGGER.warn("The binary format cannot be read for the captured columns {}, using the text format", unsupportedColumns);
+                }
+            }
+        }
+
         return builder;
     }
 
+    /**
+     * @return the captured columns whose values cannot be read from the binary format, never {@code null}
+     */
+    private List<String> getColumnsWithoutBinaryReader() {
+        final TypeRegistry typeRegistry = connection.getTypeRegistry();
+        final List<String> columns = new ArrayList<>();
+        for (TableId tableId : decoderContext.getSchema().tableIds()) {
+            for (io.debezium.relational.Column column : decoderContext.getSchema().tableFor(tableId).columns()) {
+                if (!PgOutputBinaryColumnValue.hasBinaryReader(typeRegistry.get(column.typeName()))) {
+                    columns.add(tableId + "." + column.name() + " (" + column.typeName() + ")");
+                }
+            }
+        }
+        return columns;
+    }
+
     private boolean isTruncateEventsIncluded() {
         return !decoderContext.getConfig().getSkippedOperations().contains(Envelope.Operation.TRUNCATE);
     }
@@ -280,6 +400,156 @@ private void handleCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor
         processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
     }
 
+    /**
+     * Callback handler for the 'S' stream start replication message, which precedes a block of changes
+     * of an in-progress transaction.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamStartMessage(ByteBuffer buffer) {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        final boolean firstSegment = buffer.get() == 1;
+        LOGGER.trace("Event: {}", MessageType.STREAM_START);
+        LOGGER.trace("XID of transaction: {}, first segment: {}", xid, firstSegment);
+        if (firstSegment) {
+            // the first segment always starts a new transaction, drop anything left over from an earlier attempt
+            discardStreamedTransaction(xid);
+        }
+        currentStream = streamedTransactions.computeIfAbsent(xid,
+                id -> new PgOutputStreamedTransaction(id, decoderContext.getConfig().getPgOutputStreamingSpillDirectory(),
+                        decoderContext.getConfig().getPgOutputStreamingSpillThresholdBytes()));
+    }
+
+    /**
+     * Callback handler for the 'E' stream stop replication message, which ends a block of changes of an
+     * in-progress transaction.
+     */
+    private void handleStreamStopMessage() {
+        LOGGER.trace("Event: {}", MessageType.STREAM_STOP);
+        currentStream = null;
+    }
+
+    /**
+     * Callback handler for the 'c' stream commit replication message. The buffered changes of the transaction
+     * are emitted as if the transaction had been sent in full at commit time, each with the LSN at which it
+     * was received.
+     *
+     * @param buffer The replication stream buffer
+     * @param processor The replication message processor
+     * @param typeRegistry The postgres type registry
+     */
+    private void handleStreamCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        buffer.get(); // flags, currently unused
+        final Lsn lsn = Lsn.valueOf(buffer.getLong()); // LSN of the commit
+        final Lsn endLsn = Lsn.valueOf(buffer.getLong()); // End LSN of the transaction
+        final Instant timestamp = PG_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        LOGGER.trace("Event: {}", MessageType.STREAM_COMMIT);
+        LOGGER.trace("XID of transaction: {}", xid);
+        LOGGER.trace("Commit LSN: {}", lsn);
+        LOGGER.trace("End LSN of transaction: {}", endLsn);
+        LOGGER.trace("Commit timestamp of transaction: {}", timestamp);
+
+        final PgOutputStreamedTransaction transaction = streamedTransactions.remove(xid);
+        if (transaction == null) {
+            LOGGER.warn("Received commit of streamed transaction {} without any of its changes, ignoring", xid);
+            return;
+        }
+
+        try {
+            this.commitTimestamp = timestamp;
+            this.transactionId = xid;
+            final Lsn beginLsn = transaction.getFirstLsn() != null ? transaction.getFirstLsn() : lastReceivedLsn;
+            processor.process(new TransactionMessage(Operation.BEGIN, transactionId, commitTimestamp), beginLsn);
+            transaction.replay((changeLsn, change) -> processNotEmptyMessage(ByteBuffer.wrap(change), message -> {
+                if (!isReplayedChangeSkipped(changeLsn)) {
+                    processor.process(message, changeLsn);
+                }
+            }, typeRegistry));
+            processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
+        }
+        finally {
+            transaction.close();
+        }
+    }
+
+    /**
+     * Decides whether a replayed change of a streamed transaction was already processed before the connector
+     * was restarted. The changes are emitted with the LSNs at which they were received, which the locator saw
+     * when the transaction was replayed during the search for the resume position.
+     *
+     * @param lsn The LSN at which the change was received
+     * @return {@code true} if the change should not be emitted, {@code false} otherwise
+     */
+    private boolean isReplayedChangeSkipped(Lsn lsn) {
+        if (walPosition != null && walPosition.skipMessage(lsn)) {
+            LOGGER.debug("Replayed change with LSN '{}' identified as already processed", lsn);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Callback handler for the 'A' stream abort replication message, which aborts either a streamed transaction
+     * or one of its subtransactions.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamAbortMessage(ByteBuffer buffer) {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        final long subXid = Integer.toUnsignedLong(buffer.getInt());
+        LOGGER.trace("Event: {}", MessageType.STREAM_ABORT);
+        LOGGER.trace("XID of transaction: {}, XID of subtransaction: {}", xid, subXid);
+        if (xid == subXid) {
+            discardStreamedTransaction(xid);
+        }
+        else {
+            final PgOutputStreamedTransaction transaction = streamedTransactions.get(xid);
+            if (transaction != null) {
+                transaction.abortSubtransaction(subXid);
+            }
+        }
+    }
+
+    /**
+     * Buffers a change received within a stream block, stripping the transaction identifier that precedes the
+     * message body so that the change can later be decoded like a change of a non-streamed transaction.
+     *
+     * @param buffer The replication stream buffer, positioned after the message type
+     */
+    private void bufferStreamedChange(ByteBuffer buffer) {
+        final byte type = buffer.get(buffer.position() - 1);
+        final long subXid = Integer.toUnsignedLong(buffer.getInt());
+        final byte[] change = new byte[buffer.remaining() + 1];
+        change[0] = type;
+        buffer.get(change, 1, change.length - 1);
+        currentStream.add(subXid, lastReceivedLsn, change);
+    }
+
+    private void discardStreamedTransaction(long xid) {
+        final PgOutputStreamedTransaction transaction = streamedTransactions.remove(xid);
+        if (transaction != null) {
+            LOGGER.debug("Discarding the buffered changes of streamed transaction {}", xid);
+            transaction.close();
+        }
+    }
+
+    private static boolean isStreamedChange(MessageType type) {
+        switch (type) {
+            case RELATION:
+            case TYPE:
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+            case TRUNCATE:
+            case LOGICAL_DECODING_MESSAGE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Callback handler for the 'R' relation replication message.
      *
@@ -428,7 +698,7 @@ private void decodeInsert(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
         }
         else {
             Table table = resolvedTable.get();
-            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table, lazyColumnValues);
             processor.process(new PgOutputReplicationMessage(
                     Operation.INSERT,
                     table.id().toDoubleQuotedString(),
@@ -469,13 +739,13 @@ private void decodeUpdate(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
             List<Column> oldColumns = null;
             char tupleType = (char) buffer.get();
             if ('O' == tupleType || 'K' == tupleType) {
-                oldColumns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+                oldColumns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table, lazyColumnValues);
                 // Read the 'N' tuple type
                 // This is necessary so the stream position is accurate for resolving the column tuple data
                 tupleType = (char) buffer.get();
             }
 
-            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table, lazyColumnValues);
             processor.process(new PgOutputReplicationMessage(
                     Operation.UPDATE,
                     table.id().toDoubleQuotedString(),
@@ -508,7 +778,7 @@ private void decodeDelete(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
         }
         else {
             Table table = resolvedTable.get();
-            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table, lazyColumnValues);
             processor.process(new PgOutputReplicationMessage(
                     Operation.DELETE,
                     table.id().toDoubleQuotedString(),
@@ -711,15 +981,30 @@ private static String readColumnValueAsString(ByteBuffer buffer) {
         return new String(value, Charset.forName("UTF-8"));
     }
 
+    /**
+     * Reads the replication stream where the column stream specifies a length followed by the value, without
+     * copying the value out of the replication stream buffer.
+     *
+     * @param buffer The replication stream buffer, must be backed by an accessible array
+     * @return the column value referring to the replication stream buffer
+     */
+    private static PgOutputBufferColumnValue readColumnValueAsSlice(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        int offset = buffer.arrayOffset() + buffer.position();
+        buffer.position(buffer.position() + length);
+        return new PgOutputBufferColumnValue(buffer.array(), offset, length);
+    }
+
     /**
      * Resolve the replication stream's tuple data to a list of replication message columns.
      *
      * @param buffer The replication stream buffer
      * @param typeRegistry The database type registry
      * @param table The database table
+     * @param lazy Whether text values should refer to the replication stream buffer until they are requested
      * @return list of replication message columns
      */
-    private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer, TypeRegistry typeRegistry, Table table) {
+    private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer, TypeRegistry typeRegistry, Table table, boolean lazy) {
         // Read number of the columns
         short numberOfColumns = buffer.getShort();
 
@@ -737,11 +1022,29 @@ private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer,
 
             // Read the sub-message type
             // 't' : Value is represented as text
+            // 'b' : Value is represented in the binary format of its type, only if requested.
             // 'u' : An unchanged TOAST-ed value, actual value is not sent.
             // 'n' : Value is null.
             char type = (char) buffer.get();
-            if (type == 't') {
-                final String valueStr = readColumnValueAsString(buffer);
+            if (type == 't' && lazy && buffer.hasArray()) {
+                final PgOutputBufferColumnValue value = readColumnValueAsSlice(buffer);
+                replicationMessageColumn = new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
+                    @Override
+                    public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                        return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, value, connection, includeUnknownDatatypes,
+                                typeRegistry);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return columnName + "(" + typeExpression + ")=" + value;
+                    }
+                };
+            }
+            else if (type == 't' || (type == 'b' && !PgOutputBinaryColumnValue.hasBinaryReader(columnType))) {
+                // the type of a column sent in the binary format may have changed after the format was requested,
+                // such a value is decoded from its text representation
+                final String valueStr = type == 't' ? readColumnValueAsString(buffer) : PgOutputBinaryColumnValue.readAsText(buffer, columnType);
                 replicationMessageColumn = new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
                     @Override
                     public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
@@ -755,6 +1058,21 @@ public String toString() {
                     }
                 };
             }
+            else if (type == 'b') {
+                final PgOutputBinaryColumnValue value = PgOutputBinaryColumnValue.read(buffer, columnType.getRootType().getOid());
+                replicationMessageColumn = new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
+                    @Override
+                    public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                        return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, value, connection, includeUnknownDatatypes,
+                                typeRegistry);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return columnName + "(" + typeExpression + ")=" + value.asString();
+                    }
+                };
+            }
             else if (type == 'u') {
                 replicationMessageColumn = new UnchangedToastedReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
                     @Override
@@ -785,8 +1103,17 @@ public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDa
         return columns;
     }
 
+    @Override
+    public void reset() {
+        // the server streams in-progress transactions again from their first segment when the stream restarts
+        streamedTransactions.values().forEach(PgOutputStreamedTransaction::close);
+        streamedTransactions.clear();
+        currentStream = null;
+    }
+
     @Override
     public void close() {
+        reset();
         if (connection != null) {
             connection.close();
         }
@@ -89,6 +89,17 @@ public boolean shouldSchemaBeSynchronized() {
     public static Object getValue(String columnName, PostgresType type, String fullType, String rawValue, final PgConnectionSupplier connection,
                                   boolean includeUnknownDataTypes, TypeRegistry typeRegistry) {
         final PgOutputColumnValue columnValue = new PgOutputColumnValue(rawValue);
+        return getValue(columnName, type, fullType, columnValue, connection, includeUnknownDataTypes, typeRegistry);
+    }
+
+    /**
+     * Converts a column value coming from PgOutput plugin to a Java value based on the type of the column from the message.
+     *
+     * @return the value; may be null
+     * @see #getValue(String, PostgresType, String, String, PgConnectionSupplier, boolean, TypeRegistry)
+     */
+    public static Object getValue(String columnName, PostgresType type, String fullType, ColumnValue<?> columnValue, final PgConnectionSupplier connection,
+                                  boolean includeUnknownDataTypes, TypeRegistry typeRegistry) {
         return ReplicationMessageColumnValueResolver.resolveValue(columnName, type, fullType, columnValue, connection, includeUnknownDataTypes, typeRegistry);
     }
 }
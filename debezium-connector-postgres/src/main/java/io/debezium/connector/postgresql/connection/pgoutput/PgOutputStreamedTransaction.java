@@ -0,0 +1,260 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.postgresql.connection.Lsn;
+
+/**
+ * Buffers the messages of an in-progress transaction streamed by the pgoutput plugin until the transaction
+ * is committed or aborted.
+ *
+ * Messages are kept on the heap until their total size exceeds a threshold, at which point they are appended
+ * to a file on local disk. Spilled messages always precede the messages on the heap, so the messages are
+ * replayed in the order in which they were received.
+ */
+@NotThreadSafe
+class PgOutputStreamedTransaction implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgOutputStreamedTransaction.class);
+
+    private static final int RECORD_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    /**
+     * Callback for the buffered messages of a transaction.
+     */
+    @FunctionalInterface
+    interface MessageConsumer {
+        void accept(Lsn lsn, byte[] message) throws SQLException, InterruptedException;
+    }
+
+    private final long transactionId;
+    private final Path spillDirectory;
+    private final long spillThresholdBytes;
+
+    private final List<BufferedMessage> heapMessages = new ArrayList<>();
+    private long heapBytes;
+
+    /**
+     * The position of the first message of each subtransaction, in the order in which the subtransactions started.
+     */
+    private final Map<Long, Position> subtransactions = new LinkedHashMap<>();
+
+    private Path spillFile;
+    private FileChannel spillChannel;
+    private DataOutputStream spillOutput;
+    private long spilledBytes;
+
+    private Lsn firstLsn;
+
+    PgOutputStreamedTransaction(long transactionId, Path spillDirectory, long spillThresholdBytes) {
+        this.transactionId = transactionId;
+        this.spillDirectory = spillDirectory;
+        this.spillThresholdBytes = spillThresholdBytes;
+    }
+
+    long getTransactionId() {
+        return transactionId;
+    }
+
+    /**
+     * @return the LSN of the first buffered message, or {@code null} if no message has been buffered
+     */
+    Lsn getFirstLsn() {
+        return firstLsn;
+    }
+
+    /**
+     * @return whether any message of this transaction has been written to disk
+     */
+    boolean hasSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Buffers a message of the transaction.
+     *
+     * @param subtransactionId the identifier of the (sub)transaction that made the change
+     * @param lsn the LSN at which the message was received
+     * @param message the message without the transaction identifier, starting with the message type
+     */
+    void add(long subtransactionId, Lsn lsn, byte[] message) {
+        if (firstLsn == null) {
+            firstLsn = lsn;
+        }
+        subtransactions.computeIfAbsent(subtransactionId, id -> new Position(spilledBytes, heapMessages.size()));
+        heapMessages.add(new BufferedMessage(lsn, message));
+        heapBytes += RECORD_HEADER_SIZE + message.length;
+        if (heapBytes >= spillThresholdBytes) {
+            spill();
+        }
+    }
+
+    /**
+     * Discards the messages of an aborted subtransaction and of all subtransactions started after it.
+     *
+     * @param subtransactionId the identifier of the aborted subtransaction
+     */
+    void abortSubtransaction(long subtransactionId) {
+        final Position position = subtransactions.get(subtransactionId);
+        if (position == null) {
+            LOGGER.trace("Subtransaction {} of transaction {} has no buffered messages", subtransactionId, transactionId);
+            return;
+        }
+
+        if (position.heapIndex >= 0) {
+            final List<BufferedMessage> discarded = heapMessages.subList(position.heapIndex, heapMessages.size());
+            for (BufferedMessage message : discarded) {
+                heapBytes -= RECORD_HEADER_SIZE + message.data.length;
+            }
+            discarded.clear();
+        }
+        else {
+            try {
+                spillOutput.flush();
+                spillChannel.truncate(position.fileOffset);
+                spillChannel.position(position.fileOffset);
+                spilledBytes = position.fileOffset;
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to discard spilled messages of transaction " + transactionId, e);
+            }
+            heapMessages.clear();
+            heapBytes = 0;
+        }
+
+        boolean found = false;
+        for (Iterator<Long> iterator = subtransactions.keySet().iterator(); iterator.hasNext();) {
+            found |= iterator.next() == subtransactionId;
+            if (found) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Passes all buffered messages to the consumer in the order in which they were received.
+     */
+    void replay(MessageConsumer consumer) throws SQLException, InterruptedException {
+        if (spillFile != null) {
+            try {
+                spillOutput.flush();
+                spillChannel.position(0);
+                final DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(spillChannel)));
+                long read = 0;
+                while (read < spilledBytes) {
+                    final Lsn lsn = Lsn.valueOf(input.readLong());
+                    final byte[] message = new byte[input.readInt()];
+                    input.readFully(message);
+                    read += RECORD_HEADER_SIZE + message.length;
+                    consumer.accept(lsn, message);
+                }
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to read spilled messages of transaction " + transactionId, e);
+            }
+        }
+        for (BufferedMessage message : heapMessages) {
+            consumer.accept(message.lsn, message.data);
+        }
+    }
+
+    /**
+     * Discards all buffered messages and deletes the spill file, if any.
+     */
+    @Override
+    public void close() {
+        heapMessages.clear();
+        subtransactions.clear();
+        if (spillFile != null) {
+            try {
+                spillChannel.close();
+                Files.deleteIfExists(spillFile);
+            }
+            catch (IOException e) {
+                LOGGER.warn("Failed to delete spill file '{}' of transaction {}", spillFile, transactionId, e);
+            }
+            spillFile = null;
+        }
+    }
+
+    private void spill() {
+        try {
+            if (spillFile == null) {
+                Files.createDirectories(spillDirectory);
+                spillFile = Files.createTempFile(spillDirectory, "pgoutput-" + transactionId + "-", ".spill");
+                spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                spillOutput = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(spillChannel)));
+                LOGGER.debug("Transaction {} exceeds {} bytes, spilling messages to '{}'", transactionId, spillThresholdBytes, spillFile);
+            }
+
+            // the heap positions of subtransactions become file positions
+            for (Position position : subtransactions.values()) {
+                if (position.heapIndex >= 0) {
+                    long offset = spilledBytes;
+                    for (int i = 0; i < position.heapIndex; i++) {
+                        offset += RECORD_HEADER_SIZE + heapMessages.get(i).data.length;
+                    }
+                    position.fileOffset = offset;
+                    position.heapIndex = -1;
+                }
+            }
+
+            for (BufferedMessage message : heapMessages) {
+                spillOutput.writeLong(message.lsn.asLong());
+                spillOutput.writeInt(message.data.length);
+                spillOutput.write(message.data);
+            }
+            spilledBytes += heapBytes;
+            heapMessages.clear();
+            heapBytes = 0;
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to spill messages of transaction " + transactionId + " to disk", e);
+        }
+    }
+
+    private static class BufferedMessage {
+        final Lsn lsn;
+        final byte[] data;
+
+        BufferedMessage(Lsn lsn, byte[] data) {
+            this.lsn = lsn;
+            this.data = data;
+        }
+    }
+
+    private static class Position {
+        long fileOffset;
+        int heapIndex;
+
+        Position(long fileOffset, int heapIndex) {
+            this.fileOffset = fileOffset;
+            this.heapIndex = heapIndex;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import io.debezium.config.Configuration.Builder;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+
+/**
+ * Runs the parallel snapshot tests with tables split into key ranges that are read concurrently.
+ */
+public class RecordsSnapshotParallelChunkedProducerIT extends RecordsSnapshotParallelProducerIT {
+
+    @Override
+    protected void alterConfig(Builder config) {
+        super.alterConfig(config);
+        config.with(RelationalDatabaseConnectorConfig.SNAPSHOT_TABLE_CHUNKS, 4);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.postgresql.util.ByteConverter;
+import org.postgresql.util.PGInterval;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.data.SpecialValueDecimal;
+
+public class PgOutputBinaryColumnValueTest {
+
+    /**
+     * 2020-01-02T03:04:05.123456Z as microseconds since 2000-01-01.
+     */
+    private static final long TIMESTAMP_MICROS = 631_249_445_123_456L;
+
+    @Test
+    public void shouldReadNumericTypes() {
+        assertThat(value(PgOid.INT2, ByteBuffer.allocate(2).putShort((short) -12)).asInteger()).isEqualTo(-12);
+        assertThat(value(PgOid.INT4, ByteBuffer.allocate(4).putInt(123456)).asInteger()).isEqualTo(123456);
+        assertThat(value(PgOid.INT8, ByteBuffer.allocate(8).putLong(9876543210L)).asLong()).isEqualTo(9876543210L);
+        assertThat(value(PgOid.OID, ByteBuffer.allocate(4).putInt(-1)).asLong()).isEqualTo(4294967295L);
+        assertThat(value(PgOid.FLOAT8, ByteBuffer.allocate(8).putDouble(1.5)).asDouble()).isEqualTo(1.5);
+        assertThat(value(PgOid.BOOL, ByteBuffer.allocate(1).put((byte) 1)).asBoolean()).isTrue();
+
+        final PgOutputBinaryColumnValue decimal = value(PgOid.NUMERIC, ByteBuffer.wrap(ByteConverter.numeric(new BigDecimal("-12345.6789"))));
+        assertThat(decimal.asDecimal().getDecimalValue()).contains(new BigDecimal("-12345.6789"));
+        assertThat(decimal.asString()).isEqualTo("-12345.6789");
+
+        final PgOutputBinaryColumnValue nan = value(PgOid.NUMERIC, ByteBuffer.allocate(8).putShort(0, (short) 0).putShort(4, (short) 0xC000));
+        assertThat(nan.asDecimal()).isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+        assertThat(nan.asString()).isEqualTo("NaN");
+    }
+
+    @Test
+    public void shouldReadTemporalTypes() {
+        assertThat(value(PgOid.DATE, ByteBuffer.allocate(4).putInt(7306)).asLocalDate()).isEqualTo(LocalDate.of(2020, 1, 2));
+        assertThat(value(PgOid.DATE, ByteBuffer.allocate(4).putInt(Integer.MAX_VALUE)).asLocalDate())
+                .isEqualTo(PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE);
+
+        assertThat(value(PgOid.TIMESTAMP, ByteBuffer.allocate(8).putLong(TIMESTAMP_MICROS)).asInstant())
+                .isEqualTo(Instant.parse("2020-01-02T03:04:05.123456Z"));
+        assertThat(value(PgOid.TIMESTAMPTZ, ByteBuffer.allocate(8).putLong(TIMESTAMP_MICROS)).asOffsetDateTimeAtUtc().toInstant())
+                .isEqualTo(Instant.parse("2020-01-02T03:04:05.123456Z"));
+        assertThat(value(PgOid.TIMESTAMPTZ, ByteBuffer.allocate(8).putLong(Long.MIN_VALUE)).asOffsetDateTimeAtUtc())
+                .isEqualTo(PostgresValueConverter.NEGATIVE_INFINITY_OFFSET_DATE_TIME);
+
+        assertThat(value(PgOid.TIME, ByteBuffer.allocate(8).putLong(3_723_000_001L)).asTime()).isEqualTo(Duration.ofSeconds(3723).plusNanos(1_000));
+        // 10:00:00+02
+        assertThat(value(PgOid.TIMETZ, ByteBuffer.allocate(12).putLong(36_000_000_000L).putInt(-7200)).asOffsetTimeUtc())
+                .isEqualTo(OffsetTime.of(8, 0, 0, 0, ZoneOffset.UTC));
+
+        final PGInterval interval = (PGInterval) value(PgOid.INTERVAL, ByteBuffer.allocate(16).putLong(3_723_500_000L).putInt(4).putInt(14)).asInterval();
+        assertThat(interval).isEqualTo(new PGInterval(1, 2, 4, 1, 2, 3.5));
+    }
+
+    @Test
+    public void shouldReadTextualTypes() {
+        final UUID uuid = UUID.randomUUID();
+        assertThat(value(PgOid.UUID, ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits())).asString())
+                .isEqualTo(uuid.toString());
+        assertThat(value(PgOid.TEXT, ByteBuffer.wrap("Žluťoučký kůň".getBytes(StandardCharsets.UTF_8))).asString()).isEqualTo("Žluťoučký kůň");
+        assertThat(value(PgOid.JSONB, ByteBuffer.allocate(8).put((byte) 1).put("{\"a\":1}".getBytes(StandardCharsets.UTF_8))).asString())
+                .isEqualTo("{\"a\":1}");
+        assertThat(value(PgOid.BYTEA, ByteBuffer.wrap(new byte[]{ 0, 1, -1 })).asByteArray()).containsExactly(0, 1, -1);
+    }
+
+    @Test
+    public void shouldOnlyReadTypesWithBinaryReader() {
+        final PostgresType int4 = type("int4", PgOid.INT4);
+        assertThat(PgOutputBinaryColumnValue.hasBinaryReader(int4)).isTrue();
+        assertThat(PgOutputBinaryColumnValue.hasBinaryReader(type("hstore", 16385))).isFalse();
+        assertThat(PgOutputBinaryColumnValue.hasBinaryReader(new PostgresType.Builder(null, "mood", 16390, Types.VARCHAR, 0, null)
+                .enumValues(Collections.singletonList("happy")).build())).isFalse();
+        assertThat(PgOutputBinaryColumnValue.hasBinaryReader(null)).isFalse();
+    }
+
+    @Test
+    public void shouldReadValuesOfTypesWithoutBinaryReaderAsText() {
+        final PostgresType mood = new PostgresType.Builder(null, "mood", 16390, Types.VARCHAR, 0, null)
+                .enumValues(Collections.singletonList("happy")).build();
+        assertThat(PgOutputBinaryColumnValue.readAsText(message(ByteBuffer.wrap("happy".getBytes(StandardCharsets.UTF_8))), mood)).isEqualTo("happy");
+
+        final TypeRegistry typeRegistry = mock(TypeRegistry.class);
+        when(typeRegistry.get(PgOid.INT4)).thenReturn(type("int4", PgOid.INT4));
+        when(typeRegistry.get(PgOid.TEXT)).thenReturn(type("text", PgOid.TEXT));
+
+        // int4[][] of {{1,2},{NULL,4}}
+        final ByteBuffer integers = ByteBuffer.allocate(56).putInt(2).putInt(1).putInt(PgOid.INT4)
+                .putInt(2).putInt(1).putInt(2).putInt(1)
+                .putInt(4).putInt(1).putInt(4).putInt(2).putInt(-1).putInt(4).putInt(4);
+        final PostgresType integerArray = new PostgresType.Builder(typeRegistry, "_int4", PgOid.INT4_ARRAY, Types.ARRAY, 0, null)
+                .elementType(PgOid.INT4).build();
+        assertThat(PgOutputBinaryColumnValue.readAsText(message(integers), integerArray)).isEqualTo("{{\"1\",\"2\"},{NULL,\"4\"}}");
+
+        // text[] of {a"b,c\d}
+        final ByteBuffer texts = ByteBuffer.allocate(34).putInt(1).putInt(0).putInt(PgOid.TEXT).putInt(2).putInt(1)
+                .putInt(3).put("a\"b".getBytes(StandardCharsets.UTF_8)).putInt(3).put("c\\d".getBytes(StandardCharsets.UTF_8));
+        final PostgresType textArray = new PostgresType.Builder(typeRegistry, "_text", PgOid.TEXT_ARRAY, Types.ARRAY, 0, null)
+                .elementType(PgOid.TEXT).build();
+        assertThat(PgOutputBinaryColumnValue.readAsText(message(texts), textArray)).isEqualTo("{\"a\\\"b\",\"c\\\\d\"}");
+
+        // an empty array has no dimensions
+        final ByteBuffer empty = ByteBuffer.allocate(12).putInt(0).putInt(0).putInt(PgOid.INT4);
+        assertThat(PgOutputBinaryColumnValue.readAsText(message(empty), integerArray)).isEqualTo("{}");
+    }
+
+    private static PgOutputBinaryColumnValue value(int oid, ByteBuffer value) {
+        return PgOutputBinaryColumnValue.read(message(value), oid);
+    }
+
+    private static ByteBuffer message(ByteBuffer value) {
+        final byte[] data = value.array();
+        // the value is preceded by its length and other data within a replication message
+        final ByteBuffer message = ByteBuffer.allocate(data.length + 7).put(new byte[]{ 'I', 0, 't' }).putInt(data.length).put(data);
+        message.position(3);
+        return message;
+    }
+
+    private static PostgresType type(String name, int oid) {
+        return new PostgresType.Builder(null, name, oid, Types.OTHER, 0, null).build();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class PgOutputBufferColumnValueTest {
+
+    @Test
+    public void shouldReadValuesFromSlice() {
+        assertThat(slice("123456").asInteger()).isEqualTo(123456);
+        assertThat(slice("-42").asInteger()).isEqualTo(-42);
+        assertThat(slice("9876543210").asLong()).isEqualTo(9876543210L);
+        assertThat(slice("t").asBoolean()).isTrue();
+        assertThat(slice("f").asBoolean()).isFalse();
+        assertThat(slice("\\x00ff10").asByteArray()).containsExactly(0x00, 0xff, 0x10);
+        assertThat(slice("12.50").asDecimal().getDecimalValue()).contains(new BigDecimal("12.50"));
+        assertThat(slice("Žluťoučký kůň").asString()).isEqualTo("Žluťoučký kůň");
+    }
+
+    @Test
+    public void shouldFallBackToStringParsing() {
+        assertThat(slice("-9223372036854775808").asLong()).isEqualTo(Long.MIN_VALUE);
+        assertThat(slice("2147483647").asInteger()).isEqualTo(Integer.MAX_VALUE);
+        assertThatThrownBy(() -> slice("2147483648").asInteger()).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> slice("1a").asLong()).isInstanceOf(NumberFormatException.class);
+    }
+
+    private static PgOutputBufferColumnValue slice(String value) {
+        // surround the value with other data, as it would be within a replication message
+        final byte[] bytes = ("xyz" + value + "xyz").getBytes(StandardCharsets.UTF_8);
+        return new PgOutputBufferColumnValue(bytes, 3, bytes.length - 6);
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.MessageDecoderContext;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
+import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
+import io.debezium.connector.postgresql.connection.WalPositionLocator;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+/**
+ * Unit tests for the {@link PgOutputMessageDecoder}, feeding it messages as they are sent by the pgoutput plugin.
+ */
+public class PgOutputMessageDecoderTest {
+
+    private static final int RELATION_ID = 16384;
+    private static final long STREAMED_XID = 500;
+    private static final long XID = 501;
+
+    private PgOutputMessageDecoder decoder;
+    private PostgresSchema schema;
+    private TypeRegistry typeRegistry;
+
+    @Before
+    public void before() {
+        final PostgresConnectorConfig config = new PostgresConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "test")
+                .build());
+
+        final Table table = Table.editor()
+                .tableId(new TableId(null, "public", "test"))
+                .addColumn(Column.editor().name("id").type("int4").jdbcType(Types.INTEGER).nativeType(23).create())
+                .setPrimaryKeyNames("id")
+                .create();
+        schema = mock(PostgresSchema.class);
+        when(schema.tableFor(anyInt())).thenReturn(table);
+
+        final PostgresType int4 = new PostgresType.Builder(null, "int4", 23, Types.INTEGER, 0, null).build();
+        typeRegistry = mock(TypeRegistry.class);
+        when(typeRegistry.get(anyString())).thenReturn(int4);
+
+        decoder = new PgOutputMessageDecoder(new MessageDecoderContext(config, schema), null);
+    }
+
+    @After
+    public void after() {
+        decoder.close();
+    }
+
+    @Test
+    public void shouldResumeWithinStreamedTransactionAfterRestart() throws Exception {
+        // a block of the streamed transaction precedes a regular transaction that commits before it
+        final List<WireMessage> messages = List.of(
+                new WireMessage(0x100, streamStart(STREAMED_XID, true)),
+                new WireMessage(0x110, streamedInsert(STREAMED_XID, 1)),
+                new WireMessage(0x118, streamStop()),
+                new WireMessage(0x120, begin(0x140, XID)),
+                new WireMessage(0x130, insert(10)),
+                new WireMessage(0x140, commit(0x140)),
+                new WireMessage(0x150, streamStart(STREAMED_XID, false)),
+                new WireMessage(0x160, streamedInsert(STREAMED_XID, 2)),
+                new WireMessage(0x168, streamStop()),
+                new WireMessage(0x200, streamCommit(STREAMED_XID, 0x200)));
+
+        // the connector stopped after the first change of the streamed transaction was processed
+        final WalPositionLocator walPosition = new WalPositionLocator(Lsn.valueOf(0x140L), Lsn.valueOf(0x110L), Operation.INSERT);
+
+        final List<String> located = new ArrayList<>();
+        Optional<Lsn> resumeLsn = Optional.empty();
+        for (WireMessage message : messages) {
+            final List<Emitted> emitted = stream(message, walPosition);
+            for (Emitted event : emitted) {
+                located.add(event.describe());
+                resumeLsn = walPosition.resumeFromLsn(event.lsn, event.message);
+            }
+        }
+        assertThat(located).containsExactly("BEGIN", "INSERT 10", "COMMIT", "BEGIN", "INSERT 1", "INSERT 2", "COMMIT");
+        assertThat(resumeLsn).contains(Lsn.valueOf(0x160L));
+
+        // the stream is started again and the server sends the same messages
+        walPosition.enableFiltering();
+        decoder.reset();
+
+        final List<String> resumed = new ArrayList<>();
+        for (WireMessage message : messages) {
+            stream(message, walPosition).forEach(event -> resumed.add(event.describe()));
+        }
+        assertThat(resumed).containsExactly("BEGIN", "COMMIT", "BEGIN", "INSERT 2", "COMMIT");
+    }
+
+    @Test
+    public void shouldDiscardOpenStreamBlockWhenStreamRestarts() throws Exception {
+        final WalPositionLocator walPosition = new WalPositionLocator();
+        stream(new WireMessage(0x100, streamStart(STREAMED_XID, true)), walPosition);
+        stream(new WireMessage(0x110, streamedInsert(STREAMED_XID, 1)), walPosition);
+
+        decoder.reset();
+
+        final List<String> emitted = new ArrayList<>();
+        for (WireMessage message : List.of(
+                new WireMessage(0x120, begin(0x140, XID)),
+                new WireMessage(0x130, insert(10)),
+                new WireMessage(0x140, commit(0x140)),
+                new WireMessage(0x200, streamCommit(STREAMED_XID, 0x200)))) {
+            stream(message, walPosition).forEach(event -> emitted.add(event.describe()));
+        }
+        assertThat(emitted).containsExactly("BEGIN", "INSERT 10", "COMMIT");
+    }
+
+    @Test
+    public void shouldDecodeBinaryValueOfColumnWithoutBinaryReaderAsText() throws Exception {
+        // an enumeration column was added to the table while the values were streamed in the binary format
+        final Table table = Table.editor()
+                .tableId(new TableId(null, "public", "test"))
+                .addColumn(Column.editor().name("id").type("int4").jdbcType(Types.INTEGER).nativeType(23).create())
+                .addColumn(Column.editor().name("mood").type("mood").jdbcType(Types.VARCHAR).nativeType(16390).create())
+                .setPrimaryKeyNames("id")
+                .create();
+        when(schema.tableFor(anyInt())).thenReturn(table);
+        when(typeRegistry.get("mood")).thenReturn(new PostgresType.Builder(null, "mood", 16390, Types.VARCHAR, 0, null)
+                .enumValues(List.of("happy", "sad")).build());
+
+        final byte[] label = "happy".getBytes(StandardCharsets.UTF_8);
+        final byte[] insert = ByteBuffer.allocate(22 + label.length).put((byte) 'I').putInt(RELATION_ID).put((byte) 'N').putShort((short) 2)
+                .put((byte) 'b').putInt(4).putInt(1)
+                .put((byte) 'b').putInt(label.length).put(label).array();
+
+        final List<Emitted> emitted = stream(new WireMessage(0x130, insert), new WalPositionLocator());
+        assertThat(emitted).hasSize(1);
+        final List<ReplicationMessage.Column> columns = emitted.get(0).message.getNewTupleList();
+        assertThat(columns.get(0).getValue(null, false)).isEqualTo(1);
+        assertThat(columns.get(1).getValue(null, false)).isEqualTo("happy");
+    }
+
+    /**
+     * Passes a message through the decoder the way the replication stream does, reporting each emitted message
+     * with the LSN the stream reports for it.
+     */
+    private List<Emitted> stream(WireMessage message, WalPositionLocator walPosition) throws Exception {
+        final List<Emitted> emitted = new ArrayList<>();
+        final Lsn receivedLsn = Lsn.valueOf(message.lsn);
+        final ByteBuffer buffer = ByteBuffer.wrap(message.data);
+        if (decoder.shouldMessageBeSkipped(buffer, receivedLsn, Lsn.valueOf(0x100L), walPosition)) {
+            return emitted;
+        }
+        decoder.processMessage(buffer, new ReplicationMessageProcessor() {
+            @Override
+            public void process(ReplicationMessage replicationMessage) {
+                emitted.add(new Emitted(receivedLsn, replicationMessage));
+            }
+
+            @Override
+            public void process(ReplicationMessage replicationMessage, Lsn lsn) {
+                emitted.add(new Emitted(lsn, replicationMessage));
+            }
+        }, typeRegistry, receivedLsn);
+        return emitted;
+    }
+
+    private static byte[] begin(long finalLsn, long xid) {
+        return ByteBuffer.allocate(21).put((byte) 'B').putLong(finalLsn).putLong(0L).putInt((int) xid).array();
+    }
+
+    private static byte[] commit(long lsn) {
+        return ByteBuffer.allocate(26).put((byte) 'C').put((byte) 0).putLong(lsn).putLong(lsn).putLong(0L).array();
+    }
+
+    private static byte[] insert(int id) {
+        final byte[] value = Integer.toString(id).getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(13 + value.length).put((byte) 'I').putInt(RELATION_ID).put((byte) 'N').putShort((short) 1)
+                .put((byte) 't').putInt(value.length).put(value).array();
+    }
+
+    private static byte[] streamStart(long xid, boolean firstSegment) {
+        return ByteBuffer.allocate(6).put((byte) 'S').putInt((int) xid).put((byte) (firstSegment ? 1 : 0)).array();
+    }
+
+    private static byte[] streamedInsert(long xid, int id) {
+        final byte[] change = insert(id);
+        return ByteBuffer.allocate(change.length + 4).put(change, 0, 1).putInt((int) xid).put(change, 1, change.length - 1).array();
+    }
+
+    private static byte[] streamStop() {
+        return new byte[]{ 'E' };
+    }
+
+    private static byte[] streamCommit(long xid, long lsn) {
+        return ByteBuffer.allocate(30).put((byte) 'c').putInt((int) xid).put((byte) 0).putLong(lsn).putLong(lsn).putLong(0L).array();
+    }
+
+    private static class WireMessage {
+        private final long lsn;
+        private final byte[] data;
+
+        WireMessage(long lsn, byte[] data) {
+            this.lsn = lsn;
+            this.data = data;
+        }
+    }
+
+    private static class Emitted {
+        private final Lsn lsn;
+        private final ReplicationMessage message;
+
+        Emitted(Lsn lsn, ReplicationMessage message) {
+            this.lsn = lsn;
+            this.message = message;
+        }
+
+        String describe() {
+            if (message.getOperation() == Operation.INSERT) {
+                return "INSERT " + message.getNewTupleList().get(0).getValue(null, false);
+            }
+            return message.getOperation().name();
+        }
+    }
+}
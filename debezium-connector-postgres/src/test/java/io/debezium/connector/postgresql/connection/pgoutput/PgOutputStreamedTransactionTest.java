@@ -0,0 +1,136 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.util.Testing;
+
+/**
+ * Unit tests for the {@link PgOutputStreamedTransaction}.
+ */
+public class PgOutputStreamedTransactionTest {
+
+    private static final Path SPILL_DIRECTORY = Testing.Files.createTestingPath("pgoutput-streaming").toAbsolutePath();
+
+    @Before
+    public void before() {
+        Testing.Files.delete(SPILL_DIRECTORY);
+    }
+
+    @After
+    public void after() {
+        Testing.Files.delete(SPILL_DIRECTORY);
+    }
+
+    @Test
+    public void shouldKeepMessagesOnHeapBelowThreshold() throws Exception {
+        try (PgOutputStreamedTransaction transaction = new PgOutputStreamedTransaction(100, SPILL_DIRECTORY, Long.MAX_VALUE)) {
+            for (int i = 0; i < 10; i++) {
+                transaction.add(100, Lsn.valueOf(i + 1L), message(i));
+            }
+
+            assertThat(transaction.hasSpilled()).isFalse();
+            assertThat(transaction.getFirstLsn()).isEqualTo(Lsn.valueOf(1L));
+            assertThat(replay(transaction)).containsExactlyElementsOf(expected(0, 10));
+            assertThat(spillFiles()).isEmpty();
+        }
+    }
+
+    @Test
+    public void shouldSpillMessagesAndPreserveOrder() throws Exception {
+        final PgOutputStreamedTransaction transaction = new PgOutputStreamedTransaction(100, SPILL_DIRECTORY, 64);
+        for (int i = 0; i < 25; i++) {
+            transaction.add(100, Lsn.valueOf(i + 1L), message(i));
+        }
+
+        assertThat(transaction.hasSpilled()).isTrue();
+        assertThat(spillFiles()).hasSize(1);
+        assertThat(replay(transaction)).containsExactlyElementsOf(expected(0, 25));
+
+        transaction.close();
+        assertThat(spillFiles()).isEmpty();
+    }
+
+    @Test
+    public void shouldDiscardAbortedSubtransaction() throws Exception {
+        try (PgOutputStreamedTransaction transaction = new PgOutputStreamedTransaction(100, SPILL_DIRECTORY, Long.MAX_VALUE)) {
+            addMessages(transaction, 100, 0, 5);
+            addMessages(transaction, 101, 5, 10);
+            addMessages(transaction, 102, 10, 15);
+
+            transaction.abortSubtransaction(102);
+            assertThat(replay(transaction)).containsExactlyElementsOf(expected(0, 10));
+
+            // aborting a subtransaction discards the subtransactions started after it
+            addMessages(transaction, 103, 15, 20);
+            transaction.abortSubtransaction(101);
+            assertThat(replay(transaction)).containsExactlyElementsOf(expected(0, 5));
+        }
+    }
+
+    @Test
+    public void shouldDiscardAbortedSubtransactionAfterSpill() throws Exception {
+        try (PgOutputStreamedTransaction transaction = new PgOutputStreamedTransaction(100, SPILL_DIRECTORY, 64)) {
+            addMessages(transaction, 100, 0, 10);
+            addMessages(transaction, 101, 10, 20);
+            addMessages(transaction, 102, 20, 30);
+            assertThat(transaction.hasSpilled()).isTrue();
+
+            transaction.abortSubtransaction(101);
+            assertThat(replay(transaction)).containsExactlyElementsOf(expected(0, 10));
+
+            addMessages(transaction, 103, 30, 40);
+            assertThat(replay(transaction)).containsExactlyElementsOf(Stream.concat(expected(0, 10).stream(), expected(30, 40).stream()).collect(Collectors.toList()));
+        }
+    }
+
+    private static void addMessages(PgOutputStreamedTransaction transaction, long subXid, int from, int to) {
+        for (int i = from; i < to; i++) {
+            transaction.add(subXid, Lsn.valueOf(i + 1L), message(i));
+        }
+    }
+
+    private static byte[] message(int index) {
+        return ("I-message-" + index).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> expected(int from, int to) {
+        final List<String> messages = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            messages.add((i + 1) + ":I-message-" + i);
+        }
+        return messages;
+    }
+
+    private static List<String> replay(PgOutputStreamedTransaction transaction) throws Exception {
+        final List<String> messages = new ArrayList<>();
+        transaction.replay((lsn, message) -> messages.add(lsn.asLong() + ":" + new String(message, StandardCharsets.UTF_8)));
+        return messages;
+    }
+
+    private static List<Path> spillFiles() throws Exception {
+        if (!Files.exists(SPILL_DIRECTORY)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(SPILL_DIRECTORY)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -6,17 +6,27 @@
 package io.debezium.connector.sqlserver;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.annotation.VisibleForTesting;
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.connector.sqlserver.metrics.SqlServerStreamingPollListener;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
@@ -25,7 +35,6 @@
 import io.debezium.pipeline.signal.SignalProcessor;
 import io.debezium.pipeline.source.spi.ChangeEventSource;
 import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
-import io.debezium.pipeline.source.spi.ChangeEventSourceFactory;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.spi.Offsets;
 import io.debezium.pipeline.spi.SnapshotResult;
@@ -34,23 +43,38 @@
 import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.Metronome;
+import io.debezium.util.Threads;
 
 /**
  * Coordinates one or more {@link ChangeEventSource}s and executes them in order. Extends the base
  * {@link ChangeEventSourceCoordinator} to support snapshotting and streaming of multiple partitions.
+ * The partitions are either streamed one after another by the coordinator's thread, or concurrently
+ * by a pool of workers if {@code streaming.max.threads} is greater than one.
  */
 public class SqlServerChangeEventSourceCoordinator extends ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext> {
     private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerChangeEventSourceCoordinator.class);
 
     private final Clock clock;
     private final Duration pollInterval;
+    private final int streamingMaxThreads;
+    private final SqlServerChangeEventSourceFactory sqlServerChangeEventSourceFactory;
 
     private final AtomicBoolean firstStreamingIterationCompletedSuccessfully = new AtomicBoolean(false);
 
+    /**
+     * The streaming sources of the workers when the databases are streamed concurrently, empty otherwise
+     */
+    private final List<SqlServerStreamingChangeEventSource> workerSources = new CopyOnWriteArrayList<>();
+
+    /**
+     * Set while the workers are asked to pause streaming, e.g. for a blocking snapshot
+     */
+    private volatile WorkerPause workerPause;
+
     public SqlServerChangeEventSourceCoordinator(Offsets<SqlServerPartition, SqlServerOffsetContext> previousOffsets, ErrorHandler errorHandler,
                                                  Class<? extends SourceConnector> connectorType,
                                                  CommonConnectorConfig connectorConfig,
-                                                 ChangeEventSourceFactory<SqlServerPartition, SqlServerOffsetContext> changeEventSourceFactory,
+                                                 SqlServerChangeEventSourceFactory changeEventSourceFactory,
                                                  ChangeEventSourceMetricsFactory<SqlServerPartition> changeEventSourceMetricsFactory,
                                                  EventDispatcher<SqlServerPartition, ?> eventDispatcher,
                                                  DatabaseSchema<?> schema,
@@ -62,6 +86,8 @@ public SqlServerChangeEventSourceCoordinator(Offsets<SqlServerPartition, SqlServ
                 changeEventSourceMetricsFactory, eventDispatcher, schema, signalProcessor, notificationService, snapshotterService);
         this.clock = clock;
         this.pollInterval = connectorConfig.getPollInterval();
+        this.streamingMaxThreads = ((SqlServerConnectorConfig) connectorConfig).getStreamingMaxThreads();
+        this.sqlServerChangeEventSourceFactory = changeEventSourceFactory;
     }
 
     public boolean firstStreamingIterationCompletedSuccessfully() {
@@ -101,6 +127,16 @@ protected void executeChangeEventSources(CdcSourceTaskContext taskContext, Snaps
         getSignalProcessor(previousOffsets).ifPresent(signalProcessor -> registerSignalActionsAndStartProcessor(signalProcessor,
                 eventDispatcher, this, connectorConfig));
 
+        final SqlServerStreamingPollListener pollListener = streamingMetrics instanceof SqlServerStreamingPollListener
+                ? (SqlServerStreamingPollListener) streamingMetrics
+                : (partition, duration) -> {
+                };
+
+        if (streamingMaxThreads > 1 && streamingOffsets.getOffsets().size() > 1) {
+            executeConcurrentStreaming(taskContext, streamingOffsets, context, pollListener);
+            return;
+        }
+
         final Metronome metronome = Metronome.sleeper(pollInterval, clock);
 
         LOGGER.info("Starting streaming");
@@ -114,7 +150,9 @@ protected void executeChangeEventSources(CdcSourceTaskContext taskContext, Snaps
                 previousLogContext.set(taskContext.configureLoggingContext("streaming", partition));
 
                 if (context.isRunning()) {
+                    final long start = clock.currentTimeInMillis();
                     streamedEvents = streamingSource.executeIteration(context, partition, previousOffset);
+                    pollListener.onPoll(partition, Duration.ofMillis(clock.currentTimeInMillis() - start));
                 }
             }
 
@@ -137,4 +175,176 @@ protected void executeChangeEventSources(CdcSourceTaskContext taskContext, Snaps
 
         LOGGER.info("Finished streaming");
     }
+
+    /**
+     * Streams the task's databases concurrently. The databases are distributed across up to {@code streaming.max.threads}
+     * workers, each of which polls its databases in turn using its own connections and LSN positions. All workers
+     * dispatch their events to the task's queue.
+     */
+    @VisibleForTesting
+    void executeConcurrentStreaming(CdcSourceTaskContext taskContext, Offsets<SqlServerPartition, SqlServerOffsetContext> streamingOffsets,
+                                            ChangeEventSourceContext context, SqlServerStreamingPollListener pollListener)
+            throws InterruptedException {
+        final int threads = Math.min(streamingMaxThreads, streamingOffsets.getOffsets().size());
+
+        // Distribute the databases via round-robin, as the connector does across tasks
+        final List<List<Map.Entry<SqlServerPartition, SqlServerOffsetContext>>> assignments = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            assignments.add(new ArrayList<>());
+        }
+        int index = 0;
+        for (Map.Entry<SqlServerPartition, SqlServerOffsetContext> entry : streamingOffsets) {
+            assignments.get(index++ % threads).add(entry);
+        }
+
+        final Lock dispatchLock = new ReentrantLock();
+        final CountDownLatch pendingFirstIterations = new CountDownLatch(threads);
+        final ExecutorService workers = Threads.newFixedThreadPool(SqlServerConnector.class, connectorConfig.getLogicalName(), "streaming-worker", threads);
+        try {
+            LOGGER.info("Starting streaming of {} databases using {} threads", streamingOffsets.getOffsets().size(), threads);
+            for (List<Map.Entry<SqlServerPartition, SqlServerOffsetContext>> assignment : assignments) {
+                workers.submit(() -> executeStreamingWorker(taskContext, assignment, context, pollListener, dispatchLock, pendingFirstIterations));
+            }
+
+            final Metronome metronome = Metronome.sleeper(pollInterval, clock);
+            while (context.isRunning()) {
+                if (context.isPaused()) {
+                    final WorkerPause pause = new WorkerPause(threads);
+                    workerPause = pause;
+                    if (!pause.awaitPaused(context)) {
+                        break;
+                    }
+                    LOGGER.info("Streaming will now pause");
+                    context.streamingPaused();
+                    context.waitSnapshotCompletion();
+                    LOGGER.info("Streaming resumed");
+                    workerPause = null;
+                    pause.resume();
+                }
+                else {
+                    metronome.pause();
+                }
+            }
+        }
+        finally {
+            workers.shutdown();
+            if (!workers.awaitTermination(SHUTDOWN_WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Streaming workers didn't stop in the expected time, shutting them down now");
+                workers.shutdownNow();
+            }
+            workerSources.clear();
+        }
+
+        LOGGER.info("Finished streaming");
+    }
+
+    private void executeStreamingWorker(CdcSourceTaskContext taskContext, List<Map.Entry<SqlServerPartition, SqlServerOffsetContext>> assignment,
+                                        ChangeEventSourceContext context, SqlServerStreamingPollListener pollListener, Lock dispatchLock,
+                                        CountDownLatch pendingFirstIterations) {
+        try (SqlServerConnection dataConnection = sqlServerChangeEventSourceFactory.newConnection();
+                SqlServerConnection metadataConnection = sqlServerChangeEventSourceFactory.newConnection()) {
+            final SqlServerStreamingChangeEventSource source = sqlServerChangeEventSourceFactory.getStreamingChangeEventSource(
+                    dataConnection, metadataConnection, dispatchLock);
+            for (Map.Entry<SqlServerPartition, SqlServerOffsetContext> entry : assignment) {
+                source.init(entry.getValue());
+            }
+            workerSources.add(source);
+
+            boolean firstIterationCompleted = false;
+            final Metronome metronome = Metronome.sleeper(pollInterval, clock);
+            while (context.isRunning()) {
+                final WorkerPause pause = workerPause;
+                if (pause != null) {
+                    pause.pauseUntilResumed(context);
+                    continue;
+                }
+
+                boolean streamedEvents = false;
+                for (Map.Entry<SqlServerPartition, SqlServerOffsetContext> entry : assignment) {
+                    final SqlServerPartition partition = entry.getKey();
+                    if (!context.isRunning()) {
+                        break;
+                    }
+                    final LoggingContext.PreviousContext previousContext = taskContext.configureLoggingContext("streaming", partition);
+                    try {
+                        final long start = clock.currentTimeInMillis();
+                        streamedEvents |= source.executeIteration(context, partition, entry.getValue());
+                        pollListener.onPoll(partition, Duration.ofMillis(clock.currentTimeInMillis() - start));
+                    }
+                    finally {
+                        previousContext.restore();
+                    }
+                }
+
+                if (!streamedEvents) {
+                    metronome.pause();
+                }
+
+                if (!firstIterationCompleted && errorHandler.getProducerThrowable() == null) {
+                    firstIterationCompleted = true;
+                    pendingFirstIterations.countDown();
+                    // the streaming has completed its first iteration only once every worker has polled all of its databases
+                    if (pendingFirstIterations.getCount() == 0) {
+                        firstStreamingIterationCompletedSuccessfully.set(true);
+                    }
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (Throwable e) {
+            errorHandler.setProducerThrowable(e);
+        }
+    }
+
+    @Override
+    public void commitOffset(Map<String, ?> partition, Map<String, ?> offset) {
+        if (workerSources.isEmpty()) {
+            super.commitOffset(partition, offset);
+        }
+        else if (!commitOffsetLock.isLocked() && offset != null) {
+            // each source ignores the partitions that it does not stream
+            workerSources.forEach(source -> source.commitOffset(partition, offset));
+        }
+    }
+
+    /**
+     * Coordinates pausing all streaming workers, so that the streaming is reported as paused only once
+     * none of the workers dispatches events anymore.
+     */
+    private class WorkerPause {
+
+        private final CountDownLatch paused;
+        private final CountDownLatch resumed = new CountDownLatch(1);
+
+        WorkerPause(int workers) {
+            this.paused = new CountDownLatch(workers);
+        }
+
+        /**
+         * @return {@code true} if all workers have paused, {@code false} if the streaming was stopped or has failed meanwhile
+         */
+        boolean awaitPaused(ChangeEventSourceContext context) throws InterruptedException {
+            while (!paused.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                if (!context.isRunning() || errorHandler.getProducerThrowable() != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void pauseUntilResumed(ChangeEventSourceContext context) throws InterruptedException {
+            paused.countDown();
+            while (!resumed.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                if (!context.isRunning()) {
+                    return;
+                }
+            }
+        }
+
+        void resume() {
+            resumed.countDown();
+        }
+    }
 }
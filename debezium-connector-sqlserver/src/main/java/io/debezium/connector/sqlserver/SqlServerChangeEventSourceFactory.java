@@ -6,6 +6,7 @@
 package io.debezium.connector.sqlserver;
 
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
 
 import io.debezium.jdbc.MainConnectionProvidingConnectionFactory;
 import io.debezium.pipeline.ErrorHandler;
@@ -72,6 +73,36 @@ public StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> ge
                 snapshotterService);
     }
 
+    /**
+     * Returns a streaming change event source that uses its own connections, so that it can stream changes
+     * from a subset of the task's databases concurrently with other such sources.
+     *
+     * @param dataConnection the connection used to read the change tables
+     * @param metadataConnection the connection used to read the details of schema changes
+     * @param dispatchLock the lock shared by all concurrently streaming sources, held while dispatching events
+     */
+    public SqlServerStreamingChangeEventSource getStreamingChangeEventSource(SqlServerConnection dataConnection, SqlServerConnection metadataConnection,
+                                                                             Lock dispatchLock) {
+        return new SqlServerStreamingChangeEventSource(
+                configuration,
+                dataConnection,
+                metadataConnection,
+                dispatcher,
+                errorHandler,
+                clock,
+                schema,
+                notificationService,
+                snapshotterService,
+                dispatchLock);
+    }
+
+    /**
+     * @return a new connection to the database server, to be closed by the caller
+     */
+    public SqlServerConnection newConnection() {
+        return connectionFactory.newConnection();
+    }
+
     @Override
     public Optional<IncrementalSnapshotChangeEventSource<SqlServerPartition, ? extends DataCollectionId>> getIncrementalSnapshotChangeEventSource(
                                                                                                                                                   SqlServerOffsetContext offsetContext,
@@ -85,7 +116,8 @@ public StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> ge
         }
         final SignalBasedIncrementalSnapshotChangeEventSource<SqlServerPartition, TableId> incrementalSnapshotChangeEventSource = new SignalBasedIncrementalSnapshotChangeEventSource<>(
                 configuration,
-                connectionFactory.mainConnection(),
+                SqlServerConnector.class,
+                connectionFactory,
                 dispatcher,
                 schema,
                 clock,
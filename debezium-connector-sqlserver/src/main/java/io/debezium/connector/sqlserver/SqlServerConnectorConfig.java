@@ -407,6 +407,19 @@ public static DataQueryMode parse(String value, String defaultValue) {
             .withValidation(Field::isNonNegativeInteger)
             .withDescription("This property can be used to reduce the connector memory usage footprint when changes are streamed from multiple tables per database.");
 
+    public static final Field STREAMING_MAX_THREADS = Field.create("streaming.max.threads")
+            .withDisplayName("Streaming max threads")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 2))
+            .withDefault(1)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.MEDIUM)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of threads that a task uses to stream changes from the databases assigned to it. "
+                    + "With the default of 1, the task polls the change tables of its databases one database after another. "
+                    + "With more threads, the databases are distributed across the threads, each of which uses its own database connections, "
+                    + "so that a busy database does not delay reading changes from the other databases.");
+
     public static final Field SNAPSHOT_MODE = Field.create("snapshot.mode")
             .withDisplayName("Snapshot mode")
             .withEnum(SnapshotMode.class, SnapshotMode.INITIAL)
@@ -491,6 +504,7 @@ public static DataQueryMode parse(String value, String defaultValue) {
                     SNAPSHOT_MODE,
                     SNAPSHOT_ISOLATION_MODE,
                     MAX_TRANSACTIONS_PER_ITERATION,
+                    STREAMING_MAX_THREADS,
                     BINARY_HANDLING_MODE,
                     SCHEMA_NAME_ADJUSTMENT_MODE,
                     INCREMENTAL_SNAPSHOT_OPTION_RECOMPILE,
@@ -521,6 +535,7 @@ public static ConfigDef configDef() {
     private final SnapshotLockingMode snapshotLockingMode;
     private final boolean readOnlyDatabaseConnection;
     private final int maxTransactionsPerIteration;
+    private final int streamingMaxThreads;
     private final boolean optionRecompile;
     private final int queryFetchSize;
     private final DataQueryMode dataQueryMode;
@@ -558,6 +573,7 @@ public SqlServerConnectorConfig(Configuration config) {
         }
 
         this.maxTransactionsPerIteration = config.getInteger(MAX_TRANSACTIONS_PER_ITERATION);
+        this.streamingMaxThreads = config.getInteger(STREAMING_MAX_THREADS);
 
         if (!config.getBoolean(MAX_LSN_OPTIMIZATION)) {
             LOGGER.warn("The option '{}' is no longer taken into account. The optimization is always enabled.", MAX_LSN_OPTIMIZATION.name());
@@ -618,6 +634,10 @@ public int getMaxTransactionsPerIteration() {
         return maxTransactionsPerIteration;
     }
 
+    public int getStreamingMaxThreads() {
+        return streamingMaxThreads;
+    }
+
     public boolean getOptionRecompile() {
         return optionRecompile;
     }
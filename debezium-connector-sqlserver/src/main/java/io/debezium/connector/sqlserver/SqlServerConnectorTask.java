@@ -116,6 +116,7 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
                 .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .queueType(connectorConfig.getQueueType())
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .build();
 
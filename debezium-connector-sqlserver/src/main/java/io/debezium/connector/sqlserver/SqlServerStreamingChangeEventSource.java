@@ -23,6 +23,8 @@
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -93,6 +95,11 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
     private final SnapshotterService snapshotterService;
     private final SqlServerConnectorConfig connectorConfig;
 
+    /**
+     * Serializes the dispatching of events when several instances stream different databases concurrently.
+     */
+    private final Lock dispatchLock;
+
     private final ElapsedTimeStrategy pauseBetweenCommits;
     private final Map<SqlServerPartition, SqlServerStreamingExecutionContext> streamingExecutionContexts;
     private final Map<SqlServerPartition, Set<SqlServerChangeTable>> changeTablesWithKnownStopLsn = new HashMap<>();
@@ -107,7 +114,18 @@ public SqlServerStreamingChangeEventSource(SqlServerConnectorConfig connectorCon
                                                ErrorHandler errorHandler, Clock clock, SqlServerDatabaseSchema schema,
                                                NotificationService<SqlServerPartition, SqlServerOffsetContext> notificationService,
                                                SnapshotterService snapshotterService) {
+        this(connectorConfig, dataConnection, metadataConnection, dispatcher, errorHandler, clock, schema, notificationService, snapshotterService,
+                new ReentrantLock());
+    }
+
+    public SqlServerStreamingChangeEventSource(SqlServerConnectorConfig connectorConfig, SqlServerConnection dataConnection,
+                                               SqlServerConnection metadataConnection,
+                                               EventDispatcher<SqlServerPartition, TableId> dispatcher,
+                                               ErrorHandler errorHandler, Clock clock, SqlServerDatabaseSchema schema,
+                                               NotificationService<SqlServerPartition, SqlServerOffsetContext> notificationService,
+                                               SnapshotterService snapshotterService, Lock dispatchLock) {
         this.connectorConfig = connectorConfig;
+        this.dispatchLock = dispatchLock;
         this.dataConnection = dataConnection;
         this.metadataConnection = metadataConnection;
         this.dispatcher = dispatcher;
@@ -202,7 +220,7 @@ else if (!checkAgent) {
                 // There is no change in the database
                 if (toLsn.compareTo(lastProcessedPosition.getCommitLsn()) <= 0 && streamingExecutionContext.getShouldIncreaseFromLsn()) {
                     LOGGER.debug("No change in the database");
-                    dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
+                    dispatch(() -> dispatcher.dispatchHeartbeatEvent(partition, offsetContext));
                     return false;
                 }
 
@@ -235,6 +253,7 @@ else if (!checkAgent) {
                     dataConnection.getChangesForTables(databaseName, tablesSlot.get(), fromLsn, toLsn, resultSets -> {
 
                         long eventSerialNoInInitialTx = 1;
+                        final List<SqlServerChange> batch = new ArrayList<>();
                         final int tableCount = resultSets.length;
                         final SqlServerChangeTablePointer[] changeTables = new SqlServerChangeTablePointer[tableCount];
                         final SqlServerChangeTable[] tables = tablesSlot.get();
@@ -304,6 +323,7 @@ else if (!checkAgent) {
                             LOGGER.trace("Schema change checkpoints {}", schemaChangeCheckpoints);
                             if (!schemaChangeCheckpoints.isEmpty()) {
                                 if (tableWithSmallestLsn.getChangePosition().getCommitLsn().compareTo(schemaChangeCheckpoints.peek().getStartLsn()) >= 0) {
+                                    dispatchChanges(partition, offsetContext, batch);
                                     migrateTable(partition, schemaChangeCheckpoints, offsetContext);
                                 }
                             }
@@ -325,25 +345,18 @@ else if (!checkAgent) {
                             final Object[] dataNext = (operation == SqlServerChangeRecordEmitter.OP_UPDATE_BEFORE) ? tableWithSmallestLsn.getData() : null;
 
                             final ResultSet resultSet = tableWithSmallestLsn.getResultSet();
-                            offsetContext.setChangePosition(tableWithSmallestLsn.getChangePosition(), eventCount);
-                            offsetContext.event(
-                                    tableWithSmallestLsn.getChangeTable().getSourceTableId(),
+                            final SqlServerChange change = new SqlServerChange(tableId, operation, data, dataNext,
+                                    tableWithSmallestLsn.getChangePosition(), eventCount,
                                     resultSet.getTimestamp(resultSet.getMetaData().getColumnCount()).toInstant());
 
-                            dispatcher
-                                    .dispatchDataChangeEvent(
-                                            partition,
-                                            tableId,
-                                            new SqlServerChangeRecordEmitter(
-                                                    partition,
-                                                    offsetContext,
-                                                    operation,
-                                                    data,
-                                                    dataNext,
-                                                    clock,
-                                                    connectorConfig));
+                            // Consecutive changes of one table within one transaction are dispatched as a batch
+                            if (!batch.isEmpty() && (!batch.get(0).isBatchedWith(change) || batch.size() >= connectorConfig.getMaxBatchSize())) {
+                                dispatchChanges(partition, offsetContext, batch);
+                            }
+                            batch.add(change);
                             tableWithSmallestLsn.next();
                         }
+                        dispatchChanges(partition, offsetContext, batch);
                     });
                     streamingExecutionContext.setLastProcessedPosition(TxLogPosition.valueOf(toLsn));
                     // Terminate the transaction otherwise CDC could not be disabled for tables
@@ -396,9 +409,9 @@ private void migrateTable(SqlServerPartition partition, final Queue<SqlServerCha
             LOGGER.info("Migration skipped, no table schema changes detected.");
             return;
         }
-        dispatcher.dispatchSchemaChangeEvent(partition, offsetContext, newTable.getSourceTableId(),
+        dispatch(() -> dispatcher.dispatchSchemaChangeEvent(partition, offsetContext, newTable.getSourceTableId(),
                 new SqlServerSchemaChangeEventEmitter(partition, offsetContext, newTable, tableSchema, schema,
-                        SchemaChangeEventType.ALTER));
+                        SchemaChangeEventType.ALTER)));
         newTable.setSourceTable(tableSchema);
     }
 
@@ -466,17 +479,19 @@ private SqlServerChangeTable[] getChangeTablesToQuery(SqlServerPartition partiti
                 offsetContext.event(
                         currentTable.getSourceTableId(),
                         Instant.now());
-                dispatcher.dispatchSchemaChangeEvent(
+                final Table tableSchema = dataConnection.getTableSchemaFromTable(databaseName, currentTable);
+                final SqlServerChangeTable createdTable = currentTable;
+                dispatch(() -> dispatcher.dispatchSchemaChangeEvent(
                         partition,
                         offsetContext,
-                        currentTable.getSourceTableId(),
+                        createdTable.getSourceTableId(),
                         new SqlServerSchemaChangeEventEmitter(
                                 partition,
                                 offsetContext,
-                                currentTable,
-                                dataConnection.getTableSchemaFromTable(databaseName, currentTable),
+                                createdTable,
+                                tableSchema,
                                 schema,
-                                SchemaChangeEventType.CREATE));
+                                SchemaChangeEventType.CREATE)));
             }
 
             // If a column was renamed, then the old capture instance had been dropped and a new one
@@ -489,6 +504,75 @@ private SqlServerChangeTable[] getChangeTablesToQuery(SqlServerPartition partiti
         return tables.toArray(new SqlServerChangeTable[tables.size()]);
     }
 
+    /**
+     * Dispatches the collected changes of one table and clears them. The offset is moved to each change right before
+     * its events are emitted.
+     */
+    private void dispatchChanges(SqlServerPartition partition, SqlServerOffsetContext offsetContext, List<SqlServerChange> changes)
+            throws InterruptedException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        final TableId tableId = changes.get(0).tableId;
+        dispatch(() -> dispatcher.dispatchDataChangeEvents(partition, tableId, changes, change -> {
+            offsetContext.setChangePosition(change.position, change.eventCount);
+            offsetContext.event(tableId, change.timestamp);
+            return new SqlServerChangeRecordEmitter(
+                    partition,
+                    offsetContext,
+                    change.operation,
+                    change.data,
+                    change.dataNext,
+                    clock,
+                    connectorConfig);
+        }));
+        changes.clear();
+    }
+
+    private void dispatch(Dispatch dispatch) throws InterruptedException {
+        dispatchLock.lock();
+        try {
+            dispatch.run();
+        }
+        finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Dispatch {
+        void run() throws InterruptedException;
+    }
+
+    /**
+     * A change read from a change table that was not dispatched yet.
+     */
+    private static final class SqlServerChange {
+
+        private final TableId tableId;
+        private final int operation;
+        private final Object[] data;
+        private final Object[] dataNext;
+        private final TxLogPosition position;
+        private final int eventCount;
+        private final Instant timestamp;
+
+        SqlServerChange(TableId tableId, int operation, Object[] data, Object[] dataNext, TxLogPosition position, int eventCount,
+                        Instant timestamp) {
+            this.tableId = tableId;
+            this.operation = operation;
+            this.data = data;
+            this.dataNext = dataNext;
+            this.position = position;
+            this.eventCount = eventCount;
+            this.timestamp = timestamp;
+        }
+
+        boolean isBatchedWith(SqlServerChange other) {
+            return tableId.equals(other.tableId) && position.getCommitLsn().equals(other.position.getCommitLsn());
+        }
+    }
+
     /**
      * @return the log sequence number up until which the connector should query changes from the database.
      */
@@ -78,6 +78,13 @@ void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct v
         commonEventMeter.onEvent(source, offset, key, value, operation);
     }
 
+    /**
+     * Invoked once for several events of the same operation processed for a captured table in one batch.
+     */
+    void onEvents(DataCollectionId source, OffsetContext offset, Object key, Struct value, Operation operation, int count) {
+        commonEventMeter.onEvents(source, offset, key, value, operation, count);
+    }
+
     /**
      * Invoked for events pertaining to non-captured tables.
      */
@@ -72,6 +72,12 @@ public void onEvent(SqlServerPartition partition, DataCollectionId source, Offse
         onPartitionEvent(partition, bean -> bean.onEvent(source, offset, key, value, operation));
     }
 
+    @Override
+    public void onEvents(SqlServerPartition partition, DataCollectionId source, OffsetContext offset, Object key,
+                         Struct value, Operation operation, int count) {
+        onPartitionEvent(partition, bean -> bean.onEvents(source, offset, key, value, operation, count));
+    }
+
     @Override
     public void onFilteredEvent(SqlServerPartition partition, String event) {
         onPartitionEvent(partition, bean -> bean.onFilteredEvent(event));
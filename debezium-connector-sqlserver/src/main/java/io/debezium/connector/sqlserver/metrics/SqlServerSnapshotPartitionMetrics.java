@@ -107,6 +107,29 @@ public ConcurrentMap<String, Long> getRowsScanned() {
         return snapshotMeter.getRowsScanned();
     }
 
+    void chunkRowsScanned(TableId tableId, int chunkIndex, int chunkCount, long numRows) {
+        snapshotMeter.chunkRowsScanned(tableId, chunkIndex, chunkCount, numRows);
+    }
+
+    @Override
+    public ConcurrentMap<String, Long> getRowsScannedPerChunk() {
+        return snapshotMeter.getRowsScannedPerChunk();
+    }
+
+    void chunkSize(TableId tableId, int currentChunkSize, int effectiveChunkSize) {
+        snapshotMeter.chunkSize(tableId, currentChunkSize, effectiveChunkSize);
+    }
+
+    @Override
+    public ConcurrentMap<String, Integer> getCurrentChunkSizes() {
+        return snapshotMeter.getCurrentChunkSizes();
+    }
+
+    @Override
+    public ConcurrentMap<String, Integer> getEffectiveChunkSizes() {
+        return snapshotMeter.getEffectiveChunkSizes();
+    }
+
     void currentChunk(String chunkId, Object[] chunkFrom, Object[] chunkTo) {
         snapshotMeter.currentChunk(chunkId, chunkFrom, chunkTo);
     }
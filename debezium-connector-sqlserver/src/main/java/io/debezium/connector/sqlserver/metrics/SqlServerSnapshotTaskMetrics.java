@@ -73,6 +73,16 @@ public void rowsScanned(SqlServerPartition partition, TableId tableId, long numR
         onPartitionEvent(partition, bean -> bean.rowsScanned(tableId, numRows));
     }
 
+    @Override
+    public void chunkRowsScanned(SqlServerPartition partition, TableId tableId, int chunkIndex, int chunkCount, long numRows) {
+        onPartitionEvent(partition, bean -> bean.chunkRowsScanned(tableId, chunkIndex, chunkCount, numRows));
+    }
+
+    @Override
+    public void chunkSize(SqlServerPartition partition, TableId tableId, int currentChunkSize, int effectiveChunkSize) {
+        onPartitionEvent(partition, bean -> bean.chunkSize(tableId, currentChunkSize, effectiveChunkSize));
+    }
+
     @Override
     public void currentChunk(SqlServerPartition partition, String chunkId, Object[] chunkFrom, Object[] chunkTo) {
         onPartitionEvent(partition, bean -> bean.currentChunk(chunkId, chunkFrom, chunkTo));
@@ -5,7 +5,9 @@
  */
 package io.debezium.connector.sqlserver.metrics;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.kafka.connect.data.Struct;
 
@@ -15,17 +17,27 @@
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.spi.schema.DataCollectionId;
+import io.debezium.util.Clock;
 
 class SqlServerStreamingPartitionMetrics extends AbstractSqlServerPartitionMetrics
         implements SqlServerStreamingPartitionMetricsMXBean {
 
     private final StreamingMeter streamingMeter;
+    private final Clock clock;
+    private final AtomicLong lastPollDuration = new AtomicLong(-1);
+    private final AtomicLong lastPollTimestamp = new AtomicLong(-1);
 
     SqlServerStreamingPartitionMetrics(CdcSourceTaskContext taskContext,
                                        Map<String, String> tags,
                                        EventMetadataProvider metadataProvider) {
         super(taskContext, tags, metadataProvider);
         streamingMeter = new StreamingMeter(taskContext, metadataProvider);
+        clock = taskContext.getClock();
+    }
+
+    void onPoll(Duration duration) {
+        lastPollDuration.set(duration.toMillis());
+        lastPollTimestamp.set(clock.currentTimeInMillis());
     }
 
     @Override
@@ -34,6 +46,12 @@ void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct v
         streamingMeter.onEvent(source, offset, key, value);
     }
 
+    @Override
+    void onEvents(DataCollectionId source, OffsetContext offset, Object key, Struct value, Envelope.Operation operation, int count) {
+        super.onEvents(source, offset, key, value, operation, count);
+        streamingMeter.onEvent(source, offset, key, value);
+    }
+
     @Override
     public String[] getCapturedTables() {
         return streamingMeter.getCapturedTables();
@@ -59,9 +77,22 @@ public String getLastTransactionId() {
         return streamingMeter.getLastTransactionId();
     }
 
+    @Override
+    public long getLastPollDurationInMilliseconds() {
+        return lastPollDuration.get();
+    }
+
+    @Override
+    public long getMilliSecondsSinceLastPoll() {
+        final long timestamp = lastPollTimestamp.get();
+        return timestamp == -1 ? -1 : clock.currentTimeInMillis() - timestamp;
+    }
+
     @Override
     public void reset() {
         super.reset();
         streamingMeter.reset();
+        lastPollDuration.set(-1);
+        lastPollTimestamp.set(-1);
     }
 }
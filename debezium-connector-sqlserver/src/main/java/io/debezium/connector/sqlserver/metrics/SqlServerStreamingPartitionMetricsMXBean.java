@@ -9,4 +9,14 @@
 
 public interface SqlServerStreamingPartitionMetricsMXBean extends StreamingMetricsMXBean,
         SqlServerPartitionMetricsMXBean {
+
+    /**
+     * @return the time taken by the most recent poll of the database's change tables, or -1 if the database was not polled yet
+     */
+    long getLastPollDurationInMilliseconds();
+
+    /**
+     * @return the time since the most recent poll of the database's change tables completed, or -1 if the database was not polled yet
+     */
+    long getMilliSecondsSinceLastPoll();
 }
@@ -0,0 +1,22 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver.metrics;
+
+import java.time.Duration;
+
+import io.debezium.connector.sqlserver.SqlServerPartition;
+
+/**
+ * Invoked each time the streaming change event source has polled the change tables of a database.
+ */
+public interface SqlServerStreamingPollListener {
+
+    /**
+     * @param partition the partition of the polled database
+     * @param duration the time taken to query the change tables and dispatch the changes
+     */
+    void onPoll(SqlServerPartition partition, Duration duration);
+}
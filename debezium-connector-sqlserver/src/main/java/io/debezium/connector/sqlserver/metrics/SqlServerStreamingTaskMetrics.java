@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.sqlserver.metrics;
 
+import java.time.Duration;
 import java.util.Collection;
 
 import io.debezium.connector.base.ChangeEventQueueMetrics;
@@ -16,7 +17,7 @@
 import io.debezium.util.Collect;
 
 class SqlServerStreamingTaskMetrics extends AbstractSqlServerTaskMetrics<SqlServerStreamingPartitionMetrics>
-        implements StreamingChangeEventSourceMetrics<SqlServerPartition>, SqlServerStreamingTaskMetricsMXBean {
+        implements StreamingChangeEventSourceMetrics<SqlServerPartition>, SqlServerStreamingTaskMetricsMXBean, SqlServerStreamingPollListener {
 
     private final ConnectionMeter connectionMeter;
 
@@ -44,4 +45,9 @@ public boolean isConnected() {
     public void connected(boolean connected) {
         connectionMeter.connected(connected);
     }
+
+    @Override
+    public void onPoll(SqlServerPartition partition, Duration duration) {
+        onPartitionEvent(partition, bean -> bean.onPoll(duration));
+    }
 }
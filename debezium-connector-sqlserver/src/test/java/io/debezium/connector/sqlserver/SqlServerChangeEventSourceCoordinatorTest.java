@@ -0,0 +1,195 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.metrics.spi.ChangeEventSourceMetricsFactory;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.pipeline.spi.Offsets;
+import io.debezium.util.Clock;
+
+/**
+ * Unit test for the concurrent streaming of the {@link SqlServerChangeEventSourceCoordinator}.
+ */
+public class SqlServerChangeEventSourceCoordinatorTest {
+
+    private static final SqlServerPartition DB1 = new SqlServerPartition("server1", "db1");
+    private static final SqlServerPartition DB2 = new SqlServerPartition("server1", "db2");
+    private static final SqlServerPartition DB3 = new SqlServerPartition("server1", "db3");
+
+    private final AtomicBoolean running = new AtomicBoolean(true);
+    private final ChangeEventSourceContext context = new ChangeEventSourceContext() {
+        @Override
+        public boolean isPaused() {
+            return false;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return running.get();
+        }
+
+        @Override
+        public void resumeStreaming() {
+        }
+
+        @Override
+        public void waitSnapshotCompletion() {
+        }
+
+        @Override
+        public void streamingPaused() {
+        }
+
+        @Override
+        public void waitStreamingPaused() {
+        }
+    };
+
+    private final Map<SqlServerStreamingChangeEventSource, Set<SqlServerOffsetContext>> initializedOffsets = new ConcurrentHashMap<>();
+    private final Map<SqlServerStreamingChangeEventSource, Set<SqlServerPartition>> streamedPartitions = new ConcurrentHashMap<>();
+    private final Map<SqlServerPartition, AtomicInteger> polls = new ConcurrentHashMap<>();
+    private final CountDownLatch db2Polled = new CountDownLatch(1);
+    private final CountDownLatch db2Released = new CountDownLatch(1);
+
+    private Offsets<SqlServerPartition, SqlServerOffsetContext> offsets;
+    private SqlServerChangeEventSourceCoordinator coordinator;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void beforeEach() throws Exception {
+        final SqlServerConnectorConfig connectorConfig = new SqlServerConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server1")
+                .with(SqlServerConnectorConfig.DATABASE_NAMES, "db1,db2,db3")
+                .with(SqlServerConnectorConfig.STREAMING_MAX_THREADS, 2)
+                .with(CommonConnectorConfig.POLL_INTERVAL_MS, 10)
+                .build());
+
+        final Map<SqlServerPartition, SqlServerOffsetContext> offsetsByPartition = new LinkedHashMap<>();
+        for (SqlServerPartition partition : List.of(DB1, DB2, DB3)) {
+            offsetsByPartition.put(partition, mock(SqlServerOffsetContext.class));
+        }
+        offsets = Offsets.of(offsetsByPartition);
+
+        final SqlServerConnection connection = mock(SqlServerConnection.class);
+        final SqlServerStreamingChangeEventSource firstSource = workerSource();
+        final SqlServerStreamingChangeEventSource secondSource = workerSource();
+        final SqlServerChangeEventSourceFactory factory = mock(SqlServerChangeEventSourceFactory.class);
+        when(factory.newConnection()).thenReturn(connection);
+        when(factory.getStreamingChangeEventSource(any(SqlServerConnection.class), any(SqlServerConnection.class), any()))
+                .thenReturn(firstSource, secondSource);
+
+        coordinator = new SqlServerChangeEventSourceCoordinator(offsets, mock(ErrorHandler.class), SqlServerConnector.class, connectorConfig, factory,
+                mock(ChangeEventSourceMetricsFactory.class), mock(EventDispatcher.class), mock(SqlServerDatabaseSchema.class), Clock.system(),
+                null, null, null);
+    }
+
+    @After
+    public void afterEach() {
+        running.set(false);
+        db2Released.countDown();
+    }
+
+    @Test
+    public void shouldStreamDatabasesConcurrentlyWithInitializedSources() throws Exception {
+        final Thread streaming = startConcurrentStreaming();
+
+        // the worker of the first and third database completes its iterations while the other worker is still polling
+        assertThat(db2Polled.await(10, TimeUnit.SECONDS)).isTrue();
+        awaitPolls(DB1, 2);
+        assertThat(coordinator.firstStreamingIterationCompletedSuccessfully()).isFalse();
+
+        db2Released.countDown();
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!coordinator.firstStreamingIterationCompletedSuccessfully() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(coordinator.firstStreamingIterationCompletedSuccessfully()).isTrue();
+
+        running.set(false);
+        streaming.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(streaming.isAlive()).isFalse();
+
+        // the databases are distributed round-robin and each worker source is initialized with the offsets of its databases
+        assertThat(streamedPartitions.values()).containsExactlyInAnyOrder(Set.of(DB1, DB3), Set.of(DB2));
+        streamedPartitions.forEach((source, partitions) -> assertThat(initializedOffsets.get(source))
+                .containsExactlyInAnyOrderElementsOf(partitions.stream().map(offsets.getOffsets()::get).collect(Collectors.toList())));
+    }
+
+    private Thread startConcurrentStreaming() {
+        final CdcSourceTaskContext taskContext = new CdcSourceTaskContext("sqlserver", "server1", Collections.emptyMap(), Collections::emptyList);
+        final Thread streaming = new Thread(() -> {
+            try {
+                coordinator.executeConcurrentStreaming(taskContext, offsets, context, (partition, duration) -> {
+                });
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        streaming.start();
+        return streaming;
+    }
+
+    private SqlServerStreamingChangeEventSource workerSource() throws Exception {
+        final SqlServerStreamingChangeEventSource source = mock(SqlServerStreamingChangeEventSource.class);
+        initializedOffsets.put(source, ConcurrentHashMap.newKeySet());
+        streamedPartitions.put(source, ConcurrentHashMap.newKeySet());
+
+        doAnswer(invocation -> initializedOffsets.get(source).add(invocation.getArgument(0)))
+                .when(source).init(any());
+        when(source.executeIteration(any(), any(), any())).thenAnswer(invocation -> {
+            final SqlServerPartition partition = invocation.getArgument(1);
+            streamedPartitions.get(source).add(partition);
+            polls.computeIfAbsent(partition, p -> new AtomicInteger()).incrementAndGet();
+            if (partition.equals(DB2)) {
+                db2Polled.countDown();
+                db2Released.await();
+            }
+            return false;
+        });
+        return source;
+    }
+
+    private void awaitPolls(SqlServerPartition partition, int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (polls(partition) < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(polls(partition)).isGreaterThanOrEqualTo(count);
+    }
+
+    private int polls(SqlServerPartition partition) {
+        final AtomicInteger count = polls.get(partition);
+        return count == null ? 0 : count.get();
+    }
+}
@@ -558,6 +558,67 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
 
     }
 
+    /**
+     * The set of predefined implementations of the change event queue.
+     */
+    public enum QueueType implements EnumeratedValue {
+        /**
+         * A queue guarded by a single lock shared by producers and the consumer.
+         */
+        BLOCKING("blocking"),
+
+        /**
+         * A bounded ring buffer where producers and the consumer do not contend on a common lock.
+         */
+        RING_BUFFER("ring_buffer");
+
+        private final String value;
+
+        QueueType(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be {@code null}
+         * @return the matching option, or null if no match is found
+         */
+        public static QueueType parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (QueueType option : QueueType.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be {@code null}
+         * @param defaultValue the default value; may be {@code null}
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static QueueType parse(String value, String defaultValue) {
+            QueueType type = parse(value);
+            if (type == null && defaultValue != null) {
+                type = parse(defaultValue);
+            }
+            return type;
+        }
+
+    }
+
     private static final String CONFLUENT_AVRO_CONVERTER = "io.confluent.connect.avro.AvroConverter";
     private static final String APICURIO_AVRO_CONVERTER = "io.apicurio.registry.utils.converter.AvroConverter";
 
@@ -656,6 +717,17 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
             .withDefault(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
             .withValidation(Field::isNonNegativeLong);
 
+    public static final Field QUEUE_TYPE = Field.create("queue.type")
+            .withDisplayName("Change event buffer implementation")
+            .withEnum(QueueType.class, QueueType.BLOCKING)
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 19))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The implementation of the queue for change events read from the database log but not yet recorded or forwarded. "
+                    + "Options include: "
+                    + "'blocking' (the default) uses a queue guarded by a single lock shared by the database reader and the Kafka Connect polling loop; "
+                    + "'ring_buffer' uses a bounded ring buffer which is drained in batches and where the database reader and the polling loop do not contend on a common lock.");
+
     public static final Field SNAPSHOT_DELAY_MS = Field.create("snapshot.delay.ms")
             .withDisplayName("Snapshot Delay (milliseconds)")
             .withType(Type.LONG)
@@ -1050,6 +1122,7 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
                     MAX_QUEUE_SIZE,
                     POLL_INTERVAL_MS,
                     MAX_QUEUE_SIZE_IN_BYTES,
+                    QUEUE_TYPE,
                     PROVIDE_TRANSACTION_METADATA,
                     SKIPPED_OPERATIONS,
                     SNAPSHOT_DELAY_MS,
@@ -1086,6 +1159,7 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
     private final int maxQueueSize;
     private final int maxBatchSize;
     private final long maxQueueSizeInBytes;
+    private final QueueType queueType;
     private final Duration pollInterval;
     protected final String logicalName;
     private final String heartbeatTopicsPrefix;
@@ -1135,6 +1209,7 @@ protected CommonConnectorConfig(Configuration config, int defaultSnapshotFetchSi
         this.maxBatchSize = config.getInteger(MAX_BATCH_SIZE);
         this.pollInterval = config.getDuration(POLL_INTERVAL_MS, ChronoUnit.MILLIS);
         this.maxQueueSizeInBytes = config.getLong(MAX_QUEUE_SIZE_IN_BYTES);
+        this.queueType = QueueType.parse(config.getString(QUEUE_TYPE), QUEUE_TYPE.defaultValueAsString());
         this.logicalName = config.getString(CommonConnectorConfig.TOPIC_PREFIX);
         this.heartbeatTopicsPrefix = config.getString(Heartbeat.HEARTBEAT_TOPICS_PREFIX);
         this.heartbeatInterval = config.getDuration(Heartbeat.HEARTBEAT_INTERVAL, ChronoUnit.MILLIS);
@@ -1240,6 +1315,10 @@ public long getMaxQueueSizeInBytes() {
         return maxQueueSizeInBytes;
     }
 
+    public QueueType getQueueType() {
+        return queueType;
+    }
+
     public Duration getPollInterval() {
         return pollInterval;
     }
@@ -0,0 +1,206 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.ConfigurationDefaults;
+import io.debezium.pipeline.Sizeable;
+import io.debezium.time.Temporals;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.Threads;
+import io.debezium.util.Threads.Timer;
+
+/**
+ * A {@link ChangeEventQueue} backed by a deque guarded by a single lock, which producers and the consumer wait on
+ * while the queue is full or the batch is not complete yet.
+ *
+ * @param <T> the type of events in this queue
+ */
+@ThreadSafe
+public class BlockingChangeEventQueue<T extends Sizeable> extends ChangeEventQueue<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockingChangeEventQueue.class);
+
+    private final Lock lock;
+    private final Condition isFull;
+    private final Condition isNotFull;
+
+    private final Queue<T> queue;
+    private final Queue<Long> sizeInBytesQueue;
+    private long currentQueueSizeInBytes = 0;
+
+    protected BlockingChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize,
+                                       Supplier<LoggingContext.PreviousContext> loggingContextSupplier, long maxQueueSizeInBytes, boolean buffering) {
+        super(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
+
+        this.lock = new ReentrantLock();
+        this.isFull = lock.newCondition();
+        this.isNotFull = lock.newCondition();
+
+        this.queue = new ArrayDeque<>(maxQueueSize);
+        this.sizeInBytesQueue = new ArrayDeque<>(maxQueueSize);
+    }
+
+    @Override
+    protected void doEnqueue(T record) throws InterruptedException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Enqueuing source record '{}'", record);
+        }
+
+        try {
+            this.lock.lock();
+
+            while (queue.size() >= maxQueueSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                // signal poll() to drain queue
+                this.isFull.signalAll();
+                // queue size or queue sizeInBytes threshold reached, so wait a bit
+                this.isNotFull.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+
+            queue.add(record);
+            // If we pass a positiveLong max.queue.size.in.bytes to enable handling queue size in bytes feature
+            if (maxQueueSizeInBytes > 0) {
+                long messageSize = record.objectSize();
+                sizeInBytesQueue.add(messageSize);
+                currentQueueSizeInBytes += messageSize;
+            }
+
+            // batch size or queue sizeInBytes threshold reached
+            if (queue.size() >= maxBatchSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                // signal poll() to start draining queue and do not wait
+                this.isFull.signalAll();
+            }
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    protected void doEnqueueAll(List<T> records) throws InterruptedException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Enqueuing {} source records", records.size());
+        }
+
+        try {
+            this.lock.lock();
+
+            for (T record : records) {
+                if (record == null) {
+                    continue;
+                }
+                while (queue.size() >= maxQueueSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                    // signal poll() to drain queue
+                    this.isFull.signalAll();
+                    // queue size or queue sizeInBytes threshold reached, so wait a bit
+                    this.isNotFull.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                }
+
+                queue.add(record);
+                if (maxQueueSizeInBytes > 0) {
+                    long messageSize = record.objectSize();
+                    sizeInBytesQueue.add(messageSize);
+                    currentQueueSizeInBytes += messageSize;
+                }
+            }
+
+            // batch size or queue sizeInBytes threshold reached
+            if (queue.size() >= maxBatchSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                // signal poll() to start draining queue and do not wait
+                this.isFull.signalAll();
+            }
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public List<T> poll() throws InterruptedException {
+        LoggingContext.PreviousContext previousContext = loggingContextSupplier.get();
+
+        try {
+            LOGGER.debug("polling records...");
+            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
+            try {
+                this.lock.lock();
+                List<T> records = new ArrayList<>(Math.min(maxBatchSize, queue.size()));
+                throwProducerExceptionIfPresent();
+                while (drainRecords(records, maxBatchSize - records.size()) < maxBatchSize
+                        && (maxQueueSizeInBytes == 0 || currentQueueSizeInBytes < maxQueueSizeInBytes)
+                        && !timeout.expired()) {
+                    throwProducerExceptionIfPresent();
+
+                    LOGGER.debug("no records available or batch size not reached yet, sleeping a bit...");
+                    long remainingTimeoutMills = timeout.remaining().toMillis();
+                    if (remainingTimeoutMills > 0) {
+                        // signal doEnqueue() to add more records
+                        this.isNotFull.signalAll();
+                        // no records available or batch size not reached yet, so wait a bit
+                        this.isFull.await(remainingTimeoutMills, TimeUnit.MILLISECONDS);
+                    }
+                    LOGGER.debug("checking for more records...");
+                }
+                // signal doEnqueue() to add more records
+                this.isNotFull.signalAll();
+                return records;
+            }
+            finally {
+                this.lock.unlock();
+            }
+        }
+        finally {
+            previousContext.restore();
+        }
+    }
+
+    private long drainRecords(List<T> records, int maxElements) {
+        int queueSize = queue.size();
+        if (queueSize == 0) {
+            return records.size();
+        }
+        int recordsToDrain = Math.min(queueSize, maxElements);
+        T[] drainedRecords = (T[]) new Sizeable[recordsToDrain];
+        for (int i = 0; i < recordsToDrain; i++) {
+            T record = queue.poll();
+            drainedRecords[i] = record;
+        }
+        if (maxQueueSizeInBytes > 0) {
+            for (int i = 0; i < recordsToDrain; i++) {
+                Long objectSize = sizeInBytesQueue.poll();
+                currentQueueSizeInBytes -= (objectSize == null ? 0L : objectSize);
+            }
+        }
+        records.addAll(Arrays.asList(drainedRecords));
+        return records.size();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return maxQueueSize - queue.size();
+    }
+
+    @Override
+    public long currentQueueSizeInBytes() {
+        return currentQueueSizeInBytes;
+    }
+}
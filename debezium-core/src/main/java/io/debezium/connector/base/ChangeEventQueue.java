@@ -6,32 +6,18 @@
 package io.debezium.connector.base;
 
 import java.time.Duration;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import io.debezium.annotation.SingleThreadAccess;
 import io.debezium.annotation.ThreadSafe;
-import io.debezium.config.ConfigurationDefaults;
+import io.debezium.config.CommonConnectorConfig.QueueType;
 import io.debezium.pipeline.Sizeable;
-import io.debezium.time.Temporals;
-import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.LoggingContext.PreviousContext;
-import io.debezium.util.Threads;
-import io.debezium.util.Threads.Timer;
 
 /**
  * A queue which serves as handover point between producer threads (e.g. MySQL's
@@ -49,6 +35,9 @@
  * operation. Upon the next call to {@link #poll()}, that exception will be
  * raised, causing Kafka Connect to stop the connector and mark it as
  * {@code FAILED}.
+ * <p>
+ * By default the lock-based {@link BlockingChangeEventQueue} is used; {@link QueueType#RING_BUFFER}
+ * selects the {@link RingBufferChangeEventQueue} which decouples producers from the consumer.
  *
  * @author Gunnar Morling
  *
@@ -59,23 +48,13 @@
  *            may be used.
  */
 @ThreadSafe
-public class ChangeEventQueue<T extends Sizeable> implements ChangeEventQueueMetrics {
-
-    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventQueue.class);
-
-    private final Duration pollInterval;
-    private final int maxBatchSize;
-    private final int maxQueueSize;
-    private final long maxQueueSizeInBytes;
+public abstract class ChangeEventQueue<T extends Sizeable> implements ChangeEventQueueMetrics {
 
-    private final Lock lock;
-    private final Condition isFull;
-    private final Condition isNotFull;
-
-    private final Queue<T> queue;
-    private final Supplier<PreviousContext> loggingContextSupplier;
-    private final Queue<Long> sizeInBytesQueue;
-    private long currentQueueSizeInBytes = 0;
+    protected final Duration pollInterval;
+    protected final int maxBatchSize;
+    protected final int maxQueueSize;
+    protected final long maxQueueSizeInBytes;
+    protected final Supplier<PreviousContext> loggingContextSupplier;
 
     // Sometimes it is necessary to update the record before it is delivered depending on the content
     // of the following record. In that cases the easiest solution is to provide a single cell buffer
@@ -89,19 +68,12 @@
 
     private volatile RuntimeException producerException;
 
-    private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
-                             long maxQueueSizeInBytes, boolean buffering) {
+    protected ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
+                               long maxQueueSizeInBytes, boolean buffering) {
         this.pollInterval = pollInterval;
         this.maxBatchSize = maxBatchSize;
         this.maxQueueSize = maxQueueSize;
-
-        this.lock = new ReentrantLock();
-        this.isFull = lock.newCondition();
-        this.isNotFull = lock.newCondition();
-
-        this.queue = new ArrayDeque<>(maxQueueSize);
         this.loggingContextSupplier = loggingContextSupplier;
-        this.sizeInBytesQueue = new ArrayDeque<>(maxQueueSize);
         this.maxQueueSizeInBytes = maxQueueSizeInBytes;
         this.buffering = buffering;
     }
@@ -114,6 +86,7 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
         private long maxQueueSizeInBytes;
         private boolean buffering;
+        private QueueType queueType = QueueType.BLOCKING;
 
         public Builder<T> pollInterval(Duration pollInterval) {
             this.pollInterval = pollInterval;
@@ -145,8 +118,16 @@ public Builder<T> buffering() {
             return this;
         }
 
+        public Builder<T> queueType(QueueType queueType) {
+            this.queueType = queueType;
+            return this;
+        }
+
         public ChangeEventQueue<T> build() {
-            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
+            if (queueType == QueueType.RING_BUFFER) {
+                return new RingBufferChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
+            }
+            return new BlockingChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
         }
     }
 
@@ -180,6 +161,43 @@ public void enqueue(T record) throws InterruptedException {
         doEnqueue(record);
     }
 
+    /**
+     * Enqueues several records so that they can be obtained via {@link #poll()}, in the given order. The records are
+     * added under a single acquisition of the queue lock, which is only released while waiting for the queue to have
+     * capacity again. This method will block if the queue is full.
+     *
+     * @param records
+     *            the records to be enqueued
+     * @throws InterruptedException
+     *             if this thread has been interrupted
+     */
+    public void enqueueAll(List<T> records) throws InterruptedException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        // The calling thread has been interrupted, let's abort
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        if (buffering) {
+            // The last record stays in the buffer, the previously buffered one is enqueued first
+            final List<T> toEnqueue = new ArrayList<>(records.size());
+            for (T record : records) {
+                if (record != null) {
+                    final T previous = bufferedEvent.getAndSet(record);
+                    if (previous != null) {
+                        toEnqueue.add(previous);
+                    }
+                }
+            }
+            records = toEnqueue;
+        }
+
+        doEnqueueAll(records);
+    }
+
     /**
      * Applies a function to the event and the buffer and adds it to the queue. Buffer is emptied.
      *
@@ -209,39 +227,9 @@ public void enableBuffering() {
         buffering = true;
     }
 
-    protected void doEnqueue(T record) throws InterruptedException {
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace("Enqueuing source record '{}'", record);
-        }
-
-        try {
-            this.lock.lock();
-
-            while (queue.size() >= maxQueueSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
-                // signal poll() to drain queue
-                this.isFull.signalAll();
-                // queue size or queue sizeInBytes threshold reached, so wait a bit
-                this.isNotFull.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
-            }
+    protected abstract void doEnqueue(T record) throws InterruptedException;
 
-            queue.add(record);
-            // If we pass a positiveLong max.queue.size.in.bytes to enable handling queue size in bytes feature
-            if (maxQueueSizeInBytes > 0) {
-                long messageSize = record.objectSize();
-                sizeInBytesQueue.add(messageSize);
-                currentQueueSizeInBytes += messageSize;
-            }
-
-            // batch size or queue sizeInBytes threshold reached
-            if (queue.size() >= maxBatchSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
-                // signal poll() to start draining queue and do not wait
-                this.isFull.signalAll();
-            }
-        }
-        finally {
-            this.lock.unlock();
-        }
-    }
+    protected abstract void doEnqueueAll(List<T> records) throws InterruptedException;
 
     /**
      * Returns the next batch of elements from this queue. May be empty in case no
@@ -251,70 +239,13 @@ protected void doEnqueue(T record) throws InterruptedException {
      *             if this thread has been interrupted while waiting for more
      *             elements to arrive
      */
-    public List<T> poll() throws InterruptedException {
-        LoggingContext.PreviousContext previousContext = loggingContextSupplier.get();
-
-        try {
-            LOGGER.debug("polling records...");
-            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
-            try {
-                this.lock.lock();
-                List<T> records = new ArrayList<>(Math.min(maxBatchSize, queue.size()));
-                throwProducerExceptionIfPresent();
-                while (drainRecords(records, maxBatchSize - records.size()) < maxBatchSize
-                        && (maxQueueSizeInBytes == 0 || currentQueueSizeInBytes < maxQueueSizeInBytes)
-                        && !timeout.expired()) {
-                    throwProducerExceptionIfPresent();
-
-                    LOGGER.debug("no records available or batch size not reached yet, sleeping a bit...");
-                    long remainingTimeoutMills = timeout.remaining().toMillis();
-                    if (remainingTimeoutMills > 0) {
-                        // signal doEnqueue() to add more records
-                        this.isNotFull.signalAll();
-                        // no records available or batch size not reached yet, so wait a bit
-                        this.isFull.await(remainingTimeoutMills, TimeUnit.MILLISECONDS);
-                    }
-                    LOGGER.debug("checking for more records...");
-                }
-                // signal doEnqueue() to add more records
-                this.isNotFull.signalAll();
-                return records;
-            }
-            finally {
-                this.lock.unlock();
-            }
-        }
-        finally {
-            previousContext.restore();
-        }
-    }
-
-    private long drainRecords(List<T> records, int maxElements) {
-        int queueSize = queue.size();
-        if (queueSize == 0) {
-            return records.size();
-        }
-        int recordsToDrain = Math.min(queueSize, maxElements);
-        T[] drainedRecords = (T[]) new Sizeable[recordsToDrain];
-        for (int i = 0; i < recordsToDrain; i++) {
-            T record = queue.poll();
-            drainedRecords[i] = record;
-        }
-        if (maxQueueSizeInBytes > 0) {
-            for (int i = 0; i < recordsToDrain; i++) {
-                Long objectSize = sizeInBytesQueue.poll();
-                currentQueueSizeInBytes -= (objectSize == null ? 0L : objectSize);
-            }
-        }
-        records.addAll(Arrays.asList(drainedRecords));
-        return records.size();
-    }
+    public abstract List<T> poll() throws InterruptedException;
 
     public void producerException(final RuntimeException producerException) {
         this.producerException = producerException;
     }
 
-    private void throwProducerExceptionIfPresent() {
+    protected void throwProducerExceptionIfPresent() {
         if (producerException != null) {
             throw producerException;
         }
@@ -325,21 +256,11 @@ public int totalCapacity() {
         return maxQueueSize;
     }
 
-    @Override
-    public int remainingCapacity() {
-        return maxQueueSize - queue.size();
-    }
-
     @Override
     public long maxQueueSizeInBytes() {
         return maxQueueSizeInBytes;
     }
 
-    @Override
-    public long currentQueueSizeInBytes() {
-        return currentQueueSizeInBytes;
-    }
-
     public boolean isBuffered() {
         return buffering;
     }
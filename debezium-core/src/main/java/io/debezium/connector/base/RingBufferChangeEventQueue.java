@@ -0,0 +1,266 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.ConfigurationDefaults;
+import io.debezium.pipeline.Sizeable;
+import io.debezium.time.Temporals;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.Threads;
+import io.debezium.util.Threads.Timer;
+
+/**
+ * A {@link ChangeEventQueue} backed by a bounded ring buffer.
+ * <p>
+ * Producer and consumer never share a lock: the producer publishes records by advancing the
+ * {@code tail} index and the consumer drains all published records in one step by advancing the
+ * {@code head} index. Record sizes are kept in a primitive array next to the records, so tracking
+ * {@code max.queue.size.in.bytes} does not allocate.
+ * <p>
+ * The ring buffer itself is single-producer/single-consumer. Concurrent producers (e.g. parallel
+ * snapshot threads) and concurrent consumers are serialized among themselves by a dedicated lock
+ * per side, which is uncontended in the common case of one producer and one consumer.
+ *
+ * @param <T> the type of events in this queue
+ */
+@ThreadSafe
+public class RingBufferChangeEventQueue<T extends Sizeable> extends ChangeEventQueue<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RingBufferChangeEventQueue.class);
+
+    private final Object[] buffer;
+    private final long[] sizes;
+    private final int mask;
+
+    /**
+     * Position of the next record to be read; written by the consumer only.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Position of the next record to be written; written by the producer only.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong currentQueueSizeInBytes = new AtomicLong();
+
+    private final Lock producerLock = new ReentrantLock();
+    private final Lock consumerLock = new ReentrantLock();
+
+    private volatile Thread waitingProducer;
+    private volatile Thread waitingConsumer;
+
+    protected RingBufferChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize,
+                                         Supplier<LoggingContext.PreviousContext> loggingContextSupplier, long maxQueueSizeInBytes, boolean buffering) {
+        super(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
+
+        final int capacity = capacityFor(maxQueueSize);
+        this.buffer = new Object[capacity];
+        this.sizes = maxQueueSizeInBytes > 0 ? new long[capacity] : null;
+        this.mask = capacity - 1;
+    }
+
+    private static int capacityFor(int maxQueueSize) {
+        if (maxQueueSize <= 0) {
+            throw new IllegalArgumentException("The maximum queue size must be positive but was " + maxQueueSize);
+        }
+        final int capacity = Integer.highestOneBit(maxQueueSize);
+        return capacity == maxQueueSize ? capacity : capacity << 1;
+    }
+
+    @Override
+    protected void doEnqueue(T record) throws InterruptedException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Enqueuing source record '{}'", record);
+        }
+
+        producerLock.lock();
+        try {
+            publish(record);
+
+            // batch size or queue sizeInBytes threshold reached
+            if (isBatchAvailable()) {
+                signal(waitingConsumer);
+            }
+        }
+        finally {
+            producerLock.unlock();
+        }
+    }
+
+    @Override
+    protected void doEnqueueAll(List<T> records) throws InterruptedException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Enqueuing {} source records", records.size());
+        }
+
+        producerLock.lock();
+        try {
+            for (T record : records) {
+                if (record != null) {
+                    publish(record);
+                }
+            }
+
+            // batch size or queue sizeInBytes threshold reached
+            if (isBatchAvailable()) {
+                signal(waitingConsumer);
+            }
+        }
+        finally {
+            producerLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the record to the next slot, waiting for the consumer to free one if the queue is full. Must be called
+     * with the producer lock held.
+     */
+    private void publish(T record) throws InterruptedException {
+        final long position = tail.get();
+
+        while (isFull(position)) {
+            // signal poll() to drain queue
+            signal(waitingConsumer);
+            // queue size or queue sizeInBytes threshold reached, so wait a bit
+            waitingProducer = Thread.currentThread();
+            if (isFull(position)) {
+                LockSupport.parkNanos(this, pollInterval.toNanos());
+            }
+            waitingProducer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        final int index = (int) position & mask;
+        buffer[index] = record;
+        if (maxQueueSizeInBytes > 0) {
+            final long messageSize = record.objectSize();
+            sizes[index] = messageSize;
+            currentQueueSizeInBytes.addAndGet(messageSize);
+        }
+        // publishes the record to the consumer
+        tail.set(position + 1);
+    }
+
+    @Override
+    public List<T> poll() throws InterruptedException {
+        LoggingContext.PreviousContext previousContext = loggingContextSupplier.get();
+
+        try {
+            LOGGER.debug("polling records...");
+            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
+            consumerLock.lock();
+            try {
+                List<T> records = new ArrayList<>(Math.min(maxBatchSize, size()));
+                throwProducerExceptionIfPresent();
+                while (drainRecords(records, maxBatchSize - records.size()) < maxBatchSize
+                        && (maxQueueSizeInBytes == 0 || currentQueueSizeInBytes.get() < maxQueueSizeInBytes)
+                        && !timeout.expired()) {
+                    throwProducerExceptionIfPresent();
+
+                    LOGGER.debug("no records available or batch size not reached yet, sleeping a bit...");
+                    long remainingTimeoutNanos = timeout.remaining().toNanos();
+                    if (remainingTimeoutNanos > 0) {
+                        // signal doEnqueue() to add more records
+                        signal(waitingProducer);
+                        // no records available or batch size not reached yet, so wait a bit
+                        waitingConsumer = Thread.currentThread();
+                        if (!isBatchAvailable()) {
+                            LockSupport.parkNanos(this, remainingTimeoutNanos);
+                        }
+                        waitingConsumer = null;
+                        if (Thread.interrupted()) {
+                            throw new InterruptedException();
+                        }
+                    }
+                    LOGGER.debug("checking for more records...");
+                }
+                // signal doEnqueue() to add more records
+                signal(waitingProducer);
+                return records;
+            }
+            finally {
+                consumerLock.unlock();
+            }
+        }
+        finally {
+            previousContext.restore();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int drainRecords(List<T> records, int maxElements) {
+        final long position = head.get();
+        final int recordsToDrain = (int) Math.min(tail.get() - position, maxElements);
+        if (recordsToDrain <= 0) {
+            return records.size();
+        }
+
+        long drainedBytes = 0;
+        for (long i = position; i < position + recordsToDrain; i++) {
+            final int index = (int) i & mask;
+            records.add((T) buffer[index]);
+            buffer[index] = null;
+            if (sizes != null) {
+                drainedBytes += sizes[index];
+            }
+        }
+        if (drainedBytes > 0) {
+            currentQueueSizeInBytes.addAndGet(-drainedBytes);
+        }
+        // releases the slots to the producer
+        head.set(position + recordsToDrain);
+        return records.size();
+    }
+
+    private boolean isFull(long tailPosition) {
+        return tailPosition - head.get() >= maxQueueSize
+                || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes.get() >= maxQueueSizeInBytes);
+    }
+
+    private boolean isBatchAvailable() {
+        return size() >= maxBatchSize
+                || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes.get() >= maxQueueSizeInBytes);
+    }
+
+    private int size() {
+        // head must be read first, it can never overtake a tail read afterwards
+        final long headPosition = head.get();
+        return (int) (tail.get() - headPosition);
+    }
+
+    private static void signal(Thread waiter) {
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return maxQueueSize - size();
+    }
+
+    @Override
+    public long currentQueueSizeInBytes() {
+        return currentQueueSizeInBytes.get();
+    }
+}
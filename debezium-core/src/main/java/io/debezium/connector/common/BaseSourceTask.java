@@ -42,6 +42,7 @@
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.Offsets;
 import io.debezium.pipeline.spi.Partition;
+import io.debezium.processors.PostProcessorRegistry;
 import io.debezium.processors.PostProcessorRegistryServiceProvider;
 import io.debezium.schema.DatabaseSchema;
 import io.debezium.schema.HistorizedDatabaseSchema;
@@ -200,6 +201,8 @@ public enum State {
 
     private final List<NotificationChannel> notificationChannels;
 
+    private volatile ServiceRegistry serviceRegistry;
+
     protected BaseSourceTask() {
         // Use exponential delay to log the progress frequently at first, but the quickly tapering off to once an hour...
         pollOutputDelay = ElapsedTimeStrategy.exponential(clock, INITIAL_POLL_PERIOD_IN_MILLIS, MAX_POLL_PERIOD_IN_MILLIS);
@@ -276,6 +279,7 @@ public final List<SourceRecord> poll() throws InterruptedException {
             }
 
             final List<SourceRecord> records = doPoll();
+            flushPostProcessors(records);
             logStatistics(records);
 
             resetErrorHandlerRetriesIfNeeded();
@@ -288,6 +292,19 @@ public final List<SourceRecord> poll() throws InterruptedException {
         }
     }
 
+    /**
+     * Post processors may defer the processing of the events, which must be completed before the events are returned.
+     */
+    private void flushPostProcessors(List<SourceRecord> records) {
+        if (records == null || records.isEmpty() || serviceRegistry == null) {
+            return;
+        }
+        final PostProcessorRegistry postProcessorRegistry = serviceRegistry.tryGetService(PostProcessorRegistry.class);
+        if (postProcessorRegistry != null) {
+            postProcessorRegistry.flush();
+        }
+    }
+
     protected void logStatistics(final List<SourceRecord> records) {
         if (records == null || !LOGGER.isInfoEnabled()) {
             return;
@@ -520,6 +537,7 @@ public List<NotificationChannel> getNotificationChannels() {
     }
 
     protected void registerServiceProviders(ServiceRegistry serviceRegistry) {
+        this.serviceRegistry = serviceRegistry;
         serviceRegistry.registerServiceProvider(new PostProcessorRegistryServiceProvider());
         serviceRegistry.registerServiceProvider(new SnapshotLockProvider());
         serviceRegistry.registerServiceProvider(new SnapshotQueryProvider());
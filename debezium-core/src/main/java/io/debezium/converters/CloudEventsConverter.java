@@ -9,15 +9,20 @@
 import static org.apache.kafka.connect.data.Schema.Type.STRUCT;
 import static org.apache.kafka.connect.transforms.util.Requirements.requireStruct;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -41,6 +46,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -107,6 +114,17 @@ public class CloudEventsConverter implements Converter, Versioned {
      */
     private static final String DATA_SCHEMA_SUFFIX = "-data";
 
+    private static final String OPERATION_EXTENSION_NAME = adjustExtensionName(Envelope.FieldName.OPERATION);
+    private static final List<ExtensionAttribute> TX_EXTENSION_ATTRIBUTES = extensionAttributes(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA,
+            CloudEventsConverter::txExtensionName, true);
+
+    /**
+     * Used for writing JSON events; the data attribute is appended as-is after the generated attributes,
+     * so the generator must not close the event itself
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+    private static final byte[] JSON_DATA_FIELD_PREFIX = (",\"" + CloudEventsMaker.FieldName.DATA + "\":").getBytes(StandardCharsets.UTF_8);
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudEventsConverter.class);
     private static Method CONVERT_TO_CONNECT_METHOD;
 
@@ -163,6 +181,8 @@ public class CloudEventsConverter implements Converter, Versioned {
 
     private final CloudEventsValidator cloudEventsValidator = new CloudEventsValidator();
 
+    private final Map<String, TopicEnvelope> topicEnvelopes = new ConcurrentHashMap<>();
+
     public CloudEventsConverter() {
         this(null);
     }
@@ -259,6 +279,17 @@ public byte[] fromConnectData(String topic, Schema schema, Object value) {
 
     @Override
     public byte[] fromConnectData(String topic, Headers headers, Schema schema, Object value) {
+        return fromConnectData(topic, headers, schema, value, true);
+    }
+
+    /**
+     * Converts the given record into a CloudEvent.
+     *
+     * @param serializeJsonDirectly whether JSON events are written directly, or by serializing their Connect schema and value
+     *            with the JSON converter; the latter is the reference the former is verified against
+     */
+    @VisibleForTesting
+    byte[] fromConnectData(String topic, Headers headers, Schema schema, Object value, boolean serializeJsonDirectly) {
         if (schema == null || value == null) {
             return null;
         }
@@ -283,11 +314,13 @@ public byte[] fromConnectData(String topic, Headers headers, Schema schema, Obje
 
         CloudEventsProvider provider = lookupCloudEventsProvider(source);
 
+        TopicEnvelope envelope = topicEnvelope(topic, schema, source.schema());
+
         RecordAndMetadata recordAndMetadata;
         final boolean useBaseImpl = Stream.of(metadataSource.global(), metadataSource.id(), metadataSource.type(), metadataSource.dataSchemaName())
                 .allMatch(metadataSource -> metadataSource != MetadataSourceValue.HEADER);
         if (useBaseImpl) {
-            recordAndMetadata = new RecordAndMetadataBaseImpl(record, schema);
+            recordAndMetadata = new CachingRecordAndMetadata(record, schema, envelope);
         }
         else {
             recordAndMetadata = new RecordAndMetadataHeaderImpl(record, schema, headers, metadataSource, jsonHeaderConverter);
@@ -298,36 +331,21 @@ public byte[] fromConnectData(String topic, Headers headers, Schema schema, Obje
         CloudEventsMaker maker = provider.createMaker(parser, dataSerializerType,
                 (schemaRegistryUrls == null) ? null : String.join(",", schemaRegistryUrls), cloudEventsSchemaName);
 
+        if (ceSerializerType == SerializerType.JSON && !serializeJsonDirectly) {
+            return serializeJsonCloudEventFromStruct(topic, parser, maker);
+        }
+
         if (ceSerializerType == SerializerType.JSON) {
             if (dataSerializerType == SerializerType.JSON) {
-                // JSON - JSON (with schema in data)
-                if (enableJsonSchemas) {
-                    SchemaBuilder dummy = SchemaBuilder.struct();
-                    SchemaAndValue cloudEvent = convertToCloudEventsFormat(parser, maker, dummy, null, new Struct(dummy));
-
-                    // need to create a JSON node with schema + payload first
-                    byte[] data = jsonDataConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
-
-                    // replace the dummy '{}' in '"data" : {}' with the schema + payload JSON node;
-                    // the event itself must not have schema enabled, so to be a proper CloudEvent
-                    byte[] cloudEventJson = jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
-
-                    ByteBuffer cloudEventWithData = ByteBuffer.allocate(cloudEventJson.length + data.length - 2);
-                    cloudEventWithData.put(cloudEventJson, 0, cloudEventJson.length - 3);
-                    cloudEventWithData.put(data);
-                    cloudEventWithData.put((byte) '}');
-                    return cloudEventWithData.array();
-                }
-                // JSON - JSON (without schema); can just use the regular JSON converter for the entire event
-                else {
-                    SchemaAndValue cloudEvent = convertToCloudEventsFormat(parser, maker, maker.ceDataAttributeSchema(), null, maker.ceDataAttribute());
-                    return jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
-                }
+                // JSON - JSON; the data (with or without schema) is serialized once and written as-is into the event,
+                // the event itself must not have schema enabled, so to be a proper CloudEvent
+                byte[] data = jsonDataConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
+                return serializeJsonCloudEvent(envelope, parser, maker, null, data, true);
             }
             // JSON - Avro; need to convert "data" to Avro first
             else {
-                SchemaAndValue cloudEvent = convertToCloudEventsFormatWithDataAsAvro(topic, parser, maker);
-                return jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
+                byte[] data = avroConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
+                return serializeJsonCloudEvent(envelope, parser, maker, maker.ceDataschemaUri(getSchemaIdFromAvroMessage(data)), data, false);
             }
         }
         // Avro - Avro; need to convert "data" to Avro first
@@ -371,6 +389,103 @@ private SchemaAndValue convertToCloudEventsFormatWithDataAsAvro(String topic, Re
         return convertToCloudEventsFormat(parser, maker, dataSchemaType, dataSchemaUri, serializedData);
     }
 
+    /**
+     * Writes a JSON CloudEvent by building its Connect schema and value first and serializing them with the JSON converter.
+     */
+    private byte[] serializeJsonCloudEventFromStruct(String topic, RecordParser parser, CloudEventsMaker maker) {
+        if (dataSerializerType == SerializerType.JSON) {
+            // JSON - JSON (with schema in data)
+            if (enableJsonSchemas) {
+                SchemaBuilder dummy = SchemaBuilder.struct();
+                SchemaAndValue cloudEvent = convertToCloudEventsFormat(parser, maker, dummy, null, new Struct(dummy));
+
+                // need to create a JSON node with schema + payload first
+                byte[] data = jsonDataConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
+
+                // replace the dummy '{}' in '"data" : {}' with the schema + payload JSON node;
+                // the event itself must not have schema enabled, so to be a proper CloudEvent
+                byte[] cloudEventJson = jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
+
+                ByteBuffer cloudEventWithData = ByteBuffer.allocate(cloudEventJson.length + data.length - 2);
+                cloudEventWithData.put(cloudEventJson, 0, cloudEventJson.length - 3);
+                cloudEventWithData.put(data);
+                cloudEventWithData.put((byte) '}');
+                return cloudEventWithData.array();
+            }
+            // JSON - JSON (without schema); can just use the regular JSON converter for the entire event
+            else {
+                SchemaAndValue cloudEvent = convertToCloudEventsFormat(parser, maker, maker.ceDataAttributeSchema(), null, maker.ceDataAttribute());
+                return jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
+            }
+        }
+        // JSON - Avro; need to convert "data" to Avro first
+        else {
+            SchemaAndValue cloudEvent = convertToCloudEventsFormatWithDataAsAvro(topic, parser, maker);
+            return jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
+        }
+    }
+
+    /**
+     * Returns the envelope attributes of the events of the given topic, which are derived from the schema of its records
+     * once and rebuilt only when the schema changes.
+     */
+    private TopicEnvelope topicEnvelope(String topic, Schema recordSchema, Schema sourceSchema) {
+        TopicEnvelope envelope = topicEnvelopes.get(topic);
+        if (envelope == null || !envelope.matches(recordSchema, sourceSchema)) {
+            envelope = new TopicEnvelope(recordSchema, sourceSchema,
+                    extensionAttributesEnable ? extensionAttributes(sourceSchema, CloudEventsConverter::adjustExtensionName, false) : List.of());
+            topicEnvelopes.put(topic, envelope);
+        }
+        return envelope;
+    }
+
+    /**
+     * Writes a JSON CloudEvent directly, without building its Connect schema and value first. The data attribute
+     * is either already serialized JSON, which is copied as-is, or an Avro message, which is written as Base64.
+     */
+    private byte[] serializeJsonCloudEvent(TopicEnvelope envelope, RecordParser parser, CloudEventsMaker maker, String dataSchemaUri, byte[] data,
+                                           boolean jsonData) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length + 512);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField(CloudEventsMaker.FieldName.ID, this.metadataSource.id() == MetadataSourceValue.GENERATE ? maker.ceId() : parser.id());
+            generator.writeStringField(CloudEventsMaker.FieldName.SOURCE, maker.ceSource(parser.source().getString("name")));
+            generator.writeStringField(CloudEventsMaker.FieldName.SPECVERSION, maker.ceSpecversion());
+            generator.writeStringField(CloudEventsMaker.FieldName.TYPE, this.metadataSource.type() == MetadataSourceValue.GENERATE ? maker.ceType() : parser.type());
+            generator.writeStringField(CloudEventsMaker.FieldName.TIME, maker.ceTime());
+            generator.writeStringField(CloudEventsMaker.FieldName.DATACONTENTTYPE, maker.ceDatacontenttype());
+
+            if (dataSchemaUri != null) {
+                generator.writeStringField(CloudEventsMaker.FieldName.DATASCHEMA, dataSchemaUri);
+            }
+
+            if (this.extensionAttributesEnable) {
+                generator.writeStringField(OPERATION_EXTENSION_NAME, parser.op());
+                for (ExtensionAttribute attribute : envelope.sourceAttributes) {
+                    attribute.write(generator, parser.source());
+                }
+                for (ExtensionAttribute attribute : TX_EXTENSION_ATTRIBUTES) {
+                    attribute.write(generator, parser.transaction());
+                }
+            }
+
+            if (jsonData) {
+                generator.flush();
+                out.write(JSON_DATA_FIELD_PREFIX);
+                out.write(data);
+                out.write('}');
+            }
+            else {
+                generator.writeBinaryField(CloudEventsMaker.FieldName.DATA, data);
+                generator.writeEndObject();
+            }
+        }
+        catch (IOException e) {
+            throw new DataException("Converting Kafka Connect data to CloudEvents failed due to serialization error: ", e);
+        }
+        return out.toByteArray();
+    }
+
     /**
      * Obtains the schema id from the given Avro record. They are prefixed by one magic byte,
      * followed by an int for the schema id.
@@ -563,7 +678,7 @@ private void ceSchemaFromSchema(Schema schema, CESchemaBuilder ceSchemaBuilder,
      * Converts the given source attribute schema into a corresponding CE extension schema.
      * The types supported there are limited, e.g. int64 can only be represented as string.
      */
-    private Schema convertToCeExtensionSchema(Schema schema, boolean alwaysOptional) {
+    private static Schema convertToCeExtensionSchema(Schema schema, boolean alwaysOptional) {
         SchemaBuilder ceExtensionSchema;
 
         if (schema.type() == Type.BOOLEAN) {
@@ -594,6 +709,16 @@ private Schema convertToCeExtensionSchema(Schema schema) {
         return convertToCeExtensionSchema(schema, false);
     }
 
+    private static List<ExtensionAttribute> extensionAttributes(Schema schema, Function<String, String> nameMapper, boolean alwaysOptional) {
+        final List<ExtensionAttribute> attributes = new ArrayList<>(schema.fields().size());
+        for (Field field : schema.fields()) {
+            // fails for attribute types which cannot be represented
+            convertToCeExtensionSchema(field.schema(), alwaysOptional);
+            attributes.add(new ExtensionAttribute(nameMapper.apply(field.name()), field));
+        }
+        return attributes;
+    }
+
     private static CESchemaBuilder defineSchema() {
         return new CESchemaBuilder() {
             private final SchemaBuilder builder = SchemaBuilder.struct();
@@ -661,6 +786,80 @@ public interface CEValueBuilder {
         Struct build();
     }
 
+    /**
+     * The attributes of the CloudEvents envelope that depend on the schema of the records of a topic.
+     */
+    private static final class TopicEnvelope {
+        private final Schema recordSchema;
+        private final Schema sourceSchema;
+        private final List<ExtensionAttribute> sourceAttributes;
+        private final Map<List<String>, Schema> dataSchemas = new ConcurrentHashMap<>();
+
+        TopicEnvelope(Schema recordSchema, Schema sourceSchema, List<ExtensionAttribute> sourceAttributes) {
+            this.recordSchema = recordSchema;
+            this.sourceSchema = sourceSchema;
+            this.sourceAttributes = sourceAttributes;
+        }
+
+        boolean matches(Schema recordSchema, Schema sourceSchema) {
+            return (this.recordSchema == recordSchema || this.recordSchema.equals(recordSchema))
+                    && (this.sourceSchema == sourceSchema || this.sourceSchema.equals(sourceSchema));
+        }
+    }
+
+    /**
+     * A CloudEvents extension attribute taken from a field of the source or transaction block.
+     */
+    private static final class ExtensionAttribute {
+        private final String name;
+        private final Field field;
+
+        ExtensionAttribute(String name, Field field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        void write(JsonGenerator generator, Struct struct) throws IOException {
+            generator.writeFieldName(name);
+            final Object value = struct != null ? struct.get(field) : null;
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+            switch (field.schema().type()) {
+                case BOOLEAN:
+                    generator.writeBoolean((Boolean) value);
+                    break;
+                case INT8:
+                case INT16:
+                case INT32:
+                    generator.writeNumber(((Number) value).intValue());
+                    break;
+                default:
+                    // int64 is represented as string
+                    generator.writeString(value.toString());
+            }
+        }
+    }
+
+    /**
+     * Reuses the data schema derived from the record schema of the topic instead of building it for every record.
+     * The schemas are keyed by the data fields they are made of, as requested by the record parser.
+     */
+    private static final class CachingRecordAndMetadata extends RecordAndMetadataBaseImpl {
+        private final TopicEnvelope envelope;
+
+        CachingRecordAndMetadata(Struct record, Schema originalDataSchema, TopicEnvelope envelope) {
+            super(record, originalDataSchema);
+            this.envelope = envelope;
+        }
+
+        @Override
+        public Schema dataSchema(String... dataFields) {
+            return envelope.dataSchemas.computeIfAbsent(Arrays.asList(dataFields), fields -> super.dataSchema(dataFields));
+        }
+    }
+
     /**
      * Adjust the name of CloudEvents attributes for Debezium events, following CloudEvents
      * <a href="https://github.com/cloudevents/spec/blob/v1.0/spec.md#attribute-naming-conventionattribute"> attribute
@@ -28,6 +28,7 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,6 +46,7 @@
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
@@ -1623,6 +1625,70 @@ public Map<String, Object> reselectColumns(TableId tableId, List<String> columns
         return reselectColumns(query, tableId, columns, keyValues);
     }
 
+    /**
+     * Re-selects the given columns of several rows of a table with a single query.
+     *
+     * @param tableId the table, should not be {@code null}
+     * @param columns the columns to re-select, should not be {@code null} or empty
+     * @param keyColumns the columns identifying a row, should not be {@code null} or empty
+     * @param keyValues the key column values of each row, should not be {@code null} or empty
+     * @param source the source info block of the change events, should not be {@code null}
+     * @return the rows found, each containing the values of the key columns followed by those of the re-selected columns
+     */
+    public List<Map<String, Object>> reselectRows(TableId tableId, List<String> columns, List<String> keyColumns, List<List<Object>> keyValues,
+                                                  Struct source)
+            throws SQLException {
+        final String query = String.format("SELECT %s FROM %s WHERE %s",
+                reselectRowsSelectList(columns, keyColumns),
+                quotedTableIdString(tableId),
+                reselectRowsPredicate(keyColumns, keyValues.size()));
+        return reselectRows(query, tableId, columns, keyColumns, keyValues.stream().flatMap(List::stream).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the position at which {@link #reselectColumns(TableId, List, List, List, Struct)} reads the row
+     * for the given source info block. Re-selections of the same row at the same position return the same values.
+     *
+     * @param source the source info block of the change event, should not be {@code null}
+     * @return the position or {@code null} if the re-selection reads the current state of the row
+     */
+    public String getReselectPosition(Struct source) {
+        return null;
+    }
+
+    protected String reselectRowsSelectList(List<String> columns, List<String> keyColumns) {
+        return Stream.concat(keyColumns.stream(), columns.stream()).map(this::quotedColumnIdString).collect(Collectors.joining(","));
+    }
+
+    protected String reselectRowsPredicate(List<String> keyColumns, int rowCount) {
+        if (keyColumns.size() == 1) {
+            return keyColumns.get(0) + " IN (" + String.join(",", Collections.nCopies(rowCount, "?")) + ")";
+        }
+        final String rowPredicate = keyColumns.stream().map(key -> key + "=?").collect(Collectors.joining(" AND ", "(", ")"));
+        return String.join(" OR ", Collections.nCopies(rowCount, rowPredicate));
+    }
+
+    protected List<Map<String, Object>> reselectRows(String query, TableId tableId, List<String> columns, List<String> keyColumns,
+                                                     List<Object> bindValues)
+            throws SQLException {
+        final List<Map<String, Object>> results = new ArrayList<>();
+        prepareQuery(query, bindValues, (params, rs) -> {
+            while (rs.next()) {
+                final Map<String, Object> row = new LinkedHashMap<>();
+                int index = 1;
+                for (String columnName : keyColumns) {
+                    row.put(columnName, rs.getObject(index++));
+                }
+                for (String columnName : columns) {
+                    row.put(columnName, rs.getObject(index++));
+                }
+                results.add(row);
+            }
+        });
+        LOGGER.debug("Re-selected {} rows of table {}.", results.size(), tableId);
+        return results;
+    }
+
     protected Map<String, Object> reselectColumns(String query, TableId tableId, List<String> columns, List<Object> bindValues) throws SQLException {
         final Map<String, Object> results = new HashMap<>();
         prepareQuery(query, bindValues, (params, rs) -> {
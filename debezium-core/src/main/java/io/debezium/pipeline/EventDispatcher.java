@@ -6,8 +6,11 @@
 package io.debezium.pipeline;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -27,6 +30,8 @@
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.Operation;
+import io.debezium.function.BlockingConsumer;
+import io.debezium.function.BlockingFunction;
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.pipeline.signal.SignalProcessor;
 import io.debezium.pipeline.signal.channels.SourceSignalChannel;
@@ -141,7 +146,7 @@ public EventDispatcher(CommonConnectorConfig connectorConfig, TopicNamingStrateg
         this.queue = queue;
         this.filter = filter;
         this.changeEventCreator = changeEventCreator;
-        this.streamingReceiver = new StreamingChangeRecordReceiver();
+        this.streamingReceiver = new StreamingChangeRecordReceiver(queue::enqueue);
         this.emitTombstonesOnDelete = connectorConfig.isEmitTombstoneOnDelete();
         this.inconsistentSchemaHandler = inconsistentSchemaHandler != null ? inconsistentSchemaHandler : this::errorOnMissingSchema;
         this.skippedOperations = connectorConfig.getSkippedOperations();
@@ -179,7 +184,7 @@ public EventDispatcher(CommonConnectorConfig connectorConfig, TopicNamingStrateg
         this.queue = queue;
         this.filter = filter;
         this.changeEventCreator = changeEventCreator;
-        this.streamingReceiver = new StreamingChangeRecordReceiver();
+        this.streamingReceiver = new StreamingChangeRecordReceiver(queue::enqueue);
         this.emitTombstonesOnDelete = connectorConfig.isEmitTombstoneOnDelete();
         this.inconsistentSchemaHandler = inconsistentSchemaHandler != null ? inconsistentSchemaHandler : this::errorOnMissingSchema;
         this.skippedOperations = connectorConfig.getSkippedOperations();
@@ -317,24 +322,78 @@ private boolean isASignalEventToProcess(T dataCollectionId, Operation operation)
             return handled;
         }
         catch (Exception e) {
-            switch (connectorConfig.getEventProcessingFailureHandlingMode()) {
-                case FAIL:
-                    throw new ConnectException("Error while processing event at offset " + changeRecordEmitter.getOffset().getOffset(), e);
-                case WARN:
-                    LOGGER.warn(
-                            "Error while processing event at offset {}",
-                            changeRecordEmitter.getOffset().getOffset(), e);
-                    break;
-                case SKIP:
-                    LOGGER.debug(
-                            "Error while processing event at offset {}",
-                            changeRecordEmitter.getOffset().getOffset(), e);
-                    break;
-            }
+            handleEventProcessingFailure(changeRecordEmitter, e);
             return false;
         }
     }
 
+    /**
+     * Dispatches the {@link DataChangeEvent}s of several changes of the same data collection, for example all rows of a
+     * multi-row statement. The result is the same as calling {@link #dispatchDataChangeEvent(Partition, DataCollectionId,
+     * ChangeRecordEmitter)} for each change, but the schema of the data collection is looked up once, the created events
+     * are added to the change event queue at once and the metrics are updated once per batch.
+     * <p>
+     * The emitter of each change is created by the given factory right before the change is emitted, so the factory may
+     * position a shared offset context on that change. All changes must belong to the same transaction.
+     *
+     * @param changes the changes to dispatch, in the order in which they occurred
+     * @param emitterFactory creates the emitter of a single change
+     * @return {@code true} if an event was dispatched (i.e. sent to the message broker), {@code false} otherwise.
+     */
+    public <R> boolean dispatchDataChangeEvents(P partition, T dataCollectionId, List<R> changes,
+                                                BlockingFunction<R, ChangeRecordEmitter<P>> emitterFactory)
+            throws InterruptedException {
+        final DataCollectionSchema dataCollectionSchema = filter.isIncluded(dataCollectionId) ? schema.schemaFor(dataCollectionId) : null;
+
+        // Filtered events, events without a known schema and signals are not batched
+        if (changes.size() < 2 || dataCollectionSchema == null || connectorConfig.isSignalDataCollection(dataCollectionId)) {
+            boolean handled = false;
+            for (R change : changes) {
+                handled |= dispatchDataChangeEvent(partition, dataCollectionId, emitterFactory.apply(change));
+            }
+            return handled;
+        }
+
+        final BatchingChangeRecordReceiver receiver = new BatchingChangeRecordReceiver(dataCollectionId, changes.size());
+        ChangeRecordEmitter<P> changeRecordEmitter = null;
+        boolean handled = false;
+        for (R change : changes) {
+            changeRecordEmitter = emitterFactory.apply(change);
+            try {
+                changeRecordEmitter.emitChangeRecords(dataCollectionSchema, receiver);
+                handled = true;
+            }
+            catch (Exception e) {
+                handleEventProcessingFailure(changeRecordEmitter, e);
+            }
+        }
+        receiver.flush(partition);
+
+        heartbeat.heartbeat(
+                changeRecordEmitter.getPartition().getSourcePartition(),
+                changeRecordEmitter.getOffset().getOffset(),
+                this::enqueueHeartbeat);
+
+        return handled;
+    }
+
+    private void handleEventProcessingFailure(ChangeRecordEmitter<P> changeRecordEmitter, Exception e) {
+        switch (connectorConfig.getEventProcessingFailureHandlingMode()) {
+            case FAIL:
+                throw new ConnectException("Error while processing event at offset " + changeRecordEmitter.getOffset().getOffset(), e);
+            case WARN:
+                LOGGER.warn(
+                        "Error while processing event at offset {}",
+                        changeRecordEmitter.getOffset().getOffset(), e);
+                break;
+            case SKIP:
+                LOGGER.debug(
+                        "Error while processing event at offset {}",
+                        changeRecordEmitter.getOffset().getOffset(), e);
+                break;
+        }
+    }
+
     public void dispatchFilteredEvent(P partition, OffsetContext offset) throws InterruptedException {
         if (incrementalSnapshotChangeEventSource != null) {
             incrementalSnapshotChangeEventSource.processFilteredEvent(partition, offset);
@@ -355,6 +414,13 @@ public void dispatchTransactionStartedEvent(P partition, String transactionId, O
         }
     }
 
+    /**
+     * Returns the number of change events that can be enqueued without blocking.
+     */
+    public int getQueueRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
     public void dispatchConnectorEvent(P partition, ConnectorEvent event) {
         eventListener.onConnectorEvent(partition, event);
     }
@@ -462,6 +528,12 @@ public void enqueueNotification(SourceRecord record) throws InterruptedException
 
     private final class StreamingChangeRecordReceiver implements ChangeRecordEmitter.Receiver<P> {
 
+        private final BlockingConsumer<DataChangeEvent> sink;
+
+        StreamingChangeRecordReceiver(BlockingConsumer<DataChangeEvent> sink) {
+            this.sink = sink;
+        }
+
         @Override
         public void changeRecord(P partition,
                                  DataCollectionSchema dataCollectionSchema,
@@ -491,7 +563,7 @@ public void changeRecord(P partition,
                     null,
                     headers);
 
-            queue.enqueue(changeEventCreator.createDataChangeEvent(record));
+            sink.accept(changeEventCreator.createDataChangeEvent(record));
 
             if (emitTombstonesOnDelete && operation == Operation.DELETE) {
                 SourceRecord tombStone = record.newRecord(
@@ -504,8 +576,69 @@ public void changeRecord(P partition,
                         record.timestamp(),
                         record.headers());
 
-                queue.enqueue(changeEventCreator.createDataChangeEvent(tombStone));
+                sink.accept(changeEventCreator.createDataChangeEvent(tombStone));
+            }
+        }
+    }
+
+    /**
+     * Change record receiver used for batches of streamed changes of one data collection. The events are collected and
+     * added to the queue by {@link #flush(Partition)}, which also reports the events of the batch to the event listener.
+     */
+    private final class BatchingChangeRecordReceiver implements ChangeRecordEmitter.Receiver<P> {
+
+        private final T dataCollectionId;
+        private final List<DataChangeEvent> events;
+        private final StreamingChangeRecordReceiver receiver;
+        private final Map<Operation, Integer> operationCounts = new EnumMap<>(Operation.class);
+        private Operation lastOperation;
+        private OffsetContext lastOffset;
+        private Object lastKey;
+        private Struct lastValue;
+
+        BatchingChangeRecordReceiver(T dataCollectionId, int expectedSize) {
+            this.dataCollectionId = dataCollectionId;
+            this.events = new ArrayList<>(emitTombstonesOnDelete ? 2 * expectedSize : expectedSize);
+            this.receiver = new StreamingChangeRecordReceiver(events::add);
+        }
+
+        @Override
+        public void changeRecord(P partition,
+                                 DataCollectionSchema schema,
+                                 Operation operation,
+                                 Object key, Struct value,
+                                 OffsetContext offset,
+                                 ConnectHeaders headers)
+                throws InterruptedException {
+
+            if (neverSkip || !skippedOperations.contains(operation)) {
+                transactionMonitor.dataEvent(partition, dataCollectionId, offset, key, value);
+                operationCounts.merge(operation, 1, Integer::sum);
+                lastOperation = operation;
+                lastOffset = offset;
+                lastKey = key;
+                lastValue = value;
+                if (incrementalSnapshotChangeEventSource != null) {
+                    incrementalSnapshotChangeEventSource.processMessage(partition, dataCollectionId, key, offset);
+                }
+                receiver.changeRecord(partition, schema, operation, key, value, offset, headers);
+            }
+        }
+
+        void flush(P partition) throws InterruptedException {
+            for (Map.Entry<Operation, Integer> operationCount : operationCounts.entrySet()) {
+                if (operationCount.getKey() != lastOperation) {
+                    eventListener.onEvents(partition, dataCollectionId, lastOffset, lastKey, lastValue, operationCount.getKey(), operationCount.getValue());
+                }
             }
+            if (lastOperation != null) {
+                // the last event is reported last, so it is shown as the last event seen
+                eventListener.onEvents(partition, dataCollectionId, lastOffset, lastKey, lastValue, lastOperation, operationCounts.get(lastOperation));
+            }
+            queue.enqueueAll(events);
+            events.clear();
+            operationCounts.clear();
+            lastOperation = null;
         }
     }
 
@@ -713,6 +846,9 @@ public void close() {
         if (heartbeatsEnabled()) {
             heartbeat.close();
         }
+        if (incrementalSnapshotChangeEventSource != null) {
+            incrementalSnapshotChangeEventSource.close();
+        }
     }
 
     @SuppressWarnings("resource")
@@ -45,24 +45,33 @@ public void onEvent(DataCollectionId source, OffsetContext offset, Object key, S
         lastEvent = metadataProvider.toSummaryString(source, offset, key, value);
     }
 
+    public void onEvents(DataCollectionId source, OffsetContext offset, Object key, Struct value, Operation operation, int count) {
+        updateCommonEventMetrics(operation, count);
+        lastEvent = metadataProvider.toSummaryString(source, offset, key, value);
+    }
+
     private void updateCommonEventMetrics() {
         updateCommonEventMetrics(null);
     }
 
     private void updateCommonEventMetrics(Operation operation) {
-        totalNumberOfEventsSeen.incrementAndGet();
+        updateCommonEventMetrics(operation, 1);
+    }
+
+    private void updateCommonEventMetrics(Operation operation, int count) {
+        totalNumberOfEventsSeen.addAndGet(count);
         lastEventTimestamp.set(clock.currentTimeInMillis());
 
         if (operation != null) {
             switch (operation) {
                 case CREATE:
-                    totalNumberOfCreateEventsSeen.incrementAndGet();
+                    totalNumberOfCreateEventsSeen.addAndGet(count);
                     break;
                 case UPDATE:
-                    totalNumberOfUpdateEventsSeen.incrementAndGet();
+                    totalNumberOfUpdateEventsSeen.addAndGet(count);
                     break;
                 case DELETE:
-                    totalNumberOfDeleteEventsSeen.incrementAndGet();
+                    totalNumberOfDeleteEventsSeen.addAndGet(count);
                     break;
                 default:
                     break;
@@ -41,6 +41,9 @@ public class SnapshotMeter implements SnapshotMetricsMXBean {
     private final AtomicLong stopPauseTime = new AtomicLong();
     private final AtomicLong pauseDuration = new AtomicLong();
     private final ConcurrentMap<String, Long> rowsScanned = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> rowsScannedPerChunk = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> currentChunkSizes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> effectiveChunkSizes = new ConcurrentHashMap<>();
 
     private final ConcurrentMap<String, String> remainingTables = new ConcurrentHashMap<>();
 
@@ -190,6 +193,30 @@ public ConcurrentMap<String, Long> getRowsScanned() {
         return rowsScanned;
     }
 
+    public void chunkRowsScanned(TableId tableId, int chunkIndex, int chunkCount, long numRows) {
+        rowsScannedPerChunk.put(tableId.toString() + "[" + (chunkIndex + 1) + "/" + chunkCount + "]", numRows);
+    }
+
+    @Override
+    public ConcurrentMap<String, Long> getRowsScannedPerChunk() {
+        return rowsScannedPerChunk;
+    }
+
+    public void chunkSize(TableId tableId, int currentChunkSize, int effectiveChunkSize) {
+        currentChunkSizes.put(tableId.toString(), currentChunkSize);
+        effectiveChunkSizes.put(tableId.toString(), effectiveChunkSize);
+    }
+
+    @Override
+    public ConcurrentMap<String, Integer> getCurrentChunkSizes() {
+        return currentChunkSizes;
+    }
+
+    @Override
+    public ConcurrentMap<String, Integer> getEffectiveChunkSizes() {
+        return effectiveChunkSizes;
+    }
+
     public void currentChunk(String chunkId, Object[] chunkFrom, Object[] chunkTo) {
         this.chunkId.set(chunkId);
         this.chunkFrom.set(chunkFrom);
@@ -242,6 +269,9 @@ public void reset() {
         stopPauseTime.set(0);
         pauseDuration.set(0);
         rowsScanned.clear();
+        rowsScannedPerChunk.clear();
+        currentChunkSizes.clear();
+        effectiveChunkSizes.clear();
         remainingTables.clear();
         capturedTables.clear();
         chunkId.set(null);
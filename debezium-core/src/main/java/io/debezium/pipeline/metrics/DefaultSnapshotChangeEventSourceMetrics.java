@@ -130,6 +130,31 @@ public ConcurrentMap<String, Long> getRowsScanned() {
         return snapshotMeter.getRowsScanned();
     }
 
+    @Override
+    public void chunkRowsScanned(P partition, TableId tableId, int chunkIndex, int chunkCount, long numRows) {
+        snapshotMeter.chunkRowsScanned(tableId, chunkIndex, chunkCount, numRows);
+    }
+
+    @Override
+    public ConcurrentMap<String, Long> getRowsScannedPerChunk() {
+        return snapshotMeter.getRowsScannedPerChunk();
+    }
+
+    @Override
+    public void chunkSize(P partition, TableId tableId, int currentChunkSize, int effectiveChunkSize) {
+        snapshotMeter.chunkSize(tableId, currentChunkSize, effectiveChunkSize);
+    }
+
+    @Override
+    public ConcurrentMap<String, Integer> getCurrentChunkSizes() {
+        return snapshotMeter.getCurrentChunkSizes();
+    }
+
+    @Override
+    public ConcurrentMap<String, Integer> getEffectiveChunkSizes() {
+        return snapshotMeter.getEffectiveChunkSizes();
+    }
+
     @Override
     public void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object[] chunkTo) {
         snapshotMeter.currentChunk(chunkId, chunkFrom, chunkTo);
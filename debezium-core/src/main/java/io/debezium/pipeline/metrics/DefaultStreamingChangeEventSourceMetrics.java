@@ -82,6 +82,12 @@ public void onEvent(P partition, DataCollectionId source, OffsetContext offset,
         streamingMeter.onEvent(source, offset, key, value);
     }
 
+    @Override
+    public void onEvents(P partition, DataCollectionId source, OffsetContext offset, Object key, Struct value, Operation operation, int count) {
+        super.onEvents(partition, source, offset, key, value, operation, count);
+        streamingMeter.onEvent(source, offset, key, value);
+    }
+
     @Override
     public void onConnectorEvent(P partition, ConnectorEvent event) {
     }
@@ -61,6 +61,12 @@ public void onEvent(P partition, DataCollectionId source, OffsetContext offset,
         commonEventMeter.onEvent(source, offset, key, value, operation);
     }
 
+    @Override
+    public void onEvents(P partition, DataCollectionId source, OffsetContext offset, Object key, Struct value,
+                         Operation operation, int count) {
+        commonEventMeter.onEvents(source, offset, key, value, operation, count);
+    }
+
     @Override
     public void onFilteredEvent(P partition, String event) {
         commonEventMeter.onFilteredEvent();
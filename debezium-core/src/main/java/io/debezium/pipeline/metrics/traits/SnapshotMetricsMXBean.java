@@ -30,6 +30,18 @@ public interface SnapshotMetricsMXBean extends SchemaMetricsMXBean {
 
     Map<String, Long> getRowsScanned();
 
+    Map<String, Long> getRowsScannedPerChunk();
+
+    /**
+     * Returns the number of rows of the incremental snapshot chunk last read from each table.
+     */
+    Map<String, Integer> getCurrentChunkSizes();
+
+    /**
+     * Returns the number of rows of the next incremental snapshot chunk to be read from each table.
+     */
+    Map<String, Integer> getEffectiveChunkSizes();
+
     String getChunkId();
 
     String getChunkFrom();
@@ -17,15 +17,22 @@
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +40,7 @@
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.data.ValueWrapper;
 import io.debezium.jdbc.JdbcConnection;
+import io.debezium.jdbc.MainConnectionProvidingConnectionFactory;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
 import io.debezium.pipeline.signal.SignalPayload;
@@ -52,6 +60,7 @@
 import io.debezium.relational.TableSchema;
 import io.debezium.schema.DatabaseSchema;
 import io.debezium.spi.schema.DataCollectionId;
+import io.debezium.util.ApproximateStructSizeCalculator;
 import io.debezium.util.Clock;
 import io.debezium.util.ColumnUtils;
 import io.debezium.util.Strings;
@@ -67,6 +76,11 @@
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractIncrementalSnapshotChangeEventSource.class);
 
+    /**
+     * The number of rows of a chunk whose size is measured when adapting the chunk size.
+     */
+    private static final int ROW_SIZE_SAMPLES = 8;
+
     protected final RelationalDatabaseConnectorConfig connectorConfig;
     private final Clock clock;
     private final RelationalDatabaseSchema databaseSchema;
@@ -80,9 +94,27 @@
     protected IncrementalSnapshotContext<T> context = null;
     protected JdbcConnection jdbcConnection;
     protected ChunkQueryBuilder<T> chunkQueryBuilder;
-    protected final Map<Struct, Object[]> window = new LinkedHashMap<>();
+    protected final DeduplicationWindow window = new DeduplicationWindow();
     protected final NotificationService<P, ? extends OffsetContext> notificationService;
 
+    /**
+     * The windows of the data collections whose chunks are read concurrently, including the current one.
+     * Used instead of {@link #window} when the chunks are read concurrently.
+     */
+    private final Map<T, ConcurrentWindow> concurrentWindows = new LinkedHashMap<>();
+    private final Map<TableId, Long> concurrentRowsScanned = new HashMap<>();
+    private final MainConnectionProvidingConnectionFactory<? extends JdbcConnection> connectionFactory;
+    private final Class<? extends SourceConnector> connectorType;
+    private final int maxThreads;
+
+    /**
+     * The readers of the chunks read concurrently and the threads running them; created when the first window of
+     * an incremental snapshot is read and released when the snapshot completes.
+     */
+    private final Queue<ChunkReader> chunkReaders = new ConcurrentLinkedQueue<>();
+    private ExecutorService chunkReaderExecutor;
+    private final IncrementalSnapshotChunkSizer chunkSizer;
+
     public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
                                                         JdbcConnection jdbcConnection,
                                                         EventDispatcher<P, T> dispatcher,
@@ -91,9 +123,44 @@ public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorC
                                                         SnapshotProgressListener<P> progressListener,
                                                         DataChangeEventListener<P> dataChangeEventListener,
                                                         NotificationService<P, ? extends OffsetContext> notificationService) {
+        this(config, jdbcConnection, null, null, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService);
+    }
+
+    /**
+     * Creates an incremental snapshot change event source that reads the chunks of up to
+     * {@link RelationalDatabaseConnectorConfig#INCREMENTAL_SNAPSHOT_MAX_THREADS} data collections concurrently,
+     * using the main connection of the factory and additional connections created by the factory.
+     */
+    public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                        Class<? extends SourceConnector> connectorType,
+                                                        MainConnectionProvidingConnectionFactory<? extends JdbcConnection> connectionFactory,
+                                                        EventDispatcher<P, T> dispatcher,
+                                                        DatabaseSchema<?> databaseSchema,
+                                                        Clock clock,
+                                                        SnapshotProgressListener<P> progressListener,
+                                                        DataChangeEventListener<P> dataChangeEventListener,
+                                                        NotificationService<P, ? extends OffsetContext> notificationService) {
+        this(config, connectionFactory.mainConnection(), connectorType, connectionFactory, dispatcher, databaseSchema, clock, progressListener,
+                dataChangeEventListener, notificationService);
+    }
+
+    private AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                         JdbcConnection jdbcConnection,
+                                                         Class<? extends SourceConnector> connectorType,
+                                                         MainConnectionProvidingConnectionFactory<? extends JdbcConnection> connectionFactory,
+                                                         EventDispatcher<P, T> dispatcher,
+                                                         DatabaseSchema<?> databaseSchema,
+                                                         Clock clock,
+                                                         SnapshotProgressListener<P> progressListener,
+                                                         DataChangeEventListener<P> dataChangeEventListener,
+                                                         NotificationService<P, ? extends OffsetContext> notificationService) {
         this.connectorConfig = config;
         this.jdbcConnection = jdbcConnection;
         this.chunkQueryBuilder = jdbcConnection.chunkQueryBuilder(config);
+        this.connectionFactory = connectionFactory;
+        this.connectorType = connectorType;
+        this.maxThreads = determineMaxThreads(config, connectionFactory);
+        this.chunkSizer = new IncrementalSnapshotChunkSizer(config, maxThreads);
         this.dispatcher = dispatcher;
         this.databaseSchema = (RelationalDatabaseSchema) databaseSchema;
         this.clock = clock;
@@ -102,6 +169,23 @@ public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorC
         this.notificationService = notificationService;
     }
 
+    private static int determineMaxThreads(RelationalDatabaseConnectorConfig config,
+                                           MainConnectionProvidingConnectionFactory<? extends JdbcConnection> connectionFactory) {
+        final int maxThreads = config.getIncrementalSnapshotMaxThreads();
+        if (maxThreads <= 1) {
+            return 1;
+        }
+        if (connectionFactory == null) {
+            LOGGER.warn("Concurrent reading of incremental snapshot chunks is not supported by the connector, the chunks will be read sequentially");
+            return 1;
+        }
+        if (config.isIncrementalSnapshotSchemaChangesEnabled()) {
+            LOGGER.warn("Concurrent reading of incremental snapshot chunks is not supported when schema changes are allowed, the chunks will be read sequentially");
+            return 1;
+        }
+        return maxThreads;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void closeWindow(P partition, String id, OffsetContext offsetContext) throws InterruptedException {
@@ -139,7 +223,7 @@ public void resumeSnapshot(P partition, OffsetContext offsetContext) throws Inte
     public void processSchemaChange(P partition, OffsetContext offsetContext, DataCollectionId dataCollectionId) throws InterruptedException {
         context = (IncrementalSnapshotContext<T>) offsetContext.getIncrementalSnapshotContext();
         if (dataCollectionId != null && (context.currentDataCollectionId() != null) &&
-                dataCollectionId.equals(context.currentDataCollectionId().getId())) {
+                (dataCollectionId.equals(context.currentDataCollectionId().getId()) || concurrentWindows.containsKey(dataCollectionId))) {
             rereadChunk(partition, offsetContext);
         }
     }
@@ -148,10 +232,14 @@ public void rereadChunk(P partition, OffsetContext offsetContext) throws Interru
         if (context == null) {
             return;
         }
-        if (!context.snapshotRunning() || !context.deduplicationNeeded() || window.isEmpty()) {
+        if (!context.snapshotRunning() || !context.deduplicationNeeded() || !hasWindowEvents()) {
             return;
         }
         window.clear();
+        for (ConcurrentWindow concurrentWindow : concurrentWindows.values()) {
+            context.concurrentDataCollectionContext(concurrentWindow.dataCollection).revertChunk();
+        }
+        concurrentWindows.clear();
         context.revertChunk();
         readChunk(partition, offsetContext);
     }
@@ -166,11 +254,20 @@ protected String getSignalTableName(String dataCollectionId) {
     protected void sendWindowEvents(P partition, OffsetContext offsetContext) throws InterruptedException {
         LOGGER.debug("Sending {} events from window buffer", window.size());
         offsetContext.incrementalSnapshotEvents();
-        for (Object[] row : window.values()) {
+        for (Object[] row : window) {
             sendEvent(partition, dispatcher, offsetContext, row);
         }
+        for (ConcurrentWindow concurrentWindow : concurrentWindows.values()) {
+            LOGGER.debug("Sending {} events of table '{}' from window buffer", concurrentWindow.rows.size(), concurrentWindow.table.id());
+            // the data collection may have become the current one since its chunk was read
+            final IncrementalSnapshotContext<T> dataCollectionContext = context.concurrentDataCollectionContext(concurrentWindow.dataCollection);
+            for (Object[] row : concurrentWindow.rows) {
+                sendEvent(partition, offsetContext, dataCollectionContext, concurrentWindow.table, row);
+            }
+        }
         offsetContext.postSnapshotCompletion();
         window.clear();
+        concurrentWindows.clear();
     }
 
     protected void sendEvent(P partition, EventDispatcher<P, T> dispatcher, OffsetContext offsetContext, Object[] row) throws InterruptedException {
@@ -181,6 +278,23 @@ protected void sendEvent(P partition, EventDispatcher<P, T> dispatcher, OffsetCo
                 dispatcher.getIncrementalSnapshotChangeEventReceiver(dataListener));
     }
 
+    private void sendEvent(P partition, OffsetContext offsetContext, IncrementalSnapshotContext<T> dataCollectionContext, Table table, Object[] row)
+            throws InterruptedException {
+        final T dataCollectionId = dataCollectionContext.currentDataCollectionId().getId();
+        dataCollectionContext.sendEvent(keyFromRow(chunkQueryBuilder, dataCollectionContext, table, row));
+        offsetContext.event(dataCollectionId, clock.currentTimeAsInstant());
+        dispatcher.dispatchSnapshotEvent(partition, dataCollectionId,
+                getChangeRecordEmitter(partition, dataCollectionId, offsetContext, row),
+                dispatcher.getIncrementalSnapshotChangeEventReceiver(dataListener));
+    }
+
+    /**
+     * Returns whether the currently open window contains any snapshot events.
+     */
+    protected boolean hasWindowEvents() {
+        return !window.isEmpty() || !concurrentWindows.isEmpty();
+    }
+
     /**
      * Returns a {@link ChangeRecordEmitter} producing the change records for
      * the given table row.
@@ -191,11 +305,18 @@ protected ChangeRecordEmitter<P> getChangeRecordEmitter(P partition, T dataColle
     }
 
     protected void deduplicateWindow(DataCollectionId dataCollectionId, Object key) {
+        if (!concurrentWindows.isEmpty()) {
+            final ConcurrentWindow concurrentWindow = concurrentWindows.get(dataCollectionId);
+            if (concurrentWindow != null && key instanceof Struct && concurrentWindow.rows.remove((Struct) key)) {
+                LOGGER.info("Removed '{}' from window", key);
+            }
+            return;
+        }
         if (context.currentDataCollectionId() == null || !context.currentDataCollectionId().getId().equals(dataCollectionId)) {
             return;
         }
         if (key instanceof Struct) {
-            if (window.remove((Struct) key) != null) {
+            if (window.remove((Struct) key)) {
                 LOGGER.info("Removed '{}' from window", key);
             }
         }
@@ -242,6 +363,7 @@ protected void readChunk(P partition, OffsetContext offsetContext) throws Interr
 
         if (!context.snapshotRunning()) {
             LOGGER.info("Skipping read chunk because snapshot is not running");
+            closeChunkReaders();
             postIncrementalSnapshotCompleted();
             return;
         }
@@ -256,94 +378,260 @@ protected void readChunk(P partition, OffsetContext offsetContext) throws Interr
             context.startNewChunk();
             emitWindowOpen();
             LOGGER.trace("Window open emitted");
-            while (context.snapshotRunning()) {
+            if (maxThreads > 1) {
+                readChunksConcurrently(partition, offsetContext);
+            }
+            else {
+                while (context.snapshotRunning()) {
 
-                LOGGER.trace("Checking if current table is invalid");
-                if (isTableInvalid(partition, offsetContext)) {
-                    continue;
-                }
-                if (connectorConfig.isIncrementalSnapshotSchemaChangesEnabled() && !schemaHistoryIsUpToDate()) {
-                    // Schema has changed since the previous window.
-                    // Closing the current window and repeating schema verification within the following window.
-                    break;
-                }
-                final TableId currentTableId = (TableId) context.currentDataCollectionId().getId();
-                if (context.maximumKey().isEmpty()) {
-                    currentTable = refreshTableSchema(currentTable);
-                    Object[] maximumKey;
-                    try {
-                        maximumKey = jdbcConnection.queryAndMap(
-                                chunkQueryBuilder.buildMaxPrimaryKeyQuery(context, currentTable, context.currentDataCollectionId().getAdditionalCondition()), rs -> {
-                                    if (!rs.next()) {
-                                        return null;
-                                    }
-                                    return keyFromRow(jdbcConnection.rowToArray(currentTable, rs,
-                                            ColumnUtils.toArray(rs, currentTable)));
-                                });
-                        context.maximumKey(maximumKey);
-                    }
-                    catch (SQLException e) {
-                        LOGGER.error("Failed to read maximum key for table {}", currentTableId, e);
-                        notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
-                                SQL_EXCEPTION);
-                        nextDataCollection(partition, offsetContext);
+                    LOGGER.trace("Checking if current table is invalid");
+                    if (isTableInvalid(partition, offsetContext)) {
                         continue;
                     }
-                    if (context.maximumKey().isEmpty()) {
-                        LOGGER.info(
-                                "No maximum key returned by the query, incremental snapshotting of table '{}' finished as it is empty",
-                                currentTableId);
-                        notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned, EMPTY);
-                        nextDataCollection(partition, offsetContext);
-                        continue;
+                    if (connectorConfig.isIncrementalSnapshotSchemaChangesEnabled() && !schemaHistoryIsUpToDate()) {
+                        // Schema has changed since the previous window.
+                        // Closing the current window and repeating schema verification within the following window.
+                        break;
                     }
-                    if (LOGGER.isInfoEnabled()) {
-                        LOGGER.info("Incremental snapshot for table '{}' will end at position {}", currentTableId,
-                                context.maximumKey().orElse(new Object[0]));
+                    final TableId currentTableId = (TableId) context.currentDataCollectionId().getId();
+                    if (context.maximumKey().isEmpty()) {
+                        currentTable = refreshTableSchema(currentTable);
+                        try {
+                            context.maximumKey(readMaximumKey(jdbcConnection, chunkQueryBuilder, context, currentTable));
+                        }
+                        catch (SQLException e) {
+                            LOGGER.error("Failed to read maximum key for table {}", currentTableId, e);
+                            notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
+                                    SQL_EXCEPTION);
+                            nextDataCollection(partition, offsetContext);
+                            continue;
+                        }
+                        if (context.maximumKey().isEmpty()) {
+                            LOGGER.info(
+                                    "No maximum key returned by the query, incremental snapshotting of table '{}' finished as it is empty",
+                                    currentTableId);
+                            notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
+                                    EMPTY);
+                            nextDataCollection(partition, offsetContext);
+                            continue;
+                        }
+                        if (LOGGER.isInfoEnabled()) {
+                            LOGGER.info("Incremental snapshot for table '{}' will end at position {}", currentTableId,
+                                    context.maximumKey().orElse(new Object[0]));
+                        }
                     }
-                }
 
-                if (createDataEventsForTable(partition)) {
+                    if (createDataEventsForTable(partition)) {
 
-                    if (!context.snapshotRunning()) { // A stop signal has been processed and window cleared.
-                        return;
-                    }
+                        if (!context.snapshotRunning()) { // A stop signal has been processed and window cleared.
+                            return;
+                        }
 
-                    if (window.isEmpty()) {
-                        LOGGER.info("No data returned by the query, incremental snapshotting of table '{}' finished",
-                                currentTableId);
+                        if (window.isEmpty()) {
+                            LOGGER.info("No data returned by the query, incremental snapshotting of table '{}' finished",
+                                    currentTableId);
 
-                        notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
-                                SUCCEEDED);
+                            notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
+                                    SUCCEEDED);
 
-                        tableScanCompleted(partition);
-                        nextDataCollection(partition, offsetContext);
+                            tableScanCompleted(partition);
+                            nextDataCollection(partition, offsetContext);
+                        }
+                        else {
+
+                            notificationService.incrementalSnapshotNotificationService().notifyInProgress(context, partition, offsetContext);
+                            break;
+                        }
                     }
                     else {
-
-                        notificationService.incrementalSnapshotNotificationService().notifyInProgress(context, partition, offsetContext);
+                        context.revertChunk();
                         break;
                     }
                 }
-                else {
-                    context.revertChunk();
-                    break;
-                }
             }
             emitWindowClose(partition, offsetContext);
             LOGGER.trace("Window close emitted");
         }
         catch (Exception e) {
+            // the connections may be broken, they are opened again when the chunks are read next time
+            closeChunkReaders();
             throw new DebeziumException(String.format("Database error while executing incremental snapshot for table '%s'", context.currentDataCollectionId()), e);
         }
         finally {
             postReadChunk(context);
             if (!context.snapshotRunning()) {
+                closeChunkReaders();
                 postIncrementalSnapshotCompleted();
             }
         }
     }
 
+    /**
+     * Reads the next chunks of up to {@code maxThreads} data collections concurrently, each using its own connection,
+     * until at least one of the chunks is not empty. The chunks are buffered in a single window, deduplicated
+     * per data collection. The threads and connections are kept until the incremental snapshot completes.
+     */
+    private void readChunksConcurrently(P partition, OffsetContext offsetContext) throws Exception {
+        if (chunkReaderExecutor == null) {
+            chunkReaderExecutor = Threads.newFixedThreadPool(connectorType, connectorConfig.getLogicalName(), "incremental-snapshot-chunk-reader", maxThreads);
+            chunkReaders.add(new ChunkReader(jdbcConnection, chunkQueryBuilder));
+        }
+        while (context.snapshotRunning()) {
+            final List<ConcurrentWindow> chunks = new ArrayList<>(maxThreads);
+            for (DataCollection<T> dataCollection : context.getDataCollections()) {
+                if (chunks.size() == maxThreads) {
+                    break;
+                }
+                final IncrementalSnapshotContext<T> dataCollectionContext = context.concurrentDataCollectionContext(dataCollection);
+                final TableId tableId = (TableId) dataCollection.getId();
+                Table table = databaseSchema.tableFor(tableId);
+                if (table == null) {
+                    LOGGER.warn("Schema not found for table '{}', known tables {}", tableId, databaseSchema.tableIds());
+                    notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(dataCollectionContext, partition, offsetContext,
+                            concurrentRowsScanned.getOrDefault(tableId, 0L), UNKNOWN_SCHEMA);
+                    concurrentDataCollectionCompleted(partition, offsetContext, dataCollection);
+                    continue;
+                }
+                if (chunkQueryBuilder.getQueryColumns(dataCollectionContext, table).isEmpty()) {
+                    LOGGER.warn("Incremental snapshot for table '{}' skipped because the table has no primary keys", tableId);
+                    notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(dataCollectionContext, partition, offsetContext,
+                            concurrentRowsScanned.getOrDefault(tableId, 0L), NO_PRIMARY_KEY);
+                    concurrentDataCollectionCompleted(partition, offsetContext, dataCollection);
+                    continue;
+                }
+                if (dataCollectionContext.maximumKey().isEmpty()) {
+                    table = refreshTableSchema(table);
+                }
+                if (dataCollectionContext == context) {
+                    currentTable = table;
+                }
+                chunks.add(new ConcurrentWindow(dataCollection, dataCollectionContext, table, databaseSchema.schemaFor(tableId),
+                        chunkSizer.chunkSize(tableId)));
+            }
+
+            for (int i = chunkReaders.size(); i < chunks.size(); i++) {
+                final JdbcConnection connection = connectionFactory.newConnection();
+                chunkReaders.add(new ChunkReader(connection, connection.chunkQueryBuilder(connectorConfig)));
+            }
+            final List<Future<?>> futures = new ArrayList<>(chunks.size());
+            for (ConcurrentWindow chunk : chunks) {
+                futures.add(chunkReaderExecutor.submit(() -> {
+                    final ChunkReader chunkReader = chunkReaders.poll();
+                    try {
+                        chunkReader.read(chunk);
+                    }
+                    finally {
+                        chunkReaders.add(chunkReader);
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                }
+                catch (ExecutionException e) {
+                    throw new DebeziumException("Snapshotting of table " + chunks.get(i).table.id() + " failed", e.getCause());
+                }
+            }
+
+            // the current data collection is completed last so that the position of the next one is complete when it is promoted
+            final List<DataCollection<T>> completed = new ArrayList<>();
+            for (ConcurrentWindow chunk : chunks) {
+                if (!chunkCompletesDataCollection(partition, offsetContext, chunk)) {
+                    concurrentWindows.put(chunk.dataCollection.getId(), chunk);
+                    notificationService.incrementalSnapshotNotificationService().notifyInProgress(chunk.context, partition, offsetContext);
+                }
+                else if (chunk.context == context) {
+                    completed.add(chunk.dataCollection);
+                }
+                else {
+                    completed.add(0, chunk.dataCollection);
+                }
+            }
+            for (DataCollection<T> dataCollection : completed) {
+                concurrentDataCollectionCompleted(partition, offsetContext, dataCollection);
+            }
+            if (!concurrentWindows.isEmpty()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Closes the connections and stops the threads used for reading chunks concurrently.
+     */
+    private void closeChunkReaders() {
+        if (chunkReaderExecutor == null) {
+            return;
+        }
+        chunkReaderExecutor.shutdownNow();
+        chunkReaderExecutor = null;
+        ChunkReader chunkReader;
+        while ((chunkReader = chunkReaders.poll()) != null) {
+            if (chunkReader.connection != jdbcConnection) {
+                try {
+                    chunkReader.connection.close();
+                }
+                catch (SQLException e) {
+                    LOGGER.warn("Failed to close incremental snapshot chunk reader connection", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closeChunkReaders();
+    }
+
+    /**
+     * Applies the chunk read concurrently to the context of its data collection.
+     *
+     * @return {@code true} if the data collection has been snapshotted completely, {@code false} otherwise
+     */
+    private boolean chunkCompletesDataCollection(P partition, OffsetContext offsetContext, ConcurrentWindow chunk) {
+        final IncrementalSnapshotContext<T> dataCollectionContext = chunk.context;
+        final TableId tableId = chunk.table.id();
+        if (chunk.maximumKeyFailure != null) {
+            LOGGER.error("Failed to read maximum key for table {}", tableId, chunk.maximumKeyFailure);
+            notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(dataCollectionContext, partition, offsetContext,
+                    concurrentRowsScanned.getOrDefault(tableId, 0L), SQL_EXCEPTION);
+            return true;
+        }
+        if (dataCollectionContext.maximumKey().isEmpty()) {
+            LOGGER.info("No maximum key returned by the query, incremental snapshotting of table '{}' finished as it is empty", tableId);
+            notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(dataCollectionContext, partition, offsetContext,
+                    concurrentRowsScanned.getOrDefault(tableId, 0L), EMPTY);
+            return true;
+        }
+        chunkCompleted(partition, dataCollectionContext, tableId, chunk.chunkSize, chunk.statistics);
+        final long rowsScanned = concurrentRowsScanned.merge(tableId, chunk.statistics.rowCount, Long::sum);
+        progressListener.rowsScanned(partition, tableId, rowsScanned);
+        if (chunk.statistics.rowCount > 0) {
+            LOGGER.debug("\t Next window of table '{}' will resume from {}", tableId, dataCollectionContext.chunkEndPosititon());
+            return false;
+        }
+        LOGGER.info("No data returned by the query, incremental snapshotting of table '{}' finished", tableId);
+        notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(dataCollectionContext, partition, offsetContext, rowsScanned,
+                SUCCEEDED);
+        progressListener.dataCollectionSnapshotCompleted(partition, tableId, rowsScanned);
+        concurrentRowsScanned.remove(tableId);
+        progressListener.currentChunk(partition, null, null, null, null);
+        return true;
+    }
+
+    private void concurrentDataCollectionCompleted(P partition, OffsetContext offsetContext, DataCollection<T> dataCollection) {
+        concurrentRowsScanned.remove((TableId) dataCollection.getId());
+        chunkSizer.tableCompleted((TableId) dataCollection.getId());
+        if (dataCollection.equals(context.currentDataCollectionId())) {
+            nextDataCollection(partition, offsetContext);
+        }
+        else {
+            context.concurrentDataCollectionCompleted(dataCollection);
+        }
+    }
+
     private boolean isTableInvalid(P partition, OffsetContext offsetContext) {
         final TableId currentTableId = (TableId) context.currentDataCollectionId().getId();
         currentTable = databaseSchema.tableFor(currentTableId);
@@ -399,7 +687,7 @@ private Table readSchema() {
 
         try (PreparedStatement statement = chunkQueryBuilder.readTableChunkStatement(context, currentTable, selectStatement);
                 ResultSet rs = statement.executeQuery()) {
-            return getTable(rs);
+            return getTable(currentTable.id(), rs);
         }
         catch (SQLException e) {
             throw new DebeziumException("Snapshotting of table " + currentTable.id() + " failed", e);
@@ -407,6 +695,9 @@ private Table readSchema() {
     }
 
     private void nextDataCollection(P partition, OffsetContext offsetContext) {
+        if (context.currentDataCollectionId() != null) {
+            chunkSizer.tableCompleted((TableId) context.currentDataCollectionId().getId());
+        }
         context.nextDataCollection();
         if (!context.snapshotRunning()) {
             progressListener.snapshotCompleted(partition);
@@ -468,6 +759,8 @@ public void stopSnapshot(P partition, OffsetContext offsetContext, Map<String, O
 
                     // Clear the state
                     window.clear();
+                    concurrentWindows.clear();
+                    concurrentRowsScanned.clear();
                     closeWindow(partition, context.currentChunkId(), offsetContext);
 
                     progressListener.snapshotAborted(partition);
@@ -490,6 +783,7 @@ public void stopSnapshot(P partition, OffsetContext offsetContext, Map<String, O
                         stopCurrentTableId = currentTable.id();
                     }
                     else {
+                        concurrentWindows.remove(collectionId);
                         if (context.removeDataCollectionFromSnapshot(dataCollectionId)) {
                             LOGGER.info("Removed '{}' from incremental snapshot collection list.", collectionId);
                         }
@@ -501,6 +795,7 @@ public void stopSnapshot(P partition, OffsetContext offsetContext, Map<String, O
                 // If current is requested to stop, proceed with stopping it.
                 if (stopCurrentTableId != null) {
                     window.clear();
+                    concurrentWindows.remove(stopCurrentTableId);
                     LOGGER.info("Removed '{}' from incremental snapshot collection list.", stopCurrentTableId);
                     tableScanCompleted(partition);
                     // If snapshot has no more collections, abort; otherwise advance to the next collection.
@@ -545,70 +840,113 @@ private List<String> expandAndDedupeDataCollectionIds(List<String> dataCollectio
      * Dispatches the data change events for the records of a single table.
      */
     private boolean createDataEventsForTable(P partition) {
-        long exportStart = clock.currentTimeInMillis();
         LOGGER.debug("Exporting data chunk from table '{}' (total {} tables)", currentTable.id(), context.dataCollectionsToBeSnapshottedCount());
 
-        final String selectStatement = chunkQueryBuilder.buildChunkQuery(context, currentTable, context.currentDataCollectionId().getAdditionalCondition());
-        LOGGER.debug("\t For table '{}' using select statement: '{}', key: '{}', maximum key: '{}'", currentTable.id(),
-                selectStatement, context.chunkEndPosititon(), context.maximumKey().get());
+        final int chunkSize = chunkSizer.chunkSize(currentTable.id());
+        try {
+            final ChunkStatistics chunk = readChunkRows(jdbcConnection, chunkQueryBuilder, context, currentTable, databaseSchema.schemaFor(currentTable.id()),
+                    chunkSize, window);
+            if (chunk == null) {
+                return false;
+            }
+            chunkCompleted(partition, context, currentTable.id(), chunkSize, chunk);
+            if (chunk.rowCount > 0) {
+                LOGGER.debug("\t Next window will resume from {}", (Object) context.chunkEndPosititon());
+            }
+            incrementTableRowsScanned(partition, chunk.rowCount);
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Snapshotting of table " + currentTable.id() + " failed", e);
+        }
+        return true;
+    }
 
-        final TableSchema tableSchema = databaseSchema.schemaFor(currentTable.id());
+    /**
+     * Reads the maximum key of a table, the incremental snapshot of the table ends at this key.
+     *
+     * @return the maximum key, {@code null} if the table is empty
+     */
+    private Object[] readMaximumKey(JdbcConnection connection, ChunkQueryBuilder<T> chunkQueryBuilder, IncrementalSnapshotContext<T> context, Table table)
+            throws SQLException {
+        return connection.queryAndMap(chunkQueryBuilder.buildMaxPrimaryKeyQuery(context, table, context.currentDataCollectionId().getAdditionalCondition()), rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            return keyFromRow(chunkQueryBuilder, context, table, connection.rowToArray(table, rs, ColumnUtils.toArray(rs, table)));
+        });
+    }
 
-        try (PreparedStatement statement = chunkQueryBuilder.readTableChunkStatement(context, currentTable, selectStatement);
+    /**
+     * Reads the rows of the next chunk of a table into the given window. The position of the chunk is not advanced.
+     *
+     * @return the statistics of the chunk, {@code null} if the schema of the table has changed and the chunk has to be read again
+     */
+    private ChunkStatistics readChunkRows(JdbcConnection connection, ChunkQueryBuilder<T> chunkQueryBuilder, IncrementalSnapshotContext<T> context,
+                                          Table table, TableSchema tableSchema, int chunkSize, DeduplicationWindow rows)
+            throws SQLException {
+        final long exportStart = clock.currentTimeInMillis();
+        final String selectStatement = chunkQueryBuilder.buildChunkQuery(context, table, chunkSize, context.currentDataCollectionId().getAdditionalCondition());
+        LOGGER.debug("\t For table '{}' using select statement: '{}', key: '{}', maximum key: '{}'", table.id(),
+                selectStatement, context.chunkEndPosititon(), context.maximumKey().get());
+
+        try (PreparedStatement statement = chunkQueryBuilder.readTableChunkStatement(context, table, selectStatement);
                 ResultSet rs = statement.executeQuery()) {
-            if (checkSchemaChanges(rs)) {
-                return false;
+            if (checkSchemaChanges(context, table, rs)) {
+                return null;
             }
-            final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, currentTable);
-            long rows = 0;
+            final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+            final ChunkStatistics chunk = new ChunkStatistics();
             Timer logTimer = getTableScanLogTimer();
 
-            Object[] lastRow = null;
             Object[] firstRow = null;
+            Object[] lastRow = null;
+            final int rowSampleInterval = Math.max(chunkSize / ROW_SIZE_SAMPLES, 1);
             while (rs.next()) {
-                rows++;
-                final Object[] row = jdbcConnection.rowToArray(currentTable, rs, columnArray);
+                final Object[] row = connection.rowToArray(table, rs, columnArray);
                 if (firstRow == null) {
                     firstRow = row;
                 }
-                final Struct keyStruct = tableSchema.keyFromColumnData(row);
-                window.put(keyStruct, row);
+                rows.put(tableSchema.keyFromColumnData(row), row);
+                if (chunkSizer.isAdaptive() && chunk.rowCount % rowSampleInterval == 0) {
+                    chunk.rowSampleBytes += rowSize(tableSchema, row);
+                    chunk.rowSamples++;
+                }
+                chunk.rowCount++;
                 if (logTimer.expired()) {
-                    long stop = clock.currentTimeInMillis();
-                    LOGGER.debug("\t Exported {} records for table '{}' after {}", rows, currentTable.id(),
-                            Strings.duration(stop - exportStart));
+                    LOGGER.debug("\t Exported {} records for table '{}' after {}", chunk.rowCount, table.id(),
+                            Strings.duration(clock.currentTimeInMillis() - exportStart));
                     logTimer = getTableScanLogTimer();
                 }
                 lastRow = row;
             }
-            final Object[] firstKey = keyFromRow(firstRow);
-            final Object[] lastKey = keyFromRow(lastRow);
-            if (context.isNonInitialChunk()) {
-                progressListener.currentChunk(partition, context.currentChunkId(), firstKey, lastKey);
-            }
-            else {
-                progressListener.currentChunk(partition, context.currentChunkId(), firstKey, lastKey, context.maximumKey().orElse(null));
-            }
-            context.nextChunkPosition(lastKey);
-            if (lastRow != null) {
-                LOGGER.debug("\t Next window will resume from {}", (Object) context.chunkEndPosititon());
-            }
+            chunk.durationMillis = clock.currentTimeInMillis() - exportStart;
+            chunk.firstKey = keyFromRow(chunkQueryBuilder, context, table, firstRow);
+            chunk.lastKey = keyFromRow(chunkQueryBuilder, context, table, lastRow);
+            LOGGER.debug("\t Finished exporting {} records for window of table table '{}'; total duration '{}'", chunk.rowCount,
+                    table.id(), Strings.duration(chunk.durationMillis));
+            return chunk;
+        }
+    }
 
-            LOGGER.debug("\t Finished exporting {} records for window of table table '{}'; total duration '{}'", rows,
-                    currentTable.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
-            incrementTableRowsScanned(partition, rows);
+    /**
+     * Advances the position of a table past the chunk read from it, and reports the chunk.
+     */
+    private void chunkCompleted(P partition, IncrementalSnapshotContext<T> context, TableId tableId, int chunkSize, ChunkStatistics chunk) {
+        if (context.isNonInitialChunk()) {
+            progressListener.currentChunk(partition, context.currentChunkId(), chunk.firstKey, chunk.lastKey);
         }
-        catch (SQLException e) {
-            throw new DebeziumException("Snapshotting of table " + currentTable.id() + " failed", e);
+        else {
+            progressListener.currentChunk(partition, context.currentChunkId(), chunk.firstKey, chunk.lastKey, context.maximumKey().orElse(null));
         }
-        return true;
+        context.nextChunkPosition(chunk.lastKey);
+        chunkRead(partition, tableId, chunkSize, chunk);
     }
 
-    private boolean checkSchemaChanges(ResultSet rs) throws SQLException {
+    private boolean checkSchemaChanges(IncrementalSnapshotContext<T> context, Table table, ResultSet rs) throws SQLException {
         if (!connectorConfig.isIncrementalSnapshotSchemaChangesEnabled()) {
             return false;
         }
-        Table schema = getTable(rs);
+        Table schema = getTable(table.id(), rs);
         if (!schema.equals(context.getSchema())) {
             context.setSchemaVerificationPassed(false);
             Table oldSchema = context.getSchema();
@@ -619,7 +957,7 @@ private boolean checkSchemaChanges(ResultSet rs) throws SQLException {
         return false;
     }
 
-    private Table getTable(ResultSet rs) throws SQLException {
+    private Table getTable(TableId tableId, ResultSet rs) throws SQLException {
         final ResultSetMetaData metaData = rs.getMetaData();
         List<Column> columns = new ArrayList<>();
         for (int i = 1; i <= metaData.getColumnCount(); i++) {
@@ -635,11 +973,28 @@ private Table getTable(ResultSet rs) throws SQLException {
         }
         Collections.sort(columns);
         return Table.editor()
-                .tableId(currentTable.id())
+                .tableId(tableId)
                 .addColumns(columns)
                 .create();
     }
 
+    private long rowSize(TableSchema tableSchema, Object[] row) {
+        return ApproximateStructSizeCalculator.getApproximateStructSize(tableSchema.valueFromColumnData(row));
+    }
+
+    /**
+     * Determines the size of the next chunk of a table from the chunk read from it.
+     */
+    private void chunkRead(P partition, TableId tableId, int chunkSize, ChunkStatistics chunk) {
+        final long bytes = chunk.rowSamples == 0 ? 0 : chunk.rowSampleBytes / chunk.rowSamples * chunk.rowCount;
+        final int nextChunkSize = chunkSizer.chunkRead(tableId, chunkSize, chunk.rowCount, chunk.durationMillis, bytes,
+                dispatcher.getQueueRemainingCapacity());
+        if (nextChunkSize != chunkSize) {
+            LOGGER.debug("\t Next chunk of table '{}' will have {} rows instead of {}", tableId, nextChunkSize, chunkSize);
+        }
+        progressListener.chunkSize(partition, tableId, chunkSize, nextChunkSize);
+    }
+
     private void incrementTableRowsScanned(P partition, long rows) {
         totalRowsScanned += rows;
         progressListener.rowsScanned(partition, currentTable.id(), totalRowsScanned);
@@ -656,12 +1011,16 @@ private Timer getTableScanLogTimer() {
         return Threads.timer(clock, RelationalSnapshotChangeEventSource.LOG_INTERVAL);
     }
 
-    @SuppressWarnings("unchecked")
     private Object[] keyFromRow(Object[] row) {
+        return keyFromRow(chunkQueryBuilder, context, currentTable, row);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] keyFromRow(ChunkQueryBuilder<T> chunkQueryBuilder, IncrementalSnapshotContext<T> context, Table table, Object[] row) {
         if (row == null) {
             return null;
         }
-        final List<Column> keyColumns = chunkQueryBuilder.getQueryColumns(context, currentTable);
+        final List<Column> keyColumns = chunkQueryBuilder.getQueryColumns(context, table);
         final Object[] key = new Object[keyColumns.size()];
         for (int i = 0; i < keyColumns.size(); i++) {
             final Object fieldValue = row[keyColumns.get(i).position() - 1];
@@ -703,4 +1062,76 @@ protected Table refreshTableSchema(Table table) throws SQLException {
         // connectors like MySQL or Oracle
         return table;
     }
+
+    /**
+     * The window of a data collection whose chunks are read concurrently.
+     */
+    private class ConcurrentWindow {
+        private final DataCollection<T> dataCollection;
+        private final IncrementalSnapshotContext<T> context;
+        private final Table table;
+        private final TableSchema tableSchema;
+        private final int chunkSize;
+        private final DeduplicationWindow rows = new DeduplicationWindow();
+        private SQLException maximumKeyFailure;
+        private ChunkStatistics statistics;
+
+        ConcurrentWindow(DataCollection<T> dataCollection, IncrementalSnapshotContext<T> context, Table table, TableSchema tableSchema, int chunkSize) {
+            this.dataCollection = dataCollection;
+            this.context = context;
+            this.table = table;
+            this.tableSchema = tableSchema;
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    /**
+     * Reads the chunks of a data collection using its own connection.
+     * Only the chunk position of the data collection being read is modified.
+     */
+    private class ChunkReader {
+        private final JdbcConnection connection;
+        private final ChunkQueryBuilder<T> chunkQueryBuilder;
+
+        ChunkReader(JdbcConnection connection, ChunkQueryBuilder<T> chunkQueryBuilder) {
+            this.connection = connection;
+            this.chunkQueryBuilder = chunkQueryBuilder;
+        }
+
+        void read(ConcurrentWindow chunk) throws SQLException {
+            if (!connection.isValid()) {
+                connection.connect();
+            }
+            final IncrementalSnapshotContext<T> dataCollectionContext = chunk.context;
+            if (dataCollectionContext.maximumKey().isEmpty()) {
+                try {
+                    dataCollectionContext.maximumKey(readMaximumKey(connection, chunkQueryBuilder, dataCollectionContext, chunk.table));
+                }
+                catch (SQLException e) {
+                    chunk.maximumKeyFailure = e;
+                    return;
+                }
+                if (dataCollectionContext.maximumKey().isEmpty()) {
+                    return;
+                }
+                if (LOGGER.isInfoEnabled()) {
+                    LOGGER.info("Incremental snapshot for table '{}' will end at position {}", chunk.table.id(),
+                            dataCollectionContext.maximumKey().orElse(new Object[0]));
+                }
+            }
+            chunk.statistics = readChunkRows(connection, chunkQueryBuilder, dataCollectionContext, chunk.table, chunk.tableSchema, chunk.chunkSize, chunk.rows);
+        }
+    }
+
+    /**
+     * The keys of the first and the last row of a chunk read from a table, and the statistics used for sizing the next chunk.
+     */
+    private static class ChunkStatistics {
+        private Object[] firstKey;
+        private Object[] lastKey;
+        private long rowCount;
+        private long durationMillis;
+        private long rowSampleBytes;
+        private int rowSamples;
+    }
 }
@@ -55,6 +55,10 @@
     public static final String EVENT_PRIMARY_KEY = INCREMENTAL_SNAPSHOT_KEY + "_primary_key";
     public static final String TABLE_MAXIMUM_KEY = INCREMENTAL_SNAPSHOT_KEY + "_maximum_key";
     public static final String CORRELATION_ID = INCREMENTAL_SNAPSHOT_KEY + "_correlation_id";
+    public static final String CONCURRENT_CHUNKS = INCREMENTAL_SNAPSHOT_KEY + "_concurrent_chunks";
+    private static final String CONCURRENT_CHUNK_ID = "id";
+    private static final String CONCURRENT_CHUNK_PRIMARY_KEY = "primary_key";
+    private static final String CONCURRENT_CHUNK_MAXIMUM_KEY = "maximum_key";
     private final SnapshotDataCollection<T> snapshotDataCollection = new SnapshotDataCollection<>();
 
     /**
@@ -91,6 +95,19 @@
 
     private String correlationId;
 
+    /**
+     * The chunk positions of the data collections, other than the current one, whose chunks are read
+     * concurrently with the chunks of the current data collection.
+     */
+    private final Map<T, ChunkPosition> concurrentChunkPositions = new LinkedHashMap<>();
+
+    /**
+     * The cached offset representation of {@link #concurrentChunkPositions}, {@code null} if it has to be recomputed.
+     */
+    private String concurrentChunksJson;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
     /**
      * Determines if the incremental snapshot was paused or not.
      */
@@ -183,6 +200,9 @@ public Map<String, Object> store(Map<String, Object> offset) {
         offset.put(TABLE_MAXIMUM_KEY, arrayToSerializedString(maximumKey));
         offset.put(SnapshotDataCollection.DATA_COLLECTIONS_TO_SNAPSHOT_KEY, snapshotDataCollection.dataCollectionsAsJsonString());
         offset.put(CORRELATION_ID, correlationId);
+        if (!concurrentChunkPositions.isEmpty()) {
+            offset.put(CONCURRENT_CHUNKS, concurrentChunksAsJsonString());
+        }
         return offset;
     }
 
@@ -218,15 +238,79 @@ private Function<String, DataCollection<T>> buildDataCollection(List<AdditionalC
     public void stopSnapshot() {
         this.snapshotDataCollection.clear();
         this.correlationId = null;
+        clearConcurrentChunkPositions();
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public boolean removeDataCollectionFromSnapshot(String dataCollectionId) {
         final T collectionId = (T) TableId.parse(dataCollectionId, useCatalogBeforeSchema);
+        if (concurrentChunkPositions.remove(collectionId) != null) {
+            concurrentChunksJson = null;
+        }
         return snapshotDataCollection.remove(List.of(new DataCollection<>(collectionId)));
     }
 
+    @Override
+    public IncrementalSnapshotContext<T> concurrentDataCollectionContext(DataCollection<T> dataCollection) {
+        if (dataCollection.equals(currentDataCollectionId())) {
+            return this;
+        }
+        return new ConcurrentDataCollectionContext(dataCollection,
+                concurrentChunkPositions.computeIfAbsent(dataCollection.getId(), id -> new ChunkPosition()));
+    }
+
+    @Override
+    public void concurrentDataCollectionCompleted(DataCollection<T> dataCollection) {
+        concurrentChunkPositions.remove(dataCollection.getId());
+        concurrentChunksJson = null;
+        snapshotDataCollection.remove(List.of(dataCollection));
+    }
+
+    private void clearConcurrentChunkPositions() {
+        concurrentChunkPositions.clear();
+        concurrentChunksJson = null;
+    }
+
+    private String concurrentChunksAsJsonString() {
+        if (concurrentChunksJson != null) {
+            return concurrentChunksJson;
+        }
+        final List<Map<String, String>> chunks = new ArrayList<>(concurrentChunkPositions.size());
+        for (Map.Entry<T, ChunkPosition> entry : concurrentChunkPositions.entrySet()) {
+            final Map<String, String> chunk = new LinkedHashMap<>();
+            chunk.put(CONCURRENT_CHUNK_ID, entry.getKey().toString());
+            chunk.put(CONCURRENT_CHUNK_PRIMARY_KEY, arrayToSerializedString(entry.getValue().lastEventKeySent));
+            chunk.put(CONCURRENT_CHUNK_MAXIMUM_KEY, arrayToSerializedString(entry.getValue().maximumKey));
+            chunks.add(chunk);
+        }
+        try {
+            concurrentChunksJson = mapper.writeValueAsString(chunks);
+            return concurrentChunksJson;
+        }
+        catch (JsonProcessingException e) {
+            throw new DebeziumException("Cannot serialize concurrent chunks information");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void restoreConcurrentChunkPositions(String concurrentChunksStr) {
+        try {
+            final List<LinkedHashMap<String, String>> chunks = mapper.readValue(concurrentChunksStr, new TypeReference<List<LinkedHashMap<String, String>>>() {
+            });
+            for (Map<String, String> chunk : chunks) {
+                final ChunkPosition position = new ChunkPosition();
+                position.lastEventKeySent = serializedStringToArray(CONCURRENT_CHUNKS, chunk.get(CONCURRENT_CHUNK_PRIMARY_KEY));
+                position.chunkEndPosition = position.lastEventKeySent;
+                position.maximumKey = serializedStringToArray(CONCURRENT_CHUNKS, chunk.get(CONCURRENT_CHUNK_MAXIMUM_KEY));
+                concurrentChunkPositions.put((T) TableId.parse(chunk.get(CONCURRENT_CHUNK_ID), useCatalogBeforeSchema), position);
+            }
+        }
+        catch (JsonProcessingException e) {
+            throw new DebeziumException("Cannot de-serialize concurrent chunks information");
+        }
+    }
+
     @Override
     public List<DataCollection<T>> getDataCollections() {
         return new ArrayList<>(snapshotDataCollection.getDataCollectionsToSnapshot());
@@ -257,6 +341,11 @@ protected static <U> IncrementalSnapshotContext<U> init(AbstractIncrementalSnaps
             context.addTablesIdsToSnapshot(context.snapshotDataCollection.stringToDataCollections(dataCollectionsStr, context.useCatalogBeforeSchema));
         }
         context.correlationId = (String) offsets.get(CORRELATION_ID);
+        context.clearConcurrentChunkPositions();
+        final String concurrentChunksStr = (String) offsets.get(CONCURRENT_CHUNKS);
+        if (concurrentChunksStr != null) {
+            context.restoreConcurrentChunkPositions(concurrentChunksStr);
+        }
         return context;
     }
 
@@ -299,7 +388,19 @@ public boolean isNonInitialChunk() {
 
     public DataCollection<T> nextDataCollection() {
         resetChunk();
-        return snapshotDataCollection.getNext();
+        final DataCollection<T> dataCollection = snapshotDataCollection.getNext();
+        final DataCollection<T> next = snapshotDataCollection.peek();
+        final ChunkPosition position = next != null ? concurrentChunkPositions.remove(next.getId()) : null;
+        if (position != null) {
+            // the chunks of the next data collection were already read concurrently, continue where they stopped
+            concurrentChunksJson = null;
+            chunkEndPosition = position.chunkEndPosition;
+            lastEventKeySent = position.lastEventKeySent;
+            maximumKey = position.maximumKey;
+            schema = position.schema;
+            schemaVerificationPassed = position.schemaVerificationPassed;
+        }
+        return dataCollection;
     }
 
     public void startNewChunk() {
@@ -345,7 +446,208 @@ public String toString() {
         return "IncrementalSnapshotContext [windowOpened=" + windowOpened + ", chunkEndPosition="
                 + Arrays.toString(chunkEndPosition) + ", dataCollectionsToSnapshot=" + snapshotDataCollection.getDataCollectionsToSnapshot()
                 + ", lastEventKeySent=" + Arrays.toString(lastEventKeySent) + ", maximumKey="
-                + Arrays.toString(maximumKey) + "]";
+                + Arrays.toString(maximumKey) + ", concurrentChunks=" + concurrentChunkPositions + "]";
+    }
+
+    /**
+     * The position of the chunks of a data collection read concurrently with the current data collection.
+     */
+    private static class ChunkPosition {
+        private Object[] chunkEndPosition;
+        private Object[] lastEventKeySent;
+        private Object[] maximumKey;
+        private Table schema;
+        private boolean schemaVerificationPassed;
+
+        @Override
+        public String toString() {
+            return "ChunkPosition [chunkEndPosition=" + Arrays.toString(chunkEndPosition) + ", lastEventKeySent="
+                    + Arrays.toString(lastEventKeySent) + ", maximumKey=" + Arrays.toString(maximumKey) + "]";
+        }
+    }
+
+    /**
+     * A view of this context for a data collection read concurrently with the current data collection.
+     * It tracks the chunk position of the data collection, anything else is shared with this context.
+     */
+    private class ConcurrentDataCollectionContext implements IncrementalSnapshotContext<T> {
+
+        private final DataCollection<T> dataCollection;
+        private final ChunkPosition position;
+
+        ConcurrentDataCollectionContext(DataCollection<T> dataCollection, ChunkPosition position) {
+            this.dataCollection = dataCollection;
+            this.position = position;
+        }
+
+        @Override
+        public DataCollection<T> currentDataCollectionId() {
+            return dataCollection;
+        }
+
+        /**
+         * Completes the data collection read concurrently; unlike the current data collection, it is not followed by another one.
+         *
+         * @return the completed data collection
+         */
+        @Override
+        public DataCollection<T> nextDataCollection() {
+            AbstractIncrementalSnapshotContext.this.concurrentDataCollectionCompleted(dataCollection);
+            return dataCollection;
+        }
+
+        @Override
+        public List<DataCollection<T>> addDataCollectionNamesToSnapshot(String correlationId, List<String> dataCollectionIds,
+                                                                        List<AdditionalCondition> additionalCondition, String surrogateKey) {
+            return AbstractIncrementalSnapshotContext.this.addDataCollectionNamesToSnapshot(correlationId, dataCollectionIds, additionalCondition, surrogateKey);
+        }
+
+        @Override
+        public int dataCollectionsToBeSnapshottedCount() {
+            return AbstractIncrementalSnapshotContext.this.dataCollectionsToBeSnapshottedCount();
+        }
+
+        @Override
+        public boolean openWindow(String id) {
+            return AbstractIncrementalSnapshotContext.this.openWindow(id);
+        }
+
+        @Override
+        public boolean closeWindow(String id) {
+            return AbstractIncrementalSnapshotContext.this.closeWindow(id);
+        }
+
+        @Override
+        public void pauseSnapshot() {
+            AbstractIncrementalSnapshotContext.this.pauseSnapshot();
+        }
+
+        @Override
+        public void resumeSnapshot() {
+            AbstractIncrementalSnapshotContext.this.resumeSnapshot();
+        }
+
+        @Override
+        public boolean isSnapshotPaused() {
+            return AbstractIncrementalSnapshotContext.this.isSnapshotPaused();
+        }
+
+        @Override
+        public boolean isNonInitialChunk() {
+            return position.chunkEndPosition != null;
+        }
+
+        @Override
+        public boolean snapshotRunning() {
+            return AbstractIncrementalSnapshotContext.this.snapshotRunning();
+        }
+
+        @Override
+        public void startNewChunk() {
+            AbstractIncrementalSnapshotContext.this.startNewChunk();
+        }
+
+        @Override
+        public void nextChunkPosition(Object[] lastKey) {
+            position.chunkEndPosition = lastKey;
+        }
+
+        @Override
+        public String currentChunkId() {
+            return AbstractIncrementalSnapshotContext.this.currentChunkId();
+        }
+
+        @Override
+        public Object[] chunkEndPosititon() {
+            return position.chunkEndPosition;
+        }
+
+        @Override
+        public void sendEvent(Object[] keyFromRow) {
+            position.lastEventKeySent = keyFromRow;
+            concurrentChunksJson = null;
+        }
+
+        @Override
+        public void maximumKey(Object[] key) {
+            position.maximumKey = key;
+            concurrentChunksJson = null;
+        }
+
+        @Override
+        public Optional<Object[]> maximumKey() {
+            return Optional.ofNullable(position.maximumKey);
+        }
+
+        @Override
+        public boolean deduplicationNeeded() {
+            return AbstractIncrementalSnapshotContext.this.deduplicationNeeded();
+        }
+
+        @Override
+        public Map<String, Object> store(Map<String, Object> offset) {
+            return AbstractIncrementalSnapshotContext.this.store(offset);
+        }
+
+        @Override
+        public void revertChunk() {
+            position.chunkEndPosition = position.lastEventKeySent;
+        }
+
+        @Override
+        public void setSchema(Table schema) {
+            position.schema = schema;
+        }
+
+        @Override
+        public Table getSchema() {
+            return position.schema;
+        }
+
+        @Override
+        public boolean isSchemaVerificationPassed() {
+            return position.schemaVerificationPassed;
+        }
+
+        @Override
+        public void setSchemaVerificationPassed(boolean schemaVerificationPassed) {
+            position.schemaVerificationPassed = schemaVerificationPassed;
+        }
+
+        @Override
+        public void stopSnapshot() {
+            AbstractIncrementalSnapshotContext.this.stopSnapshot();
+        }
+
+        @Override
+        public boolean removeDataCollectionFromSnapshot(String dataCollectionId) {
+            return AbstractIncrementalSnapshotContext.this.removeDataCollectionFromSnapshot(dataCollectionId);
+        }
+
+        @Override
+        public List<DataCollection<T>> getDataCollections() {
+            return AbstractIncrementalSnapshotContext.this.getDataCollections();
+        }
+
+        @Override
+        public void unsetCorrelationId() {
+            AbstractIncrementalSnapshotContext.this.unsetCorrelationId();
+        }
+
+        @Override
+        public String getCorrelationId() {
+            return AbstractIncrementalSnapshotContext.this.getCorrelationId();
+        }
+
+        @Override
+        public IncrementalSnapshotContext<T> concurrentDataCollectionContext(DataCollection<T> dataCollection) {
+            return AbstractIncrementalSnapshotContext.this.concurrentDataCollectionContext(dataCollection);
+        }
+
+        @Override
+        public void concurrentDataCollectionCompleted(DataCollection<T> dataCollection) {
+            AbstractIncrementalSnapshotContext.this.concurrentDataCollectionCompleted(dataCollection);
+        }
     }
 
     private static class SnapshotDataCollection<T> extends LinkedList<DataCollection<T>> {
@@ -370,11 +672,13 @@ public String toString() {
 
         void add(List<DataCollection<T>> dataCollectionIds) {
             this.dataCollectionsToSnapshot.addAll(dataCollectionIds);
+            this.dataCollectionsToSnapshotJson = null;
             this.dataCollectionsToSnapshotJson = jsonString();
         }
 
         DataCollection<T> getNext() {
             DataCollection<T> nextDataCollection = this.dataCollectionsToSnapshot.poll();
+            this.dataCollectionsToSnapshotJson = null;
             this.dataCollectionsToSnapshotJson = jsonString();
             return nextDataCollection;
         }
@@ -398,6 +702,7 @@ public boolean isEmpty() {
 
         public boolean remove(List<DataCollection<T>> toRemove) {
             boolean removed = this.dataCollectionsToSnapshot.removeAll(toRemove);
+            this.dataCollectionsToSnapshotJson = null;
             this.dataCollectionsToSnapshotJson = jsonString();
             return removed;
         }
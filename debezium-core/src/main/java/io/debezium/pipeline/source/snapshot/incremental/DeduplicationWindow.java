@@ -0,0 +1,445 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * The buffer of the rows of an incremental snapshot chunk, keyed by their primary key. Rows whose key is seen in the
+ * stream while the window is open are removed, the remaining rows are emitted in the order they were read.
+ * <p>
+ * Instead of keeping the key {@link Struct}s in a {@link java.util.LinkedHashMap}, the keys are encoded into a single
+ * byte array and indexed by an open addressing hash table of ints, so a chunk needs a few objects regardless of its size
+ * and a lookup neither allocates nor calls {@link Struct#hashCode()} and {@link Struct#equals(Object)}.
+ * Keys containing values of other than primitive, string, binary, decimal, date and struct types are kept in a regular
+ * map.
+ */
+@NotThreadSafe
+public class DeduplicationWindow implements Iterable<Object[]> {
+
+    private static final int EMPTY = -1;
+    private static final int REMOVED = -2;
+    private static final int UNENCODED = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte INT8 = 2;
+    private static final byte INT16 = 3;
+    private static final byte INT32 = 4;
+    private static final byte INT64 = 5;
+    private static final byte FLOAT32 = 6;
+    private static final byte FLOAT64 = 7;
+    private static final byte STRING = 8;
+    private static final byte BYTES = 9;
+    private static final byte BYTE_BUFFER = 10;
+    private static final byte DECIMAL = 11;
+    private static final byte DATE = 12;
+    private static final byte STRUCT = 13;
+
+    private final KeyEncoder encoder = new KeyEncoder();
+
+    /**
+     * Maps a position derived from the hash of a key to the slot of the key, {@link #EMPTY} or {@link #REMOVED}.
+     */
+    private int[] index = newIndex(INITIAL_CAPACITY * 2);
+    private int indexUsed;
+
+    private byte[] keys = new byte[INITIAL_CAPACITY * 16];
+    private int keysLength;
+    private int[] keyOffsets = new int[INITIAL_CAPACITY];
+    private int[] keyLengths = new int[INITIAL_CAPACITY];
+    private int[] keyHashes = new int[INITIAL_CAPACITY];
+    private Object[][] rows = new Object[INITIAL_CAPACITY][];
+    private int slots;
+    private int size;
+
+    /**
+     * The slots of the keys that cannot be encoded.
+     */
+    private final Map<Struct, Integer> unencodableKeys = new HashMap<>();
+
+    /**
+     * Adds the row with the given key to the window, replacing the row with the same key if there is one.
+     */
+    public void put(Struct key, Object[] row) {
+        if (!encoder.encode(key)) {
+            final Integer slot = unencodableKeys.get(key);
+            if (slot != null) {
+                rows[slot] = row;
+                return;
+            }
+            unencodableKeys.put(key, addSlot(row, 0, UNENCODED));
+            return;
+        }
+        final int hash = hash(encoder.buffer, encoder.length);
+        final int position = find(hash);
+        if (position >= 0) {
+            rows[index[position]] = row;
+            return;
+        }
+        if (indexUsed + 1 > index.length / 2) {
+            rehash();
+        }
+        final int keyOffset = appendKey();
+        final int slot = addSlot(row, keyOffset, encoder.length);
+        keyHashes[slot] = hash;
+        insert(slot, hash);
+    }
+
+    /**
+     * Removes the row with the given key from the window.
+     *
+     * @return {@code true} if the window contained a row with the key
+     */
+    public boolean remove(Struct key) {
+        if (size == 0) {
+            return false;
+        }
+        if (!encoder.encode(key)) {
+            final Integer slot = unencodableKeys.remove(key);
+            return slot != null && removeSlot(slot);
+        }
+        final int position = find(hash(encoder.buffer, encoder.length));
+        if (position < 0) {
+            return false;
+        }
+        final int slot = index[position];
+        index[position] = REMOVED;
+        return removeSlot(slot);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all rows, keeping the allocated buffers for the next chunk.
+     */
+    public void clear() {
+        if (indexUsed > 0) {
+            Arrays.fill(index, EMPTY);
+        }
+        Arrays.fill(rows, 0, slots, null);
+        unencodableKeys.clear();
+        indexUsed = 0;
+        keysLength = 0;
+        slots = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the rows of the window in the order they were added.
+     */
+    @Override
+    public Iterator<Object[]> iterator() {
+        return new Iterator<>() {
+            private int slot = nextSlot(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < slots;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Object[] row = rows[slot];
+                slot = nextSlot(slot + 1);
+                return row;
+            }
+
+            private int nextSlot(int slot) {
+                while (slot < slots && rows[slot] == null) {
+                    slot++;
+                }
+                return slot;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "DeduplicationWindow [size=" + size + "]";
+    }
+
+    private int addSlot(Object[] row, int keyOffset, int keyLength) {
+        if (slots == rows.length) {
+            final int capacity = rows.length * 2;
+            rows = Arrays.copyOf(rows, capacity);
+            keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+            keyLengths = Arrays.copyOf(keyLengths, capacity);
+            keyHashes = Arrays.copyOf(keyHashes, capacity);
+        }
+        final int slot = slots++;
+        rows[slot] = row;
+        keyOffsets[slot] = keyOffset;
+        keyLengths[slot] = keyLength;
+        size++;
+        return slot;
+    }
+
+    private boolean removeSlot(int slot) {
+        if (rows[slot] == null) {
+            return false;
+        }
+        rows[slot] = null;
+        size--;
+        return true;
+    }
+
+    private int appendKey() {
+        if (keysLength + encoder.length > keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(keys.length * 2, keysLength + encoder.length));
+        }
+        final int offset = keysLength;
+        System.arraycopy(encoder.buffer, 0, keys, offset, encoder.length);
+        keysLength += encoder.length;
+        return offset;
+    }
+
+    /**
+     * Returns the position of the encoded key in the index or a negative value if the window does not contain it.
+     */
+    private int find(int hash) {
+        final int mask = index.length - 1;
+        for (int position = hash & mask;; position = (position + 1) & mask) {
+            final int slot = index[position];
+            if (slot == EMPTY) {
+                return -1;
+            }
+            if (slot != REMOVED && keyHashes[slot] == hash
+                    && Arrays.equals(keys, keyOffsets[slot], keyOffsets[slot] + keyLengths[slot], encoder.buffer, 0, encoder.length)) {
+                return position;
+            }
+        }
+    }
+
+    private void insert(int slot, int hash) {
+        final int mask = index.length - 1;
+        int position = hash & mask;
+        while (index[position] >= 0) {
+            position = (position + 1) & mask;
+        }
+        if (index[position] == EMPTY) {
+            indexUsed++;
+        }
+        index[position] = slot;
+    }
+
+    private void rehash() {
+        // removed keys are dropped, so the index grows only if most of the keys are still in the window
+        final int capacity = size + 1 > index.length / 4 ? index.length * 2 : index.length;
+        index = newIndex(capacity);
+        indexUsed = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (rows[slot] != null && keyLengths[slot] != UNENCODED) {
+                insert(slot, keyHashes[slot]);
+            }
+        }
+    }
+
+    private static int[] newIndex(int capacity) {
+        final int[] index = new int[capacity];
+        Arrays.fill(index, EMPTY);
+        return index;
+    }
+
+    /**
+     * Murmur3 hash of the given bytes.
+     */
+    static int hash(byte[] bytes, int length) {
+        int h = length;
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            h ^= mixK((bytes[i] & 0xff) | (bytes[i + 1] & 0xff) << 8 | (bytes[i + 2] & 0xff) << 16 | (bytes[i + 3] & 0xff) << 24);
+            h = Integer.rotateLeft(h, 13) * 5 + 0xe6546b64;
+        }
+        int k = 0;
+        for (int shift = 0; i < length; i++, shift += 8) {
+            k |= (bytes[i] & 0xff) << shift;
+        }
+        h ^= mixK(k) ^ length;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+
+    private static int mixK(int k) {
+        return Integer.rotateLeft(k * 0xcc9e2d51, 15) * 0x1b873593;
+    }
+
+    /**
+     * Encodes the values of a key into a reusable buffer. Two keys of the same schema have the same encoding
+     * if and only if they are equal.
+     */
+    private static class KeyEncoder {
+
+        private byte[] buffer = new byte[64];
+        private int length;
+
+        /**
+         * @return {@code false} if the key contains values that cannot be encoded
+         */
+        boolean encode(Struct key) {
+            length = 0;
+            return writeStruct(key);
+        }
+
+        private boolean writeStruct(Struct struct) {
+            for (Field field : struct.schema().fields()) {
+                if (!writeValue(struct.get(field))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean writeValue(Object value) {
+            if (value == null) {
+                writeByte(NULL);
+            }
+            else if (value instanceof Integer) {
+                writeByte(INT32);
+                writeInt((Integer) value);
+            }
+            else if (value instanceof Long) {
+                writeByte(INT64);
+                writeLong((Long) value);
+            }
+            else if (value instanceof String) {
+                writeByte(STRING);
+                writeString((String) value);
+            }
+            else if (value instanceof Short) {
+                writeByte(INT16);
+                writeInt((Short) value);
+            }
+            else if (value instanceof Byte) {
+                writeByte(INT8);
+                writeByte((Byte) value);
+            }
+            else if (value instanceof Boolean) {
+                writeByte(BOOLEAN);
+                writeByte((Boolean) value ? 1 : 0);
+            }
+            else if (value instanceof Float) {
+                writeByte(FLOAT32);
+                writeInt(Float.floatToIntBits((Float) value));
+            }
+            else if (value instanceof Double) {
+                writeByte(FLOAT64);
+                writeLong(Double.doubleToLongBits((Double) value));
+            }
+            else if (value instanceof BigDecimal) {
+                final BigDecimal decimal = (BigDecimal) value;
+                writeByte(DECIMAL);
+                writeInt(decimal.scale());
+                writeBytes(decimal.unscaledValue().toByteArray());
+            }
+            else if (value instanceof byte[]) {
+                writeByte(BYTES);
+                writeBytes((byte[]) value);
+            }
+            else if (value instanceof ByteBuffer) {
+                final ByteBuffer byteBuffer = (ByteBuffer) value;
+                writeByte(BYTE_BUFFER);
+                writeInt(byteBuffer.remaining());
+                ensureCapacity(byteBuffer.remaining());
+                byteBuffer.duplicate().get(buffer, length, byteBuffer.remaining());
+                length += byteBuffer.remaining();
+            }
+            else if (value.getClass() == Date.class) {
+                writeByte(DATE);
+                writeLong(((Date) value).getTime());
+            }
+            else if (value instanceof Struct) {
+                writeByte(STRUCT);
+                return writeStruct((Struct) value);
+            }
+            else {
+                return false;
+            }
+            return true;
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeInt(int value) {
+            ensureCapacity(4);
+            buffer[length++] = (byte) (value >>> 24);
+            buffer[length++] = (byte) (value >>> 16);
+            buffer[length++] = (byte) (value >>> 8);
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        private void writeBytes(byte[] bytes) {
+            writeInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        /**
+         * Writes the number of chars followed by the chars encoded like in {@link java.io.DataOutput#writeUTF(String)},
+         * without allocating an intermediate array.
+         */
+        private void writeString(String value) {
+            final int chars = value.length();
+            writeInt(chars);
+            ensureCapacity(chars * 3);
+            for (int i = 0; i < chars; i++) {
+                final char c = value.charAt(i);
+                if (c > 0 && c < 0x80) {
+                    buffer[length++] = (byte) c;
+                }
+                else if (c < 0x800) {
+                    buffer[length++] = (byte) (0xc0 | (c >> 6));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3f));
+                }
+                else {
+                    buffer[length++] = (byte) (0xe0 | (c >> 12));
+                    buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (length + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + bytes));
+            }
+        }
+    }
+}
@@ -52,4 +52,10 @@ default void processTransactionCommittedEvent(P partition, OffsetContext offsetC
 
     default void processSchemaChange(P partition, OffsetContext offsetContext, DataCollectionId dataCollectionId) throws InterruptedException {
     }
+
+    /**
+     * Releases any resources held for reading the snapshot, called when the connector task is stopped.
+     */
+    default void close() {
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.IncrementalSnapshotChunkSizeMode;
+import io.debezium.relational.TableId;
+
+/**
+ * Determines the number of rows of the next incremental snapshot chunk of each table.
+ * <p>
+ * In the {@link IncrementalSnapshotChunkSizeMode#FIXED fixed} mode every chunk has the configured chunk size.
+ * In the {@link IncrementalSnapshotChunkSizeMode#ADAPTIVE adaptive} mode the first chunk of a table has the configured
+ * chunk size, and every following chunk is resized so that reading it takes the target duration, its events fit into
+ * the byte budget and into the share of the queue of each concurrent chunk reader. The chunk size at most doubles or
+ * halves between two chunks because of the duration or the queue, so that a single slow or fast query does not throw it off.
+ * <p>
+ * The share of the queue follows its remaining capacity, averaged over the chunks read, so that the chunks shrink while the
+ * consumer falls behind but do not collapse when the queue is momentarily full. The share of the size of the queue is the
+ * upper bound.
+ */
+@NotThreadSafe
+public class IncrementalSnapshotChunkSizer {
+
+    private static final int MAX_DURATION_ADJUSTMENT_FACTOR = 2;
+
+    private final boolean adaptive;
+    private final int configuredChunkSize;
+    private final long targetDurationMillis;
+    private final long maxBytes;
+    private final int maxQueueShare;
+    private final int concurrentReaders;
+    private long dampedRemainingCapacity;
+    private final Map<TableId, Integer> chunkSizes = new HashMap<>();
+
+    /**
+     * @param config the connector configuration
+     * @param concurrentReaders the number of chunks which are read concurrently and share the queue
+     */
+    public IncrementalSnapshotChunkSizer(RelationalDatabaseConnectorConfig config, int concurrentReaders) {
+        this.adaptive = config.getIncrementalSnapshotChunkSizeMode() == IncrementalSnapshotChunkSizeMode.ADAPTIVE;
+        this.configuredChunkSize = config.getIncrementalSnapshotChunkSize();
+        this.targetDurationMillis = config.getIncrementalSnapshotChunkTargetDuration().toMillis();
+        this.maxBytes = config.getIncrementalSnapshotChunkMaxBytes();
+        this.concurrentReaders = Math.max(concurrentReaders, 1);
+        this.maxQueueShare = Math.max(config.getMaxQueueSize() / this.concurrentReaders, 1);
+        this.dampedRemainingCapacity = config.getMaxQueueSize();
+    }
+
+    /**
+     * Whether the chunk sizes are adapted, i.e. whether the size of the rows of a chunk needs to be measured.
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Returns the number of rows of the next chunk of the given table.
+     */
+    public int chunkSize(TableId tableId) {
+        return chunkSizes.getOrDefault(tableId, configuredChunkSize);
+    }
+
+    /**
+     * Records a chunk read from the given table and determines the size of the next chunk of the table.
+     *
+     * @param tableId the table the chunk was read from
+     * @param chunkSize the maximum number of rows of the chunk
+     * @param rows the number of rows of the chunk
+     * @param durationMillis the time it took to read the chunk
+     * @param bytes the approximate size of the events of the chunk
+     * @param queueRemainingCapacity the number of events that can be enqueued without blocking
+     * @return the number of rows of the next chunk of the table
+     */
+    public int chunkRead(TableId tableId, int chunkSize, long rows, long durationMillis, long bytes, int queueRemainingCapacity) {
+        if (!adaptive) {
+            return chunkSize;
+        }
+        final int nextChunkSize = nextChunkSize(chunkSize, rows, durationMillis, bytes, queueRemainingCapacity);
+        chunkSizes.put(tableId, nextChunkSize);
+        return nextChunkSize;
+    }
+
+    /**
+     * Forgets the chunk size of a table whose snapshot has been completed.
+     */
+    public void tableCompleted(TableId tableId) {
+        chunkSizes.remove(tableId);
+    }
+
+    int nextChunkSize(int chunkSize, long rows, long durationMillis, long bytes, int queueRemainingCapacity) {
+        dampedRemainingCapacity = (dampedRemainingCapacity + Math.max(queueRemainingCapacity, 0)) / 2;
+        if (rows < chunkSize || chunkSize <= 0) {
+            // the last chunk of the table, it says nothing about the duration of a complete chunk
+            return chunkSize;
+        }
+        long nextChunkSize = rows * targetDurationMillis / Math.max(durationMillis, 1);
+        nextChunkSize = Math.min(nextChunkSize, (long) chunkSize * MAX_DURATION_ADJUSTMENT_FACTOR);
+        nextChunkSize = Math.min(nextChunkSize, dampedRemainingCapacity / concurrentReaders);
+        nextChunkSize = Math.max(nextChunkSize, chunkSize / MAX_DURATION_ADJUSTMENT_FACTOR);
+        if (bytes > 0) {
+            nextChunkSize = Math.min(nextChunkSize, maxBytes * rows / bytes);
+        }
+        nextChunkSize = Math.min(nextChunkSize, maxQueueShare);
+        return (int) Math.max(nextChunkSize, 1);
+    }
+}
@@ -75,4 +75,17 @@ List<DataCollection<T>> addDataCollectionNamesToSnapshot(String correlationId, L
 
     String getCorrelationId();
 
+    /**
+     * Returns the context used to read the chunks of a data collection concurrently with the chunks of the current data collection.
+     * The returned context tracks the chunk positions of the given data collection and shares any other state with this context.
+     *
+     * @param dataCollection the data collection, must be one of the data collections to be snapshotted
+     * @return this context for the current data collection, a view of this context for any other data collection
+     */
+    IncrementalSnapshotContext<T> concurrentDataCollectionContext(DataCollection<T> dataCollection);
+
+    /**
+     * Removes a data collection other than the current one whose chunks were read concurrently and that was snapshotted completely.
+     */
+    void concurrentDataCollectionCompleted(DataCollection<T> dataCollection);
 }
@@ -11,12 +11,14 @@
 import java.time.Instant;
 import java.util.Objects;
 
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.jdbc.JdbcConnection;
+import io.debezium.jdbc.MainConnectionProvidingConnectionFactory;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
 import io.debezium.pipeline.signal.actions.snapshotting.OpenIncrementalSnapshotWindow;
@@ -51,6 +53,20 @@ public SignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnect
         signalWindowDeleteStatement = "DELETE FROM " + getSignalTableName(config.getSignalingDataCollectionId()) + " WHERE id = ?";
     }
 
+    public SignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                           Class<? extends SourceConnector> connectorType,
+                                                           MainConnectionProvidingConnectionFactory<? extends JdbcConnection> connectionFactory,
+                                                           EventDispatcher<P, T> dispatcher, DatabaseSchema<?> databaseSchema,
+                                                           Clock clock,
+                                                           SnapshotProgressListener<P> progressListener,
+                                                           DataChangeEventListener<P> dataChangeEventListener,
+                                                           NotificationService<P, ? extends OffsetContext> notificationService) {
+        super(config, connectorType, connectionFactory, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService);
+        signalWindowStatement = "INSERT INTO " + getSignalTableName(config.getSignalingDataCollectionId())
+                + " VALUES (?, ?, ?)";
+        signalWindowDeleteStatement = "DELETE FROM " + getSignalTableName(config.getSignalingDataCollectionId()) + " WHERE id = ?";
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void processMessage(Partition partition, DataCollectionId dataCollectionId, Object key, OffsetContext offsetContext) {
@@ -60,7 +76,7 @@ public void processMessage(Partition partition, DataCollectionId dataCollectionI
             return;
         }
         LOGGER.trace("Checking window for table '{}', key '{}', window contains '{}'", dataCollectionId, key, window);
-        if (!window.isEmpty() && context.deduplicationNeeded()) {
+        if (hasWindowEvents() && context.deduplicationNeeded()) {
             deduplicateWindow(dataCollectionId, key);
         }
     }
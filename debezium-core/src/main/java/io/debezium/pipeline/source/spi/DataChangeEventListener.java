@@ -27,6 +27,16 @@
      */
     void onEvent(P partition, DataCollectionId source, OffsetContext offset, Object key, Struct value, Operation operation);
 
+    /**
+     * Invoked once for several events of the same operation that were processed for a captured table in one batch.
+     * The offset, key and value are those of the last event of the batch.
+     */
+    default void onEvents(P partition, DataCollectionId source, OffsetContext offset, Object key, Struct value, Operation operation, int count) {
+        for (int i = 0; i < count; i++) {
+            onEvent(partition, source, offset, key, value, operation);
+        }
+    }
+
     /**
      * Invoked for events pertaining to non-captured tables.
      */
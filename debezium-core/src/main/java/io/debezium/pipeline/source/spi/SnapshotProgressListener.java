@@ -32,10 +32,14 @@
 
     void rowsScanned(P partition, TableId tableId, long numRows);
 
+    void chunkRowsScanned(P partition, TableId tableId, int chunkIndex, int chunkCount, long numRows);
+
     void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object[] chunkTo);
 
     void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object[] chunkTo, Object[] tableTo);
 
+    void chunkSize(P partition, TableId tableId, int currentChunkSize, int effectiveChunkSize);
+
     static <P extends Partition> SnapshotProgressListener<P> NO_OP() {
         return new SnapshotProgressListener<P>() {
 
@@ -55,6 +59,10 @@ public void snapshotResumed(P partition) {
             public void rowsScanned(P partition, TableId tableId, long numRows) {
             }
 
+            @Override
+            public void chunkRowsScanned(P partition, TableId tableId, int chunkIndex, int chunkCount, long numRows) {
+            }
+
             @Override
             public void monitoredDataCollectionsDetermined(P partition, Iterable<? extends DataCollectionId> dataCollectionIds) {
             }
@@ -78,6 +86,10 @@ public void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object
             @Override
             public void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object[] chunkTo, Object[] tableTo) {
             }
+
+            @Override
+            public void chunkSize(P partition, TableId tableId, int currentChunkSize, int effectiveChunkSize) {
+            }
         };
     }
 }
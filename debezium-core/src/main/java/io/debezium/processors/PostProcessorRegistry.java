@@ -60,6 +60,15 @@ public void close() {
         }
     }
 
+    /**
+     * Completes the post-processing deferred by any of the post processors.
+     */
+    public void flush() {
+        for (PostProcessor postProcessor : processors) {
+            postProcessor.flush();
+        }
+    }
+
     public List<PostProcessor> getProcessors() {
         return this.processors;
     }
@@ -0,0 +1,80 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.processors.reselect;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.metrics.Metrics;
+
+/**
+ * Metrics of the {@link ReselectColumnsPostProcessor}.
+ */
+@ThreadSafe
+public class ReselectColumnsMetrics extends Metrics implements ReselectColumnsMetricsMXBean {
+
+    private final AtomicLong reselectQueryCount = new AtomicLong();
+    private final AtomicLong reselectedEventCount = new AtomicLong();
+    private final AtomicLong cacheHitCount = new AtomicLong();
+    private final AtomicLong cacheMissCount = new AtomicLong();
+    private final IntSupplier cacheSize;
+
+    public ReselectColumnsMetrics(CommonConnectorConfig connectorConfig, IntSupplier cacheSize) {
+        super(connectorConfig, "reselect-columns", false);
+        this.cacheSize = cacheSize;
+    }
+
+    public void onQuery() {
+        reselectQueryCount.incrementAndGet();
+    }
+
+    public void onEventReselected() {
+        reselectedEventCount.incrementAndGet();
+    }
+
+    public void onCacheHit() {
+        cacheHitCount.incrementAndGet();
+    }
+
+    public void onCacheMiss() {
+        cacheMissCount.incrementAndGet();
+    }
+
+    @Override
+    public long getReselectQueryCount() {
+        return reselectQueryCount.get();
+    }
+
+    @Override
+    public long getReselectedEventCount() {
+        return reselectedEventCount.get();
+    }
+
+    @Override
+    public long getCacheHitCount() {
+        return cacheHitCount.get();
+    }
+
+    @Override
+    public long getCacheMissCount() {
+        return cacheMissCount.get();
+    }
+
+    @Override
+    public int getCacheSize() {
+        return cacheSize.getAsInt();
+    }
+
+    @Override
+    public void reset() {
+        reselectQueryCount.set(0);
+        reselectedEventCount.set(0);
+        cacheHitCount.set(0);
+        cacheMissCount.set(0);
+    }
+}
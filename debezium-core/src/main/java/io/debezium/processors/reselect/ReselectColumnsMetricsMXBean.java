@@ -0,0 +1,30 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.processors.reselect;
+
+/**
+ * Exposes the metrics of the {@link ReselectColumnsPostProcessor}.
+ */
+public interface ReselectColumnsMetricsMXBean {
+
+    /**
+     * @return the number of re-selection queries executed against the source database
+     */
+    long getReselectQueryCount();
+
+    /**
+     * @return the number of events with re-selected column values
+     */
+    long getReselectedEventCount();
+
+    long getCacheHitCount();
+
+    long getCacheMissCount();
+
+    int getCacheSize();
+
+    void reset();
+}
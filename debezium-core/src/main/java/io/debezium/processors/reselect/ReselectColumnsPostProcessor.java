@@ -8,7 +8,10 @@
 import java.nio.ByteBuffer;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -37,6 +40,8 @@
 import io.debezium.relational.TableId;
 import io.debezium.relational.ValueConverter;
 import io.debezium.relational.ValueConverterProvider;
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.BoundedConcurrentHashMap.Eviction;
 import io.debezium.util.Strings;
 
 /**
@@ -44,6 +49,15 @@
  * columns that are populated with the unavailable value placeholder or that the user wishes to have
  * re-queried with the latest state if the column's value happens to be {@code null}.
  *
+ * By default, each event is re-selected with its own query. When a batch size is configured, the events
+ * are collected and the rows of the same table are re-selected with a single query per batch, either once
+ * the batch is full or at the latest before the events are handed over to the Kafka Connect runtime.
+ *
+ * When a cache size is configured, the re-selected values are kept in a bounded LRU cache keyed by the row key
+ * and the position at which the row was read, so that events for the same row at the same position, e.g. several
+ * changes of a row within an Oracle transaction that are re-selected as of the commit SCN, are served from the cache.
+ * Connectors that re-select the current state of a row do not report a position and are never served from the cache.
+ *
  * @author Chris Cranford
  */
 @Incubating
@@ -56,6 +70,8 @@ public class ReselectColumnsPostProcessor implements PostProcessor, BeanRegistry
     private static final String RESELECT_UNAVAILABLE_VALUES = "reselect.unavailable.values";
     private static final String RESELECT_NULL_VALUES = "reselect.null.values";
     private static final String RESELECT_USE_EVENT_KEY = "reselect.use.event.key";
+    private static final String RESELECT_BATCH_SIZE = "reselect.batch.size";
+    private static final String RESELECT_CACHE_SIZE = "reselect.cache.size";
 
     private Predicate<String> selector;
     private boolean reselectUnavailableValues;
@@ -69,6 +85,11 @@ public class ReselectColumnsPostProcessor implements PostProcessor, BeanRegistry
     private String unavailableValuePlaceholderJson;
     private RelationalDatabaseSchema schema;
     private RelationalDatabaseConnectorConfig connectorConfig;
+    private int batchSize;
+    private int cacheSize;
+    private final List<Reselection> pendingReselections = new ArrayList<>();
+    private Map<List<Object>, Map<String, Object>> cache;
+    private ReselectColumnsMetrics metrics;
 
     @Override
     public void configure(Map<String, ?> properties) {
@@ -76,6 +97,11 @@ public void configure(Map<String, ?> properties) {
         this.reselectUnavailableValues = config.getBoolean(RESELECT_UNAVAILABLE_VALUES, true);
         this.reselectNullValues = config.getBoolean(RESELECT_NULL_VALUES, true);
         this.reselectUseEventKeyFields = config.getBoolean(RESELECT_USE_EVENT_KEY, false);
+        this.batchSize = config.getInteger(RESELECT_BATCH_SIZE, 0);
+        this.cacheSize = config.getInteger(RESELECT_CACHE_SIZE, 0);
+        if (cacheSize > 0) {
+            this.cache = new BoundedConcurrentHashMap<>(cacheSize, 1, Eviction.LRU);
+        }
         this.selector = new ReselectColumnsPredicateBuilder()
                 .includeColumns(config.getString(RESELECT_COLUMNS_INCLUDE_LIST))
                 .excludeColumns(config.getString(RESELECT_COLUMNS_EXCLUDE_LIST))
@@ -88,7 +114,12 @@ public void configure(Map<String, ?> properties) {
 
     @Override
     public void close() {
-        // nothing to do
+        synchronized (pendingReselections) {
+            pendingReselections.clear();
+        }
+        if (metrics != null) {
+            metrics.unregister();
+        }
     }
 
     public void apply(Object messageKey, Struct value) {
@@ -160,30 +191,31 @@ public void apply(Object messageKey, Struct value) {
             }
         }
 
-        final Map<String, Object> selections;
-        try {
-            selections = jdbcConnection.reselectColumns(tableId, requiredColumnSelections, keyColumns, keyValues, source);
-            if (selections.isEmpty()) {
-                LOGGER.warn("Failed to find row in table {} with key {}.", tableId, key);
-                return;
-            }
+        final Reselection reselection = new Reselection(table, key, after, requiredColumnSelections, keyColumns, keyValues, source,
+                jdbcConnection.getReselectPosition(source));
+        if (reselectFromCache(reselection)) {
+            return;
         }
-        catch (SQLException e) {
-            LOGGER.warn("Failed to re-select row for table {} and key {}", tableId, key, e);
+
+        if (batchSize <= 0) {
+            reselect(reselection);
             return;
         }
 
-        // Iterate re-selection columns and override old values
-        for (Map.Entry<String, Object> selection : selections.entrySet()) {
-            final String columnName = selection.getKey();
-            final Column column = table.columnWithName(columnName);
-            final org.apache.kafka.connect.data.Field field = after.schema().field(columnName);
+        synchronized (pendingReselections) {
+            pendingReselections.add(reselection);
+            if (pendingReselections.size() >= batchSize) {
+                reselectPending();
+            }
+        }
+    }
 
-            final Object convertedValue = getConvertedValue(column, field, selection.getValue());
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("Replaced field {} value {} with {}", field.name(), value.get(field), convertedValue);
+    @Override
+    public void flush() {
+        if (batchSize > 0) {
+            synchronized (pendingReselections) {
+                reselectPending();
             }
-            after.put(field.name(), convertedValue);
         }
     }
 
@@ -200,6 +232,149 @@ public void injectBeanRegistry(BeanRegistry beanRegistry) {
         this.valueConverterProvider = beanRegistry.lookupByName(StandardBeanNames.VALUE_CONVERTER, ValueConverterProvider.class);
         this.jdbcConnection = beanRegistry.lookupByName(StandardBeanNames.JDBC_CONNECTION, JdbcConnection.class);
         this.schema = beanRegistry.lookupByName(StandardBeanNames.DATABASE_SCHEMA, RelationalDatabaseSchema.class);
+
+        this.metrics = new ReselectColumnsMetrics(connectorConfig, () -> cache == null ? 0 : cache.size());
+        this.metrics.register();
+    }
+
+    private void reselect(Reselection reselection) {
+        final Map<String, Object> selections;
+        try {
+            metrics.onQuery();
+            selections = jdbcConnection.reselectColumns(reselection.table.id(), reselection.columns, reselection.keyColumns,
+                    reselection.keyValues, reselection.source);
+            if (selections.isEmpty()) {
+                LOGGER.warn("Failed to find row in table {} with key {}.", reselection.table.id(), reselection.key);
+                return;
+            }
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Failed to re-select row for table {} and key {}", reselection.table.id(), reselection.key, e);
+            return;
+        }
+        applySelections(reselection, selections);
+    }
+
+    /**
+     * Re-selects the pending events, using a single query for all rows of the same table that are read at the same position.
+     * Callers must hold the lock of the pending re-selections.
+     */
+    private void reselectPending() {
+        if (pendingReselections.isEmpty()) {
+            return;
+        }
+        final Map<List<Object>, List<Reselection>> groups = new LinkedHashMap<>();
+        for (Reselection reselection : pendingReselections) {
+            groups.computeIfAbsent(reselection.groupKey(), k -> new ArrayList<>()).add(reselection);
+        }
+        pendingReselections.clear();
+
+        for (List<Reselection> group : groups.values()) {
+            if (group.size() == 1) {
+                reselect(group.get(0));
+            }
+            else {
+                reselectBatch(group);
+            }
+        }
+    }
+
+    private void reselectBatch(List<Reselection> group) {
+        final Reselection first = group.get(0);
+        final TableId tableId = first.table.id();
+
+        final Map<List<Object>, List<Reselection>> reselectionsByRowKey = new LinkedHashMap<>();
+        for (Reselection reselection : group) {
+            reselectionsByRowKey.computeIfAbsent(reselection.rowKey(), k -> new ArrayList<>()).add(reselection);
+        }
+
+        // Pad the keys to a power of two to limit the number of distinct statements
+        final List<List<Object>> keyValues = new ArrayList<>();
+        reselectionsByRowKey.values().forEach(reselections -> keyValues.add(reselections.get(0).keyValues));
+        final int paddedSize = Math.min(Integer.highestOneBit(keyValues.size() - 1) << 1, Math.max(batchSize, keyValues.size()));
+        while (keyValues.size() < paddedSize) {
+            keyValues.add(keyValues.get(keyValues.size() - 1));
+        }
+
+        final List<Map<String, Object>> rows;
+        try {
+            metrics.onQuery();
+            rows = jdbcConnection.reselectRows(tableId, first.columns, first.keyColumns, keyValues, first.source);
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Failed to re-select {} rows for table {}, re-selecting them one by one.", reselectionsByRowKey.size(), tableId, e);
+            group.forEach(this::reselect);
+            return;
+        }
+
+        for (Map<String, Object> row : rows) {
+            final List<Object> rowKey = new ArrayList<>(first.keyColumns.size());
+            for (String keyColumn : first.keyColumns) {
+                rowKey.add(normalizeKeyValue(first.getConvertedKeyValue(keyColumn, row.get(keyColumn))));
+            }
+            // Only the first row is used if a key matches multiple rows
+            final List<Reselection> reselections = reselectionsByRowKey.remove(rowKey);
+            if (reselections != null) {
+                final Map<String, Object> selections = new HashMap<>();
+                for (String columnName : first.columns) {
+                    selections.put(columnName, row.get(columnName));
+                }
+                reselections.forEach(reselection -> applySelections(reselection, selections));
+            }
+        }
+
+        // The rows that were not found or whose key values could not be matched are re-selected one by one
+        reselectionsByRowKey.values().forEach(reselections -> reselections.forEach(this::reselect));
+    }
+
+    private boolean reselectFromCache(Reselection reselection) {
+        if (cache == null || reselection.position == null) {
+            return false;
+        }
+        final Map<String, Object> convertedValues = cache.get(reselection.cacheKey());
+        if (convertedValues == null) {
+            metrics.onCacheMiss();
+            return false;
+        }
+        metrics.onCacheHit();
+        putConvertedValues(reselection, convertedValues);
+        return true;
+    }
+
+    private void applySelections(Reselection reselection, Map<String, Object> selections) {
+        final Map<String, Object> convertedValues = new HashMap<>();
+        for (Map.Entry<String, Object> selection : selections.entrySet()) {
+            final String columnName = selection.getKey();
+            final Column column = reselection.table.columnWithName(columnName);
+            final org.apache.kafka.connect.data.Field field = reselection.after.schema().field(columnName);
+            convertedValues.put(columnName, getConvertedValue(column, field, selection.getValue()));
+        }
+        if (cache != null && reselection.position != null) {
+            cache.put(reselection.cacheKey(), convertedValues);
+        }
+        putConvertedValues(reselection, convertedValues);
+    }
+
+    private void putConvertedValues(Reselection reselection, Map<String, Object> convertedValues) {
+        // Iterate re-selection columns and override old values
+        for (Map.Entry<String, Object> convertedValue : convertedValues.entrySet()) {
+            final org.apache.kafka.connect.data.Field field = reselection.after.schema().field(convertedValue.getKey());
+            Object value = convertedValue.getValue();
+            if (value instanceof ByteBuffer) {
+                // the values may be shared with other events through the cache
+                value = ((ByteBuffer) value).duplicate();
+            }
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace("Replaced field {} value {} with {}", field.name(), reselection.after.get(field), value);
+            }
+            reselection.after.put(field.name(), value);
+        }
+        metrics.onEventReselected();
+    }
+
+    private static Object normalizeKeyValue(Object value) {
+        // byte arrays do not implement value equality
+        return value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : value;
     }
 
     private List<String> getRequiredColumnSelections(TableId tableId, Struct after) {
@@ -288,6 +463,65 @@ private TableId getTableIdFromSource(Struct source) {
         return jdbcConnection.createTableId(databaseName, schemaName, tableName);
     }
 
+    /**
+     * An event with columns to re-select.
+     */
+    private class Reselection {
+
+        private final Table table;
+        private final Struct key;
+        private final Struct after;
+        private final List<String> columns;
+        private final List<String> keyColumns;
+        private final List<Object> keyValues;
+        private final Struct source;
+        private final String position;
+
+        Reselection(Table table, Struct key, Struct after, List<String> columns, List<String> keyColumns, List<Object> keyValues,
+                    Struct source, String position) {
+            this.table = table;
+            this.key = key;
+            this.after = after;
+            this.columns = columns;
+            this.keyColumns = keyColumns;
+            this.keyValues = keyValues;
+            this.source = source;
+            this.position = position;
+        }
+
+        /**
+         * Events with the same group key can be re-selected with a single query.
+         */
+        List<Object> groupKey() {
+            return Arrays.asList(table.id(), columns, keyColumns, position);
+        }
+
+        List<Object> rowKey() {
+            final List<Object> rowKey = new ArrayList<>(keyValues.size());
+            for (Object keyValue : keyValues) {
+                rowKey.add(normalizeKeyValue(keyValue));
+            }
+            return rowKey;
+        }
+
+        List<Object> cacheKey() {
+            return Arrays.asList(table.id(), columns, position, rowKey());
+        }
+
+        /**
+         * Converts a key column value read from the database the same way as the value of the event's key field.
+         */
+        Object getConvertedKeyValue(String keyColumn, Object value) {
+            final Column column = table.columnWithName(keyColumn);
+            final Struct struct = reselectUseEventKeyFields ? key : after;
+            final org.apache.kafka.connect.data.Field field = struct.schema().field(keyColumn);
+            if (column == null || field == null) {
+                return value;
+            }
+            return getConvertedValue(column, field, value);
+        }
+    }
+
     private static class ReselectColumnsPredicateBuilder {
 
         private Predicate<String> reselectColumnInclusions;
@@ -43,6 +43,16 @@ public interface PostProcessor extends AutoCloseable {
      */
     void apply(Object key, Struct value);
 
+    /**
+     * Completes any post-processing that was deferred by {@link #apply(Object, Struct)}.
+     *
+     * This is called before the events that were passed to the post processor are handed over
+     * to the Kafka Connect runtime, so post processors that apply changes to the events in
+     * batches must have applied them to all pending events once this method returns.
+     */
+    default void flush() {
+    }
+
     /**
      * Close any resources
      */
@@ -42,6 +42,7 @@ public abstract class HistorizedRelationalDatabaseConnectorConfig extends Relati
     protected boolean skipUnparseableDDL;
     protected boolean storeOnlyCapturedTablesDdl;
     protected boolean storeOnlyCapturedDatabasesDdl;
+    private final boolean ddlParserWarmUp;
 
     /**
      * The database schema history class is hidden in the {@link #configDef()} since that is designed to work with a user interface,
@@ -64,12 +65,27 @@ public abstract class HistorizedRelationalDatabaseConnectorConfig extends Relati
 
     public static final Field STORE_ONLY_CAPTURED_DATABASES_DDL = SchemaHistory.STORE_ONLY_CAPTURED_DATABASES_DDL;
 
+    public static final Field SCHEMA_HISTORY_CHECKPOINT_INTERVAL = SchemaHistory.CHECKPOINT_INTERVAL;
+
+    public static final Field SCHEMA_HISTORY_CHECKPOINT_MAX_RECORD_SIZE = SchemaHistory.CHECKPOINT_MAX_RECORD_SIZE;
+
+    public static final Field SCHEMA_HISTORY_CHECKPOINT_COMPACTION = SchemaHistory.CHECKPOINT_COMPACTION;
+
+    public static final Field SCHEMA_HISTORY_RECOVERY_PARSING_THREADS = SchemaHistory.RECOVERY_PARSING_THREADS;
+
+    public static final Field DDL_PARSER_WARMUP = SchemaHistory.DDL_PARSER_WARMUP;
+
     protected static final ConfigDefinition CONFIG_DEFINITION = RelationalDatabaseConnectorConfig.CONFIG_DEFINITION.edit()
             .history(
                     SCHEMA_HISTORY,
                     SKIP_UNPARSEABLE_DDL_STATEMENTS,
                     STORE_ONLY_CAPTURED_TABLES_DDL,
-                    STORE_ONLY_CAPTURED_DATABASES_DDL)
+                    STORE_ONLY_CAPTURED_DATABASES_DDL,
+                    SCHEMA_HISTORY_CHECKPOINT_INTERVAL,
+                    SCHEMA_HISTORY_CHECKPOINT_MAX_RECORD_SIZE,
+                    SCHEMA_HISTORY_CHECKPOINT_COMPACTION,
+                    SCHEMA_HISTORY_RECOVERY_PARSING_THREADS,
+                    DDL_PARSER_WARMUP)
             .create();
 
     protected HistorizedRelationalDatabaseConnectorConfig(Class<? extends SourceConnector> connectorClass,
@@ -110,6 +126,7 @@ protected HistorizedRelationalDatabaseConnectorConfig(Class<? extends SourceConn
         this.skipUnparseableDDL = config.getBoolean(SKIP_UNPARSEABLE_DDL_STATEMENTS);
         this.storeOnlyCapturedTablesDdl = config.getBoolean(STORE_ONLY_CAPTURED_TABLES_DDL);
         this.storeOnlyCapturedDatabasesDdl = config.getBoolean(STORE_ONLY_CAPTURED_DATABASES_DDL);
+        this.ddlParserWarmUp = config.getBoolean(DDL_PARSER_WARMUP);
     }
 
     /**
@@ -170,6 +187,10 @@ public boolean storeOnlyCapturedDatabases() {
         return storeOnlyCapturedDatabasesDdl;
     }
 
+    public boolean warmUpDdlParser() {
+        return ddlParserWarmUp;
+    }
+
     /**
      * Returns a comparator to be used when recovering records from the schema history, making sure no history entries
      * newer than the offset we resume from are recovered (which could happen when restarting a connector after history
@@ -111,6 +111,11 @@ public void initializeStorage() {
     protected void record(SchemaChangeEvent schemaChange, TableChanges tableChanges) {
         schemaHistory.record(schemaChange.getPartition(), schemaChange.getOffset(), schemaChange.getDatabase(),
                 schemaChange.getSchema(), schemaChange.getDdl(), tableChanges, schemaChange.getTimestamp());
+
+        // During snapshot the table definitions may already be ahead of the recorded position
+        if (!schemaChange.isFromSnapshot()) {
+            schemaHistory.recordCheckpoint(schemaChange.getPartition(), schemaChange.getOffset(), tables(), schemaChange.getTimestamp());
+        }
     }
 
     @Override
@@ -204,6 +204,51 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
         }
     }
 
+    /**
+     * The set of predefined IncrementalSnapshotChunkSizeMode options or aliases.
+     */
+    public enum IncrementalSnapshotChunkSizeMode implements EnumeratedValue {
+        /**
+         * Every chunk has the configured chunk size.
+         */
+        FIXED("fixed"),
+
+        /**
+         * The size of every chunk is derived from the duration and size of the previous chunk of the table.
+         */
+        ADAPTIVE("adaptive");
+
+        private final String value;
+
+        IncrementalSnapshotChunkSizeMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static IncrementalSnapshotChunkSizeMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (IncrementalSnapshotChunkSizeMode option : IncrementalSnapshotChunkSizeMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
     public static final Field HOSTNAME = Field.create(DATABASE_CONFIG_PREFIX + JdbcConfiguration.HOSTNAME)
             .withDisplayName("Hostname")
             .withType(Type.STRING)
@@ -514,6 +559,17 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
                     + " If you are excluding a lot of tables the default behavior should work well.")
             .withDefault(false);
 
+    public static final Field TABLES_COPY_ON_WRITE = Field.createInternal("tables.copy.on.write")
+            .withDisplayName("Copy-on-write table definitions")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 999))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the in-memory table definitions publish a new immutable version on each change instead of "
+                    + "guarding every lookup with a lock. Lookups from the streaming and snapshot threads then never wait, "
+                    + "while every DDL change copies the definitions of all tables.")
+            .withDefault(false);
+
     public static final Field UNAVAILABLE_VALUE_PLACEHOLDER = Field.create("unavailable.value.placeholder")
             .withDisplayName("Unavailable value placeholder")
             .withType(Type.STRING)
@@ -533,6 +589,66 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
                     + "A `ascending` value will order the tables by row count ascending. "
                     + "A value of `disabled` (the default) will disable ordering by row count.");
 
+    public static final Field SNAPSHOT_TABLE_CHUNKS = Field.create("snapshot.table.chunks")
+            .withDisplayName("Initial snapshot chunks per table")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 112))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of key ranges into which the initial snapshot splits each table whose primary key starts "
+                    + "with a numeric column, so that the ranges can be read concurrently. "
+                    + "Only applies when 'snapshot.max.threads' is greater than 1 and no select statement override is configured for the table. "
+                    + "Defaults to 1, which reads every table with a single query.");
+
+    public static final Field INCREMENTAL_SNAPSHOT_MAX_THREADS = Field.create("incremental.snapshot.max.threads")
+            .withDisplayName("Incremental snapshot maximum threads")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 113))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of tables whose chunks an incremental snapshot reads concurrently within a single "
+                    + "watermark window, each on its own database connection. "
+                    + "Not applied when 'incremental.snapshot.allow.schema.changes' is enabled. "
+                    + "Defaults to 1, which reads the tables one after another.");
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MODE = Field.create("incremental.snapshot.chunk.size.mode")
+            .withDisplayName("Incremental snapshot chunk size mode")
+            .withEnum(IncrementalSnapshotChunkSizeMode.class, IncrementalSnapshotChunkSizeMode.FIXED)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 114))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Controls how the number of rows of each incremental snapshot chunk is determined. "
+                    + "A value of `fixed` (the default) reads every chunk with 'incremental.snapshot.chunk.size' rows. "
+                    + "A value of `adaptive` starts with 'incremental.snapshot.chunk.size' rows and resizes the next chunk of each table "
+                    + "toward 'incremental.snapshot.chunk.target.duration.ms' and 'incremental.snapshot.chunk.max.bytes', "
+                    + "based on the duration and the approximate size of the previous chunk and on the size of the queue.");
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_TARGET_DURATION_MS = Field.create("incremental.snapshot.chunk.target.duration.ms")
+            .withDisplayName("Incremental snapshot chunk target duration (ms)")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 115))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1000L)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The time in milliseconds that reading a single incremental snapshot chunk should take. "
+                    + "Only applies when 'incremental.snapshot.chunk.size.mode' is `adaptive`.");
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_MAX_BYTES = Field.create("incremental.snapshot.chunk.max.bytes")
+            .withDisplayName("Incremental snapshot chunk maximum size (bytes)")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 116))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(32L * 1024 * 1024)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The approximate maximum size in bytes of the events of a single incremental snapshot chunk buffered in memory. "
+                    + "Only applies when 'incremental.snapshot.chunk.size.mode' is `adaptive`.");
+
     protected static final ConfigDefinition CONFIG_DEFINITION = CommonConnectorConfig.CONFIG_DEFINITION.edit()
             .type(
                     CommonConnectorConfig.TOPIC_PREFIX)
@@ -558,7 +674,13 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
                     PROPAGATE_COLUMN_SOURCE_TYPE,
                     PROPAGATE_DATATYPE_SOURCE_TYPE,
                     SNAPSHOT_FULL_COLUMN_SCAN_FORCE,
+                    TABLES_COPY_ON_WRITE,
                     SNAPSHOT_TABLES_ORDER_BY_ROW_COUNT,
+                    SNAPSHOT_TABLE_CHUNKS,
+                    INCREMENTAL_SNAPSHOT_MAX_THREADS,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MODE,
+                    INCREMENTAL_SNAPSHOT_CHUNK_TARGET_DURATION_MS,
+                    INCREMENTAL_SNAPSHOT_CHUNK_MAX_BYTES,
                     DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY)
             .create();
 
@@ -572,6 +694,11 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
     private final String heartbeatActionQuery;
     private final FieldNamer<Column> fieldNamer;
     private final SnapshotTablesRowCountOrder snapshotOrderByRowCount;
+    private final int snapshotTableChunks;
+    private final int incrementalSnapshotMaxThreads;
+    private final IncrementalSnapshotChunkSizeMode incrementalSnapshotChunkSizeMode;
+    private final Duration incrementalSnapshotChunkTargetDuration;
+    private final long incrementalSnapshotChunkMaxBytes;
 
     protected RelationalDatabaseConnectorConfig(Configuration config, TableFilter systemTablesFilter,
                                                 TableIdToStringMapper tableIdMapper, int defaultSnapshotFetchSize,
@@ -608,6 +735,11 @@ protected RelationalDatabaseConnectorConfig(Configuration config, TableFilter sy
         this.heartbeatActionQuery = config.getString(DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY_PROPERTY_NAME, "");
         this.fieldNamer = FieldNameSelector.defaultSelector(fieldNameAdjuster());
         this.snapshotOrderByRowCount = SnapshotTablesRowCountOrder.parse(config.getString(SNAPSHOT_TABLES_ORDER_BY_ROW_COUNT));
+        this.snapshotTableChunks = config.getInteger(SNAPSHOT_TABLE_CHUNKS);
+        this.incrementalSnapshotMaxThreads = config.getInteger(INCREMENTAL_SNAPSHOT_MAX_THREADS);
+        this.incrementalSnapshotChunkSizeMode = IncrementalSnapshotChunkSizeMode.parse(config.getString(INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MODE));
+        this.incrementalSnapshotChunkTargetDuration = Duration.ofMillis(config.getLong(INCREMENTAL_SNAPSHOT_CHUNK_TARGET_DURATION_MS));
+        this.incrementalSnapshotChunkMaxBytes = config.getLong(INCREMENTAL_SNAPSHOT_CHUNK_MAX_BYTES);
     }
 
     public RelationalTableFilters getTableFilters() {
@@ -685,10 +817,34 @@ public Boolean isFullColumnScanRequired() {
         return getConfig().getBoolean(SNAPSHOT_FULL_COLUMN_SCAN_FORCE);
     }
 
+    public boolean isTablesCopyOnWrite() {
+        return getConfig().getBoolean(TABLES_COPY_ON_WRITE);
+    }
+
     public SnapshotTablesRowCountOrder snapshotOrderByRowCount() {
         return snapshotOrderByRowCount;
     }
 
+    public int getSnapshotTableChunks() {
+        return snapshotTableChunks;
+    }
+
+    public int getIncrementalSnapshotMaxThreads() {
+        return incrementalSnapshotMaxThreads;
+    }
+
+    public IncrementalSnapshotChunkSizeMode getIncrementalSnapshotChunkSizeMode() {
+        return incrementalSnapshotChunkSizeMode;
+    }
+
+    public Duration getIncrementalSnapshotChunkTargetDuration() {
+        return incrementalSnapshotChunkTargetDuration;
+    }
+
+    public long getIncrementalSnapshotChunkMaxBytes() {
+        return incrementalSnapshotChunkMaxBytes;
+    }
+
     private static int validateColumnExcludeList(Configuration config, Field field, ValidationOutput problems) {
         String includeList = config.getString(COLUMN_INCLUDE_LIST);
         String excludeList = config.getString(COLUMN_EXCLUDE_LIST);
@@ -51,7 +51,7 @@ protected RelationalDatabaseSchema(RelationalDatabaseConnectorConfig config, Top
         this.customKeysMapper = customKeysMapper;
 
         this.schemasByTableId = new SchemasByTableId(tableIdCaseInsensitive);
-        this.tables = new Tables(tableIdCaseInsensitive);
+        this.tables = new Tables(tableIdCaseInsensitive, config.isTablesCopyOnWrite());
     }
 
     @Override
@@ -5,13 +5,17 @@
  */
 package io.debezium.relational;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -77,6 +81,8 @@
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RelationalSnapshotChangeEventSource.class);
 
+    private static final Pattern WHERE_CLAUSE = Pattern.compile("\\bWHERE\\b", Pattern.CASE_INSENSITIVE);
+
     public static final Pattern SELECT_ALL_PATTERN = Pattern.compile("\\*");
     public static final Pattern MATCH_ALL_PATTERN = Pattern.compile(".*");
 
@@ -210,7 +216,9 @@ private Queue<JdbcConnection> createConnectionPool(final RelationalSnapshotConte
         Queue<JdbcConnection> connectionPool = new ConcurrentLinkedQueue<>();
         connectionPool.add(jdbcConnection);
 
-        int snapshotMaxThreads = Math.max(1, Math.min(connectorConfig.getSnapshotMaxThreads(), ctx.capturedTables.size()));
+        // tables split into chunks can keep more than one thread busy
+        final long maxParallelReads = (long) ctx.capturedTables.size() * connectorConfig.getSnapshotTableChunks();
+        int snapshotMaxThreads = (int) Math.max(1, Math.min(connectorConfig.getSnapshotMaxThreads(), maxParallelReads));
         if (snapshotMaxThreads > 1) {
             Optional<String> firstQuery = getSnapshotConnectionFirstSelect(ctx, ctx.capturedTables.iterator().next());
             for (int i = 1; i < snapshotMaxThreads; i++) {
@@ -479,6 +487,13 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e1, LinkedHashMap::new));
         }
 
+        Map<TableId, List<SnapshotTableChunk>> tableChunks = new HashMap<>();
+        for (TableId tableId : rowCountTables.keySet()) {
+            final boolean selectOverridden = getSnapshotSelectOverridesByTable(tableId, snapshotSelectOverridesByTable) != null;
+            tableChunks.put(tableId, determineTableChunks(snapshotContext, snapshotContext.tables.forTable(tableId), queryTables.get(tableId),
+                    selectOverridden, snapshotMaxThreads));
+        }
+
         Queue<O> offsets = new ConcurrentLinkedQueue<>();
         offsets.add(snapshotContext.offset);
         for (int i = 1; i < snapshotMaxThreads; i++) {
@@ -488,6 +503,7 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
         try {
             int tableCount = rowCountTables.size();
             int tableOrder = 1;
+            int taskCount = 0;
             for (TableId tableId : rowCountTables.keySet()) {
                 boolean firstTable = tableOrder == 1 && snapshotMaxThreads == 1;
                 boolean lastTable = tableOrder == tableCount && snapshotMaxThreads == 1;
@@ -498,12 +514,17 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
                         snapshotContext.offset,
                         tableId.identifier(),
                         rowCountTables.keySet());
-                Callable<Void> callable = createDataEventsForTableCallable(sourceContext, snapshotContext, snapshotReceiver,
-                        snapshotContext.tables.forTable(tableId), firstTable, lastTable, tableOrder++, tableCount, selectStatement, rowCount, connectionPool, offsets);
-                completionService.submit(callable);
+                for (SnapshotTableChunk chunk : tableChunks.get(tableId)) {
+                    Callable<Void> callable = createDataEventsForTableCallable(sourceContext, snapshotContext, snapshotReceiver,
+                            snapshotContext.tables.forTable(tableId), firstTable, lastTable, tableOrder, tableCount,
+                            getSnapshotChunkSelect(selectStatement, chunk), rowCount, connectionPool, offsets, chunk);
+                    completionService.submit(callable);
+                    taskCount++;
+                }
+                tableOrder++;
             }
 
-            for (int i = 0; i < tableCount; i++) {
+            for (int i = 0; i < taskCount; i++) {
                 completionService.take().get();
             }
         }
@@ -551,13 +572,13 @@ protected Instant getSnapshotSourceTimestamp(JdbcConnection jdbcConnection, O of
     protected Callable<Void> createDataEventsForTableCallable(ChangeEventSourceContext sourceContext, RelationalSnapshotContext<P, O> snapshotContext,
                                                               SnapshotReceiver<P> snapshotReceiver, Table table, boolean firstTable, boolean lastTable, int tableOrder,
                                                               int tableCount, String selectStatement, OptionalLong rowCount, Queue<JdbcConnection> connectionPool,
-                                                              Queue<O> offsets) {
+                                                              Queue<O> offsets, SnapshotTableChunk chunk) {
         return () -> {
             JdbcConnection connection = connectionPool.poll();
             O offset = offsets.poll();
             try {
                 doCreateDataEventsForTable(sourceContext, snapshotContext, offset, snapshotReceiver, table, firstTable, lastTable, tableOrder, tableCount,
-                        selectStatement, rowCount, connection);
+                        selectStatement, rowCount, connection, chunk);
             }
             catch (SQLException e) {
                 notificationService.initialSnapshotNotificationService().notifyCompletedTableWithError(snapshotContext.partition,
@@ -576,7 +597,7 @@ protected Callable<Void> createDataEventsForTableCallable(ChangeEventSourceConte
     protected void doCreateDataEventsForTable(ChangeEventSourceContext sourceContext, RelationalSnapshotContext<P, O> snapshotContext, O offset,
                                               SnapshotReceiver<P> snapshotReceiver, Table table,
                                               boolean firstTable, boolean lastTable, int tableOrder, int tableCount, String selectStatement, OptionalLong rowCount,
-                                              JdbcConnection jdbcConnection)
+                                              JdbcConnection jdbcConnection, SnapshotTableChunk chunk)
             throws InterruptedException, SQLException {
 
         if (!sourceContext.isRunning()) {
@@ -584,7 +605,13 @@ protected void doCreateDataEventsForTable(ChangeEventSourceContext sourceContext
         }
 
         long exportStart = clock.currentTimeInMillis();
-        LOGGER.info("Exporting data from table '{}' ({} of {} tables)", table.id(), tableOrder, tableCount);
+        if (chunk.isWholeTable()) {
+            LOGGER.info("Exporting data from table '{}' ({} of {} tables)", table.id(), tableOrder, tableCount);
+        }
+        else {
+            LOGGER.info("Exporting data from table '{}' chunk {} of {} ({} of {} tables)", table.id(), chunk.getIndex() + 1, chunk.getCount(),
+                    tableOrder, tableCount);
+        }
 
         Instant sourceTableSnapshotTimestamp = getSnapshotSourceTimestamp(jdbcConnection, offset, table.id());
 
@@ -593,6 +620,8 @@ protected void doCreateDataEventsForTable(ChangeEventSourceContext sourceContext
 
             ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
             long rows = 0;
+            long reportedRows = 0;
+            Object[] lastChunkRow = null;
             Timer logTimer = getTableScanLogTimer();
             boolean hasNext = rs.next();
 
@@ -615,27 +644,213 @@ protected void doCreateDataEventsForTable(ChangeEventSourceContext sourceContext
                             LOGGER.info("\t Exported {} records for table '{}' after {}", rows, table.id(),
                                     Strings.duration(stop - exportStart));
                         }
-                        snapshotProgressListener.rowsScanned(snapshotContext.partition, table.id(), rows);
+                        if (chunk.isWholeTable()) {
+                            snapshotProgressListener.rowsScanned(snapshotContext.partition, table.id(), rows);
+                        }
+                        else {
+                            final long tableRows = chunk.addRowsScanned(rows - reportedRows);
+                            reportedRows = rows;
+                            snapshotProgressListener.chunkRowsScanned(snapshotContext.partition, table.id(), chunk.getIndex(), chunk.getCount(), rows);
+                            snapshotProgressListener.rowsScanned(snapshotContext.partition, table.id(), tableRows);
+                        }
                         logTimer = getTableScanLogTimer();
                     }
 
                     hasNext = rs.next();
-                    setSnapshotMarker(offset, firstTable, lastTable, rows == 1, !hasNext);
+                    if (chunk.isWholeTable()) {
+                        setSnapshotMarker(offset, firstTable, lastTable, rows == 1, !hasNext);
+
+                        dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
+                                getChangeRecordEmitter(snapshotContext.partition, offset, table.id(), row, sourceTableSnapshotTimestamp), snapshotReceiver);
+                    }
+                    else if (hasNext) {
+                        dispatchChunkRecord(snapshotContext, offset, snapshotReceiver, table, chunk, row, sourceTableSnapshotTimestamp, rows == 1);
+                    }
+                    else {
+                        // may be the last record of the table, depends on the other chunks
+                        lastChunkRow = row;
+                    }
+                }
+            }
+            else if (chunk.isWholeTable()) {
+                setSnapshotMarker(offset, firstTable, lastTable, false, true);
+            }
 
+            if (chunk.isWholeTable()) {
+                LOGGER.info("\t Finished exporting {} records for table '{}' ({} of {} tables); total duration '{}'",
+                        rows, table.id(), tableOrder, tableCount, Strings.duration(clock.currentTimeInMillis() - exportStart));
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), rows);
+                notificationService.initialSnapshotNotificationService().notifyCompletedTableSuccessfully(snapshotContext.partition,
+                        snapshotContext.offset, table.id().identifier(), rows, snapshotContext.capturedTables);
+                return;
+            }
+
+            chunk.addRowsScanned(rows - reportedRows);
+            snapshotProgressListener.chunkRowsScanned(snapshotContext.partition, table.id(), chunk.getIndex(), chunk.getCount(), rows);
+            LOGGER.info("\t Finished exporting {} records for table '{}' chunk {} of {}; total duration '{}'",
+                    rows, table.id(), chunk.getIndex() + 1, chunk.getCount(), Strings.duration(clock.currentTimeInMillis() - exportStart));
+
+            final SnapshotTableChunk.PendingRow pendingRow = lastChunkRow != null
+                    ? new SnapshotTableChunk.PendingRow(lastChunkRow, sourceTableSnapshotTimestamp)
+                    : null;
+            if (completeChunk(snapshotContext, offset, snapshotReceiver, table, chunk, pendingRow)) {
+                final long tableRows = chunk.getTableRowsScanned();
+                LOGGER.info("\t Finished exporting {} records for table '{}' ({} of {} tables)", tableRows, table.id(), tableOrder, tableCount);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), tableRows);
+                notificationService.initialSnapshotNotificationService().notifyCompletedTableSuccessfully(snapshotContext.partition,
+                        snapshotContext.offset, table.id().identifier(), tableRows, snapshotContext.capturedTables);
+            }
+        }
+    }
+
+    /**
+     * Emits a record of a table that is read in chunks. Only the first record of each chunk can be the first record
+     * of the table, so only these are emitted while holding the lock shared by all chunks of the table.
+     */
+    private void dispatchChunkRecord(RelationalSnapshotContext<P, O> snapshotContext, O offset, SnapshotReceiver<P> snapshotReceiver,
+                                     Table table, SnapshotTableChunk chunk, Object[] row, Instant timestamp, boolean firstRecordInChunk)
+            throws InterruptedException {
+        if (firstRecordInChunk) {
+            synchronized (chunk.getTableLock()) {
+                setSnapshotMarker(offset, false, false, chunk.claimFirstRecord(), false);
+                dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
+                        getChangeRecordEmitter(snapshotContext.partition, offset, table.id(), row, timestamp), snapshotReceiver);
+            }
+        }
+        else {
+            setSnapshotMarker(offset, false, false, false, false);
+            dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
+                    getChangeRecordEmitter(snapshotContext.partition, offset, table.id(), row, timestamp), snapshotReceiver);
+        }
+    }
+
+    /**
+     * Completes a chunk of a table. The last row of every chunk is held back until it is known whether another
+     * chunk is still running; the last row held back when the final chunk completes is the last record of the table.
+     *
+     * @return {@code true} if all chunks of the table have been read
+     */
+    private boolean completeChunk(RelationalSnapshotContext<P, O> snapshotContext, O offset, SnapshotReceiver<P> snapshotReceiver,
+                                  Table table, SnapshotTableChunk chunk, SnapshotTableChunk.PendingRow lastRow)
+            throws InterruptedException {
+        synchronized (chunk.getTableLock()) {
+            if (lastRow != null) {
+                final SnapshotTableChunk.PendingRow previous = chunk.replacePendingRow(lastRow);
+                if (previous != null) {
+                    setSnapshotMarker(offset, false, false, chunk.claimFirstRecord(), false);
                     dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
-                            getChangeRecordEmitter(snapshotContext.partition, offset, table.id(), row, sourceTableSnapshotTimestamp), snapshotReceiver);
+                            getChangeRecordEmitter(snapshotContext.partition, offset, table.id(), previous.row, previous.timestamp), snapshotReceiver);
                 }
             }
+            if (!chunk.complete()) {
+                return false;
+            }
+
+            final SnapshotTableChunk.PendingRow last = chunk.replacePendingRow(null);
+            if (last != null) {
+                setSnapshotMarker(offset, false, false, chunk.claimFirstRecord(), true);
+                dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
+                        getChangeRecordEmitter(snapshotContext.partition, offset, table.id(), last.row, last.timestamp), snapshotReceiver);
+            }
             else {
-                setSnapshotMarker(offset, firstTable, lastTable, false, true);
+                setSnapshotMarker(offset, false, false, false, true);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Splits a table into key ranges that are read concurrently, if enabled via {@code snapshot.table.chunks}.
+     * The default implementation splits tables whose primary key starts with a numeric column into ranges of
+     * equal width between the minimum and maximum key value.
+     *
+     * @return the chunks of the table, a single {@link SnapshotTableChunk#wholeTable() whole table} chunk if the table is not split
+     */
+    protected List<SnapshotTableChunk> determineTableChunks(RelationalSnapshotContext<P, O> snapshotContext, Table table, String selectStatement,
+                                                            boolean selectOverridden, int snapshotMaxThreads)
+            throws SQLException {
+        final int chunkCount = connectorConfig.getSnapshotTableChunks();
+        if (chunkCount < 2 || snapshotMaxThreads < 2 || selectOverridden) {
+            return Collections.singletonList(SnapshotTableChunk.wholeTable());
+        }
+        if (WHERE_CLAUSE.matcher(selectStatement).find()) {
+            LOGGER.info("Table '{}' is not split into chunks as its select statement already has a WHERE clause", table.id());
+            return Collections.singletonList(SnapshotTableChunk.wholeTable());
+        }
+
+        final List<Column> keyColumns = table.primaryKeyColumns();
+        if (keyColumns.isEmpty() || !isChunkableColumn(keyColumns.get(0))) {
+            LOGGER.info("Table '{}' is not split into chunks as its primary key does not start with a numeric column", table.id());
+            return Collections.singletonList(SnapshotTableChunk.wholeTable());
+        }
+
+        final Column keyColumn = keyColumns.get(0);
+        final BigDecimal[] bounds = new BigDecimal[2];
+        jdbcConnection.query(getSnapshotChunkBoundariesSelect(snapshotContext, table.id(), keyColumn), rs -> {
+            if (rs.next()) {
+                bounds[0] = rs.getBigDecimal(1);
+                bounds[1] = rs.getBigDecimal(2);
             }
+        });
+        if (bounds[0] == null || bounds[1] == null) {
+            return Collections.singletonList(SnapshotTableChunk.wholeTable());
+        }
 
-            LOGGER.info("\t Finished exporting {} records for table '{}' ({} of {} tables); total duration '{}'",
-                    rows, table.id(), tableOrder, tableCount, Strings.duration(clock.currentTimeInMillis() - exportStart));
-            snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), rows);
-            notificationService.initialSnapshotNotificationService().notifyCompletedTableSuccessfully(snapshotContext.partition,
-                    snapshotContext.offset, table.id().identifier(), rows, snapshotContext.capturedTables);
+        final BigInteger min = bounds[0].toBigInteger();
+        final BigInteger step = bounds[1].toBigInteger().subtract(min).divide(BigInteger.valueOf(chunkCount));
+        if (step.signum() <= 0) {
+            return Collections.singletonList(SnapshotTableChunk.wholeTable());
         }
+
+        // the first and the last range are open so that rows outside of the sampled bounds are read too
+        final String column = jdbcConnection.quotedColumnIdString(keyColumn.name());
+        final List<String> conditions = new ArrayList<>(chunkCount);
+        BigInteger lower = null;
+        for (int i = 1; i <= chunkCount; i++) {
+            final BigInteger upper = i < chunkCount ? min.add(step.multiply(BigInteger.valueOf(i))) : null;
+            if (lower == null) {
+                conditions.add(column + " < " + upper);
+            }
+            else if (upper == null) {
+                conditions.add(column + " >= " + lower);
+            }
+            else {
+                conditions.add(column + " >= " + lower + " AND " + column + " < " + upper);
+            }
+            lower = upper;
+        }
+
+        LOGGER.info("Splitting table '{}' into {} chunks on column '{}' between {} and {}", table.id(), chunkCount, keyColumn.name(), bounds[0], bounds[1]);
+        return SnapshotTableChunk.of(conditions);
+    }
+
+    private static boolean isChunkableColumn(Column column) {
+        switch (column.jdbcType()) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the query selecting the minimum and the maximum value of the column a table is split on.
+     */
+    protected String getSnapshotChunkBoundariesSelect(RelationalSnapshotContext<P, O> snapshotContext, TableId tableId, Column column) {
+        final String quotedColumn = jdbcConnection.quotedColumnIdString(column.name());
+        return "SELECT MIN(" + quotedColumn + "), MAX(" + quotedColumn + ") FROM " + jdbcConnection.quotedTableIdString(tableId);
+    }
+
+    /**
+     * Returns the select statement reading the rows of a single chunk of a table.
+     */
+    protected String getSnapshotChunkSelect(String selectStatement, SnapshotTableChunk chunk) {
+        return chunk.isWholeTable() ? selectStatement : selectStatement + " WHERE " + chunk.getCondition();
     }
 
     protected ResultSet resultSetForDataEvents(String selectStatement, Statement statement)
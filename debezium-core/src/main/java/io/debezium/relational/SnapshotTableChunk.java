@@ -0,0 +1,173 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A part of a table that is read by a single worker of the initial snapshot.
+ * <p>
+ * A table is either read as a whole, or split into several key ranges that are read concurrently.
+ * All chunks of a table share the state needed to emit exactly one record marked as the first
+ * and one record marked as the last record of the table, regardless of the order in which the
+ * chunks are read.
+ */
+@ThreadSafe
+public class SnapshotTableChunk {
+
+    private static final SnapshotTableChunk WHOLE_TABLE = new SnapshotTableChunk(0, 1, null, null);
+
+    private final int index;
+    private final int count;
+    private final String condition;
+    private final TableState table;
+
+    private SnapshotTableChunk(int index, int count, String condition, TableState table) {
+        this.index = index;
+        this.count = count;
+        this.condition = condition;
+        this.table = table;
+    }
+
+    /**
+     * @return a chunk that covers the complete table
+     */
+    public static SnapshotTableChunk wholeTable() {
+        return WHOLE_TABLE;
+    }
+
+    /**
+     * Creates the chunks of a single table.
+     *
+     * @param conditions the conditions selecting the rows of each chunk, must not be empty and must cover the whole table
+     * @return the chunks, never {@code null}
+     */
+    public static List<SnapshotTableChunk> of(List<String> conditions) {
+        if (conditions.size() < 2) {
+            return Collections.singletonList(WHOLE_TABLE);
+        }
+        final TableState table = new TableState(conditions.size());
+        final List<SnapshotTableChunk> chunks = new ArrayList<>(conditions.size());
+        for (int i = 0; i < conditions.size(); i++) {
+            chunks.add(new SnapshotTableChunk(i, conditions.size(), conditions.get(i), table));
+        }
+        return chunks;
+    }
+
+    /**
+     * @return the zero-based position of this chunk within the table
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the total number of chunks of the table
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the condition selecting the rows of this chunk, {@code null} for a whole table
+     */
+    public String getCondition() {
+        return condition;
+    }
+
+    public boolean isWholeTable() {
+        return table == null;
+    }
+
+    /**
+     * Adds rows read by this chunk to the table's total.
+     *
+     * @return the number of rows read from the table by all of its chunks so far
+     */
+    long addRowsScanned(long rows) {
+        return table.rowsScanned.addAndGet(rows);
+    }
+
+    long getTableRowsScanned() {
+        return table.rowsScanned.get();
+    }
+
+    /**
+     * @return the monitor that must be held while emitting records that may be the first or last of the table
+     */
+    Object getTableLock() {
+        return table;
+    }
+
+    /**
+     * Must be called while holding the {@link #getTableLock() table lock}.
+     *
+     * @return {@code true} if no record of the table has been emitted before, {@code false} otherwise
+     */
+    boolean claimFirstRecord() {
+        if (table.firstRecordEmitted) {
+            return false;
+        }
+        table.firstRecordEmitted = true;
+        return true;
+    }
+
+    /**
+     * Holds back the last row of this chunk, as it may turn out to be the last row of the table.
+     * Must be called while holding the {@link #getTableLock() table lock}.
+     *
+     * @return the row held back previously by another chunk, may be {@code null}
+     */
+    PendingRow replacePendingRow(PendingRow row) {
+        final PendingRow previous = table.pendingRow;
+        table.pendingRow = row;
+        return previous;
+    }
+
+    /**
+     * Must be called while holding the {@link #getTableLock() table lock}.
+     *
+     * @return {@code true} if this was the last chunk of the table to complete
+     */
+    boolean complete() {
+        return --table.remainingChunks == 0;
+    }
+
+    @Override
+    public String toString() {
+        return isWholeTable() ? "whole table" : "chunk " + (index + 1) + " of " + count + " (" + condition + ")";
+    }
+
+    /**
+     * A row read from the table whose emission is deferred.
+     */
+    static class PendingRow {
+        final Object[] row;
+        final Instant timestamp;
+
+        PendingRow(Object[] row, Instant timestamp) {
+            this.row = row;
+            this.timestamp = timestamp;
+        }
+    }
+
+    private static class TableState {
+        private final AtomicLong rowsScanned = new AtomicLong();
+        private int remainingChunks;
+        private boolean firstRecordEmitted;
+        private PendingRow pendingRow;
+
+        TableState(int chunks) {
+            this.remainingChunks = chunks;
+        }
+    }
+}
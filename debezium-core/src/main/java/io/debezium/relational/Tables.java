@@ -5,16 +5,18 @@
  */
 package io.debezium.relational;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.apache.kafka.connect.data.Schema;
 
@@ -27,6 +29,11 @@
 
 /**
  * Structural definitions for a set of tables in a JDBC database.
+ * <p>
+ * By default every access is guarded by a read-write lock. In the copy-on-write mode each change publishes a new immutable
+ * version of the table definitions, so lookups are lock-free and never wait for a writer, and {@link #clone()} shares
+ * the current version instead of copying it. As every change copies all table definitions, the mode suits table models
+ * which are read on every event but changed rarely.
  *
  * @author Randall Hauch
  */
@@ -119,18 +126,30 @@ public interface ColumnNameFilter {
     private final TablesById tablesByTableId;
     private final TableIds changes;
     private final boolean tableIdCaseInsensitive;
+    private final boolean copyOnWrite;
 
     /**
      * Create an empty set of definitions.
      *
      * @param tableIdCaseInsensitive - true if lookup is case insensitive (typical for MySQL on Windows)
+     * @param copyOnWrite - true if changes publish a new version of the definitions instead of locking out readers
      */
-    public Tables(boolean tableIdCaseInsensitive) {
+    public Tables(boolean tableIdCaseInsensitive, boolean copyOnWrite) {
         this.tableIdCaseInsensitive = tableIdCaseInsensitive;
-        this.tablesByTableId = new TablesById(tableIdCaseInsensitive);
+        this.copyOnWrite = copyOnWrite;
+        this.tablesByTableId = new TablesById(tableIdCaseInsensitive, copyOnWrite);
         this.changes = new TableIds(tableIdCaseInsensitive);
     }
 
+    /**
+     * Create an empty set of definitions.
+     *
+     * @param tableIdCaseInsensitive - true if lookup is case insensitive (typical for MySQL on Windows)
+     */
+    public Tables(boolean tableIdCaseInsensitive) {
+        this(tableIdCaseInsensitive, false);
+    }
+
     /**
      * Create case sensitive empty set of definitions.
      */
@@ -139,7 +158,7 @@ public Tables() {
     }
 
     protected Tables(Tables other, boolean tableIdCaseInsensitive) {
-        this(tableIdCaseInsensitive);
+        this(tableIdCaseInsensitive, other.copyOnWrite);
         this.tablesByTableId.putAll(other.tablesByTableId);
     }
 
@@ -161,7 +180,7 @@ public Tables clone() {
      * @return the table count
      */
     public int size() {
-        return lock.read(tablesByTableId::size);
+        return read(tablesByTableId::size);
     }
 
     public Set<TableId> drainChanges() {
@@ -227,9 +246,7 @@ public void removeTablesForDatabase(String schemaName) {
 
     public void removeTablesForDatabase(String catalogName, String schemaName) {
         lock.write(() -> {
-            tablesByTableId.entrySet().removeIf(tableIdTableEntry -> {
-                TableId tableId = tableIdTableEntry.getKey();
-
+            tablesByTableId.removeIf(tableId -> {
                 boolean equalCatalog = Objects.equals(catalogName, tableId.catalog());
                 boolean equalSchema = Objects.equals(schemaName, tableId.schema());
 
@@ -251,11 +268,10 @@ public Table renameTable(TableId existingTableId, TableId newTableId) {
             if (existing == null) {
                 return null;
             }
-            tablesByTableId.remove(existing.id());
             TableImpl updated = new TableImpl(newTableId, existing.columns(),
                     existing.primaryKeyColumnNames(), existing.defaultCharsetName(), existing.comment(), existing.attributes());
             try {
-                return tablesByTableId.put(updated.id(), updated);
+                return tablesByTableId.replace(existing.id(), updated);
             }
             finally {
                 changes.add(existingTableId);
@@ -305,7 +321,7 @@ public Table removeTable(TableId tableId) {
      * @return the table definition, or null if there was no definition for the identified table
      */
     public Table forTable(TableId tableId) {
-        return lock.read(() -> tablesByTableId.get(tableId));
+        return read(() -> tablesByTableId.get(tableId));
     }
 
     /**
@@ -328,7 +344,7 @@ public Table forTable(String catalogName, String schemaName, String tableName) {
      * @return the immutable set of table identifiers; never null
      */
     public Set<TableId> tableIds() {
-        return lock.read(() -> Collect.unmodifiableSet(tablesByTableId.ids()));
+        return read(() -> Collect.unmodifiableSet(tablesByTableId.ids()));
     }
 
     /**
@@ -378,7 +394,7 @@ public Tables subset(TableFilter filter) {
         if (filter == null) {
             return this;
         }
-        return lock.read(() -> {
+        return read(() -> {
             Tables result = new Tables(tableIdCaseInsensitive);
             tablesByTableId.forEach((tableId, table) -> {
                 if (filter.isIncluded(tableId)) {
@@ -391,7 +407,7 @@ public Tables subset(TableFilter filter) {
 
     @Override
     public String toString() {
-        return lock.read(() -> {
+        return read(() -> {
             StringBuilder sb = new StringBuilder();
             sb.append("Tables {");
             if (!tablesByTableId.isEmpty()) {
@@ -412,17 +428,27 @@ public String toString() {
         });
     }
 
+    private <T> T read(Supplier<T> operation) {
+        return copyOnWrite ? operation.get() : lock.read(operation);
+    }
+
     /**
      * A map of tables by id. Table names are stored lower-case if required as per the config.
+     * <p>
+     * In the copy-on-write mode the published map is never modified; each change, including the compound ones like
+     * {@link #replace(TableId, Table)}, is applied to a copy which is then published at once. Changes are expected to be
+     * serialized by the caller.
      */
     private static class TablesById {
 
         private final boolean tableIdCaseInsensitive;
-        private final ConcurrentMap<TableId, Table> values;
+        private final boolean copyOnWrite;
+        private volatile Map<TableId, Table> values;
 
-        TablesById(boolean tableIdCaseInsensitive) {
+        TablesById(boolean tableIdCaseInsensitive, boolean copyOnWrite) {
             this.tableIdCaseInsensitive = tableIdCaseInsensitive;
-            this.values = new ConcurrentHashMap<>();
+            this.copyOnWrite = copyOnWrite;
+            this.values = copyOnWrite ? Collections.emptyMap() : new ConcurrentHashMap<>();
         }
 
         public Set<TableId> ids() {
@@ -434,17 +460,26 @@ boolean isEmpty() {
         }
 
         public void putAll(TablesById tablesByTableId) {
-            if (tableIdCaseInsensitive) {
-                tablesByTableId.values.entrySet()
-                        .forEach(e -> put(e.getKey().toLowercase(), e.getValue()));
-            }
-            else {
-                values.putAll(tablesByTableId.values);
+            final Map<TableId, Table> source = tablesByTableId.values;
+            if (copyOnWrite && tablesByTableId.copyOnWrite && values.isEmpty()
+                    && (!tableIdCaseInsensitive || tablesByTableId.tableIdCaseInsensitive)) {
+                // the published map is immutable and its ids already have the required case, so it can be shared
+                values = source;
+                return;
             }
+            update(map -> {
+                if (tableIdCaseInsensitive) {
+                    source.forEach((tableId, table) -> map.put(tableId.toLowercase(), table));
+                }
+                else {
+                    map.putAll(source);
+                }
+                return null;
+            });
         }
 
         public Table remove(TableId tableId) {
-            return values.remove(toLowerCaseIfNeeded(tableId));
+            return update(map -> map.remove(toLowerCaseIfNeeded(tableId)));
         }
 
         public Table get(TableId tableId) {
@@ -452,7 +487,21 @@ public Table get(TableId tableId) {
         }
 
         public Table put(TableId tableId, Table updated) {
-            return values.put(toLowerCaseIfNeeded(tableId), updated);
+            return update(map -> map.put(toLowerCaseIfNeeded(tableId), updated));
+        }
+
+        /**
+         * Removes the table with the given id and adds the given table under its own id in a single change.
+         */
+        public Table replace(TableId tableId, Table updated) {
+            return update(map -> {
+                map.remove(toLowerCaseIfNeeded(tableId));
+                return map.put(toLowerCaseIfNeeded(updated.id()), updated);
+            });
+        }
+
+        void removeIf(Predicate<TableId> predicate) {
+            update(map -> map.keySet().removeIf(predicate));
         }
 
         int size() {
@@ -463,12 +512,23 @@ void forEach(BiConsumer<? super TableId, ? super Table> action) {
             values.forEach(action);
         }
 
-        Set<Map.Entry<TableId, Table>> entrySet() {
-            return values.entrySet();
+        void clear() {
+            if (copyOnWrite) {
+                values = Collections.emptyMap();
+            }
+            else {
+                values.clear();
+            }
         }
 
-        void clear() {
-            values.clear();
+        private <T> T update(Function<Map<TableId, Table>, T> change) {
+            if (!copyOnWrite) {
+                return change.apply(values);
+            }
+            final Map<TableId, Table> copy = new HashMap<>(values);
+            final T result = change.apply(copy);
+            values = Collections.unmodifiableMap(copy);
+            return result;
         }
 
         private TableId toLowerCaseIfNeeded(TableId tableId) {
@@ -28,6 +28,40 @@ public interface DdlParser {
      */
     void parse(String ddlContent, Tables databaseTables);
 
+    /**
+     * Parse the supplied string containing DDL statements without applying them to any table definitions. The result does
+     * not depend on the state of this parser, such as the current database, so this method may be called concurrently with
+     * any other method, and the result may be applied later by {@link #parse(PreparedDdl, Tables)}.
+     *
+     * @param ddlContent the DDL statements; may not be null
+     * @return the prepared statements, or null if this parser does not support preparing statements
+     */
+    default PreparedDdl prepare(String ddlContent) {
+        return null;
+    }
+
+    /**
+     * Apply the DDL statements prepared by {@link #prepare(String)} to the specified database table definitions.
+     *
+     * @param preparedDdl    the prepared DDL statements; may not be null
+     * @param databaseTables the database's table definitions, which should be used by this method to create, change, or remove
+     *                       tables as defined in the DDL content; may not be null
+     * @throws ParsingException if there is a problem parsing the prepared content
+     */
+    default void parse(PreparedDdl preparedDdl, Tables databaseTables) {
+        parse(preparedDdl.ddl(), databaseTables);
+    }
+
+    /**
+     * Get the statistics of the times this parser needed to parse DDL statements. They may be shared with other parsers
+     * of the same kind in this JVM, if those share their parsing caches as well.
+     *
+     * @return the parse time statistics, or null if this parser does not collect them
+     */
+    default DdlParserStatistics statistics() {
+        return null;
+    }
+
     void setCurrentDatabase(String databaseName);
 
     /**
@@ -0,0 +1,114 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.ddl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * The distribution of the times a {@link DdlParser} needed to parse DDL statements.
+ * <p>
+ * The times are counted in buckets of exponentially growing width, four buckets per power of two microseconds, so that
+ * recording is lock-free and any percentile is reported with an error of at most 25 %.
+ *
+ * @see DdlParser#statistics()
+ */
+@ThreadSafe
+public class DdlParserStatistics {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong maximum = new AtomicLong();
+
+    /**
+     * Record the time needed to parse DDL content.
+     *
+     * @param nanos the duration of the parse in nanoseconds
+     */
+    public void record(long nanos) {
+        final long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        buckets.incrementAndGet(bucketOf(micros));
+        count.incrementAndGet();
+        maximum.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * @return the number of recorded parses
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return the longest recorded parse in microseconds, or -1 if nothing was recorded yet
+     */
+    public long getMaximumMicros() {
+        return count.get() == 0 ? -1 : maximum.get();
+    }
+
+    /**
+     * Get the time in microseconds not exceeded by the given percentage of the recorded parses.
+     *
+     * @param percentile the percentage of parses, between 0 and 100
+     * @return the upper bound of the bucket containing the percentile, or -1 if nothing was recorded yet
+     */
+    public long getPercentileMicros(double percentile) {
+        long total = 0;
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return -1;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maximum.get());
+            }
+        }
+        return maximum.get();
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long subBucket = bucket % SUB_BUCKETS;
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "DdlParserStatistics [count=" + getCount() + ", p50=" + getPercentileMicros(50) + "us, p99="
+                + getPercentileMicros(99) + "us, max=" + getMaximumMicros() + "us]";
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.ddl;
+
+import io.debezium.annotation.Immutable;
+import io.debezium.relational.Tables;
+
+/**
+ * DDL statements that were parsed by {@link DdlParser#prepare(String)} but not yet applied to any table definitions.
+ * The same instance may be applied several times, for example for a statement that was recorded for several databases.
+ *
+ * @see DdlParser#parse(PreparedDdl, Tables)
+ */
+@Immutable
+public interface PreparedDdl {
+
+    /**
+     * Get the DDL statements that were prepared.
+     *
+     * @return the DDL content; never null
+     */
+    String ddl();
+}
@@ -24,7 +24,6 @@
 import io.debezium.document.DocumentReader;
 import io.debezium.document.DocumentWriter;
 import io.debezium.util.FunctionalReadWriteLock;
-import io.debezium.util.Loggings;
 
 public abstract class AbstractFileBasedSchemaHistory extends AbstractSchemaHistory {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractFileBasedSchemaHistory.class);
@@ -60,6 +59,10 @@ protected byte[] fromHistoryRecord(HistoryRecord record) {
         LOGGER.trace("Storing record into database history: {}", record);
 
         records.add(record);
+        return fromHistoryRecords(records);
+    }
+
+    protected byte[] fromHistoryRecords(List<HistoryRecord> records) {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try (BufferedWriter historyWriter = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
             for (HistoryRecord r : records) {
@@ -71,7 +74,7 @@ protected byte[] fromHistoryRecord(HistoryRecord record) {
             }
         }
         catch (IOException e) {
-            Loggings.logErrorAndTraceRecord(logger, record, "Failed to convert record", e);
+            LOGGER.error("Failed to convert records", e);
             throw new SchemaHistoryException("Failed to convert record", e);
         }
         return outputStream.toByteArray();
@@ -127,6 +130,16 @@ protected void recoverRecords(Consumer<HistoryRecord> records) {
         lock.write(() -> getRecords().forEach(records));
     }
 
+    @Override
+    protected void compactRecords(long checkpointStart) {
+        lock.write(() -> {
+            final List<HistoryRecord> retained = new ArrayList<>(records);
+            retained.subList(0, (int) Math.min(checkpointStart, retained.size())).removeIf(AbstractSchemaHistory::isSupersededByCheckpoint);
+            doRewriteRecords(retained);
+            records = retained;
+        });
+    }
+
     @Override
     public boolean exists() {
         return !getRecords().isEmpty();
@@ -146,4 +159,10 @@ protected void doPreStoreRecord(HistoryRecord record) {
 
     protected void doStoreRecord(HistoryRecord record) {
     }
+
+    /**
+     * Replaces the content of the storage with the given records.
+     */
+    protected void doRewriteRecords(List<HistoryRecord> records) {
+    }
 }
@@ -6,28 +6,42 @@
 package io.debezium.relational.history;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
 import io.debezium.document.Array;
 import io.debezium.document.Document;
+import io.debezium.document.DocumentWriter;
 import io.debezium.function.Predicates;
+import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.DdlParser;
+import io.debezium.relational.ddl.PreparedDdl;
 import io.debezium.relational.history.TableChanges.TableChange;
 import io.debezium.relational.history.TableChanges.TableChangeType;
-import io.debezium.relational.history.TableChanges.TableChangesSerializer;
 import io.debezium.text.MultipleParsingExceptions;
 import io.debezium.text.ParsingException;
 import io.debezium.util.Clock;
+import io.debezium.util.Threads;
 
 /**
  * @author Randall Hauch
@@ -39,6 +53,22 @@ public abstract class AbstractSchemaHistory implements SchemaHistory {
 
     public static Field.Set ALL_FIELDS = Field.setOf(NAME, INTERNAL_CONNECTOR_CLASS, INTERNAL_CONNECTOR_ID);
 
+    /**
+     * The number of records per parsing thread whose DDL statements are parsed ahead of the record being applied.
+     */
+    private static final int PREPARED_RECORDS_PER_THREAD = 16;
+
+    /**
+     * The maximum number of distinct DDL statements whose parse results are kept during a recovery.
+     */
+    private static final int PREPARED_DDL_CACHE_SIZE = 1024;
+
+    /**
+     * The maximum number of records following a checkpoint that are held back during a recovery, to be skipped if a newer
+     * checkpoint supersedes them.
+     */
+    private static final int MAX_HELD_BACK_RECORDS = 8192;
+
     protected Configuration config;
     private HistoryRecordComparator comparator = HistoryRecordComparator.INSTANCE;
     private boolean skipUnparseableDDL;
@@ -46,7 +76,12 @@ public abstract class AbstractSchemaHistory implements SchemaHistory {
     private SchemaHistoryListener listener = SchemaHistoryListener.NOOP;
     private boolean useCatalogBeforeSchema;
     private boolean preferDdl = false;
-    private final TableChangesSerializer<Array> tableChangesSerializer = new JsonTableChangeSerializer();
+    private int checkpointInterval;
+    private long checkpointMaxRecordSize;
+    private boolean checkpointCompaction;
+    private int recoveryParsingThreads;
+    private int changesSinceCheckpoint;
+    private final JsonTableChangeSerializer tableChangesSerializer = new JsonTableChangeSerializer();
 
     protected AbstractSchemaHistory() {
     }
@@ -62,6 +97,10 @@ public void configure(Configuration config, HistoryRecordComparator comparator,
         this.listener = listener;
         this.useCatalogBeforeSchema = useCatalogBeforeSchema;
         this.preferDdl = config.getBoolean(INTERNAL_PREFER_DDL);
+        this.checkpointInterval = config.getInteger(CHECKPOINT_INTERVAL);
+        this.checkpointMaxRecordSize = config.getLong(CHECKPOINT_MAX_RECORD_SIZE);
+        this.checkpointCompaction = config.getBoolean(CHECKPOINT_COMPACTION);
+        this.recoveryParsingThreads = config.getInteger(RECOVERY_PARSING_THREADS);
     }
 
     @Override
@@ -82,11 +121,45 @@ public final void record(Map<String, ?> source, Map<String, ?> position, String
             throws SchemaHistoryException {
         final HistoryRecord record = new HistoryRecord(source, position, databaseName, schemaName, ddl, changes, timestamp);
         storeRecord(record);
+        changesSinceCheckpoint++;
         listener.onChangeApplied(record);
     }
 
+    @Override
+    public void recordCheckpoint(Map<String, ?> source, Map<String, ?> position, Tables tables, Instant timestamp) throws SchemaHistoryException {
+        if (checkpointInterval <= 0 || changesSinceCheckpoint < checkpointInterval) {
+            return;
+        }
+        // The table definitions are split into records of bounded size, so that a checkpoint of many tables
+        // does not exceed the maximum record size of the storage, e.g. of a Kafka topic
+        final List<TableChanges> chunks = new ArrayList<>();
+        TableChanges chunk = new TableChanges();
+        long chunkSize = 0;
+        for (TableId tableId : tables.tableIds()) {
+            final TableChange change = new TableChange(TableChangeType.CREATE, tables.forTable(tableId));
+            final long changeSize = DocumentWriter.defaultWriter().writeAsBytes(tableChangesSerializer.toDocument(change)).length;
+            if (chunkSize > 0 && chunkSize + changeSize > checkpointMaxRecordSize) {
+                chunks.add(chunk);
+                chunk = new TableChanges();
+                chunkSize = 0;
+            }
+            chunk.create(change.getTable());
+            chunkSize += changeSize;
+        }
+        chunks.add(chunk);
+
+        for (int i = 0; i < chunks.size(); i++) {
+            storeRecord(HistoryRecord.checkpoint(source, position, chunks.get(i), timestamp, i, chunks.size()));
+        }
+        changesSinceCheckpoint = 0;
+        logger.info("Stored schema history checkpoint with the definitions of {} tables in {} records", tables.size(), chunks.size());
+    }
+
     @Override
     public void recover(Map<Map<String, ?>, Map<String, ?>> offsets, Tables schema, DdlParser ddlParser) {
+        if (ddlParser.statistics() != null) {
+            listener.onDdlParserStatistics(ddlParser.statistics());
+        }
         listener.recoveryStarted();
         Map<Document, HistoryRecord> stopPoints = new HashMap<>();
         offsets.forEach((Map<String, ?> source, Map<String, ?> position) -> {
@@ -97,64 +170,335 @@ public void recover(Map<Map<String, ?>, Map<String, ?>> offsets, Tables schema,
             stopPoints.put(srcDocument, new HistoryRecord(source, position, null, null, null, null, null));
         });
 
-        recoverRecords(recovered -> {
-            listener.onChangeFromHistory(recovered);
-            Document srcDocument = recovered.document().getDocument(HistoryRecord.Fields.SOURCE);
-            if (stopPoints.containsKey(srcDocument) && comparator.isAtOrBefore(recovered, stopPoints.get(srcDocument))) {
-                Array tableChanges = recovered.tableChanges();
-                String ddl = recovered.ddl();
-
-                if (!preferDdl && tableChanges != null && !tableChanges.isEmpty()) {
-                    TableChanges changes = tableChangesSerializer.deserialize(tableChanges, useCatalogBeforeSchema);
-                    for (TableChange entry : changes) {
-                        if (entry.getType() == TableChangeType.CREATE) {
-                            schema.overwriteTable(entry.getTable());
-                        }
-                        else if (entry.getType() == TableChangeType.ALTER) {
-                            if (entry.getPreviousId() != null) {
-                                schema.removeTable(entry.getPreviousId());
-                            }
-                            schema.overwriteTable(entry.getTable());
-                        }
-                        // DROP
-                        else {
-                            schema.removeTable(entry.getId());
-                        }
-                    }
-                    listener.onChangeApplied(recovered);
-                }
-                else if (ddl != null && ddlParser != null) {
-                    if (recovered.databaseName() != null) {
-                        ddlParser.setCurrentDatabase(recovered.databaseName()); // may be null
-                    }
-                    if (recovered.schemaName() != null) {
-                        ddlParser.setCurrentSchema(recovered.schemaName()); // may be null
-                    }
-                    if (ddlFilter.test(ddl)) {
-                        logger.info("a DDL '{}' was filtered out of processing by regular expression '{}'", ddl,
-                                config.getString(DDL_FILTER));
-                        return;
+        try (RecordApplier applier = new RecordApplier(schema, ddlParser)) {
+            // Checkpoints describe all tables known to the connector, so they can only replace
+            // the changes of a history that was written on behalf of a single source
+            if (checkpointInterval > 0 && !preferDdl && stopPoints.size() == 1) {
+                final CheckpointRecovery recovery = new CheckpointRecovery(stopPoints, schema, applier);
+                recoverRecords(recovery);
+                recovery.finish();
+            }
+            else {
+                recoverRecords(recovered -> {
+                    listener.onChangeFromHistory(recovered);
+                    if (isAtOrBeforeStopPoint(recovered, stopPoints)) {
+                        applier.apply(recovered);
                     }
-                    try {
-                        logger.debug("Applying: {}", ddl);
-                        ddlParser.parse(ddl, schema);
-                        listener.onChangeApplied(recovered);
+                    else {
+                        logger.debug("Skipping: {}", recovered.ddl());
                     }
-                    catch (final ParsingException | MultipleParsingExceptions e) {
-                        if (skipUnparseableDDL) {
-                            logger.warn("Ignoring unparseable statements '{}' stored in database schema history", ddl, e);
-                        }
-                        else {
-                            throw e;
-                        }
+                });
+            }
+            applier.flush();
+        }
+        listener.recoveryStopped();
+    }
+
+    private boolean isAtOrBeforeStopPoint(HistoryRecord recovered, Map<Document, HistoryRecord> stopPoints) {
+        final HistoryRecord stopPoint = stopPoints.get(recovered.document().getDocument(HistoryRecord.Fields.SOURCE));
+        return stopPoint != null && comparator.isAtOrBefore(recovered, stopPoint);
+    }
+
+    private void applyRecord(HistoryRecord recovered, Tables schema, DdlParser ddlParser, PreparedDdl preparedDdl) {
+        Array tableChanges = recovered.tableChanges();
+        String ddl = recovered.ddl();
+
+        if (!preferDdl && tableChanges != null && !tableChanges.isEmpty()) {
+            TableChanges changes = tableChangesSerializer.deserialize(tableChanges, useCatalogBeforeSchema);
+            for (TableChange entry : changes) {
+                if (entry.getType() == TableChangeType.CREATE) {
+                    schema.overwriteTable(entry.getTable());
+                }
+                else if (entry.getType() == TableChangeType.ALTER) {
+                    if (entry.getPreviousId() != null) {
+                        schema.removeTable(entry.getPreviousId());
                     }
+                    schema.overwriteTable(entry.getTable());
+                }
+                // DROP
+                else {
+                    schema.removeTable(entry.getId());
                 }
             }
-            else {
+            listener.onChangeApplied(recovered);
+        }
+        else if (ddl != null && ddlParser != null) {
+            if (recovered.databaseName() != null) {
+                ddlParser.setCurrentDatabase(recovered.databaseName()); // may be null
+            }
+            if (recovered.schemaName() != null) {
+                ddlParser.setCurrentSchema(recovered.schemaName()); // may be null
+            }
+            if (ddlFilter.test(ddl)) {
+                logger.info("a DDL '{}' was filtered out of processing by regular expression '{}'", ddl,
+                        config.getString(DDL_FILTER));
+                return;
+            }
+            try {
+                logger.debug("Applying: {}", ddl);
+                if (preparedDdl != null) {
+                    ddlParser.parse(preparedDdl, schema);
+                }
+                else {
+                    ddlParser.parse(ddl, schema);
+                }
+                listener.onChangeApplied(recovered);
+            }
+            catch (final ParsingException | MultipleParsingExceptions e) {
+                if (skipUnparseableDDL) {
+                    logger.warn("Ignoring unparseable statements '{}' stored in database schema history", ddl, e);
+                }
+                else {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static boolean hasTableChanges(HistoryRecord record) {
+        return record.tableChanges() != null && !record.tableChanges().isEmpty();
+    }
+
+    /**
+     * Applies the recovered records in the order of the history. With more than one {@link #RECOVERY_PARSING_THREADS recovery
+     * parsing thread} the DDL statements of the records are prepared ahead by a thread pool, as parsing does not depend on the
+     * table definitions or the current database, and the parse results are cached by statement, so that statements repeated
+     * in the history, for example for several databases, are parsed only once.
+     */
+    private final class RecordApplier implements AutoCloseable {
+
+        private final Tables schema;
+        private final DdlParser ddlParser;
+        private final ExecutorService executor;
+        private final int maxPendingRecords;
+        private final Deque<PendingRecord> pendingRecords = new ArrayDeque<>();
+        private final Map<String, Future<PreparedDdl>> preparedDdls = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Future<PreparedDdl>> eldest) {
+                return size() > PREPARED_DDL_CACHE_SIZE;
+            }
+        };
+
+        RecordApplier(Tables schema, DdlParser ddlParser) {
+            this.schema = schema;
+            this.ddlParser = ddlParser;
+            this.executor = (recoveryParsingThreads > 1 && ddlParser != null) ? createExecutor() : null;
+            this.maxPendingRecords = recoveryParsingThreads * PREPARED_RECORDS_PER_THREAD;
+        }
+
+        void apply(HistoryRecord recovered) {
+            if (executor == null) {
+                applyRecord(recovered, schema, ddlParser, null);
+                return;
+            }
+            Future<PreparedDdl> preparedDdl = null;
+            if (recovered.ddl() != null && (preferDdl || !hasTableChanges(recovered))) {
+                preparedDdl = preparedDdls.computeIfAbsent(recovered.ddl().trim(), ddl -> executor.submit(() -> ddlParser.prepare(ddl)));
+            }
+            pendingRecords.add(new PendingRecord(recovered, preparedDdl));
+            while (pendingRecords.size() > maxPendingRecords) {
+                applyNext();
+            }
+        }
+
+        void flush() {
+            while (!pendingRecords.isEmpty()) {
+                applyNext();
+            }
+        }
+
+        private void applyNext() {
+            final PendingRecord next = pendingRecords.remove();
+            applyRecord(next.record, schema, ddlParser, next.preparedDdl != null ? await(next.preparedDdl) : null);
+        }
+
+        private PreparedDdl await(Future<PreparedDdl> preparedDdl) {
+            try {
+                return preparedDdl.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SchemaHistoryException("Interrupted while parsing the database schema history", e);
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new SchemaHistoryException("Failed to parse the database schema history", e.getCause());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private ExecutorService createExecutor() {
+            logger.info("Parsing database schema history using {} threads", recoveryParsingThreads);
+            final String connectorClassname = config.getString(INTERNAL_CONNECTOR_CLASS);
+            if (connectorClassname == null) {
+                return Executors.newFixedThreadPool(recoveryParsingThreads);
+            }
+            try {
+                return Threads.newFixedThreadPool((Class<? extends SourceConnector>) Class.forName(connectorClassname),
+                        config.getString(INTERNAL_CONNECTOR_ID), "db-history-recovery", recoveryParsingThreads);
+            }
+            catch (ClassNotFoundException e) {
+                throw new DebeziumException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Recovers the schema in a single pass over the history, starting from the newest checkpoint at or before the stop point
+     * whose records were all stored. The records of a checkpoint are stored consecutively, a checkpoint that was interrupted,
+     * e.g. by a crash of the connector, is incomplete and its records are applied like any other record.
+     * <p>
+     * The records following the latest applied checkpoint are held back, up to {@link #MAX_HELD_BACK_RECORDS}, so that those
+     * with table changes can be skipped when a newer checkpoint supersedes them. Of the records preceding a checkpoint only
+     * those without table changes are applied, as they may carry state of the DDL parser that is not part of the checkpoint.
+     */
+    private final class CheckpointRecovery implements Consumer<HistoryRecord> {
+
+        private final Map<Document, HistoryRecord> stopPoints;
+        private final Tables schema;
+        private final RecordApplier applier;
+        private final List<HistoryRecord> heldBack = new ArrayList<>();
+        private final List<HistoryRecord> checkpointRecords = new ArrayList<>();
+        private long index;
+        private long checkpointStart = -1;
+        private long candidateStart;
+        private Document checkpointPosition;
+        private long skipped;
+        private boolean singleSource = true;
+
+        CheckpointRecovery(Map<Document, HistoryRecord> stopPoints, Tables schema, RecordApplier applier) {
+            this.stopPoints = stopPoints;
+            this.schema = schema;
+            this.applier = applier;
+        }
+
+        @Override
+        public void accept(HistoryRecord recovered) {
+            final long i = index++;
+            listener.onChangeFromHistory(recovered);
+            if (singleSource && !stopPoints.containsKey(recovered.document().getDocument(HistoryRecord.Fields.SOURCE))) {
+                // a history of several sources is recovered without checkpoints from here on
+                singleSource = false;
+                releaseCheckpointRecords();
+                releaseHeldBack();
+            }
+            if (!isAtOrBeforeStopPoint(recovered, stopPoints)) {
                 logger.debug("Skipping: {}", recovered.ddl());
+                return;
             }
-        });
-        listener.recoveryStopped();
+            if (!singleSource) {
+                applier.apply(recovered);
+                return;
+            }
+            if (!recovered.isCheckpoint()) {
+                releaseCheckpointRecords();
+                holdBack(recovered);
+                return;
+            }
+            final int chunk = recovered.checkpointChunk();
+            if (chunk != checkpointRecords.size()) {
+                releaseCheckpointRecords();
+            }
+            if (chunk == 0) {
+                candidateStart = i;
+            }
+            else if (checkpointRecords.isEmpty()) {
+                holdBack(recovered);
+                return;
+            }
+            checkpointRecords.add(recovered);
+            if (checkpointRecords.size() == recovered.checkpointChunks()) {
+                applyCheckpoint(recovered.position());
+            }
+        }
+
+        void finish() {
+            releaseCheckpointRecords();
+            releaseHeldBack();
+            if (checkpointStart < 0) {
+                return;
+            }
+            logger.info("Recovered database schema from checkpoint {}, skipped {} preceding records", checkpointPosition, skipped);
+            if (checkpointCompaction) {
+                logger.info("Compacting database schema history, removing the records superseded by checkpoint {}", checkpointPosition);
+                compactRecords(checkpointStart);
+            }
+        }
+
+        private void applyCheckpoint(Document position) {
+            for (HistoryRecord record : heldBack) {
+                if (hasTableChanges(record)) {
+                    skipped++;
+                }
+                else {
+                    applier.apply(record);
+                }
+            }
+            heldBack.clear();
+            applier.flush();
+            schema.clear();
+            checkpointRecords.forEach(applier::apply);
+            checkpointRecords.clear();
+            checkpointStart = candidateStart;
+            checkpointPosition = position;
+        }
+
+        private void holdBack(HistoryRecord recovered) {
+            heldBack.add(recovered);
+            if (heldBack.size() > MAX_HELD_BACK_RECORDS) {
+                releaseHeldBack();
+            }
+        }
+
+        private void releaseHeldBack() {
+            heldBack.forEach(applier::apply);
+            heldBack.clear();
+        }
+
+        private void releaseCheckpointRecords() {
+            checkpointRecords.forEach(this::holdBack);
+            checkpointRecords.clear();
+        }
+    }
+
+    private static final class PendingRecord {
+
+        private final HistoryRecord record;
+        private final Future<PreparedDdl> preparedDdl;
+
+        private PendingRecord(HistoryRecord record, Future<PreparedDdl> preparedDdl) {
+            this.record = record;
+            this.preparedDdl = preparedDdl;
+        }
+    }
+
+    /**
+     * Removes the records superseded by a checkpoint from the underlying storage, i.e. the records preceding the checkpoint
+     * that {@link #isSupersededByCheckpoint(HistoryRecord) are superseded} by it. Histories whose storage cannot be rewritten
+     * keep all records, which is the default.
+     *
+     * @param checkpointStart the index of the first record of the checkpoint among those passed to the consumer of
+     *            {@link #recoverRecords(Consumer)}
+     */
+    protected void compactRecords(long checkpointStart) {
+        logger.info("Compaction is not supported by the database schema history {}, all records are kept", this);
+    }
+
+    /**
+     * Returns whether a record preceding a checkpoint is superseded by it; records without table changes are retained, as
+     * they may carry state of the DDL parser.
+     */
+    protected static boolean isSupersededByCheckpoint(HistoryRecord record) {
+        return record.isCheckpoint() || hasTableChanges(record);
     }
 
     protected abstract void storeRecord(HistoryRecord record) throws SchemaHistoryException;
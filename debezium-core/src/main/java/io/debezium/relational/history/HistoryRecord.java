@@ -23,6 +23,9 @@ public static final class Fields {
         public static final String DDL_STATEMENTS = "ddl";
         public static final String TABLE_CHANGES = "tableChanges";
         public static final String TIMESTAMP = "ts_ms";
+        public static final String CHECKPOINT = "checkpoint";
+        public static final String CHECKPOINT_CHUNK = "checkpointChunk";
+        public static final String CHECKPOINT_CHUNKS = "checkpointChunks";
     }
 
     private final Document doc;
@@ -75,6 +78,27 @@ public HistoryRecord(Map<String, ?> source, Map<String, ?> position, String data
 
     }
 
+    /**
+     * Creates a record of a checkpoint that captures the definitions of all tables known at the given position. The
+     * definitions are split into one or more chunks, each stored as a separate record.
+     *
+     * @param source the information about the source database; may not be null
+     * @param position the point in history at which the table definitions were captured; may not be null
+     * @param changes the {@code CREATE} changes for the tables of this chunk; may not be null
+     * @param timestamp the time the checkpoint was taken; may be null
+     * @param chunk the index of the chunk within the checkpoint
+     * @param chunks the number of chunks of the checkpoint
+     * @return the checkpoint record, never null
+     */
+    public static HistoryRecord checkpoint(Map<String, ?> source, Map<String, ?> position, TableChanges changes, Instant timestamp,
+                                           int chunk, int chunks) {
+        final HistoryRecord record = new HistoryRecord(source, position, null, null, null, changes, timestamp);
+        record.doc.setBoolean(Fields.CHECKPOINT, true);
+        record.doc.setNumber(Fields.CHECKPOINT_CHUNK, chunk);
+        record.doc.setNumber(Fields.CHECKPOINT_CHUNKS, chunks);
+        return record;
+    }
+
     public Document document() {
         return this.doc;
     }
@@ -107,6 +131,18 @@ protected long timestamp() {
         return doc.getLong(Fields.TIMESTAMP);
     }
 
+    protected boolean isCheckpoint() {
+        return doc.getBoolean(Fields.CHECKPOINT, false);
+    }
+
+    protected int checkpointChunk() {
+        return doc.getInteger(Fields.CHECKPOINT_CHUNK, 0);
+    }
+
+    protected int checkpointChunks() {
+        return doc.getInteger(Fields.CHECKPOINT_CHUNKS, 1);
+    }
+
     @Override
     public String toString() {
         return doc.toString();
@@ -39,6 +39,12 @@ protected void recoverRecords(Consumer<HistoryRecord> records) {
         lock.write(() -> this.records.forEach(records));
     }
 
+    @Override
+    protected void compactRecords(long checkpointStart) {
+        lock.write(() -> records.subList(0, (int) Math.min(checkpointStart, records.size()))
+                .removeIf(AbstractSchemaHistory::isSupersededByCheckpoint));
+    }
+
     @Override
     public boolean storageExists() {
         return true;
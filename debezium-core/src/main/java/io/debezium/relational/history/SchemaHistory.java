@@ -73,6 +73,61 @@ public interface SchemaHistory {
                     + "If set to false, then Debezium will store all incoming DDL statements.")
             .withDefault(false);
 
+    Field CHECKPOINT_INTERVAL = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "checkpoint.interval")
+            .withDisplayName("Number of schema changes between checkpoints")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of schema changes after which a checkpoint with the definitions of all known tables "
+                    + "is stored in the database schema history. During recovery the connector starts from the newest "
+                    + "checkpoint at or before the recovered offset and only applies the changes recorded after it. "
+                    + "The default value of 0 disables checkpoints.")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
+    Field CHECKPOINT_MAX_RECORD_SIZE = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "checkpoint.max.record.bytes")
+            .withDisplayName("Maximum size of a checkpoint record")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The approximate maximum size in bytes of a record of a checkpoint. The table definitions of a "
+                    + "checkpoint are split into as many records as needed to stay below this size, which must be smaller "
+                    + "than the maximum record size of the history storage, e.g. 'max.message.bytes' of the Kafka topic.")
+            .withDefault(512 * 1024L)
+            .withValidation(Field::isPositiveLong);
+
+    Field CHECKPOINT_COMPACTION = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "checkpoint.compaction")
+            .withDisplayName("Compact schema history on recovery")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Controls whether table changes superseded by the checkpoint used during recovery are removed "
+                    + "from the database schema history. Only histories that can rewrite their storage support compaction, "
+                    + "other histories ignore this setting.")
+            .withDefault(false);
+
+    Field RECOVERY_PARSING_THREADS = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "recovery.parsing.threads")
+            .withDisplayName("Number of threads parsing DDL during recovery")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of threads that parse the DDL statements of the database schema history during recovery. "
+                    + "With more than one thread the statements are parsed ahead of time in parallel and identical statements "
+                    + "are parsed only once, while the parsed statements are still applied one after another in the order of the history. "
+                    + "The default value of 1 parses each statement when it is applied.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
+    Field DDL_PARSER_WARMUP = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "ddl.parser.warmup")
+            .withDisplayName("Warm up DDL parser on start")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Controls whether the connector parses a bundled set of representative DDL statements on start, "
+                    + "before recovering the database schema history. The parsing caches built by the warm-up are shared by all "
+                    + "connectors of the same type in the JVM, so the warm-up is done at most once per JVM.")
+            .withDefault(false);
+
     Field DDL_FILTER = Field.createInternal(CONFIGURATION_FIELD_PREFIX_STRING + "ddl.filter")
             .withDisplayName("DDL filter")
             .withType(Type.STRING)
@@ -161,6 +216,19 @@ public interface SchemaHistory {
     void record(Map<String, ?> source, Map<String, ?> position, String databaseName, String schemaName, String ddl, TableChanges changes, Instant timestamp)
             throws SchemaHistoryException;
 
+    /**
+     * Record a checkpoint with the definitions of all tables, if the {@link #CHECKPOINT_INTERVAL configured} number of schema
+     * changes has been recorded since the previous checkpoint. Otherwise the call has no effect.
+     *
+     * @param source the information about the source database; may not be null
+     * @param position the point in history that the table definitions correspond to; may not be null
+     * @param tables the current table definitions; may not be null
+     * @param timestamp the time of the checkpoint; may be null
+     * @throws SchemaHistoryException if the record could not be written
+     */
+    default void recordCheckpoint(Map<String, ?> source, Map<String, ?> position, Tables tables, Instant timestamp) throws SchemaHistoryException {
+    }
+
     /**
      * @deprecated Use {@link #recover(Offsets, Tables, DdlParser)} instead.
      */
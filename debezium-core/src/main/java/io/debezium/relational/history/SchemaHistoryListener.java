@@ -5,6 +5,9 @@
  */
 package io.debezium.relational.history;
 
+import io.debezium.relational.ddl.DdlParser;
+import io.debezium.relational.ddl.DdlParserStatistics;
+
 /**
  * Listener receiving lifecycle and data events from {@link SchemaHistory}.
  *
@@ -34,6 +37,14 @@ public interface SchemaHistoryListener {
      */
     void onChangeApplied(HistoryRecord record);
 
+    /**
+     * Invoked when the history is recovered with a DDL parser collecting parse time statistics.
+     *
+     * @param statistics the statistics of the parser, see {@link DdlParser#statistics()}
+     */
+    default void onDdlParserStatistics(DdlParserStatistics statistics) {
+    }
+
     SchemaHistoryListener NOOP = new SchemaHistoryListener() {
         @Override
         public void stopped() {
@@ -57,4 +57,30 @@ public interface SchemaHistoryMXBean {
      * @return String representation of the last recovered change
      */
     String getLastRecoveredChange();
+
+    /**
+     * @return number of DDL parses measured by the parser of the connector, or -1 if the parser does not measure them;
+     * the parsers of one kind of connector share their caches and statistics within the JVM
+     */
+    long getDdlParseCount();
+
+    /**
+     * @return median time in microseconds needed to parse DDL, or -1 if not available
+     */
+    long getDdlParseTimeP50MicroSeconds();
+
+    /**
+     * @return 90th percentile of the time in microseconds needed to parse DDL, or -1 if not available
+     */
+    long getDdlParseTimeP90MicroSeconds();
+
+    /**
+     * @return 99th percentile of the time in microseconds needed to parse DDL, or -1 if not available
+     */
+    long getDdlParseTimeP99MicroSeconds();
+
+    /**
+     * @return longest time in microseconds needed to parse DDL, or -1 if not available
+     */
+    long getDdlParseTimeMaxMicroSeconds();
 }
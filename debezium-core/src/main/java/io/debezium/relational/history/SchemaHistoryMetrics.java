@@ -14,6 +14,7 @@
 
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.metrics.Metrics;
+import io.debezium.relational.ddl.DdlParserStatistics;
 import io.debezium.schema.DatabaseSchema;
 import io.debezium.util.Clock;
 import io.debezium.util.ElapsedTimeStrategy;
@@ -46,6 +47,7 @@ public enum SchemaHistoryStatus {
     private Instant lastChangeRecoveredTimestamp;
     private HistoryRecord lastAppliedChange;
     private HistoryRecord lastRecoveredChange;
+    private volatile DdlParserStatistics ddlParserStatistics;
     private final Clock clock = Clock.system();
     private final ElapsedTimeStrategy lastChangeAppliedLogDelay = ElapsedTimeStrategy.constant(clock, PAUSE_BETWEEN_LOG_MESSAGES);
     private final ElapsedTimeStrategy lastChangeRecoveredLogDelay = ElapsedTimeStrategy.constant(clock, PAUSE_BETWEEN_LOG_MESSAGES);
@@ -96,6 +98,38 @@ public String getLastRecoveredChange() {
         return lastRecoveredChange == null ? "" : lastRecoveredChange.toString();
     }
 
+    @Override
+    public long getDdlParseCount() {
+        final DdlParserStatistics statistics = ddlParserStatistics;
+        return statistics == null ? -1 : statistics.getCount();
+    }
+
+    @Override
+    public long getDdlParseTimeP50MicroSeconds() {
+        return getDdlParseTimePercentile(50);
+    }
+
+    @Override
+    public long getDdlParseTimeP90MicroSeconds() {
+        return getDdlParseTimePercentile(90);
+    }
+
+    @Override
+    public long getDdlParseTimeP99MicroSeconds() {
+        return getDdlParseTimePercentile(99);
+    }
+
+    @Override
+    public long getDdlParseTimeMaxMicroSeconds() {
+        final DdlParserStatistics statistics = ddlParserStatistics;
+        return statistics == null ? -1 : statistics.getMaximumMicros();
+    }
+
+    private long getDdlParseTimePercentile(double percentile) {
+        final DdlParserStatistics statistics = ddlParserStatistics;
+        return statistics == null ? -1 : statistics.getPercentileMicros(percentile);
+    }
+
     @Override
     public void started() {
         status = SchemaHistoryStatus.RUNNING;
@@ -120,6 +154,14 @@ public void recoveryStopped() {
         status = SchemaHistoryStatus.RUNNING;
         LOGGER.info("Finished database schema history recovery of {} change(s) in {} ms", changesRecovered.get(),
                 Duration.between(recoveryStartTime, Instant.now()).toMillis());
+        if (ddlParserStatistics != null) {
+            LOGGER.info("DDL parse times so far: {}", ddlParserStatistics);
+        }
+    }
+
+    @Override
+    public void onDdlParserStatistics(DdlParserStatistics statistics) {
+        ddlParserStatistics = statistics;
     }
 
     @Override
@@ -35,6 +35,10 @@ public static long getApproximateRecordSize(SourceRecord changeEvent) {
                 + changeEvent.topic().getBytes().length;
     }
 
+    public static long getApproximateStructSize(Struct struct) {
+        return getStructSize(struct);
+    }
+
     private static long getStructSize(Struct struct) {
         if (struct == null) {
             return 0;
@@ -11,6 +11,7 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -25,6 +26,7 @@
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
+import io.debezium.config.CommonConnectorConfig.QueueType;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.util.LoggingContext;
 
@@ -33,6 +35,7 @@ public class ChangeEventQueueTest {
 
     private static final DataChangeEvent EVENT = getDataChangeEvent();
 
+    private final QueueType queueType;
     private final int noOfWriters;
     private final int noOfReaders;
     private final int noOfEventsPerWriter;
@@ -40,8 +43,10 @@ public class ChangeEventQueueTest {
     private final Thread[] writers;
     private final Thread[] readers;
     private final AtomicLong recordsRead;
+    private ChangeEventQueue<DataChangeEvent> queue;
 
-    public ChangeEventQueueTest(int noOfWriters, int noOfReaders, int noOfEventsPerWriter) {
+    public ChangeEventQueueTest(QueueType queueType, int noOfWriters, int noOfReaders, int noOfEventsPerWriter) {
+        this.queueType = queueType;
         this.noOfWriters = noOfWriters;
         this.noOfReaders = noOfReaders;
         this.noOfEventsPerWriter = noOfEventsPerWriter;
@@ -51,16 +56,19 @@ public ChangeEventQueueTest(int noOfWriters, int noOfReaders, int noOfEventsPerW
         this.recordsRead = new AtomicLong();
     }
 
-    @Parameters(name = "{index}: testQueue({0} writers, {1} readers, {2} events)")
+    @Parameters(name = "{index}: testQueue({0} queue, {1} writers, {2} readers, {3} events)")
     public static Collection<Object[]> data() {
+        QueueType[] queueTypes = QueueType.values();
         int[] writers = { 1, 2, 4, 8, 16 };
         int[] readers = { 1, 2, 4, 8, 16 };
         int totalEvents = 1_000_000;
-        Object[][] params = new Object[writers.length * readers.length][];
+        Object[][] params = new Object[queueTypes.length * writers.length * readers.length][];
         int index = 0;
-        for (int writer : writers) {
-            for (int reader : readers) {
-                params[index++] = new Object[]{ writer, reader, totalEvents };
+        for (QueueType queueType : queueTypes) {
+            for (int writer : writers) {
+                for (int reader : readers) {
+                    params[index++] = new Object[]{ queueType, writer, reader, totalEvents };
+                }
             }
         }
         return Arrays.asList(params);
@@ -68,11 +76,12 @@ public static Collection<Object[]> data() {
 
     @Before
     public void setup() {
-        ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+        queue = new ChangeEventQueue.Builder<DataChangeEvent>()
                 .maxBatchSize(8192)
                 .maxQueueSize(8192 * 2)
                 .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
                 .pollInterval(Duration.ofMillis(500))
+                .queueType(queueType)
                 .build();
         for (int i = 0; i < noOfWriters; i++) {
             writers[i] = getWriter(queue, noOfEventsPerWriter);
@@ -104,6 +113,14 @@ public void shouldQueueAndPollMessages() throws InterruptedException {
         assertEquals(totalNoOfEvents, recordsRead.get());
     }
 
+    @Test
+    public void shouldQueueBatchesAndPollMessages() throws InterruptedException {
+        for (int i = 0; i < noOfWriters; i++) {
+            writers[i] = getBatchWriter(queue, noOfEventsPerWriter, 100);
+        }
+        shouldQueueAndPollMessages();
+    }
+
     @After
     public void teardown() {
         for (Thread thread : writers) {
@@ -127,6 +144,20 @@ private static Thread getWriter(ChangeEventQueue<DataChangeEvent> queue, int noO
         });
     }
 
+    private static Thread getBatchWriter(ChangeEventQueue<DataChangeEvent> queue, int noOfEvents, int batchSize) {
+        final List<DataChangeEvent> batch = Collections.nCopies(batchSize, EVENT);
+        return new Thread(() -> {
+            for (int i = 0; i < noOfEvents; i += batchSize) {
+                try {
+                    queue.enqueueAll(batch.subList(0, Math.min(batchSize, noOfEvents - i)));
+                }
+                catch (InterruptedException ex) {
+                    // exit thread
+                }
+            }
+        });
+    }
+
     private static Thread getReader(ChangeEventQueue<DataChangeEvent> queue, long totalNoOfEvents, AtomicLong recordsRead) {
         return new Thread(() -> {
             while (recordsRead.get() < totalNoOfEvents) {
@@ -0,0 +1,246 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.storage.Converter;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.confluent.connect.avro.AvroConverter;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.debezium.config.Configuration;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.converters.recordandmetadata.RecordAndMetadata;
+import io.debezium.converters.spi.CloudEventsMaker;
+import io.debezium.converters.spi.CloudEventsProvider;
+import io.debezium.converters.spi.RecordParser;
+import io.debezium.converters.spi.SerializerType;
+import io.debezium.data.Envelope;
+import io.debezium.pipeline.txmetadata.TransactionMonitor;
+
+/**
+ * Verifies that JSON CloudEvents written directly by the {@link CloudEventsConverter} are identical to the events
+ * obtained by serializing their Connect schema and value with the JSON converter.
+ */
+public class CloudEventsConverterSerializationTest {
+
+    private static final String TOPIC = "server1.inventory.customers";
+    private static final String CONNECTOR_TYPE = "cetest";
+    private static final String AFTER_ONLY_CONNECTOR_TYPE = "cetestafter";
+
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .name("io.debezium.connector.cetest.Source")
+            .field(AbstractSourceInfo.DEBEZIUM_VERSION_KEY, Schema.STRING_SCHEMA)
+            .field(AbstractSourceInfo.DEBEZIUM_CONNECTOR_KEY, Schema.STRING_SCHEMA)
+            .field(AbstractSourceInfo.SERVER_NAME_KEY, Schema.STRING_SCHEMA)
+            .field(AbstractSourceInfo.TIMESTAMP_KEY, Schema.INT64_SCHEMA)
+            .field(AbstractSourceInfo.SNAPSHOT_KEY, Schema.OPTIONAL_STRING_SCHEMA)
+            .field(AbstractSourceInfo.DATABASE_NAME_KEY, Schema.STRING_SCHEMA)
+            .field("sequence", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("lsn", Schema.OPTIONAL_INT64_SCHEMA)
+            .field("tx_id", Schema.OPTIONAL_INT32_SCHEMA)
+            .field("last_event", Schema.OPTIONAL_BOOLEAN_SCHEMA)
+            .build();
+
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct()
+            .name("server1.inventory.customers.Value")
+            .optional()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("active", Schema.OPTIONAL_BOOLEAN_SCHEMA)
+            .build();
+
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("server1.inventory.customers.Envelope")
+            .withRecord(ROW_SCHEMA)
+            .withSource(SOURCE_SCHEMA)
+            .withSchema(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, Envelope.FieldName.TRANSACTION)
+            .build();
+
+    @Test
+    public void shouldWriteJsonEventWithJsonDataWithSchemaAsBefore() {
+        final Map<String, Object> config = jsonConfig("json");
+        config.put("json.schemas.enable", true);
+        assertSameOutput(config, null);
+    }
+
+    @Test
+    public void shouldWriteJsonEventWithJsonDataWithoutSchemaAsBefore() {
+        final Map<String, Object> config = jsonConfig("json");
+        config.put("json.schemas.enable", false);
+        assertSameOutput(config, null);
+    }
+
+    @Test
+    public void shouldWriteJsonEventWithAvroDataAsBefore() {
+        final Map<String, Object> config = jsonConfig("avro");
+        config.put("avro.schema.registry.url", "http://fake-url");
+
+        final Converter avroConverter = new AvroConverter(new MockSchemaRegistryClient());
+        avroConverter.configure(Configuration.from(config).subset("avro", true).asMap(), false);
+        assertSameOutput(config, avroConverter);
+    }
+
+    @Test
+    public void shouldWriteJsonEventWithoutExtensionAttributesAsBefore() {
+        for (String dataSerializerType : new String[]{ "json", "avro" }) {
+            final Map<String, Object> config = jsonConfig(dataSerializerType);
+            config.put("extension.attributes.enable", false);
+            config.put("avro.schema.registry.url", "http://fake-url");
+
+            Converter avroConverter = null;
+            if ("avro".equals(dataSerializerType)) {
+                avroConverter = new AvroConverter(new MockSchemaRegistryClient());
+                avroConverter.configure(Configuration.from(config).subset("avro", true).asMap(), false);
+            }
+            assertSameOutput(config, avroConverter);
+        }
+    }
+
+    @Test
+    public void shouldBuildDataSchemaOfTheFieldsRequestedByTheParser() throws Exception {
+        final Map<String, Object> config = jsonConfig("json");
+        config.put("json.schemas.enable", false);
+        final CloudEventsConverter converter = new CloudEventsConverter();
+        converter.configure(config, false);
+
+        final ObjectMapper mapper = new ObjectMapper();
+        final JsonNode event = mapper.readTree(converter.fromConnectData(TOPIC, null, ENVELOPE.schema(), update(CONNECTOR_TYPE, null)));
+        assertThat(event.get(CloudEventsMaker.FieldName.DATA).has(Envelope.FieldName.BEFORE)).isTrue();
+        assertThat(event.get(CloudEventsMaker.FieldName.DATA).has(Envelope.FieldName.AFTER)).isTrue();
+
+        // the schema of the topic is unchanged, but the parser asks for other fields
+        final JsonNode afterOnly = mapper.readTree(converter.fromConnectData(TOPIC, null, ENVELOPE.schema(), update(AFTER_ONLY_CONNECTOR_TYPE, null)));
+        assertThat(afterOnly.get(CloudEventsMaker.FieldName.DATA).has(Envelope.FieldName.BEFORE)).isFalse();
+        assertThat(afterOnly.get(CloudEventsMaker.FieldName.DATA).get(Envelope.FieldName.AFTER).get("id").asInt()).isEqualTo(1);
+    }
+
+    private static Map<String, Object> jsonConfig(String dataSerializerType) {
+        final Map<String, Object> config = new HashMap<>();
+        config.put("serializer.type", "json");
+        config.put("data.serializer.type", dataSerializerType);
+        return config;
+    }
+
+    /**
+     * Converts events with and without transaction metadata, including values which are null or need escaping,
+     * and compares the directly written events with the ones serialized from their Connect representation.
+     */
+    private static void assertSameOutput(Map<String, Object> config, Converter avroConverter) {
+        final CloudEventsConverter converter = new CloudEventsConverter(avroConverter);
+        converter.configure(config, false);
+
+        for (Struct record : new Struct[]{ update(CONNECTOR_TYPE, null), update(CONNECTOR_TYPE, transaction()), create("quote \" and \\ backslash \u00e9") }) {
+            final byte[] reference = converter.fromConnectData(TOPIC, null, ENVELOPE.schema(), record, false);
+            final byte[] direct = converter.fromConnectData(TOPIC, null, ENVELOPE.schema(), record, true);
+            assertThat(new String(direct, StandardCharsets.UTF_8)).isEqualTo(new String(reference, StandardCharsets.UTF_8));
+            assertThat(direct).isEqualTo(reference);
+        }
+    }
+
+    private static Struct update(String connectorType, Struct transaction) {
+        final Struct before = new Struct(ROW_SCHEMA).put("id", 1).put("name", "Anne").put("active", true);
+        final Struct after = new Struct(ROW_SCHEMA).put("id", 1).put("name", "Anne Marie").put("active", false);
+        final Struct record = ENVELOPE.update(before, after, source(connectorType).put("lsn", 1234567890123L).put("tx_id", 42).put("last_event", true),
+                Instant.ofEpochMilli(1700000000123L));
+        if (transaction != null) {
+            record.put(Envelope.FieldName.TRANSACTION, transaction);
+        }
+        return record;
+    }
+
+    private static Struct create(String name) {
+        final Struct after = new Struct(ROW_SCHEMA).put("id", 2).put("name", name);
+        return ENVELOPE.create(after, source(CONNECTOR_TYPE).put(AbstractSourceInfo.SNAPSHOT_KEY, "true"), Instant.ofEpochMilli(1700000000456L));
+    }
+
+    private static Struct source(String connectorType) {
+        return new Struct(SOURCE_SCHEMA)
+                .put(AbstractSourceInfo.DEBEZIUM_VERSION_KEY, "2.5.0")
+                .put(AbstractSourceInfo.DEBEZIUM_CONNECTOR_KEY, connectorType)
+                .put(AbstractSourceInfo.SERVER_NAME_KEY, "server1")
+                .put(AbstractSourceInfo.TIMESTAMP_KEY, 1700000000000L)
+                .put(AbstractSourceInfo.DATABASE_NAME_KEY, "inventory");
+    }
+
+    private static Struct transaction() {
+        return new Struct(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA)
+                .put(TransactionMonitor.DEBEZIUM_TRANSACTION_ID_KEY, "571:53195829")
+                .put(TransactionMonitor.DEBEZIUM_TRANSACTION_TOTAL_ORDER_KEY, 3L)
+                .put(TransactionMonitor.DEBEZIUM_TRANSACTION_DATA_COLLECTION_ORDER_KEY, 2L);
+    }
+
+    /**
+     * Provides the CloudEvents of the records above; events of the {@link #AFTER_ONLY_CONNECTOR_TYPE} connector only
+     * contain the new state of the row.
+     */
+    public static class TestCloudEventsProvider implements CloudEventsProvider {
+
+        @Override
+        public String getName() {
+            return CONNECTOR_TYPE;
+        }
+
+        @Override
+        public RecordParser createParser(RecordAndMetadata recordAndMetadata) {
+            return new TestRecordParser(recordAndMetadata, Envelope.FieldName.BEFORE, Envelope.FieldName.AFTER);
+        }
+
+        @Override
+        public CloudEventsMaker createMaker(RecordParser parser, SerializerType contentType, String dataSchemaUriBase, String cloudEventsSchemaName) {
+            return new TestCloudEventsMaker(parser, contentType, dataSchemaUriBase, cloudEventsSchemaName);
+        }
+    }
+
+    public static class AfterOnlyTestCloudEventsProvider extends TestCloudEventsProvider {
+
+        @Override
+        public String getName() {
+            return AFTER_ONLY_CONNECTOR_TYPE;
+        }
+
+        @Override
+        public RecordParser createParser(RecordAndMetadata recordAndMetadata) {
+            return new TestRecordParser(recordAndMetadata, Envelope.FieldName.AFTER);
+        }
+    }
+
+    private static class TestRecordParser extends RecordParser {
+
+        TestRecordParser(RecordAndMetadata recordAndMetadata, String... dataFields) {
+            super(recordAndMetadata, dataFields);
+        }
+
+        @Override
+        public Object getMetadata(String name) {
+            return source().get(name);
+        }
+    }
+
+    private static class TestCloudEventsMaker extends CloudEventsMaker {
+
+        TestCloudEventsMaker(RecordParser parser, SerializerType contentType, String dataSchemaUriBase, String cloudEventsSchemaName) {
+            super(parser, contentType, dataSchemaUriBase, cloudEventsSchemaName);
+        }
+
+        @Override
+        public String ceId() {
+            return "name:" + recordParser.getMetadata(AbstractSourceInfo.SERVER_NAME_KEY) + ";lsn:" + recordParser.getMetadata("lsn");
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.config.EnumeratedValue;
+import io.debezium.connector.SourceInfoStructMaker;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.data.Envelope;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.heartbeat.Heartbeat;
+import io.debezium.pipeline.source.spi.DataChangeEventListener;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.spi.Partition;
+import io.debezium.relational.TableId;
+import io.debezium.schema.DataCollectionFilters.DataCollectionFilter;
+import io.debezium.schema.DataCollectionSchema;
+import io.debezium.schema.DatabaseSchema;
+import io.debezium.spi.schema.DataCollectionId;
+import io.debezium.spi.topic.TopicNamingStrategy;
+import io.debezium.util.LoggingContext;
+
+/**
+ * Verifies that {@link EventDispatcher#dispatchDataChangeEvents} emits the same records and metrics as
+ * {@link EventDispatcher#dispatchDataChangeEvent} called for each change.
+ */
+public class EventDispatcherTest {
+
+    private static final TableId TABLE = new TableId("db", null, "orders");
+    private static final TestPartition PARTITION = new TestPartition();
+
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct()
+            .name("server1.db.orders.Value")
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .build();
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .name("server1.db.orders.Key")
+            .field("id", Schema.INT32_SCHEMA)
+            .build();
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .name("source")
+            .field("pos", Schema.INT32_SCHEMA)
+            .build();
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("server1.db.orders.Envelope")
+            .withRecord(ROW_SCHEMA)
+            .withSource(SOURCE_SCHEMA)
+            .build();
+
+    private static final List<Change> CHANGES = List.of(
+            new Change(1, Operation.CREATE, 1),
+            new Change(2, Operation.UPDATE, 2),
+            new Change(3, Operation.DELETE, 3),
+            new Change(4, Operation.CREATE, 4),
+            new Change(5, Operation.UPDATE, 1));
+
+    @Test
+    public void shouldEmitSameRecordsInBatchAsForSingleEvents() throws Exception {
+        final Configuration config = config().build();
+
+        final Dispatch single = dispatch(config, id -> true, false, false);
+        final Dispatch batch = dispatch(config, id -> true, false, true);
+
+        assertThat(batch.handled).isTrue();
+        assertThat(batch.handled).isEqualTo(single.handled);
+        // the delete is followed by its tombstone
+        assertThat(single.records).hasSize(6);
+        assertThat(single.records.get(3).value()).isNull();
+        assertThat(batch.records).isEqualTo(single.records);
+
+        assertSameMetrics(single, batch);
+        assertThat(single.listener.invocations).isEqualTo(5);
+        assertThat(batch.listener.invocations).isEqualTo(3);
+
+        verify(single.heartbeat, times(5)).heartbeat(anyMap(), anyMap(), any());
+        verify(batch.heartbeat, times(1)).heartbeat(anyMap(), anyMap(), any());
+    }
+
+    @Test
+    public void shouldSkipOperationsInBatchAsForSingleEvents() throws Exception {
+        final Configuration config = config()
+                .with(CommonConnectorConfig.SKIPPED_OPERATIONS, "u")
+                .with(CommonConnectorConfig.TOMBSTONES_ON_DELETE, false)
+                .build();
+
+        final Dispatch single = dispatch(config, id -> true, false, false);
+        final Dispatch batch = dispatch(config, id -> true, false, true);
+
+        assertThat(single.records).hasSize(3);
+        assertThat(single.records).noneMatch(record -> record.value() == null);
+        assertThat(batch.records).isEqualTo(single.records);
+
+        assertSameMetrics(single, batch);
+        assertThat(batch.listener.counts).doesNotContainKey(Operation.UPDATE);
+    }
+
+    @Test
+    public void shouldFilterCollectionInBatchAsForSingleEvents() throws Exception {
+        final Configuration config = config().build();
+
+        final Dispatch single = dispatch(config, id -> false, false, false);
+        final Dispatch batch = dispatch(config, id -> false, false, true);
+
+        assertThat(batch.handled).isFalse();
+        assertThat(single.handled).isFalse();
+        assertThat(single.records).isEmpty();
+        assertThat(batch.records).isEmpty();
+
+        assertThat(single.listener.filtered).isEqualTo(5);
+        assertThat(batch.listener.filtered).isEqualTo(single.listener.filtered);
+        assertThat(batch.listener.counts).isEmpty();
+    }
+
+    @Test
+    public void shouldKeepLastRecordInBufferForOffsetRewrite() throws Exception {
+        final Configuration config = config().build();
+
+        final Dispatch single = dispatch(config, id -> true, true, false);
+        final Dispatch batch = dispatch(config, id -> true, true, true);
+
+        assertThat(single.records).hasSize(6);
+        assertThat(batch.records).isEqualTo(single.records);
+        assertThat(batch.records.get(5).sourceOffset()).isEqualTo(Map.of("pos", 5, "last", true));
+        assertThat(batch.records.get(4).sourceOffset()).isEqualTo(Map.of("pos", 4));
+    }
+
+    private static void assertSameMetrics(Dispatch single, Dispatch batch) {
+        assertThat(batch.listener.counts).isEqualTo(single.listener.counts);
+        assertThat(batch.listener.lastOperation).isEqualTo(single.listener.lastOperation);
+        assertThat(batch.listener.lastKey).isEqualTo(single.listener.lastKey);
+        assertThat(batch.listener.lastOffset).isSameAs(single.listener.lastOffset);
+    }
+
+    private static Configuration.Builder config() {
+        return Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Dispatch dispatch(Configuration config, DataCollectionFilter<TableId> filter, boolean buffering, boolean batch)
+            throws InterruptedException {
+        final TestConnectorConfig connectorConfig = new TestConnectorConfig(config);
+        final TopicNamingStrategy<TableId> topicNamingStrategy = connectorConfig.getTopicNamingStrategy(CommonConnectorConfig.TOPIC_NAMING_STRATEGY);
+        final DatabaseSchema<TableId> schema = mock(DatabaseSchema.class);
+        when(schema.schemaFor(TABLE)).thenReturn(new TestSchema());
+
+        final ChangeEventQueue.Builder<DataChangeEvent> queueBuilder = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxQueueSize(100)
+                .maxBatchSize(50)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"));
+        if (buffering) {
+            queueBuilder.buffering();
+        }
+        final ChangeEventQueue<DataChangeEvent> queue = queueBuilder.build();
+
+        final Dispatch result = new Dispatch();
+        result.heartbeat = mock(Heartbeat.class);
+        final EventDispatcher<TestPartition, TableId> dispatcher = new EventDispatcher<>(connectorConfig, topicNamingStrategy, schema, queue,
+                filter, DataChangeEvent::new, null, mock(EventMetadataProvider.class), result.heartbeat, connectorConfig.schemaNameAdjuster(),
+                null);
+        dispatcher.setEventListener(result.listener);
+
+        final List<OffsetContext> offsets = new ArrayList<>();
+        for (Change change : CHANGES) {
+            final OffsetContext offset = mock(OffsetContext.class);
+            when(offset.getOffset()).thenReturn((Map) Map.of("pos", change.position));
+            offsets.add(offset);
+        }
+        if (batch) {
+            result.handled = dispatcher.dispatchDataChangeEvents(PARTITION, TABLE, CHANGES,
+                    change -> new TestEmitter(change, offsets.get(change.position - 1)));
+        }
+        else {
+            for (Change change : CHANGES) {
+                result.handled |= dispatcher.dispatchDataChangeEvent(PARTITION, TABLE, new TestEmitter(change, offsets.get(change.position - 1)));
+            }
+        }
+        if (buffering) {
+            queue.flushBuffer(event -> {
+                final SourceRecord record = event.getRecord();
+                final Map<String, Object> offset = new HashMap<>(record.sourceOffset());
+                offset.put("last", true);
+                return new DataChangeEvent(new SourceRecord(record.sourcePartition(), offset, record.topic(), record.kafkaPartition(),
+                        record.keySchema(), record.key(), record.valueSchema(), record.value()));
+            });
+        }
+
+        result.records = queue.poll().stream().map(DataChangeEvent::getRecord).collect(Collectors.toList());
+        dispatcher.close();
+        return result;
+    }
+
+    private static final class Dispatch {
+        private final RecordingListener listener = new RecordingListener();
+        private Heartbeat heartbeat;
+        private boolean handled;
+        private List<SourceRecord> records;
+    }
+
+    private static final class Change {
+        private final int position;
+        private final Operation operation;
+        private final int id;
+
+        private Change(int position, Operation operation, int id) {
+            this.position = position;
+            this.operation = operation;
+            this.id = id;
+        }
+    }
+
+    private static final class TestEmitter implements ChangeRecordEmitter<TestPartition> {
+
+        private final Change change;
+        private final OffsetContext offset;
+
+        private TestEmitter(Change change, OffsetContext offset) {
+            this.change = change;
+            this.offset = offset;
+        }
+
+        @Override
+        public void emitChangeRecords(DataCollectionSchema schema, Receiver<TestPartition> receiver) throws InterruptedException {
+            final Struct key = new Struct(KEY_SCHEMA).put("id", change.id);
+            final Struct row = new Struct(ROW_SCHEMA).put("id", change.id).put("name", "name-" + change.position);
+            final Struct source = new Struct(SOURCE_SCHEMA).put("pos", change.position);
+            final Instant timestamp = Instant.ofEpochMilli(change.position);
+            final Struct value;
+            switch (change.operation) {
+                case CREATE:
+                    value = ENVELOPE.create(row, source, timestamp);
+                    break;
+                case UPDATE:
+                    value = ENVELOPE.update(row, row, source, timestamp);
+                    break;
+                default:
+                    value = ENVELOPE.delete(row, source, timestamp);
+            }
+            receiver.changeRecord(PARTITION, schema, change.operation, key, value, offset, new ConnectHeaders());
+        }
+
+        @Override
+        public TestPartition getPartition() {
+            return PARTITION;
+        }
+
+        @Override
+        public OffsetContext getOffset() {
+            return offset;
+        }
+
+        @Override
+        public Operation getOperation() {
+            return change.operation;
+        }
+    }
+
+    private static final class RecordingListener implements DataChangeEventListener<TestPartition> {
+
+        private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        private int invocations;
+        private int filtered;
+        private Operation lastOperation;
+        private Object lastKey;
+        private OffsetContext lastOffset;
+
+        @Override
+        public void onEvent(TestPartition partition, DataCollectionId source, OffsetContext offset, Object key, Struct value, Operation operation) {
+            onEvents(partition, source, offset, key, value, operation, 1);
+        }
+
+        @Override
+        public void onEvents(TestPartition partition, DataCollectionId source, OffsetContext offset, Object key, Struct value, Operation operation,
+                             int count) {
+            invocations++;
+            counts.merge(operation, count, Integer::sum);
+            lastOperation = operation;
+            lastKey = key;
+            lastOffset = offset;
+        }
+
+        @Override
+        public void onFilteredEvent(TestPartition partition, String event) {
+            filtered++;
+        }
+
+        @Override
+        public void onFilteredEvent(TestPartition partition, String event, Operation operation) {
+            filtered++;
+        }
+
+        @Override
+        public void onErroneousEvent(TestPartition partition, String event) {
+        }
+
+        @Override
+        public void onErroneousEvent(TestPartition partition, String event, Operation operation) {
+        }
+
+        @Override
+        public void onConnectorEvent(TestPartition partition, ConnectorEvent event) {
+        }
+    }
+
+    private static final class TestSchema implements DataCollectionSchema {
+
+        @Override
+        public DataCollectionId id() {
+            return TABLE;
+        }
+
+        @Override
+        public Schema keySchema() {
+            return KEY_SCHEMA;
+        }
+
+        @Override
+        public Envelope getEnvelopeSchema() {
+            return ENVELOPE;
+        }
+    }
+
+    private static final class TestPartition implements Partition {
+
+        @Override
+        public Map<String, String> getSourcePartition() {
+            return Collections.singletonMap("server", "server1");
+        }
+    }
+
+    private static final class TestConnectorConfig extends CommonConnectorConfig {
+
+        private TestConnectorConfig(Configuration config) {
+            super(config, 0);
+        }
+
+        @Override
+        public String getContextName() {
+            return "test";
+        }
+
+        @Override
+        public String getConnectorName() {
+            return "test";
+        }
+
+        @Override
+        public EnumeratedValue getSnapshotMode() {
+            return null;
+        }
+
+        @Override
+        public Optional<EnumeratedValue> getSnapshotLockingMode() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected SourceInfoStructMaker<?> getSourceInfoStructMaker(Version version) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Test;
+
+public class DeduplicationWindowTest {
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT64_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .build();
+
+    @Test
+    public void shouldReturnRowsInInsertionOrderWithoutRemovedOnes() {
+        final DeduplicationWindow window = new DeduplicationWindow();
+        for (long i = 0; i < 1_000; i++) {
+            window.put(key(i, "name" + i), new Object[]{ i });
+        }
+        for (long i = 0; i < 1_000; i += 2) {
+            assertThat(window.remove(key(i, "name" + i))).isTrue();
+        }
+
+        assertThat(window.size()).isEqualTo(500);
+        long expected = 1;
+        for (Object[] row : window) {
+            assertThat(row[0]).isEqualTo(expected);
+            expected += 2;
+        }
+        assertThat(expected).isEqualTo(1_001);
+    }
+
+    @Test
+    public void shouldNotRemoveRowsOfDifferentKeys() {
+        final DeduplicationWindow window = new DeduplicationWindow();
+        window.put(key(1, "a"), new Object[]{ 1 });
+        window.put(key(2, null), new Object[]{ 2 });
+
+        assertThat(window.remove(key(1, "b"))).isFalse();
+        assertThat(window.remove(key(1, null))).isFalse();
+        assertThat(window.remove(key(2, ""))).isFalse();
+        assertThat(window.remove(key(2, null))).isTrue();
+        assertThat(window.remove(key(2, null))).isFalse();
+        assertThat(window).containsExactly(new Object[]{ 1 });
+    }
+
+    @Test
+    public void shouldReplaceRowOfSameKey() {
+        final DeduplicationWindow window = new DeduplicationWindow();
+        window.put(key(1, "é中"), new Object[]{ 1 });
+        window.put(key(2, "b"), new Object[]{ 2 });
+        window.put(key(1, "é中"), new Object[]{ 3 });
+
+        assertThat(window.size()).isEqualTo(2);
+        assertThat(window).containsExactly(new Object[]{ 3 }, new Object[]{ 2 });
+    }
+
+    @Test
+    public void shouldReuseWindowAfterClear() {
+        final DeduplicationWindow window = new DeduplicationWindow();
+        for (long i = 0; i < 200; i++) {
+            window.put(key(i, null), new Object[]{ i });
+            window.remove(key(i - 1, null));
+        }
+        window.clear();
+
+        assertThat(window.isEmpty()).isTrue();
+        assertThat(window.remove(key(199, null))).isFalse();
+        window.put(key(5, null), new Object[]{ 5L });
+        assertThat(window).containsExactly(new Object[]{ 5L });
+    }
+
+    @Test
+    public void shouldCompareBinaryAndDecimalKeysByValue() {
+        final Schema schema = SchemaBuilder.struct()
+                .field("bytes", Schema.BYTES_SCHEMA)
+                .field("decimal", Decimal.schema(2))
+                .build();
+        final DeduplicationWindow window = new DeduplicationWindow();
+        window.put(new Struct(schema).put("bytes", new byte[]{ 1, 2 }).put("decimal", new BigDecimal("1.00")), new Object[]{ 1 });
+        window.put(new Struct(schema).put("bytes", ByteBuffer.wrap(new byte[]{ 1, 2 })).put("decimal", new BigDecimal("1.00")), new Object[]{ 2 });
+
+        assertThat(window.remove(new Struct(schema).put("bytes", new byte[]{ 1, 2 }).put("decimal", new BigDecimal("1.01")))).isFalse();
+        assertThat(window.remove(new Struct(schema).put("bytes", new byte[]{ 1, 2 }).put("decimal", new BigDecimal("1.00")))).isTrue();
+        assertThat(window.remove(new Struct(schema).put("bytes", ByteBuffer.wrap(new byte[]{ 0, 1, 2 }, 1, 2)).put("decimal", new BigDecimal("1.00"))))
+                .isTrue();
+        assertThat(window.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldSupportKeysThatCannotBeEncoded() {
+        final Schema schema = SchemaBuilder.struct()
+                .field("id", Schema.INT32_SCHEMA)
+                .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).build())
+                .build();
+        final DeduplicationWindow window = new DeduplicationWindow();
+        window.put(new Struct(schema).put("id", 1).put("tags", List.of("a")), new Object[]{ 1 });
+        window.put(new Struct(schema).put("id", 2).put("tags", List.of("b")), new Object[]{ 2 });
+        window.put(new Struct(schema).put("id", 3).put("tags", List.of("c")), new Object[]{ 3 });
+
+        assertThat(window.remove(new Struct(schema).put("id", 2).put("tags", List.of("b")))).isTrue();
+        assertThat(window).containsExactly(new Object[]{ 1 }, new Object[]{ 3 });
+    }
+
+    private static Struct key(long id, String name) {
+        return new Struct(KEY_SCHEMA).put("id", id).put("name", name);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.config.EnumeratedValue;
+import io.debezium.connector.SourceInfoStructMaker;
+import io.debezium.relational.ColumnFilterMode;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.TableId;
+
+public class IncrementalSnapshotChunkSizerTest {
+
+    private static final TableId TABLE = TableId.parse("s.a");
+    private static final int FULL_QUEUE = RelationalDatabaseConnectorConfig.DEFAULT_MAX_QUEUE_SIZE;
+
+    @Test
+    public void shouldKeepConfiguredChunkSizeInFixedMode() {
+        final IncrementalSnapshotChunkSizer sizer = sizer(Configuration.create().build());
+
+        assertThat(sizer.isAdaptive()).isFalse();
+        assertThat(sizer.chunkRead(TABLE, 1024, 1024, 10, 1024, FULL_QUEUE)).isEqualTo(1024);
+        assertThat(sizer.chunkSize(TABLE)).isEqualTo(1024);
+    }
+
+    @Test
+    public void shouldGrowChunksOfFastTablesAtMostTwofold() {
+        final IncrementalSnapshotChunkSizer sizer = adaptiveSizer();
+
+        assertThat(sizer.chunkSize(TABLE)).isEqualTo(1024);
+        assertThat(sizer.chunkRead(TABLE, 1024, 1024, 10, 1024 * 100, FULL_QUEUE)).isEqualTo(2048);
+        assertThat(sizer.chunkSize(TABLE)).isEqualTo(2048);
+    }
+
+    @Test
+    public void shouldShrinkChunksOfSlowTablesAtMostByHalf() {
+        final IncrementalSnapshotChunkSizer sizer = adaptiveSizer();
+
+        assertThat(sizer.chunkRead(TABLE, 1024, 1024, 1_500, 1024 * 100, FULL_QUEUE)).isEqualTo(682);
+        assertThat(sizer.chunkRead(TABLE, 682, 682, 60_000, 682 * 100, FULL_QUEUE)).isEqualTo(341);
+    }
+
+    @Test
+    public void shouldLimitChunksToByteBudget() {
+        final IncrementalSnapshotChunkSizer sizer = adaptiveSizer();
+
+        // 1 MB per row, the budget is 10 MB
+        assertThat(sizer.chunkRead(TABLE, 1024, 1024, 100, 1024L * 1024 * 1024, FULL_QUEUE)).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldLimitChunksToShareOfQueueSize() {
+        final IncrementalSnapshotChunkSizer sizer = sizer(adaptiveConfig()
+                .with(RelationalDatabaseConnectorConfig.MAX_QUEUE_SIZE, 1200)
+                .with(RelationalDatabaseConnectorConfig.MAX_BATCH_SIZE, 100)
+                .build(), 4);
+
+        assertThat(sizer.chunkRead(TABLE, 1024, 1024, 100, 1024 * 100, 1200)).isEqualTo(300);
+        // a fast chunk does not grow beyond the share of the queue
+        assertThat(sizer.chunkRead(TABLE, 300, 300, 10, 300 * 100, 1200)).isEqualTo(300);
+    }
+
+    @Test
+    public void shouldShrinkChunksGraduallyWhileQueueFills() {
+        final IncrementalSnapshotChunkSizer sizer = adaptiveSizer();
+
+        // a momentarily full queue does not collapse the chunks
+        assertThat(sizer.chunkRead(TABLE, 1024, 1024, 1_000, 1024 * 100, 0)).isEqualTo(1024);
+        assertThat(sizer.chunkRead(TABLE, 1024, 1024, 1_000, 1024 * 100, 0)).isEqualTo(1024);
+        assertThat(sizer.chunkRead(TABLE, 1024, 1024, 1_000, 1024 * 100, 0)).isEqualTo(1024);
+
+        // a queue that stays full shrinks the chunks, at most by half per chunk
+        assertThat(sizer.chunkRead(TABLE, 1024, 1024, 1_000, 1024 * 100, 0)).isEqualTo(512);
+        assertThat(sizer.chunkRead(TABLE, 512, 512, 500, 512 * 100, 0)).isEqualTo(256);
+
+        // once the consumer catches up the chunks grow again, up to the share of the queue size
+        assertThat(sizer.chunkRead(TABLE, 256, 256, 250, 256 * 100, FULL_QUEUE)).isEqualTo(512);
+        assertThat(sizer.chunkRead(TABLE, 512, 512, 500, 512 * 100, FULL_QUEUE)).isEqualTo(1024);
+    }
+
+    @Test
+    public void shouldKeepChunkSizeAfterLastChunkOfTable() {
+        final IncrementalSnapshotChunkSizer sizer = adaptiveSizer();
+
+        assertThat(sizer.chunkRead(TABLE, 1024, 10, 1, 1000, FULL_QUEUE)).isEqualTo(1024);
+
+        sizer.chunkRead(TABLE, 1024, 1024, 10, 1024 * 100, FULL_QUEUE);
+        sizer.tableCompleted(TABLE);
+        assertThat(sizer.chunkSize(TABLE)).isEqualTo(1024);
+    }
+
+    private IncrementalSnapshotChunkSizer adaptiveSizer() {
+        return sizer(adaptiveConfig().build(), 1);
+    }
+
+    private Configuration.Builder adaptiveConfig() {
+        return Configuration.create()
+                .with(RelationalDatabaseConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MODE, "adaptive")
+                .with(RelationalDatabaseConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_TARGET_DURATION_MS, 1_000)
+                .with(RelationalDatabaseConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_MAX_BYTES, 10 * 1024 * 1024);
+    }
+
+    private IncrementalSnapshotChunkSizer sizer(Configuration configuration) {
+        return sizer(configuration, 1);
+    }
+
+    private IncrementalSnapshotChunkSizer sizer(Configuration configuration, int concurrentReaders) {
+        return new IncrementalSnapshotChunkSizer(new RelationalDatabaseConnectorConfig(configuration
+                .edit()
+                .with(RelationalDatabaseConnectorConfig.TOPIC_PREFIX, "core")
+                .build(), null, null, 0, ColumnFilterMode.CATALOG, true) {
+            @Override
+            protected SourceInfoStructMaker<?> getSourceInfoStructMaker(Version version) {
+                return null;
+            }
+
+            @Override
+            public String getContextName() {
+                return null;
+            }
+
+            @Override
+            public String getConnectorName() {
+                return null;
+            }
+
+            @Override
+            public EnumeratedValue getSnapshotMode() {
+                return null;
+            }
+
+            @Override
+            public Optional<EnumeratedValue> getSnapshotLockingMode() {
+                return Optional.empty();
+            }
+        }, concurrentReaders);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.debezium.relational.TableId;
+
+public class SignalBasedIncrementalSnapshotContextTest {
+
+    private static final TableId TABLE_A = TableId.parse("s.a");
+    private static final TableId TABLE_B = TableId.parse("s.b");
+    private static final TableId TABLE_C = TableId.parse("s.c");
+
+    @Test
+    public void shouldTrackChunkPositionsOfConcurrentDataCollections() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = contextWithTables();
+        final List<DataCollection<TableId>> dataCollections = context.getDataCollections();
+
+        assertThat(context.concurrentDataCollectionContext(dataCollections.get(0))).isSameAs(context);
+
+        final IncrementalSnapshotContext<TableId> tableB = context.concurrentDataCollectionContext(dataCollections.get(1));
+        assertThat(tableB.currentDataCollectionId().getId()).isEqualTo(TABLE_B);
+        assertThat(tableB.isNonInitialChunk()).isFalse();
+
+        tableB.maximumKey(new Object[]{ 100 });
+        tableB.nextChunkPosition(new Object[]{ 10 });
+        tableB.sendEvent(new Object[]{ 10 });
+        context.maximumKey(new Object[]{ 50 });
+        context.nextChunkPosition(new Object[]{ 5 });
+
+        assertThat(tableB.isNonInitialChunk()).isTrue();
+        assertThat(tableB.chunkEndPosititon()).containsExactly(10);
+        assertThat(context.chunkEndPosititon()).containsExactly(5);
+        assertThat(context.concurrentDataCollectionContext(dataCollections.get(1)).maximumKey()).contains(new Object[]{ 100 });
+    }
+
+    @Test
+    public void shouldContinueConcurrentDataCollectionWhenItBecomesCurrent() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = contextWithTables();
+        final List<DataCollection<TableId>> dataCollections = context.getDataCollections();
+
+        final IncrementalSnapshotContext<TableId> tableB = context.concurrentDataCollectionContext(dataCollections.get(1));
+        tableB.maximumKey(new Object[]{ 100 });
+        tableB.nextChunkPosition(new Object[]{ 10 });
+
+        context.nextDataCollection();
+
+        assertThat(context.currentDataCollectionId().getId()).isEqualTo(TABLE_B);
+        assertThat(context.concurrentDataCollectionContext(dataCollections.get(1))).isSameAs(context);
+        assertThat(context.chunkEndPosititon()).containsExactly(10);
+        assertThat(context.maximumKey()).contains(new Object[]{ 100 });
+    }
+
+    @Test
+    public void shouldRemoveCompletedConcurrentDataCollection() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = contextWithTables();
+        final List<DataCollection<TableId>> dataCollections = context.getDataCollections();
+
+        context.concurrentDataCollectionContext(dataCollections.get(1)).maximumKey(new Object[]{ 100 });
+        context.concurrentDataCollectionCompleted(dataCollections.get(1));
+
+        assertThat(context.getDataCollections()).extracting(DataCollection::getId).containsExactly(TABLE_A, TABLE_C);
+        assertThat(context.store(new HashMap<>())).doesNotContainKey(AbstractIncrementalSnapshotContext.CONCURRENT_CHUNKS);
+    }
+
+    @Test
+    public void shouldCompleteConcurrentDataCollectionWithoutMovingToNextOne() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = contextWithTables();
+        final List<DataCollection<TableId>> dataCollections = context.getDataCollections();
+
+        final IncrementalSnapshotContext<TableId> tableC = context.concurrentDataCollectionContext(dataCollections.get(2));
+        tableC.maximumKey(new Object[]{ 100 });
+
+        assertThat(tableC.nextDataCollection().getId()).isEqualTo(TABLE_C);
+        assertThat(context.currentDataCollectionId().getId()).isEqualTo(TABLE_A);
+        assertThat(context.getDataCollections()).extracting(DataCollection::getId).containsExactly(TABLE_A, TABLE_B);
+    }
+
+    @Test
+    public void shouldRestoreConcurrentChunkPositionsFromOffsets() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = contextWithTables();
+        final List<DataCollection<TableId>> dataCollections = context.getDataCollections();
+
+        context.maximumKey(new Object[]{ 50 });
+        context.sendEvent(new Object[]{ 5 });
+        final IncrementalSnapshotContext<TableId> tableC = context.concurrentDataCollectionContext(dataCollections.get(2));
+        tableC.maximumKey(new Object[]{ 100 });
+        tableC.nextChunkPosition(new Object[]{ 20 });
+        tableC.sendEvent(new Object[]{ 15 });
+
+        final Map<String, Object> offset = context.store(new HashMap<>());
+        assertThat(offset).containsKey(AbstractIncrementalSnapshotContext.CONCURRENT_CHUNKS);
+
+        final SignalBasedIncrementalSnapshotContext<TableId> restored = SignalBasedIncrementalSnapshotContext.load(offset, false);
+        assertThat(restored.chunkEndPosititon()).containsExactly(5);
+
+        final IncrementalSnapshotContext<TableId> restoredTableC = restored.concurrentDataCollectionContext(dataCollections.get(2));
+        assertThat(restoredTableC.chunkEndPosititon()).containsExactly(15);
+        assertThat(restoredTableC.maximumKey()).contains(new Object[]{ 100 });
+
+        final IncrementalSnapshotContext<TableId> restoredTableB = restored.concurrentDataCollectionContext(dataCollections.get(1));
+        assertThat(restoredTableB.isNonInitialChunk()).isFalse();
+        assertThat(restoredTableB.maximumKey()).isEmpty();
+    }
+
+    private SignalBasedIncrementalSnapshotContext<TableId> contextWithTables() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = new SignalBasedIncrementalSnapshotContext<>(false);
+        context.addDataCollectionNamesToSnapshot("correlation", List.of(TABLE_A.toString(), TABLE_B.toString(), TABLE_C.toString()),
+                List.of(), "");
+        return context;
+    }
+}
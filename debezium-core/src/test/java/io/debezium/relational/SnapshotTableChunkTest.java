@@ -0,0 +1,65 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class SnapshotTableChunkTest {
+
+    @Test
+    public void shouldNotSplitTableWithSingleCondition() {
+        final List<SnapshotTableChunk> chunks = SnapshotTableChunk.of(Collections.singletonList("id < 10"));
+        assertThat(chunks).containsExactly(SnapshotTableChunk.wholeTable());
+        assertThat(chunks.get(0).isWholeTable()).isTrue();
+        assertThat(chunks.get(0).getCondition()).isNull();
+    }
+
+    @Test
+    public void shouldShareTableStateAcrossChunks() {
+        final List<SnapshotTableChunk> chunks = SnapshotTableChunk.of(Arrays.asList("id < 10", "id >= 10 AND id < 20", "id >= 20"));
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks).allMatch(chunk -> !chunk.isWholeTable() && chunk.getCount() == 3);
+        assertThat(chunks.get(1).getIndex()).isEqualTo(1);
+        assertThat(chunks.get(1).getCondition()).isEqualTo("id >= 10 AND id < 20");
+        assertThat(chunks.get(0).getTableLock()).isSameAs(chunks.get(2).getTableLock());
+
+        chunks.get(0).addRowsScanned(5);
+        assertThat(chunks.get(2).addRowsScanned(7)).isEqualTo(12);
+        assertThat(chunks.get(1).getTableRowsScanned()).isEqualTo(12);
+    }
+
+    @Test
+    public void shouldClaimFirstRecordOnce() {
+        final List<SnapshotTableChunk> chunks = SnapshotTableChunk.of(Arrays.asList("id < 10", "id >= 10"));
+        assertThat(chunks.get(1).claimFirstRecord()).isTrue();
+        assertThat(chunks.get(0).claimFirstRecord()).isFalse();
+        assertThat(chunks.get(1).claimFirstRecord()).isFalse();
+    }
+
+    @Test
+    public void shouldHoldBackLastRowUntilAllChunksComplete() {
+        final List<SnapshotTableChunk> chunks = SnapshotTableChunk.of(Arrays.asList("id < 10", "id >= 10 AND id < 20", "id >= 20"));
+        final SnapshotTableChunk.PendingRow first = new SnapshotTableChunk.PendingRow(new Object[]{ 9 }, Instant.EPOCH);
+        final SnapshotTableChunk.PendingRow second = new SnapshotTableChunk.PendingRow(new Object[]{ 25 }, Instant.EPOCH);
+
+        assertThat(chunks.get(0).replacePendingRow(first)).isNull();
+        assertThat(chunks.get(0).complete()).isFalse();
+
+        assertThat(chunks.get(2).replacePendingRow(second)).isSameAs(first);
+        assertThat(chunks.get(2).complete()).isFalse();
+
+        // an empty chunk keeps the row held back by the others
+        assertThat(chunks.get(1).complete()).isTrue();
+        assertThat(chunks.get(1).replacePendingRow(null)).isSameAs(second);
+    }
+}
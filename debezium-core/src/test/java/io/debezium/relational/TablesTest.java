@@ -0,0 +1,109 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TablesTest {
+
+    private static final TableId TABLE_A = new TableId("db1", null, "A");
+    private static final TableId TABLE_B = new TableId("db1", null, "B");
+    private static final TableId TABLE_C = new TableId("db2", null, "C");
+
+    @Test
+    public void shouldChangeTablesWithLocking() {
+        assertTablesChanges(new Tables(false, false));
+    }
+
+    @Test
+    public void shouldChangeTablesWithCopyOnWrite() {
+        assertTablesChanges(new Tables(false, true));
+    }
+
+    @Test
+    public void shouldLookUpTablesCaseInsensitivelyWithCopyOnWrite() {
+        final Tables tables = new Tables(true, true);
+        tables.overwriteTable(table(TABLE_A));
+
+        assertThat(tables.forTable(new TableId("db1", null, "a"))).isNotNull();
+
+        final Tables clone = tables.clone();
+        assertThat(clone.forTable(new TableId("db1", null, "A"))).isNotNull();
+        assertThat(clone).isEqualTo(tables);
+    }
+
+    @Test
+    public void shouldNotChangePreviouslyReadVersionWithCopyOnWrite() {
+        final Tables tables = new Tables(false, true);
+        tables.overwriteTable(table(TABLE_A));
+        final Set<TableId> tableIds = tables.tableIds();
+
+        tables.overwriteTable(table(TABLE_B));
+        tables.removeTable(TABLE_A);
+
+        assertThat(tableIds).containsOnly(TABLE_A);
+        assertThat(tables.tableIds()).containsOnly(TABLE_B);
+    }
+
+    @Test
+    public void shouldNotShareChangesBetweenCloneAndOriginalWithCopyOnWrite() {
+        final Tables tables = new Tables(false, true);
+        tables.overwriteTable(table(TABLE_A));
+
+        final Tables clone = tables.clone();
+        clone.overwriteTable(table(TABLE_B));
+        tables.removeTable(TABLE_A);
+
+        assertThat(tables.size()).isZero();
+        assertThat(clone.tableIds()).containsOnly(TABLE_A, TABLE_B);
+        assertThat(clone.drainChanges()).containsOnly(TABLE_B);
+    }
+
+    private void assertTablesChanges(Tables tables) {
+        tables.overwriteTable(table(TABLE_A));
+        tables.overwriteTable(TABLE_B, List.of(column("id")), List.of("id"), null, List.of());
+        tables.overwriteTable(table(TABLE_C));
+        assertThat(tables.size()).isEqualTo(3);
+        assertThat(tables.drainChanges()).containsOnly(TABLE_A, TABLE_B, TABLE_C);
+
+        final TableId renamed = new TableId("db1", null, "A2");
+        tables.renameTable(TABLE_A, renamed);
+        assertThat(tables.forTable(TABLE_A)).isNull();
+        assertThat(tables.forTable(renamed).id()).isEqualTo(renamed);
+        assertThat(tables.drainChanges()).containsOnly(TABLE_A, renamed);
+
+        tables.updateTable(TABLE_B, table -> table.edit().addColumn(column("name")).create());
+        assertThat(tables.forTable(TABLE_B).columnWithName("name")).isNotNull();
+
+        tables.removeTablesForDatabase("db1", null);
+        assertThat(tables.tableIds()).containsOnly(TABLE_C);
+
+        final Tables clone = tables.clone();
+        assertThat(clone).isEqualTo(tables);
+
+        tables.clear();
+        assertThat(tables.size()).isZero();
+        assertThat(clone.size()).isEqualTo(1);
+    }
+
+    private static Table table(TableId tableId) {
+        return Table.editor()
+                .tableId(tableId)
+                .addColumn(column("id"))
+                .setPrimaryKeyNames("id")
+                .create();
+    }
+
+    private static Column column(String name) {
+        return Column.editor().name(name).type("INT").jdbcType(Types.INTEGER).create();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.ddl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class DdlParserStatisticsTest {
+
+    @Test
+    public void shouldReportUnavailableStatisticsWithoutParses() {
+        final DdlParserStatistics statistics = new DdlParserStatistics();
+        assertThat(statistics.getCount()).isZero();
+        assertThat(statistics.getPercentileMicros(50)).isEqualTo(-1);
+        assertThat(statistics.getMaximumMicros()).isEqualTo(-1);
+    }
+
+    @Test
+    public void shouldMapEachDurationToBucketContainingIt() {
+        int previousBucket = -1;
+        for (long micros = 0; micros < 100_000; micros++) {
+            final int bucket = DdlParserStatistics.bucketOf(micros);
+            assertThat(bucket).isBetween(previousBucket, previousBucket + 1);
+            assertThat(DdlParserStatistics.upperBoundOf(bucket)).isGreaterThanOrEqualTo(micros);
+            assertThat(DdlParserStatistics.upperBoundOf(bucket)).isLessThanOrEqualTo(Math.max(micros, micros + micros / 4));
+            previousBucket = bucket;
+        }
+        assertThat(DdlParserStatistics.bucketOf(Long.MAX_VALUE)).isEqualTo(DdlParserStatistics.bucketOf(1L << 41));
+    }
+
+    @Test
+    public void shouldReportPercentilesWithinBucketPrecision() {
+        final DdlParserStatistics statistics = new DdlParserStatistics();
+        for (int i = 1; i <= 1_000; i++) {
+            statistics.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        assertThat(statistics.getCount()).isEqualTo(1_000);
+        assertThat(statistics.getMaximumMicros()).isEqualTo(1_000);
+        assertThat(statistics.getPercentileMicros(50)).isBetween(500L, 625L);
+        assertThat(statistics.getPercentileMicros(90)).isBetween(900L, 1_000L);
+        assertThat(statistics.getPercentileMicros(99)).isBetween(990L, 1_000L);
+        assertThat(statistics.getPercentileMicros(100)).isEqualTo(1_000);
+        assertThat(statistics.getPercentileMicros(0)).isEqualTo(1);
+    }
+}
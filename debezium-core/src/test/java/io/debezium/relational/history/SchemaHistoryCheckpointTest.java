@@ -0,0 +1,255 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.util.Collect;
+
+public class SchemaHistoryCheckpointTest {
+
+    private static final Map<String, Object> SOURCE = Collect.hashMapOf("server", "abc");
+    private static final TableId FOO = new TableId("db", null, "foo");
+    private static final TableId BAR = new TableId("db", null, "bar");
+
+    private MemorySchemaHistory history;
+    private Tables tables;
+
+    @Before
+    public void beforeEach() {
+        tables = new Tables();
+    }
+
+    @After
+    public void afterEach() {
+        if (history != null) {
+            history.stop();
+        }
+    }
+
+    @Test
+    public void shouldNotRecordCheckpointWhenDisabled() {
+        startHistory(0, false);
+        recordHistory();
+
+        assertThat(records()).hasSize(3);
+        assertThat(records()).noneMatch(HistoryRecord::isCheckpoint);
+    }
+
+    @Test
+    public void shouldRecoverFromCheckpointAndLaterChanges() {
+        startHistory(2, false);
+        recordHistory();
+
+        final List<HistoryRecord> records = records();
+        assertThat(records).hasSize(4);
+        assertThat(records.get(2).isCheckpoint()).isTrue();
+        assertThat(records.get(2).tableChanges().size()).isEqualTo(1);
+
+        final Tables recovered = recover(3);
+        assertThat(recovered.tableIds()).containsOnly(FOO, BAR);
+        assertThat(recovered.forTable(FOO).columnWithName("c2")).isNotNull();
+
+        // all records were kept
+        assertThat(records()).hasSize(4);
+    }
+
+    @Test
+    public void shouldIgnoreCheckpointAfterRecoveredOffset() {
+        startHistory(2, true);
+        recordHistory();
+
+        final Tables recovered = recover(1);
+        assertThat(recovered.tableIds()).containsOnly(FOO);
+        assertThat(recovered.forTable(FOO).columnWithName("c2")).isNull();
+        assertThat(records()).hasSize(4);
+    }
+
+    @Test
+    public void shouldCompactRecordsSupersededByCheckpoint() {
+        startHistory(2, true);
+        recordHistory();
+        history.record(SOURCE, position(3), "db", "SET character_set_server=utf8");
+
+        final Tables recovered = recover(3);
+        assertThat(recovered.tableIds()).containsOnly(FOO, BAR);
+
+        final List<HistoryRecord> records = records();
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0).isCheckpoint()).isTrue();
+
+        // recovery from the compacted history yields the same schema
+        assertThat(recover(3)).isEqualTo(recovered);
+    }
+
+    @Test
+    public void shouldSplitCheckpointIntoBoundedRecords() {
+        startHistory(1, false, 1);
+        recordHistory();
+
+        final List<HistoryRecord> records = records();
+        assertThat(records).hasSize(7);
+        assertThat(records.get(5).isCheckpoint()).isTrue();
+        assertThat(records.get(5).tableChanges().size()).isEqualTo(1);
+        assertThat(records.get(6).isCheckpoint()).isTrue();
+        assertThat(records.get(6).tableChanges().size()).isEqualTo(1);
+
+        final Tables recovered = recover(3);
+        assertThat(recovered.tableIds()).containsOnly(FOO, BAR);
+        assertThat(recovered.forTable(FOO).columnWithName("c2")).isNotNull();
+    }
+
+    @Test
+    public void shouldIgnoreIncompleteCheckpoint() {
+        startHistory(100, false);
+        final TableId qux = new TableId("db", null, "qux");
+        final Table foo = table(FOO, "c1");
+        record(1, new TableChanges().create(foo));
+        record(2, new TableChanges().create(table(qux, "c1")));
+
+        // the connector stopped after storing the first of two records of a checkpoint
+        history.storeRecord(HistoryRecord.checkpoint(SOURCE, position(2), new TableChanges().create(foo), Instant.now(), 0, 2));
+        record(3, new TableChanges().create(table(BAR, "c1")));
+
+        assertThat(recover(3).tableIds()).containsOnly(FOO, qux, BAR);
+    }
+
+    @Test
+    public void shouldRecoverFromLatestCheckpointInSinglePass() {
+        final AtomicInteger passes = new AtomicInteger();
+        final AtomicInteger applied = new AtomicInteger();
+        history = new MemorySchemaHistory() {
+            @Override
+            protected void recoverRecords(Consumer<HistoryRecord> records) {
+                passes.incrementAndGet();
+                super.recoverRecords(records);
+            }
+        };
+        configureHistory(2, false, (Long) SchemaHistory.CHECKPOINT_MAX_RECORD_SIZE.defaultValue(), new SchemaHistoryListener() {
+            @Override
+            public void onChangeApplied(HistoryRecord record) {
+                applied.incrementAndGet();
+            }
+
+            @Override
+            public void started() {
+            }
+
+            @Override
+            public void stopped() {
+            }
+
+            @Override
+            public void recoveryStarted() {
+            }
+
+            @Override
+            public void recoveryStopped() {
+            }
+
+            @Override
+            public void onChangeFromHistory(HistoryRecord record) {
+            }
+        });
+        recordHistory();
+        final Table bar = table(BAR, "c1", "c2");
+        tables.overwriteTable(bar);
+        record(4, new TableChanges().alter(bar));
+
+        // DDL 1, DDL 2, checkpoint, DDL 3, DDL 4, checkpoint
+        assertThat(records()).hasSize(6);
+        passes.set(0);
+        applied.set(0);
+
+        final Tables recovered = recover(4);
+        assertThat(passes.get()).isEqualTo(1);
+        assertThat(recovered.tableIds()).containsOnly(FOO, BAR);
+        assertThat(recovered.forTable(BAR).columnWithName("c2")).isNotNull();
+
+        // the changes preceding the second checkpoint are skipped, the first checkpoint is applied before it is superseded
+        assertThat(applied.get()).isEqualTo(2);
+    }
+
+    private void startHistory(int checkpointInterval, boolean compaction) {
+        startHistory(checkpointInterval, compaction, (Long) SchemaHistory.CHECKPOINT_MAX_RECORD_SIZE.defaultValue());
+    }
+
+    private void startHistory(int checkpointInterval, boolean compaction, long checkpointMaxRecordSize) {
+        history = new MemorySchemaHistory();
+        configureHistory(checkpointInterval, compaction, checkpointMaxRecordSize, SchemaHistoryListener.NOOP);
+    }
+
+    private void configureHistory(int checkpointInterval, boolean compaction, long checkpointMaxRecordSize, SchemaHistoryListener listener) {
+        history.configure(Configuration.create()
+                .with(SchemaHistory.NAME, "my-db-history")
+                .with(SchemaHistory.CHECKPOINT_INTERVAL, checkpointInterval)
+                .with(SchemaHistory.CHECKPOINT_MAX_RECORD_SIZE, checkpointMaxRecordSize)
+                .with(SchemaHistory.CHECKPOINT_COMPACTION, compaction)
+                .build(), null, listener, true);
+        history.start();
+    }
+
+    private void recordHistory() {
+        final Table foo = table(FOO, "c1");
+        tables.overwriteTable(foo);
+        record(1, new TableChanges().create(foo));
+
+        final Table alteredFoo = table(FOO, "c1", "c2");
+        tables.overwriteTable(alteredFoo);
+        record(2, new TableChanges().alter(alteredFoo));
+
+        final Table bar = table(BAR, "c1");
+        tables.overwriteTable(bar);
+        record(3, new TableChanges().create(bar));
+    }
+
+    private void record(int position, TableChanges changes) {
+        history.record(SOURCE, position(position), "db", null, "DDL " + position, changes, Instant.now());
+        history.recordCheckpoint(SOURCE, position(position), tables, Instant.now());
+    }
+
+    private Tables recover(int position) {
+        final Tables recovered = new Tables();
+        history.recover(Collections.singletonMap(SOURCE, position(position)), recovered, null);
+        return recovered;
+    }
+
+    private List<HistoryRecord> records() {
+        final List<HistoryRecord> records = new ArrayList<>();
+        history.recoverRecords(records::add);
+        return records;
+    }
+
+    private static Map<String, Object> position(int position) {
+        return Collect.hashMapOf("pos", position);
+    }
+
+    private static Table table(TableId id, String... columns) {
+        final List<Column> columnDefs = new ArrayList<>();
+        for (String column : columns) {
+            columnDefs.add(Column.editor().name(column).jdbcType(Types.INTEGER).type("INT").create());
+        }
+        return Table.editor().tableId(id).setColumns(columnDefs).create();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.relational.Column;
+import io.debezium.relational.SystemVariables;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.ddl.DdlChanges;
+import io.debezium.relational.ddl.DdlParser;
+import io.debezium.relational.ddl.PreparedDdl;
+import io.debezium.text.ParsingException;
+import io.debezium.util.Collect;
+
+public class SchemaHistoryParallelRecoveryTest {
+
+    private static final Map<String, Object> SOURCE = Collect.hashMapOf("server", "abc");
+    private static final int DATABASES = 20;
+
+    private MemorySchemaHistory history;
+
+    @After
+    public void afterEach() {
+        if (history != null) {
+            history.stop();
+        }
+    }
+
+    @Test
+    public void shouldRecoverSameSchemaAsSequentialRecovery() {
+        startHistory(1, false);
+        recordHistory();
+        final TestDdlParser sequentialParser = new TestDdlParser();
+        final Tables sequential = recover(sequentialParser);
+
+        startHistory(4, false);
+        recordHistory();
+        final TestDdlParser parallelParser = new TestDdlParser();
+        final Tables parallel = recover(parallelParser);
+
+        assertThat(sequential.size()).isEqualTo(DATABASES * 2);
+        assertThat(sequential.forTable(new TableId("db0", null, "orders")).columnWithName("c9")).isNotNull();
+        assertThat(sequential.forTable(new TableId("db0", null, "tmp"))).isNull();
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(sequentialParser.prepared).isEmpty();
+    }
+
+    @Test
+    public void shouldParseRepeatedStatementsOnlyOnce() {
+        startHistory(4, false);
+        recordHistory();
+        final TestDdlParser parser = new TestDdlParser();
+        recover(parser);
+
+        // every database is changed by the same statements
+        assertThat(parser.prepared).hasSize(14);
+        assertThat(parser.prepareCount.get()).isEqualTo(14);
+    }
+
+    @Test
+    public void shouldSkipUnparseableStatementsInParallelRecovery() {
+        startHistory(4, true);
+        history.record(SOURCE, position(1), "db", "CREATE foo");
+        history.record(SOURCE, position(2), "db", "INVALID");
+        history.record(SOURCE, position(3), "db", "ADD foo c1");
+
+        final Tables recovered = new Tables();
+        history.recover(Collections.singletonMap(SOURCE, position(3)), recovered, new TestDdlParser());
+        assertThat(recovered.forTable(new TableId("db", null, "foo")).columnWithName("c1")).isNotNull();
+    }
+
+    private void startHistory(int parsingThreads, boolean skipUnparseableDdl) {
+        if (history != null) {
+            history.stop();
+        }
+        history = new MemorySchemaHistory();
+        history.configure(Configuration.create()
+                .with(SchemaHistory.NAME, "my-db-history")
+                .with(SchemaHistory.RECOVERY_PARSING_THREADS, parsingThreads)
+                .with(SchemaHistory.SKIP_UNPARSEABLE_DDL_STATEMENTS, skipUnparseableDdl)
+                .build(), null, SchemaHistoryListener.NOOP, true);
+        history.start();
+    }
+
+    private void recordHistory() {
+        int position = 0;
+        for (int db = 0; db < DATABASES; db++) {
+            final String database = "db" + db;
+            history.record(SOURCE, position(position++), database, "CREATE orders");
+            history.record(SOURCE, position(position++), database, "CREATE customers");
+            history.record(SOURCE, position(position++), database, "CREATE tmp");
+            for (int column = 0; column < 10; column++) {
+                history.record(SOURCE, position(position++), database, "ADD orders c" + column);
+            }
+            history.record(SOURCE, position(position++), database, "  DROP tmp ");
+        }
+    }
+
+    private Tables recover(DdlParser parser) {
+        final Tables recovered = new Tables();
+        history.recover(Collections.singletonMap(SOURCE, position(Integer.MAX_VALUE)), recovered, parser);
+        return recovered;
+    }
+
+    private static Map<String, Object> position(int position) {
+        return Collect.hashMapOf("pos", position);
+    }
+
+    /**
+     * Parses the statements {@code CREATE <table>}, {@code ADD <table> <column>} and {@code DROP <table>}.
+     */
+    private static class TestDdlParser implements DdlParser {
+
+        private final Set<String> prepared = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger prepareCount = new AtomicInteger();
+        private String currentDatabase;
+
+        @Override
+        public void parse(String ddlContent, Tables databaseTables) {
+            apply(ddlContent.trim().split(" "), databaseTables);
+        }
+
+        @Override
+        public PreparedDdl prepare(String ddlContent) {
+            prepared.add(ddlContent);
+            prepareCount.incrementAndGet();
+            return new PreparedDdl() {
+                @Override
+                public String ddl() {
+                    return ddlContent;
+                }
+            };
+        }
+
+        @Override
+        public void parse(PreparedDdl preparedDdl, Tables databaseTables) {
+            apply(preparedDdl.ddl().trim().split(" "), databaseTables);
+        }
+
+        private void apply(String[] tokens, Tables databaseTables) {
+            if (tokens.length < 2) {
+                throw new ParsingException(null, "Unknown statement " + tokens[0]);
+            }
+            final TableId tableId = new TableId(currentDatabase, null, tokens[1]);
+            switch (tokens[0]) {
+                case "CREATE":
+                    databaseTables.overwriteTable(Table.editor().tableId(tableId).create());
+                    break;
+                case "ADD":
+                    databaseTables.updateTable(tableId, table -> table.edit()
+                            .addColumn(Column.editor().name(tokens[2]).type("INT").jdbcType(Types.INTEGER).create())
+                            .create());
+                    break;
+                case "DROP":
+                    databaseTables.removeTable(tableId);
+                    break;
+                default:
+                    throw new ParsingException(null, "Unknown statement " + tokens[0]);
+            }
+        }
+
+        @Override
+        public void setCurrentDatabase(String databaseName) {
+            this.currentDatabase = databaseName;
+        }
+
+        @Override
+        public void setCurrentSchema(String schemaName) {
+        }
+
+        @Override
+        public DdlChanges getDdlChanges() {
+            return null;
+        }
+
+        @Override
+        public SystemVariables systemVariables() {
+            return null;
+        }
+    }
+}
@@ -6,7 +6,13 @@
 
 package io.debezium.antlr;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
@@ -25,8 +31,11 @@
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.AbstractDdlParser;
+import io.debezium.relational.ddl.DdlParserStatistics;
+import io.debezium.relational.ddl.PreparedDdl;
 import io.debezium.text.MultipleParsingExceptions;
 import io.debezium.text.ParsingException;
+import io.debezium.util.IoUtil;
 
 /**
  * Base implementation of ANTLR based parsers.
@@ -34,11 +43,19 @@
  * This abstract class provides generic initialization of parser and its main sequence of steps
  * that are needed to properly start parsing.
  * It also provides implementation of helper methods for any type of ANTLR listeners.
+ * <p>
+ * The lexers and parsers generated by ANTLR keep their DFA prediction caches in static fields, so all parser instances
+ * of one grammar in a JVM share them. Statements parsed by any instance speed up the following parses, which is used
+ * by {@link #warmUp()} to fill the caches on start, and the times of all parses of one kind of parser are collected
+ * in shared {@link #statistics() statistics}.
  *
  * @author Roman Kuchár <kucharrom@gmail.com>.
  */
 public abstract class AntlrDdlParser<L extends Lexer, P extends Parser> extends AbstractDdlParser {
 
+    private static final ConcurrentMap<Class<?>, DdlParserStatistics> STATISTICS = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> WARMED_UP = ConcurrentHashMap.newKeySet();
+
     /**
      * Flag to indicate if the errors caught during tree walk will be thrown.
      * true = errors will be thrown
@@ -51,24 +68,39 @@
      */
     private AntlrDdlParserListener antlrDdlParserListener;
 
+    private final DdlParserStatistics statistics;
+
     protected Tables databaseTables;
     protected DataTypeResolver dataTypeResolver;
 
     public AntlrDdlParser(boolean throwErrorsFromTreeWalk, boolean includeViews, boolean includeComments) {
         super(includeViews, includeComments);
         this.throwErrorsFromTreeWalk = throwErrorsFromTreeWalk;
+        this.statistics = STATISTICS.computeIfAbsent(getClass(), clazz -> new DdlParserStatistics());
     }
 
     @Override
     public void parse(String ddlContent, Tables databaseTables) {
-        this.databaseTables = databaseTables;
+        parse(prepare(ddlContent), databaseTables);
+    }
+
+    /**
+     * Creates the parse tree of the supplied DDL statements. Only new lexer and parser instances are used, so this method
+     * may be called concurrently with any other method of this parser.
+     */
+    @Override
+    public PreparedDdl prepare(String ddlContent) {
+        final long start = System.nanoTime();
+        final PreparedDdl prepared = prepareTree(ddlContent);
+        statistics.record(System.nanoTime() - start);
+        return prepared;
+    }
 
+    private AntlrPreparedDdl prepareTree(String ddlContent) {
         CodePointCharStream ddlContentCharStream = CharStreams.fromString(ddlContent);
         L lexer = createNewLexerInstance(new CaseChangingCharStream(ddlContentCharStream, isGrammarInUpperCase()));
         P parser = createNewParserInstance(new CommonTokenStream(lexer));
 
-        dataTypeResolver = initializeDataTypeResolver();
-
         // remove default console output printing error listener
         parser.removeErrorListener(ConsoleErrorListener.INSTANCE);
 
@@ -77,10 +109,24 @@ public void parse(String ddlContent, Tables databaseTables) {
 
         ParseTree parseTree = parseTree(parser);
 
-        if (parsingErrorListener.getErrors().isEmpty()) {
+        return new AntlrPreparedDdl(ddlContent, parseTree, parsingErrorListener.getErrors());
+    }
+
+    @Override
+    public void parse(PreparedDdl preparedDdl, Tables databaseTables) {
+        if (!(preparedDdl instanceof AntlrPreparedDdl)) {
+            parse(preparedDdl.ddl(), databaseTables);
+            return;
+        }
+        final AntlrPreparedDdl prepared = (AntlrPreparedDdl) preparedDdl;
+        this.databaseTables = databaseTables;
+
+        dataTypeResolver = initializeDataTypeResolver();
+
+        if (prepared.errors.isEmpty()) {
             antlrDdlParserListener = createParseTreeWalkerListener();
             if (antlrDdlParserListener != null) {
-                ParseTreeWalker.DEFAULT.walk(antlrDdlParserListener, parseTree);
+                ParseTreeWalker.DEFAULT.walk(antlrDdlParserListener, prepared.parseTree);
 
                 if (throwErrorsFromTreeWalk && !antlrDdlParserListener.getErrors().isEmpty()) {
                     throwParsingException(antlrDdlParserListener.getErrors());
@@ -88,8 +134,57 @@ public void parse(String ddlContent, Tables databaseTables) {
             }
         }
         else {
-            throwParsingException(parsingErrorListener.getErrors());
+            throwParsingException(prepared.errors);
+        }
+    }
+
+    /**
+     * Returns the parse time statistics shared by all instances of this parser class in the JVM. Only the creation of the
+     * parse trees is measured, as the caches filled by earlier parses speed up this part.
+     */
+    @Override
+    public DdlParserStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Parses the {@link #getWarmUpResource() warm-up statements} of this parser, so that the shared prediction caches of the
+     * grammar are filled before the first statements of the database are parsed. The warm-up is done at most once per
+     * parser class in the JVM, and its parse time is not included in the {@link #statistics()}.
+     */
+    public void warmUp() {
+        final String resource = getWarmUpResource();
+        if (resource == null || !WARMED_UP.add(getClass())) {
+            return;
         }
+        final String ddlContent;
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                logger.warn("DDL parser warm-up statements '{}' not found", resource);
+                return;
+            }
+            ddlContent = IoUtil.read(stream);
+        }
+        catch (IOException e) {
+            logger.warn("Unable to read DDL parser warm-up statements '{}'", resource, e);
+            return;
+        }
+        final long start = System.nanoTime();
+        final AntlrPreparedDdl prepared = prepareTree(ddlContent);
+        final long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (!prepared.errors.isEmpty()) {
+            logger.debug("DDL parser warm-up statements '{}' contain {} unparseable statement(s)", resource, prepared.errors.size());
+        }
+        logger.info("Warmed up DDL parser with '{}' in {} ms", resource, durationMillis);
+    }
+
+    /**
+     * Returns the classpath resource with representative DDL statements used to {@link #warmUp() warm up} this parser.
+     *
+     * @return the resource path, or null if the parser has no warm-up statements
+     */
+    protected String getWarmUpResource() {
+        return null;
     }
 
     /**
@@ -117,7 +212,8 @@ public Collection<ParsingException> getParsingExceptionsFromWalker() {
     protected abstract AntlrDdlParserListener createParseTreeWalkerListener();
 
     /**
-     * Creates a new generic type instance of ANTLR Lexer.
+     * Creates a new generic type instance of ANTLR Lexer. The instance should use the prediction caches shared by the
+     * grammar, as the lexers generated by ANTLR do.
      *
      * @param charStreams the char stream from DDL statement, without one line comments and line feeds; may not be null
      * @return new instance of generic ANTLR Lexer
@@ -125,7 +221,8 @@ public Collection<ParsingException> getParsingExceptionsFromWalker() {
     protected abstract L createNewLexerInstance(CharStream charStreams);
 
     /**
-     * Creates a new generic type instance of ANTLR Parser.
+     * Creates a new generic type instance of ANTLR Parser. The instance should use the prediction caches shared by the
+     * grammar, as the parsers generated by ANTLR do.
      *
      * @param commonTokenStream the stream of ANTLR tokens created from Lexer instance; may not be null
      * @return new instance of generic ANTLR Parser
@@ -366,4 +463,26 @@ private void throwParsingException(Collection<ParsingException> errors) {
             throw new MultipleParsingExceptions(errors);
         }
     }
+
+    /**
+     * The parse tree of DDL statements together with the syntax errors found while creating it. The tree is not modified
+     * by the walks of the parser listeners, so it can be applied repeatedly.
+     */
+    private static final class AntlrPreparedDdl implements PreparedDdl {
+
+        private final String ddl;
+        private final ParseTree parseTree;
+        private final Collection<ParsingException> errors;
+
+        private AntlrPreparedDdl(String ddl, ParseTree parseTree, Collection<ParsingException> errors) {
+            this.ddl = ddl;
+            this.parseTree = parseTree;
+            this.errors = errors;
+        }
+
+        @Override
+        public String ddl() {
+            return ddl;
+        }
+    }
 }
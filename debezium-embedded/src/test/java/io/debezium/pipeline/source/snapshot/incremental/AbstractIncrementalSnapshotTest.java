@@ -13,6 +13,7 @@
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,6 +46,7 @@
 import io.debezium.kafka.KafkaCluster;
 import io.debezium.pipeline.notification.channels.SinkNotificationChannel;
 import io.debezium.pipeline.signal.actions.snapshotting.StopSnapshot;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
 
 public abstract class AbstractIncrementalSnapshotTest<T extends SourceConnector> extends AbstractSnapshotTest<T> {
 
@@ -617,6 +619,49 @@ public void stopCurrentIncrementalSnapshotWithAllCollectionsAndTakeNewNewIncreme
         }
     }
 
+    @Test
+    public void snapshotMultipleTablesWithConcurrentChunkReaders() throws Exception {
+        // Testing.Print.enable();
+
+        populateTables();
+        startConnector(x -> x.with(CommonConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE, 100)
+                .with(RelationalDatabaseConnectorConfig.INCREMENTAL_SNAPSHOT_MAX_THREADS, 2));
+
+        final List<String> collectionIds = tableDataCollectionIds();
+        final List<String> topicNames = topicNames();
+        assertThat(topicNames).hasSize(2);
+
+        sendAdHocSnapshotSignal(collectionIds.toArray(new String[0]));
+
+        // the chunks of both tables are read at the same time, so their events are interleaved
+        final Map<String, Map<Integer, Integer>> dbChanges = new HashMap<>();
+        topicNames.forEach(topicName -> dbChanges.put(topicName, new HashMap<>()));
+        int noRecords = 0;
+        while (dbChanges.values().stream().anyMatch(changes -> changes.size() < ROW_COUNT)) {
+            final SourceRecords records = consumeRecordsByTopic(1, true);
+            if (records.allRecordsInOrder().isEmpty()) {
+                noRecords++;
+                assertThat(noRecords).isLessThanOrEqualTo(MAXIMUM_NO_RECORDS_CONSUMES);
+                continue;
+            }
+            noRecords = 0;
+            for (String topicName : topicNames) {
+                final List<SourceRecord> dataRecords = records.recordsForTopic(topicName);
+                if (dataRecords != null) {
+                    dataRecords.forEach(record -> dbChanges.get(topicName).put(((Struct) record.key()).getInt32(pkFieldName()),
+                            ((Struct) record.value()).getStruct("after").getInt32(valueFieldName())));
+                }
+            }
+        }
+
+        for (String topicName : topicNames) {
+            assertThat(dbChanges.get(topicName)).hasSize(ROW_COUNT);
+            for (int i = 0; i < ROW_COUNT; i++) {
+                assertThat(dbChanges.get(topicName)).contains(entry(i + 1, i));
+            }
+        }
+    }
+
     @Test
     @FixFor("DBZ-4271")
     public void removeNotYetCapturedCollectionFromInProgressIncrementalSnapshot() throws Exception {
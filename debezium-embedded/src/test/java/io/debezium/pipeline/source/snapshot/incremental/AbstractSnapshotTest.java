@@ -37,7 +37,7 @@
             .toAbsolutePath();
     protected static final int PARTITION_NO = 0;
     protected static final String SERVER_NAME = "test_server";
-    private static final int MAXIMUM_NO_RECORDS_CONSUMES = 5;
+    protected static final int MAXIMUM_NO_RECORDS_CONSUMES = 5;
 
     protected abstract Class<T> connectorClass();
 
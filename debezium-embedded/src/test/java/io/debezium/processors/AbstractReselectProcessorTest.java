@@ -225,11 +225,23 @@ public void testColumnsReselectedWhenValueIsNullSnapshot() throws Exception {
     @FixFor("DBZ-4321")
     @SuppressWarnings("resource")
     public void testColumnsReselectedWhenValueIsNullStreaming() throws Exception {
-        enableTableForCdc();
+        assertColumnsReselectedWhenValueIsNullStreaming(getConfigurationBuilder()
+                .with("reselector.reselect.columns.include.list", reselectColumnsList())
+                .build());
+    }
 
-        Configuration config = getConfigurationBuilder()
+    @Test
+    public void testColumnsReselectedWhenValueIsNullStreamingInBatches() throws Exception {
+        assertColumnsReselectedWhenValueIsNullStreaming(getConfigurationBuilder()
                 .with("reselector.reselect.columns.include.list", reselectColumnsList())
-                .build();
+                .with("reselector.reselect.batch.size", 10)
+                .with("reselector.reselect.cache.size", 100)
+                .build());
+    }
+
+    @SuppressWarnings("resource")
+    private void assertColumnsReselectedWhenValueIsNullStreaming(Configuration config) throws Exception {
+        enableTableForCdc();
 
         start(getConnectorClass(), config);
         assertConnectorIsRunning();
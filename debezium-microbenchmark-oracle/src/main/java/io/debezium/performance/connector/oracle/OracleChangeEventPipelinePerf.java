@@ -0,0 +1,64 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.oracle;
+
+import static org.mockito.Mockito.mock;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleValueConverters;
+import io.debezium.performance.core.AbstractChangeEventPipelinePerf;
+import io.debezium.relational.Column;
+import io.debezium.relational.TableId;
+import io.debezium.relational.ValueConverterProvider;
+
+import oracle.jdbc.OracleTypes;
+
+/**
+ * Measures the record path of the Oracle connector, using values as they are parsed from the LogMiner redo SQL.
+ *
+ * The value converters only use the database connection for national character set and time zone aware
+ * columns, neither of which the table uses, so the connection is mocked.
+ */
+public class OracleChangeEventPipelinePerf extends AbstractChangeEventPipelinePerf<OracleConnectorConfig> {
+
+    @Override
+    protected OracleConnectorConfig createConnectorConfig() {
+        return new OracleConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "perf")
+                .with(OracleConnectorConfig.DATABASE_NAME, "ORCLCDB")
+                .with(OracleConnectorConfig.PDB_NAME, "ORCLPDB1")
+                .build());
+    }
+
+    @Override
+    protected ValueConverterProvider createValueConverters(OracleConnectorConfig connectorConfig) {
+        return new OracleValueConverters(connectorConfig, mock(OracleConnection.class));
+    }
+
+    @Override
+    protected TableId tableId() {
+        return new TableId("ORCLPDB1", "DEBEZIUM", "CUSTOMERS");
+    }
+
+    @Override
+    protected List<ColumnType> columnTypes() {
+        return Arrays.asList(
+                column(Column.editor().type("NUMBER").jdbcType(Types.NUMERIC).length(10).scale(0), "123456"),
+                column(Column.editor().type("NUMBER").jdbcType(Types.NUMERIC).length(19).scale(0), "9876543210"),
+                column(Column.editor().type("VARCHAR2").jdbcType(Types.VARCHAR).length(255), "The quick brown fox jumps over the lazy dog"),
+                column(Column.editor().type("NUMBER").jdbcType(Types.NUMERIC).length(12).scale(2), "12345.67"),
+                column(Column.editor().type("TIMESTAMP(6)").jdbcType(Types.TIMESTAMP).length(11).scale(6),
+                        "TO_TIMESTAMP('2024-03-15 10:11:12.123456')"),
+                column(Column.editor().type("BINARY_DOUBLE").jdbcType(OracleTypes.BINARY_DOUBLE).length(8), "3.14159"));
+    }
+}
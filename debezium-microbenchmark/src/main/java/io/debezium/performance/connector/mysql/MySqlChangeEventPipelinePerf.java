@@ -0,0 +1,60 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.mysql;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.MySqlConnectorConfig;
+import io.debezium.connector.mysql.MySqlValueConverters;
+import io.debezium.jdbc.JdbcValueConverters.BigIntUnsignedMode;
+import io.debezium.performance.core.AbstractChangeEventPipelinePerf;
+import io.debezium.relational.Column;
+import io.debezium.relational.TableId;
+import io.debezium.relational.ValueConverterProvider;
+
+/**
+ * Measures the record path of the MySQL connector, using values as they are deserialized from the binlog.
+ */
+public class MySqlChangeEventPipelinePerf extends AbstractChangeEventPipelinePerf<MySqlConnectorConfig> {
+
+    @Override
+    protected MySqlConnectorConfig createConnectorConfig() {
+        return new MySqlConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "perf")
+                .build());
+    }
+
+    @Override
+    protected ValueConverterProvider createValueConverters(MySqlConnectorConfig connectorConfig) {
+        return new MySqlValueConverters(connectorConfig.getDecimalMode(), connectorConfig.getTemporalPrecisionMode(),
+                BigIntUnsignedMode.LONG, connectorConfig.binaryHandlingMode());
+    }
+
+    @Override
+    protected TableId tableId() {
+        return new TableId("inventory", null, "customers");
+    }
+
+    @Override
+    protected List<ColumnType> columnTypes() {
+        return Arrays.asList(
+                column(Column.editor().type("INT").jdbcType(Types.INTEGER).length(11), 123456),
+                column(Column.editor().type("BIGINT").jdbcType(Types.BIGINT).length(20), 9876543210L),
+                column(Column.editor().type("VARCHAR").jdbcType(Types.VARCHAR).length(255).charsetName("utf8mb4"),
+                        "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8)),
+                column(Column.editor().type("DECIMAL").jdbcType(Types.DECIMAL).length(12).scale(2), new BigDecimal("12345.67")),
+                column(Column.editor().type("DATETIME").jdbcType(Types.TIMESTAMP).length(6), LocalDateTime.of(2024, 3, 15, 10, 11, 12, 123456000)),
+                column(Column.editor().type("DATE").jdbcType(Types.DATE), LocalDate.of(2024, 3, 15)));
+    }
+}
@@ -5,6 +5,8 @@
  */
 package io.debezium.performance.connector.mysql.parser;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -18,11 +20,17 @@
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+import io.debezium.config.Configuration;
 import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.AbstractDdlParser;
+import io.debezium.relational.history.MemorySchemaHistory;
+import io.debezium.relational.history.SchemaHistory;
+import io.debezium.relational.history.SchemaHistoryListener;
+import io.debezium.util.Collect;
 
 /**
  * A basic test to compare performance of legacy and antlr DDL parsers depending on the amount
@@ -60,6 +68,59 @@ private String testStatement() {
         }
     }
 
+    /**
+     * A schema history of a multi-tenant server, where the same tables are created and altered in every database.
+     */
+    @State(Scope.Thread)
+    public static class RecoveryState {
+
+        private static final Map<String, Object> SOURCE = Collect.hashMapOf("server", "perf");
+
+        public MemorySchemaHistory history;
+        public Map<Map<String, ?>, Map<String, ?>> offsets;
+
+        @Param({ "100" })
+        public int databaseCount;
+
+        @Param({ "1", "4" })
+        public int parsingThreads;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            history = new MemorySchemaHistory();
+            history.configure(Configuration.create()
+                    .with(SchemaHistory.NAME, "perf-history")
+                    .with(SchemaHistory.RECOVERY_PARSING_THREADS, parsingThreads)
+                    .build(), null, SchemaHistoryListener.NOOP, true);
+            history.start();
+
+            int position = 0;
+            for (int i = 0; i < databaseCount; i++) {
+                final String database = "tenant" + i;
+                history.record(SOURCE, position(position++), database, "CREATE DATABASE " + database);
+                history.record(SOURCE, position(position++), database, "CREATE TABLE customers (id int primary key, "
+                        + "name varchar(255) not null, email varchar(255), created_at datetime(6) default current_timestamp(6))");
+                history.record(SOURCE, position(position++), database, "CREATE TABLE orders (id bigint auto_increment primary key, "
+                        + "customer_id int not null, total decimal(10,2), status enum('NEW','PAID','SHIPPED') default 'NEW', "
+                        + "KEY idx_customer (customer_id), CONSTRAINT fk_customer FOREIGN KEY (customer_id) REFERENCES customers (id))");
+                for (int j = 0; j < 5; j++) {
+                    history.record(SOURCE, position(position++), database, "ALTER TABLE orders ADD COLUMN note" + j + " varchar(64) NULL");
+                }
+                history.record(SOURCE, position(position++), database, "ALTER TABLE customers MODIFY email varchar(320) NOT NULL");
+            }
+            offsets = Collections.singletonMap(SOURCE, position(position));
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() {
+            history.stop();
+        }
+
+        private static Map<String, Object> position(int position) {
+            return Collect.hashMapOf("pos", position);
+        }
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MICROSECONDS)
@@ -69,4 +130,16 @@ private String testStatement() {
     public void antlr(ParserState state) {
         state.antlrParser.parse(state.ddl, state.tables);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Tables recovery(RecoveryState state) {
+        final Tables tables = new Tables();
+        state.history.recover(state.offsets, tables, new MySqlAntlrDdlParser());
+        return tables;
+    }
 }
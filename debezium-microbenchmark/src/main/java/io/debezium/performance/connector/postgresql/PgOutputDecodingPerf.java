@@ -0,0 +1,194 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.postgresql;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.PgOutputDecodingMode;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.MessageDecoderContext;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
+import io.debezium.connector.postgresql.connection.pgoutput.PgOutputMessageDecoder;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+/**
+ * Compares the eager and lazy decoding of pgoutput insert messages for a wide table by the
+ * {@link PgOutputMessageDecoder}, of which only a subset of the columns is captured.
+ *
+ * The messages are laid out as sent by the pgoutput plugin: the message type, the relation id, the tuple type,
+ * the number of columns and for each column its kind ('t', 'u' or 'n') followed by the length and the text value.
+ * The relation is resolved from a mocked schema, as the decoder would otherwise read it from the database.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 2, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode({ Mode.Throughput })
+public class PgOutputDecodingPerf {
+
+    private static final int MESSAGE_COUNT = 1_000;
+    private static final int RELATION_ID = 16384;
+
+    private static final PostgresType[] TYPES = {
+            type("int4", 23, Types.INTEGER),
+            type("int8", 20, Types.BIGINT),
+            type("text", 25, Types.VARCHAR),
+            type("bool", 16, Types.BIT),
+            type("bytea", 17, Types.BINARY),
+            type("numeric", 1700, Types.NUMERIC)
+    };
+
+    private static final String[] VALUES = {
+            "123456",
+            "9876543210",
+            "The quick brown fox jumps over the lazy dog, again and again and again",
+            "t",
+            "\\x000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f",
+            "12345.67"
+    };
+
+    @Param({ "EAGER", "LAZY" })
+    private PgOutputDecodingMode mode;
+
+    @Param({ "60" })
+    private int columnCount;
+
+    /**
+     * Every n-th column is captured, the values of all other columns are decoded but never converted.
+     */
+    @Param({ "1", "4" })
+    private int capturedColumnStep;
+
+    private List<byte[]> messages;
+    private PgOutputMessageDecoder decoder;
+    private TypeRegistry typeRegistry;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final PostgresConnectorConfig config = new PostgresConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "perf")
+                .with(PostgresConnectorConfig.PGOUTPUT_DECODING_MODE, mode.getValue())
+                .build());
+
+        final Table table = table();
+        final PostgresSchema schema = mock(PostgresSchema.class);
+        when(schema.tableFor(anyInt())).thenReturn(table);
+
+        final Map<String, PostgresType> typesByName = new HashMap<>();
+        for (PostgresType type : TYPES) {
+            typesByName.put(type.getName(), type);
+        }
+        typeRegistry = mock(TypeRegistry.class);
+        when(typeRegistry.get(anyString())).thenAnswer(invocation -> typesByName.get(invocation.getArgument(0)));
+
+        decoder = new PgOutputMessageDecoder(new MessageDecoderContext(config, schema), null);
+
+        messages = new ArrayList<>(MESSAGE_COUNT);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            messages.add(insertMessage(i));
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole bh) throws SQLException, InterruptedException {
+        final ReplicationMessageProcessor processor = message -> consume(bh, message);
+        for (byte[] message : messages) {
+            // the plugin creates a new buffer for each message received from the replication stream
+            decoder.processNotEmptyMessage(ByteBuffer.wrap(message), processor, typeRegistry);
+        }
+    }
+
+    private void consume(Blackhole bh, ReplicationMessage message) {
+        final List<ReplicationMessage.Column> columns = message.getNewTupleList();
+        for (int i = 0; i < columns.size(); i += capturedColumnStep) {
+            bh.consume(columns.get(i).getValue(null, false));
+        }
+    }
+
+    private Table table() {
+        final List<Column> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            final PostgresType type = TYPES[i % TYPES.length];
+            columns.add(Column.editor()
+                    .name("c" + i)
+                    .type(type.getName())
+                    .jdbcType(type.getJdbcId())
+                    .nativeType(type.getOid())
+                    .optional(true)
+                    .create());
+        }
+        return Table.editor()
+                .tableId(new TableId(null, "public", "wide"))
+                .addColumns(columns)
+                .setPrimaryKeyNames("c0")
+                .create();
+    }
+
+    private byte[] insertMessage(int row) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('I');
+        out.writeInt(RELATION_ID);
+        out.writeByte('N');
+        out.writeShort(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            if (i % TYPES.length == 2 && row % 3 == 0) {
+                // unchanged TOAST value
+                out.writeByte('u');
+            }
+            else {
+                final byte[] value = VALUES[i % VALUES.length].getBytes(StandardCharsets.UTF_8);
+                out.writeByte('t');
+                out.writeInt(value.length);
+                out.write(value);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static PostgresType type(String name, int oid, int jdbcType) {
+        return new PostgresType.Builder(null, name, oid, jdbcType, 0, null).build();
+    }
+}
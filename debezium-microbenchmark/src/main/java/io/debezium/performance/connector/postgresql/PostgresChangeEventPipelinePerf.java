@@ -0,0 +1,73 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.postgresql;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.performance.core.AbstractChangeEventPipelinePerf;
+import io.debezium.relational.Column;
+import io.debezium.relational.TableId;
+import io.debezium.relational.ValueConverterProvider;
+
+/**
+ * Measures the record path of the PostgreSQL connector, using values as they are decoded from pgoutput messages.
+ *
+ * The {@link TypeRegistry} is primed from the database by the connector; here it is mocked and resolves every
+ * type as a built-in, non-array type, which is what the value converter asks for the columns of the table.
+ */
+public class PostgresChangeEventPipelinePerf extends AbstractChangeEventPipelinePerf<PostgresConnectorConfig> {
+
+    @Override
+    protected PostgresConnectorConfig createConnectorConfig() {
+        return new PostgresConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "perf")
+                .build());
+    }
+
+    @Override
+    protected ValueConverterProvider createValueConverters(PostgresConnectorConfig connectorConfig) {
+        final TypeRegistry typeRegistry = mock(TypeRegistry.class);
+        when(typeRegistry.get(anyInt())).thenAnswer(invocation -> new PostgresType.Builder(null, "builtin", invocation.getArgument(0), Types.OTHER, 0, null).build());
+        return PostgresValueConverter.of(connectorConfig, StandardCharsets.UTF_8, typeRegistry);
+    }
+
+    @Override
+    protected TableId tableId() {
+        return new TableId(null, "public", "customers");
+    }
+
+    @Override
+    protected List<ColumnType> columnTypes() {
+        return Arrays.asList(
+                column(Column.editor().type("int4").jdbcType(Types.INTEGER).nativeType(PgOid.INT4).length(10), 123456),
+                column(Column.editor().type("int8").jdbcType(Types.BIGINT).nativeType(PgOid.INT8).length(19), 9876543210L),
+                column(Column.editor().type("varchar").jdbcType(Types.VARCHAR).nativeType(PgOid.VARCHAR).length(255),
+                        "The quick brown fox jumps over the lazy dog"),
+                column(Column.editor().type("numeric").jdbcType(Types.NUMERIC).nativeType(PgOid.NUMERIC).length(12).scale(2),
+                        new SpecialValueDecimal(new BigDecimal("12345.67"))),
+                column(Column.editor().type("timestamptz").jdbcType(Types.TIMESTAMP_WITH_TIMEZONE).nativeType(PgOid.TIMESTAMPTZ).length(35).scale(6),
+                        OffsetDateTime.of(2024, 3, 15, 10, 11, 12, 123456000, ZoneOffset.UTC)),
+                column(Column.editor().type("bool").jdbcType(Types.BIT).nativeType(PgOid.BOOL).length(1), true));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.sqlserver;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.sqlserver.SqlServerConnectorConfig;
+import io.debezium.connector.sqlserver.SqlServerValueConverters;
+import io.debezium.performance.core.AbstractChangeEventPipelinePerf;
+import io.debezium.relational.Column;
+import io.debezium.relational.TableId;
+import io.debezium.relational.ValueConverterProvider;
+
+/**
+ * Measures the record path of the SQL Server connector, using values as they are read from the change tables.
+ */
+public class SqlServerChangeEventPipelinePerf extends AbstractChangeEventPipelinePerf<SqlServerConnectorConfig> {
+
+    @Override
+    protected SqlServerConnectorConfig createConnectorConfig() {
+        return new SqlServerConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "perf")
+                .with(SqlServerConnectorConfig.DATABASE_NAMES, "testDB")
+                .build());
+    }
+
+    @Override
+    protected ValueConverterProvider createValueConverters(SqlServerConnectorConfig connectorConfig) {
+        return new SqlServerValueConverters(connectorConfig.getDecimalMode(), connectorConfig.getTemporalPrecisionMode(),
+                connectorConfig.binaryHandlingMode());
+    }
+
+    @Override
+    protected TableId tableId() {
+        return new TableId("testDB", "dbo", "customers");
+    }
+
+    @Override
+    protected List<ColumnType> columnTypes() {
+        return Arrays.asList(
+                column(Column.editor().type("int").jdbcType(Types.INTEGER).length(10), 123456),
+                column(Column.editor().type("bigint").jdbcType(Types.BIGINT).length(19), 9876543210L),
+                column(Column.editor().type("nvarchar").jdbcType(Types.NVARCHAR).length(255), "The quick brown fox jumps over the lazy dog"),
+                column(Column.editor().type("decimal").jdbcType(Types.DECIMAL).length(12).scale(2), new BigDecimal("12345.67")),
+                column(Column.editor().type("datetime2").jdbcType(Types.TIMESTAMP).length(27).scale(6),
+                        Timestamp.valueOf(LocalDateTime.of(2024, 3, 15, 10, 11, 12, 123456000))),
+                column(Column.editor().type("bit").jdbcType(Types.BIT).length(1), true));
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import static io.debezium.config.CommonConnectorConfig.DEFAULT_MAX_BATCH_SIZE;
+import static io.debezium.config.CommonConnectorConfig.DEFAULT_MAX_QUEUE_SIZE;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.connector.SnapshotRecord;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.data.Envelope;
+import io.debezium.heartbeat.Heartbeat;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.spi.Partition;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnEditor;
+import io.debezium.relational.RelationalChangeRecordEmitter;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalDatabaseSchema;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.relational.ValueConverterProvider;
+import io.debezium.schema.DataCollectionFilters.DataCollectionFilter;
+import io.debezium.spi.schema.DataCollectionId;
+import io.debezium.spi.topic.TopicNamingStrategy;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+
+/**
+ * Measures the path of a captured row through the connector pipeline: the conversion of the column values
+ * and the generation of the key and value structs by the {@link TableSchema}, the creation of the
+ * {@link Envelope}, the {@link RelationalChangeRecordEmitter} and finally the {@link EventDispatcher}, which
+ * enqueues the resulting record to the {@link ChangeEventQueue}.
+ *
+ * Each benchmark includes the stages of the preceding ones, the cost of a single stage is the difference
+ * between two consecutive benchmarks. The connector specific subclasses provide the value converters and
+ * the column types along with values as the connector's streaming source passes them to the pipeline.
+ * The table consists of the given number of columns, cycling through the column types of the connector.
+ *
+ * Run with {@code -prof gc} to report the allocation rate of each stage.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 2, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode({ Mode.Throughput })
+public abstract class AbstractChangeEventPipelinePerf<C extends RelationalDatabaseConnectorConfig> {
+
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .name("io.debezium.performance.Source")
+            .field("connector", Schema.STRING_SCHEMA)
+            .field("name", Schema.STRING_SCHEMA)
+            .field("ts_ms", Schema.INT64_SCHEMA)
+            .field("db", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("schema", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("table", Schema.STRING_SCHEMA)
+            .build();
+
+    @Param({ "6", "60" })
+    private int columnCount;
+
+    private C connectorConfig;
+    private TableSchema tableSchema;
+    private Object[] row;
+    private BenchmarkPartition partition;
+    private BenchmarkOffsetContext offsetContext;
+    private EventDispatcher<BenchmarkPartition, TableId> dispatcher;
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private Thread consumer;
+
+    /**
+     * A column type of the benchmarked connector, along with a value as passed by the connector's streaming source.
+     */
+    protected static final class ColumnType {
+        private final ColumnEditor editor;
+        private final Object value;
+
+        private ColumnType(ColumnEditor editor, Object value) {
+            this.editor = editor;
+            this.value = value;
+        }
+    }
+
+    protected static ColumnType column(ColumnEditor editor, Object value) {
+        return new ColumnType(editor, value);
+    }
+
+    protected abstract C createConnectorConfig();
+
+    protected abstract ValueConverterProvider createValueConverters(C connectorConfig);
+
+    protected abstract TableId tableId();
+
+    /**
+     * @return the column types of the connector, the first type is used for the primary key column
+     */
+    protected abstract List<ColumnType> columnTypes();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        connectorConfig = createConnectorConfig();
+
+        final List<ColumnType> types = columnTypes();
+        final List<Column> columns = new ArrayList<>(columnCount);
+        row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            final ColumnType type = types.get(i % types.size());
+            columns.add(type.editor
+                    .name("c" + i)
+                    .position(i + 1)
+                    .optional(i != 0)
+                    .create());
+            row[i] = type.value;
+        }
+        final Table table = Table.editor()
+                .tableId(tableId())
+                .addColumns(columns)
+                .setPrimaryKeyNames(columns.get(0).name())
+                .create();
+
+        final TopicNamingStrategy<TableId> topicNamingStrategy = connectorConfig.getTopicNamingStrategy(CommonConnectorConfig.TOPIC_NAMING_STRATEGY);
+        final TableSchemaBuilder schemaBuilder = new TableSchemaBuilder(
+                createValueConverters(connectorConfig),
+                connectorConfig.schemaNameAdjuster(),
+                connectorConfig.customConverterRegistry(),
+                SOURCE_SCHEMA,
+                connectorConfig.getFieldNamer(),
+                false);
+        final RelationalDatabaseSchema schema = new RelationalDatabaseSchema(connectorConfig, topicNamingStrategy,
+                connectorConfig.getTableFilters().dataCollectionFilter(), connectorConfig.getColumnFilter(), schemaBuilder,
+                false, connectorConfig.getKeyMapper()) {
+        };
+        schema.refresh(table);
+        tableSchema = schema.schemaFor(table.id());
+
+        // fail fast rather than measuring the conversion of values the converters do not support
+        final Struct value = tableSchema.valueFromColumnData(row);
+        for (Field field : value.schema().fields()) {
+            if (value.get(field) == null) {
+                throw new IllegalStateException("Value of column '" + field.name() + "' was not converted");
+            }
+        }
+
+        partition = new BenchmarkPartition();
+        offsetContext = new BenchmarkOffsetContext(connectorConfig.getLogicalName(), table.id());
+
+        queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE)
+                .maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .build();
+        final DataCollectionFilter<TableId> filter = id -> true;
+        dispatcher = new EventDispatcher<>(connectorConfig, topicNamingStrategy, schema, queue, filter, DataChangeEvent::new,
+                new BenchmarkMetadataProvider(), Heartbeat.DEFAULT_NOOP_HEARTBEAT, connectorConfig.schemaNameAdjuster(), null);
+
+        consumer = new Thread(() -> {
+            try {
+                while (true) {
+                    queue.poll();
+                }
+            }
+            catch (InterruptedException ex) {
+                // exit thread
+            }
+        });
+        consumer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        consumer.interrupt();
+        dispatcher.close();
+    }
+
+    /**
+     * Converts the column values and generates the key and value structs.
+     */
+    @Benchmark
+    public void tableSchema(Blackhole blackhole) {
+        blackhole.consume(tableSchema.keyFromColumnData(row));
+        blackhole.consume(tableSchema.valueFromColumnData(row));
+    }
+
+    /**
+     * Converts the column values and wraps the value struct in a create envelope.
+     */
+    @Benchmark
+    public Struct envelope() {
+        final Struct value = tableSchema.valueFromColumnData(row);
+        return tableSchema.getEnvelopeSchema().create(value, offsetContext.getSourceInfo(), Instant.now());
+    }
+
+    /**
+     * Emits a create event for the row as connectors do, without dispatching it.
+     */
+    @Benchmark
+    public void changeRecordEmitter(Blackhole blackhole) throws InterruptedException {
+        new RowChangeRecordEmitter(partition, offsetContext, connectorConfig, row).emitChangeRecords(tableSchema,
+                (partition, schema, operation, key, value, offset, headers) -> {
+                    blackhole.consume(key);
+                    blackhole.consume(value);
+                });
+    }
+
+    /**
+     * Dispatches a create event for the row, which ends up in the queue.
+     */
+    @Benchmark
+    public boolean eventDispatcher() throws InterruptedException {
+        return dispatcher.dispatchDataChangeEvent(partition, tableSchema.id(),
+                new RowChangeRecordEmitter(partition, offsetContext, connectorConfig, row));
+    }
+
+    private static class RowChangeRecordEmitter extends RelationalChangeRecordEmitter<BenchmarkPartition> {
+
+        private final Object[] row;
+
+        RowChangeRecordEmitter(BenchmarkPartition partition, OffsetContext offsetContext, RelationalDatabaseConnectorConfig connectorConfig,
+                               Object[] row) {
+            super(partition, offsetContext, Clock.system(), connectorConfig);
+            this.row = row;
+        }
+
+        @Override
+        public Envelope.Operation getOperation() {
+            return Envelope.Operation.CREATE;
+        }
+
+        @Override
+        protected Object[] getOldColumnValues() {
+            return null;
+        }
+
+        @Override
+        protected Object[] getNewColumnValues() {
+            return row;
+        }
+    }
+
+    private static class BenchmarkPartition implements Partition {
+
+        private static final Map<String, String> SOURCE_PARTITION = Collections.singletonMap("server", "perf");
+
+        @Override
+        public Map<String, String> getSourcePartition() {
+            return SOURCE_PARTITION;
+        }
+    }
+
+    private static class BenchmarkOffsetContext implements OffsetContext {
+
+        private final Map<String, ?> offset = Collections.singletonMap("position", 1L);
+        private final TransactionContext transactionContext = new TransactionContext();
+        private final Struct sourceInfo;
+
+        BenchmarkOffsetContext(String logicalName, TableId tableId) {
+            this.sourceInfo = new Struct(SOURCE_SCHEMA)
+                    .put("connector", "perf")
+                    .put("name", logicalName)
+                    .put("ts_ms", 0L)
+                    .put("db", tableId.catalog())
+                    .put("schema", tableId.schema())
+                    .put("table", tableId.table());
+        }
+
+        @Override
+        public Map<String, ?> getOffset() {
+            return offset;
+        }
+
+        @Override
+        public Schema getSourceInfoSchema() {
+            return SOURCE_SCHEMA;
+        }
+
+        @Override
+        public Struct getSourceInfo() {
+            return sourceInfo;
+        }
+
+        @Override
+        public boolean isSnapshotRunning() {
+            return false;
+        }
+
+        @Override
+        public void markSnapshotRecord(SnapshotRecord record) {
+        }
+
+        @Override
+        public void preSnapshotStart() {
+        }
+
+        @Override
+        public void preSnapshotCompletion() {
+        }
+
+        @Override
+        public void postSnapshotCompletion() {
+        }
+
+        @Override
+        public void event(DataCollectionId collectionId, Instant timestamp) {
+        }
+
+        @Override
+        public TransactionContext getTransactionContext() {
+            return transactionContext;
+        }
+    }
+
+    private static class BenchmarkMetadataProvider implements EventMetadataProvider {
+
+        @Override
+        public Instant getEventTimestamp(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+
+        @Override
+        public Map<String, String> getEventSourcePosition(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+
+        @Override
+        public String getTransactionId(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+    }
+}
@@ -29,6 +29,7 @@
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+import io.debezium.config.CommonConnectorConfig.QueueType;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.util.LoggingContext;
@@ -49,6 +50,9 @@ public static class ProducerPerf {
         @Param({ "10", "50", "500" })
         private long pollIntervalMillis;
 
+        @Param({ "BLOCKING", "RING_BUFFER" })
+        private QueueType queueType;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread consumer;
 
@@ -58,7 +62,8 @@ public void setup() {
                     .pollInterval(Duration.ofMillis(pollIntervalMillis))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+                    .queueType(queueType).build();
             consumer = new Thread(() -> {
                 try {
                     while (true) {
@@ -98,6 +103,9 @@ public static class ConsumerPerf {
         @Param({ "10", "50", "500" })
         private long pollIntervalMillis;
 
+        @Param({ "BLOCKING", "RING_BUFFER" })
+        private QueueType queueType;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread producer;
 
@@ -107,7 +115,8 @@ public void setup() {
                     .pollInterval(Duration.ofMillis(pollIntervalMillis))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+                    .queueType(queueType).build();
             producer = new Thread(() -> {
                 try {
                     for (;;) {
@@ -148,6 +157,9 @@ public static class QueuePerf {
         @Param({ "10", "50", "500" })
         long pollIntervalMillis;
 
+        @Param({ "BLOCKING", "RING_BUFFER" })
+        QueueType queueType;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread producer;
         private Thread consumer;
@@ -158,7 +170,8 @@ public void setupInvocation() {
                     .pollInterval(Duration.ofMillis(pollIntervalMillis))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+                    .queueType(queueType).build();
         }
 
         @Setup(Level.Invocation)
@@ -222,6 +235,9 @@ public static class MultiWriterQueuePerf {
         @Param({ "10", "50", "500" })
         long pollIntervalMillis;
 
+        @Param({ "BLOCKING", "RING_BUFFER" })
+        QueueType queueType;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread[] producers;
         private Thread consumer;
@@ -232,7 +248,8 @@ public void setupInvocation() {
                     .pollInterval(Duration.ofMillis(pollIntervalMillis))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+                    .queueType(queueType).build();
         }
 
         @Setup(Level.Invocation)
@@ -0,0 +1,103 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.pipeline.source.snapshot.incremental.DeduplicationWindow;
+
+/**
+ * Compares the {@link DeduplicationWindow} with the {@link LinkedHashMap} previously used as the window of an
+ * incremental snapshot chunk: a chunk is buffered, a stream event is deduplicated against it for each of its rows,
+ * half of them hitting the window, and the remaining rows are emitted.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 2, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode({ Mode.Throughput })
+public class DeduplicationWindowPerf {
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT64_SCHEMA)
+            .field("region", Schema.STRING_SCHEMA)
+            .build();
+
+    @Param({ "1024", "16384" })
+    private int chunkSize;
+
+    private Struct[] chunkKeys;
+    private Object[][] chunkRows;
+    private Struct[] streamedKeys;
+
+    private final Map<Struct, Object[]> linkedHashMapWindow = new LinkedHashMap<>();
+    private final DeduplicationWindow deduplicationWindow = new DeduplicationWindow();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        chunkKeys = new Struct[chunkSize];
+        chunkRows = new Object[chunkSize][];
+        streamedKeys = new Struct[chunkSize];
+        for (int i = 0; i < chunkSize; i++) {
+            chunkKeys[i] = key(i);
+            chunkRows[i] = new Object[]{ (long) i, "region-" + (i % 16), "value-" + i, i * 1.5d };
+            // every other streamed event modifies a row of the chunk
+            streamedKeys[i] = key(i % 2 == 0 ? i : chunkSize + i);
+        }
+    }
+
+    @Benchmark
+    public void linkedHashMap(Blackhole blackhole) {
+        for (int i = 0; i < chunkSize; i++) {
+            linkedHashMapWindow.put(new Struct(KEY_SCHEMA).put("id", chunkKeys[i].get("id")).put("region", chunkKeys[i].get("region")), chunkRows[i]);
+        }
+        for (Struct key : streamedKeys) {
+            blackhole.consume(linkedHashMapWindow.remove(key));
+        }
+        for (Object[] row : linkedHashMapWindow.values()) {
+            blackhole.consume(row);
+        }
+        linkedHashMapWindow.clear();
+    }
+
+    @Benchmark
+    public void deduplicationWindow(Blackhole blackhole) {
+        for (int i = 0; i < chunkSize; i++) {
+            deduplicationWindow.put(new Struct(KEY_SCHEMA).put("id", chunkKeys[i].get("id")).put("region", chunkKeys[i].get("region")), chunkRows[i]);
+        }
+        for (Struct key : streamedKeys) {
+            blackhole.consume(deduplicationWindow.remove(key));
+        }
+        for (Object[] row : deduplicationWindow) {
+            blackhole.consume(row);
+        }
+        deduplicationWindow.clear();
+    }
+
+    private static Struct key(long id) {
+        return new Struct(KEY_SCHEMA).put("id", id).put("region", "region-" + (id % 16));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+
+/**
+ * Measures the throughput of table lookups by concurrent readers, as done by the streaming thread and the snapshot
+ * workers for every event, with the table definitions guarded by a lock and with copy-on-write versions.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 2, time = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode({ Mode.Throughput })
+public class TablesPerf {
+
+    private static final int TABLE_COUNT = 1000;
+
+    @Param({ "false", "true" })
+    private boolean copyOnWrite;
+
+    private Tables tables;
+    private TableId[] tableIds;
+
+    @State(Scope.Thread)
+    public static class Reader {
+        private int next;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tables = new Tables(false, copyOnWrite);
+        tableIds = new TableId[TABLE_COUNT];
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            tableIds[i] = new TableId("db", null, "table" + i);
+            tables.overwriteTable(table(tableIds[i], "c" + i));
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void forTable(Reader reader, Blackhole blackhole) {
+        blackhole.consume(tables.forTable(tableIds[reader.next++ % TABLE_COUNT]));
+    }
+
+    @Benchmark
+    @Group("forTableWithDdl")
+    @GroupThreads(7)
+    public void forTableWithDdlReader(Reader reader, Blackhole blackhole) {
+        blackhole.consume(tables.forTable(tableIds[reader.next++ % TABLE_COUNT]));
+    }
+
+    @Benchmark
+    @Group("forTableWithDdl")
+    @GroupThreads(1)
+    public void forTableWithDdlWriter(Reader reader) {
+        // DDL is rare compared to the events, so the writer mostly idles
+        Blackhole.consumeCPU(100_000);
+        final TableId tableId = tableIds[reader.next++ % TABLE_COUNT];
+        tables.overwriteTable(table(tableId, "c" + reader.next));
+    }
+
+    private static Table table(TableId tableId, String columnName) {
+        return Table.editor()
+                .tableId(tableId)
+                .addColumn(Column.editor().name("id").type("INT").jdbcType(Types.INTEGER).create())
+                .addColumn(Column.editor().name(columnName).type("VARCHAR").jdbcType(Types.VARCHAR).create())
+                .setPrimaryKeyNames("id")
+                .create();
+    }
+}
@@ -7,6 +7,7 @@
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.List;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.source.SourceRecord;
@@ -120,6 +121,11 @@ protected void doStoreRecord(HistoryRecord record) {
         blobClient.upload(new ByteArrayInputStream(fromHistoryRecord(record)), true);
     }
 
+    @Override
+    protected void doRewriteRecords(List<HistoryRecord> records) {
+        blobClient.upload(new ByteArrayInputStream(fromHistoryRecords(records)), true);
+    }
+
     @Override
     public boolean storageExists() {
         final boolean containerExists = blobServiceClient.getBlobContainerClient(container).exists();
@@ -11,8 +11,10 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Collection;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,6 +86,23 @@ protected void doStoreRecord(HistoryRecord record) {
         }
     }
 
+    @Override
+    protected void doRewriteRecords(List<HistoryRecord> records) {
+        final Path compactedPath = path.resolveSibling(path.getFileName() + ".compacted");
+        try {
+            try (BufferedWriter historyWriter = Files.newBufferedWriter(compactedPath)) {
+                for (HistoryRecord record : records) {
+                    historyWriter.append(documentWriter.write(record.document()));
+                    historyWriter.newLine();
+                }
+            }
+            Files.move(compactedPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e) {
+            throw new SchemaHistoryException("Unable to rewrite history file " + path + ": " + e.getMessage(), e);
+        }
+    }
+
     @Override
     protected void doStart() {
         try {
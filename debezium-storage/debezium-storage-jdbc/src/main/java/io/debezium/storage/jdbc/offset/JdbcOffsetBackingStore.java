@@ -15,11 +15,14 @@
 import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -36,9 +39,15 @@
 
 import io.debezium.config.Configuration;
 import io.debezium.storage.jdbc.RetriableConnection;
+import io.debezium.storage.jdbc.offset.JdbcOffsetBackingStoreConfig.UpsertDialect;
+import io.debezium.storage.jdbc.offset.JdbcOffsetBackingStoreConfig.WriteMode;
 
 /**
  * Implementation of OffsetBackingStore that saves data to database table.
+ *
+ * By default, every flush replaces the content of the table. In the {@link WriteMode#UPSERT} write mode only the
+ * offsets changed since the last flush are written, optionally coalesced with the flushes of the other stores
+ * writing to the same table by a {@link JdbcOffsetGroupCommitter}.
  */
 public class JdbcOffsetBackingStore implements OffsetBackingStore {
 
@@ -50,6 +59,9 @@ public class JdbcOffsetBackingStore implements OffsetBackingStore {
     protected ExecutorService executor;
     private final AtomicInteger recordInsertSeq = new AtomicInteger(0);
     private RetriableConnection conn;
+    private final Set<String> changedKeys = ConcurrentHashMap.newKeySet();
+    private JdbcOffsetUpsertWriter upsertWriter;
+    private JdbcOffsetGroupCommitter groupCommitter;
 
     public JdbcOffsetBackingStore() {
     }
@@ -91,6 +103,21 @@ public synchronized void start() {
             throw new IllegalStateException("Failed to create JDBC offset table: " + config.getJdbcUrl(), e);
         }
         load();
+
+        if (config.getWriteMode() == WriteMode.UPSERT) {
+            upsertWriter = new JdbcOffsetUpsertWriter(config, resolveUpsertDialect(), recordInsertSeq);
+            if (!config.getGroupCommitInterval().isZero() && groupCommitter == null) {
+                try {
+                    groupCommitter = JdbcOffsetGroupCommitter.acquire(config, upsertWriter);
+                }
+                catch (SQLException e) {
+                    throw new IllegalStateException("Failed to start offset group commit: " + config.getJdbcUrl(), e);
+                }
+            }
+        }
+        else if (!config.getGroupCommitInterval().isZero()) {
+            LOGGER.warn("Group commit of offsets requires the '{}' write mode, offsets are committed by each flush", WriteMode.UPSERT.getValue());
+        }
     }
 
     private void initializeTable() throws SQLException {
@@ -108,26 +135,96 @@ private void initializeTable() throws SQLException {
         }, "checking / creating table", false);
     }
 
+    /**
+     * Determines the upsert dialect, falling back to the generic one if the unique index on the offset key
+     * required by the vendor specific dialects does not exist and cannot be created.
+     */
+    private UpsertDialect resolveUpsertDialect() {
+        UpsertDialect dialect = config.getUpsertDialect();
+        if (dialect == UpsertDialect.AUTO) {
+            dialect = UpsertDialect.fromJdbcUrl(config.getJdbcUrl());
+        }
+        if (dialect != UpsertDialect.GENERIC && !ensureUniqueKeyIndex()) {
+            LOGGER.warn("The '{}' upsert dialect requires a unique index on column offset_key of table {}, using the '{}' dialect instead",
+                    dialect.getValue(), config.getTableName(), UpsertDialect.GENERIC.getValue());
+            dialect = UpsertDialect.GENERIC;
+        }
+        LOGGER.info("Writing changed offsets to table {} using the '{}' upsert dialect", config.getTableName(), dialect.getValue());
+        return dialect;
+    }
+
+    private boolean ensureUniqueKeyIndex() {
+        try {
+            return conn.executeWithRetry(conn -> {
+                if (hasUniqueKeyIndex(conn.getMetaData())) {
+                    return true;
+                }
+                LOGGER.info("Creating unique index on column offset_key of table {}", config.getTableName());
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute(String.format("CREATE UNIQUE INDEX %s ON %s (offset_key)", uniqueKeyIndexName(), config.getTableName()));
+                    conn.commit();
+                    return true;
+                }
+                catch (SQLException e) {
+                    LOGGER.warn("Failed to create unique index on column offset_key of table {}: {}", config.getTableName(), e.getMessage());
+                    conn.rollback();
+                    return false;
+                }
+            }, "checking / creating offset key index", false);
+        }
+        catch (SQLException e) {
+            throw new IllegalStateException("Failed to check JDBC offset table index: " + config.getJdbcUrl(), e);
+        }
+    }
+
+    private boolean hasUniqueKeyIndex(DatabaseMetaData dbMeta) throws SQLException {
+        // the table name may be stored in a different case than the configured one
+        final Set<String> tableNames = Set.of(config.getTableName(), config.getTableName().toUpperCase(), config.getTableName().toLowerCase());
+        for (String tableName : tableNames) {
+            final Map<String, Set<String>> columnsByIndex = new HashMap<>();
+            try (ResultSet rs = dbMeta.getIndexInfo(null, null, tableName, true, false)) {
+                while (rs.next()) {
+                    final String indexName = rs.getString("INDEX_NAME");
+                    final String columnName = rs.getString("COLUMN_NAME");
+                    if (indexName != null && columnName != null) {
+                        columnsByIndex.computeIfAbsent(indexName, name -> new HashSet<>()).add(columnName.toLowerCase());
+                    }
+                }
+            }
+            if (columnsByIndex.values().stream().anyMatch(columns -> columns.equals(Set.of("offset_key")))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String uniqueKeyIndexName() {
+        final String tableName = config.getTableName();
+        return tableName.substring(tableName.lastIndexOf('.') + 1).replaceAll("[\"`\\[\\]]", "") + "_key_idx";
+    }
+
     protected void save() {
+        if (upsertWriter != null) {
+            saveChanges();
+            return;
+        }
         LOGGER.debug("Saving data to state table...");
         try {
             conn.executeWithRetry((conn) -> {
-                try (PreparedStatement sqlDelete = conn.prepareStatement(config.getTableDelete())) {
+                try (
+                        PreparedStatement sqlDelete = conn.prepareStatement(config.getTableDelete());
+                        PreparedStatement sql = conn.prepareStatement(config.getTableInsert())) {
                     sqlDelete.executeUpdate();
+                    Timestamp currentTs = new Timestamp(System.currentTimeMillis());
                     for (Map.Entry<String, String> mapEntry : data.entrySet()) {
-                        Timestamp currentTs = new Timestamp(System.currentTimeMillis());
-                        String key = (mapEntry.getKey() != null) ? mapEntry.getKey() : null;
-                        String value = (mapEntry.getValue() != null) ? mapEntry.getValue() : null;
-                        // Execute a query
-                        try (PreparedStatement sql = conn.prepareStatement(config.getTableInsert())) {
-                            sql.setString(1, UUID.randomUUID().toString());
-                            sql.setString(2, key);
-                            sql.setString(3, value);
-                            sql.setTimestamp(4, currentTs);
-                            sql.setInt(5, recordInsertSeq.incrementAndGet());
-                            sql.executeUpdate();
-                        }
+                        sql.setString(1, UUID.randomUUID().toString());
+                        sql.setString(2, mapEntry.getKey());
+                        sql.setString(3, mapEntry.getValue());
+                        sql.setTimestamp(4, currentTs);
+                        sql.setInt(5, recordInsertSeq.incrementAndGet());
+                        sql.addBatch();
                     }
+                    sql.executeBatch();
                 }
                 conn.commit();
             }, "Saving offset", true);
@@ -137,6 +234,42 @@ protected void save() {
         }
     }
 
+    /**
+     * Writes the offsets changed since the last flush. If writing fails, the offsets are written by the next flush.
+     */
+    private void saveChanges() {
+        final Map<String, String> changes = new HashMap<>();
+        for (Iterator<String> iterator = changedKeys.iterator(); iterator.hasNext();) {
+            final String key = iterator.next();
+            iterator.remove();
+            changes.put(key, data.get(key));
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        LOGGER.debug("Saving {} changed offsets to state table...", changes.size());
+        try {
+            if (groupCommitter != null) {
+                groupCommitter.submit(changes).get();
+            }
+            else {
+                conn.executeWithRetry((conn) -> {
+                    upsertWriter.write(conn, changes);
+                    conn.commit();
+                }, "Saving offset", true);
+            }
+        }
+        catch (InterruptedException e) {
+            changedKeys.addAll(changes.keySet());
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while saving offsets", e);
+        }
+        catch (ExecutionException | SQLException e) {
+            changedKeys.addAll(changes.keySet());
+            throw new ConnectException(e);
+        }
+    }
+
     private void load() {
         try {
             ConcurrentHashMap<String, String> tmpData = new ConcurrentHashMap<>();
@@ -179,6 +312,10 @@ private void stopExecutor() {
     @Override
     public synchronized void stop() {
         stopExecutor();
+        if (groupCommitter != null) {
+            groupCommitter.release();
+            groupCommitter = null;
+        }
         try {
             if (conn != null) {
                 conn.close();
@@ -200,7 +337,11 @@ public Void call() {
                     if (entry.getKey() == null) {
                         continue;
                     }
-                    data.put(fromByteBuffer(entry.getKey()), fromByteBuffer(entry.getValue()));
+                    final String key = fromByteBuffer(entry.getKey());
+                    data.put(key, fromByteBuffer(entry.getValue()));
+                    if (upsertWriter != null) {
+                        changedKeys.add(key);
+                    }
                 }
                 save();
                 if (callback != null) {
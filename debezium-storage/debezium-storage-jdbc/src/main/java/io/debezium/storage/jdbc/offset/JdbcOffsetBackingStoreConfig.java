@@ -5,9 +5,11 @@
  */
 package io.debezium.storage.jdbc.offset;
 
+import java.time.Duration;
 import java.util.List;
 
 import io.debezium.config.Configuration;
+import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
 import io.debezium.storage.jdbc.JdbcCommonConfig;
 import io.debezium.util.Collect;
@@ -67,11 +69,192 @@ public class JdbcOffsetBackingStoreConfig extends JdbcCommonConfig {
             .withDescription("Insert syntax to add offset data to the jdbc table")
             .withDefault(DEFAULT_TABLE_INSERT);
 
+    public static final String DEFAULT_TABLE_UPDATE = "UPDATE %s SET offset_val = ?, record_insert_ts = ?, record_insert_seq = ? " +
+            "WHERE offset_key = ?";
+
+    public static final Field PROP_TABLE_UPDATE = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "offset.table.update")
+            .withDescription("Update syntax to change offset data in the jdbc table, used by the 'upsert' write mode with the 'generic' dialect")
+            .withDefault(DEFAULT_TABLE_UPDATE);
+
+    private static final String ON_CONFLICT_UPSERT = "INSERT INTO %s(id, offset_key, offset_val, record_insert_ts, record_insert_seq) " +
+            "VALUES ( ?, ?, ?, ?, ? ) " +
+            "ON CONFLICT (offset_key) DO UPDATE SET offset_val = EXCLUDED.offset_val, " +
+            "record_insert_ts = EXCLUDED.record_insert_ts, record_insert_seq = EXCLUDED.record_insert_seq";
+
+    /**
+     * The way in which the offsets are written to the offset table on every flush.
+     */
+    public enum WriteMode implements EnumeratedValue {
+
+        /**
+         * All rows of the table are deleted and all offsets are inserted again.
+         */
+        REPLACE("replace"),
+
+        /**
+         * Only the offsets changed since the last flush are inserted or updated.
+         */
+        UPSERT("upsert");
+
+        private final String value;
+
+        WriteMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        public static WriteMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (WriteMode option : WriteMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The statement used to insert or update an offset in the 'upsert' write mode. All dialects except
+     * {@link #GENERIC} require a unique index on the {@code offset_key} column.
+     */
+    public enum UpsertDialect implements EnumeratedValue {
+
+        /**
+         * The dialect is derived from the JDBC URL, falling back to {@link #GENERIC} for unknown databases.
+         */
+        AUTO("auto", null),
+
+        /**
+         * Changed offsets are updated, those not yet stored are inserted.
+         */
+        GENERIC("generic", null),
+
+        POSTGRESQL("postgresql", ON_CONFLICT_UPSERT),
+
+        SQLITE("sqlite", ON_CONFLICT_UPSERT),
+
+        MYSQL("mysql", "INSERT INTO %s(id, offset_key, offset_val, record_insert_ts, record_insert_seq) " +
+                "VALUES ( ?, ?, ?, ?, ? ) " +
+                "ON DUPLICATE KEY UPDATE offset_val = VALUES(offset_val), " +
+                "record_insert_ts = VALUES(record_insert_ts), record_insert_seq = VALUES(record_insert_seq)"),
+
+        ORACLE("oracle", "MERGE INTO %s t " +
+                "USING (SELECT ? AS id, ? AS offset_key, ? AS offset_val, ? AS record_insert_ts, ? AS record_insert_seq FROM dual) s " +
+                "ON (t.offset_key = s.offset_key) " +
+                "WHEN MATCHED THEN UPDATE SET t.offset_val = s.offset_val, " +
+                "t.record_insert_ts = s.record_insert_ts, t.record_insert_seq = s.record_insert_seq " +
+                "WHEN NOT MATCHED THEN INSERT (id, offset_key, offset_val, record_insert_ts, record_insert_seq) " +
+                "VALUES (s.id, s.offset_key, s.offset_val, s.record_insert_ts, s.record_insert_seq)"),
+
+        SQLSERVER("sqlserver", "MERGE INTO %s WITH (HOLDLOCK) AS t " +
+                "USING (VALUES ( ?, ?, ?, ?, ? )) AS s (id, offset_key, offset_val, record_insert_ts, record_insert_seq) " +
+                "ON t.offset_key = s.offset_key " +
+                "WHEN MATCHED THEN UPDATE SET t.offset_val = s.offset_val, " +
+                "t.record_insert_ts = s.record_insert_ts, t.record_insert_seq = s.record_insert_seq " +
+                "WHEN NOT MATCHED THEN INSERT (id, offset_key, offset_val, record_insert_ts, record_insert_seq) " +
+                "VALUES (s.id, s.offset_key, s.offset_val, s.record_insert_ts, s.record_insert_seq);");
+
+        private final String value;
+        private final String upsert;
+
+        UpsertDialect(String value, String upsert) {
+            this.value = value;
+            this.upsert = upsert;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Returns the upsert statement for the given table, binding the same parameters as the insert statement.
+         *
+         * @return the statement, or {@code null} for the dialects that do not use a single upsert statement
+         */
+        public String getUpsertStatement(String tableName) {
+            return upsert != null ? String.format(upsert, tableName) : null;
+        }
+
+        /**
+         * Determines the dialect of the database the given JDBC URL points to.
+         *
+         * @return the dialect, {@link #GENERIC} if the database has no dedicated dialect
+         */
+        public static UpsertDialect fromJdbcUrl(String jdbcUrl) {
+            final String url = jdbcUrl != null ? jdbcUrl.toLowerCase() : "";
+            if (url.startsWith("jdbc:postgresql:")) {
+                return POSTGRESQL;
+            }
+            else if (url.startsWith("jdbc:sqlite:")) {
+                return SQLITE;
+            }
+            else if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+                return MYSQL;
+            }
+            else if (url.startsWith("jdbc:oracle:")) {
+                return ORACLE;
+            }
+            else if (url.startsWith("jdbc:sqlserver:")) {
+                return SQLSERVER;
+            }
+            return GENERIC;
+        }
+
+        public static UpsertDialect parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (UpsertDialect option : UpsertDialect.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static final Field PROP_WRITE_MODE = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "offset.write.mode")
+            .withDescription("How offsets are written on every flush. "
+                    + "'replace' (the default) deletes all rows of the offset table and inserts all offsets again; "
+                    + "'upsert' only inserts or updates the offsets that changed since the last flush, using batched statements.")
+            .withEnum(WriteMode.class, WriteMode.REPLACE);
+
+    public static final Field PROP_UPSERT_DIALECT = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "offset.upsert.dialect")
+            .withDescription("The statement used by the 'upsert' write mode. "
+                    + "'auto' (the default) derives the dialect from the JDBC URL; "
+                    + "'postgresql' and 'sqlite' use INSERT ... ON CONFLICT; "
+                    + "'mysql' uses INSERT ... ON DUPLICATE KEY UPDATE; "
+                    + "'oracle' and 'sqlserver' use MERGE; "
+                    + "'generic' updates the changed offsets and inserts the missing ones. "
+                    + "All dialects except 'generic' require a unique index on the offset_key column, which is created if missing; "
+                    + "if that is not possible, the 'generic' dialect is used.")
+            .withEnum(UpsertDialect.class, UpsertDialect.AUTO);
+
+    public static final Field PROP_GROUP_COMMIT_INTERVAL_MS = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "offset.group.commit.interval.ms")
+            .withDescription("When greater than zero and the 'upsert' write mode is used, the flushes of all offset stores of the same JVM "
+                    + "that use the same offset table are collected for up to this number of milliseconds and written in a single transaction.")
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong);
+
     private String tableCreate;
     private String tableSelect;
     private String tableDelete;
     private String tableInsert;
+    private String tableUpdate;
     private String tableName;
+    private WriteMode writeMode;
+    private UpsertDialect upsertDialect;
+    private Duration groupCommitInterval;
 
     public JdbcOffsetBackingStoreConfig(Configuration config) {
         super(config, OFFSET_STORAGE_PREFIX);
@@ -85,12 +268,17 @@ protected void init(Configuration config) {
         this.tableSelect = String.format(config.getString(PROP_TABLE_SELECT), tableName);
         this.tableInsert = String.format(config.getString(PROP_TABLE_INSERT), tableName);
         this.tableDelete = String.format(config.getString(PROP_TABLE_DELETE), tableName);
+        this.tableUpdate = String.format(config.getString(PROP_TABLE_UPDATE), tableName);
+        this.writeMode = WriteMode.parse(config.getString(PROP_WRITE_MODE));
+        this.upsertDialect = UpsertDialect.parse(config.getString(PROP_UPSERT_DIALECT));
+        this.groupCommitInterval = Duration.ofMillis(config.getLong(PROP_GROUP_COMMIT_INTERVAL_MS));
     }
 
     @Override
     protected List<Field> getAllConfigurationFields() {
         List<Field> fields = Collect.arrayListOf(PROP_TABLE_NAME, PROP_TABLE_DDL, PROP_TABLE_SELECT,
-                PROP_TABLE_INSERT, PROP_TABLE_DELETE);
+                PROP_TABLE_INSERT, PROP_TABLE_DELETE, PROP_TABLE_UPDATE, PROP_WRITE_MODE, PROP_UPSERT_DIALECT,
+                PROP_GROUP_COMMIT_INTERVAL_MS);
         fields.addAll(super.getAllConfigurationFields());
         return fields;
     }
@@ -114,4 +302,20 @@ public String getTableDelete() {
     public String getTableInsert() {
         return tableInsert;
     }
+
+    public String getTableUpdate() {
+        return tableUpdate;
+    }
+
+    public WriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    public UpsertDialect getUpsertDialect() {
+        return upsertDialect;
+    }
+
+    public Duration getGroupCommitInterval() {
+        return groupCommitInterval;
+    }
 }
\ No newline at end of file
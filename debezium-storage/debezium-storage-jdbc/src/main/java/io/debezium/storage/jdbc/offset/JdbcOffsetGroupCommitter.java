@@ -0,0 +1,177 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.storage.jdbc.offset;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.utils.ThreadUtils;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.storage.jdbc.RetriableConnection;
+
+/**
+ * Coalesces the flushes of all {@link JdbcOffsetBackingStore}s of the JVM that write to the same offset table,
+ * writing the offsets changed by all of them in a single transaction.
+ *
+ * A flush is written at most one group commit interval after it was submitted, together with all flushes
+ * submitted in the meantime. When several flushes change the same offset, the most recent value is written.
+ */
+final class JdbcOffsetGroupCommitter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcOffsetGroupCommitter.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private static final Map<String, JdbcOffsetGroupCommitter> COMMITTERS = new HashMap<>();
+
+    private final String id;
+    private final Duration interval;
+    private final JdbcOffsetUpsertWriter writer;
+    private final RetriableConnection conn;
+    private final BlockingQueue<PendingFlush> pending = new LinkedBlockingQueue<>();
+    private final ExecutorService executor;
+    private volatile boolean running = true;
+    private int references;
+
+    private JdbcOffsetGroupCommitter(String id, JdbcOffsetBackingStoreConfig config, JdbcOffsetUpsertWriter writer) throws SQLException {
+        this.id = id;
+        this.interval = config.getGroupCommitInterval();
+        this.writer = writer;
+        this.conn = new RetriableConnection(config.getJdbcUrl(), config.getUser(), config.getPassword(),
+                config.getWaitRetryDelay(), config.getMaxRetryCount());
+        this.executor = Executors.newSingleThreadExecutor(ThreadUtils.createThreadFactory(getClass().getSimpleName() + "-%d", true));
+        this.executor.submit(this::run);
+    }
+
+    /**
+     * Returns the group committer for the offset table of the given configuration, creating it if needed.
+     * Each call must be paired with a call to {@link #release()}.
+     */
+    static synchronized JdbcOffsetGroupCommitter acquire(JdbcOffsetBackingStoreConfig config, JdbcOffsetUpsertWriter writer) throws SQLException {
+        final String id = config.getJdbcUrl() + "|" + config.getUser() + "|" + config.getTableName();
+        JdbcOffsetGroupCommitter committer = COMMITTERS.get(id);
+        if (committer == null) {
+            LOGGER.info("Starting group commit of offsets to table {} every {} ms", config.getTableName(), config.getGroupCommitInterval().toMillis());
+            committer = new JdbcOffsetGroupCommitter(id, config, writer);
+            COMMITTERS.put(id, committer);
+        }
+        committer.references++;
+        return committer;
+    }
+
+    /**
+     * Releases the group committer, stopping it once it is no longer used by any offset store.
+     */
+    void release() {
+        synchronized (JdbcOffsetGroupCommitter.class) {
+            if (--references > 0) {
+                return;
+            }
+            COMMITTERS.remove(id);
+        }
+        stop();
+    }
+
+    /**
+     * Submits the offsets changed by a flush.
+     *
+     * @return a future completed once the offsets have been committed
+     */
+    CompletableFuture<Void> submit(Map<String, String> changes) {
+        final PendingFlush flush = new PendingFlush(changes);
+        pending.add(flush);
+        if (!running) {
+            // the flush may have been added after the remaining flushes were committed on stop
+            pending.remove(flush);
+            flush.future.completeExceptionally(new ConnectException("The offset group commit has been stopped"));
+        }
+        return flush.future;
+    }
+
+    private void run() {
+        final List<PendingFlush> batch = new ArrayList<>();
+        try {
+            while (running) {
+                final PendingFlush first = pending.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // give the other offset stores the chance to join the commit
+                Thread.sleep(interval.toMillis());
+                batch.add(first);
+                pending.drainTo(batch);
+                commit(batch);
+                batch.clear();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pending.drainTo(batch);
+        if (!batch.isEmpty()) {
+            commit(batch);
+        }
+    }
+
+    private void commit(List<PendingFlush> batch) {
+        final Map<String, String> changes = new HashMap<>();
+        for (PendingFlush flush : batch) {
+            changes.putAll(flush.changes);
+        }
+        LOGGER.debug("Committing {} offsets of {} flushes", changes.size(), batch.size());
+        try {
+            conn.executeWithRetry(conn -> {
+                writer.write(conn, changes);
+                conn.commit();
+            }, "Saving offsets", true);
+            batch.forEach(flush -> flush.future.complete(null));
+        }
+        catch (Exception e) {
+            batch.forEach(flush -> flush.future.completeExceptionally(e));
+        }
+    }
+
+    private void stop() {
+        running = false;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        try {
+            conn.close();
+        }
+        catch (SQLException e) {
+            LOGGER.error("Exception while stopping offset group commit", e);
+        }
+        LOGGER.info("Stopped group commit of offsets");
+    }
+
+    private static class PendingFlush {
+        final Map<String, String> changes;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        PendingFlush(Map<String, String> changes) {
+            this.changes = changes;
+        }
+    }
+}
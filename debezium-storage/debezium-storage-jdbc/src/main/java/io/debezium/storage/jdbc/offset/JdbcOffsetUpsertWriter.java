@@ -0,0 +1,117 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.storage.jdbc.offset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.debezium.storage.jdbc.offset.JdbcOffsetBackingStoreConfig.UpsertDialect;
+
+/**
+ * Writes the changed offsets to the offset table with batched statements, inserting the offsets not stored yet
+ * and updating the others, without touching the rows of the offsets that did not change.
+ *
+ * The writer does not commit, this is up to the caller.
+ */
+class JdbcOffsetUpsertWriter {
+
+    private final JdbcOffsetBackingStoreConfig config;
+    private final UpsertDialect dialect;
+    private final AtomicInteger recordInsertSeq;
+
+    JdbcOffsetUpsertWriter(JdbcOffsetBackingStoreConfig config, UpsertDialect dialect, AtomicInteger recordInsertSeq) {
+        this.config = config;
+        this.dialect = dialect;
+        this.recordInsertSeq = recordInsertSeq;
+    }
+
+    UpsertDialect getDialect() {
+        return dialect;
+    }
+
+    /**
+     * Writes the given offsets.
+     *
+     * @param conn the connection to use, should not be {@code null}
+     * @param changes the changed offsets by their key, should not be {@code null}
+     */
+    void write(Connection conn, Map<String, String> changes) throws SQLException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        final Timestamp currentTs = new Timestamp(System.currentTimeMillis());
+        final String upsert = dialect.getUpsertStatement(config.getTableName());
+        if (upsert == null) {
+            updateOrInsert(conn, changes, currentTs);
+            return;
+        }
+        try (PreparedStatement sql = conn.prepareStatement(upsert)) {
+            for (Map.Entry<String, String> entry : changes.entrySet()) {
+                bindInsert(sql, entry.getKey(), entry.getValue(), currentTs);
+                sql.addBatch();
+            }
+            sql.executeBatch();
+        }
+    }
+
+    private void updateOrInsert(Connection conn, Map<String, String> changes, Timestamp currentTs) throws SQLException {
+        final List<String> keys = new ArrayList<>(changes.keySet());
+        final List<String> missingKeys = new ArrayList<>();
+        try (PreparedStatement sql = conn.prepareStatement(config.getTableUpdate())) {
+            for (String key : keys) {
+                bindUpdate(sql, key, changes.get(key), currentTs);
+                sql.addBatch();
+            }
+            final int[] counts = sql.executeBatch();
+            for (int i = 0; i < keys.size(); i++) {
+                final String key = keys.get(i);
+                if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                    // the driver does not tell whether the row exists, the update is repeated on its own
+                    bindUpdate(sql, key, changes.get(key), currentTs);
+                    if (sql.executeUpdate() == 0) {
+                        missingKeys.add(key);
+                    }
+                }
+                else if (counts[i] == 0) {
+                    missingKeys.add(key);
+                }
+            }
+        }
+        if (missingKeys.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement sql = conn.prepareStatement(config.getTableInsert())) {
+            for (String key : missingKeys) {
+                bindInsert(sql, key, changes.get(key), currentTs);
+                sql.addBatch();
+            }
+            sql.executeBatch();
+        }
+    }
+
+    private void bindInsert(PreparedStatement sql, String key, String value, Timestamp currentTs) throws SQLException {
+        sql.setString(1, UUID.randomUUID().toString());
+        sql.setString(2, key);
+        sql.setString(3, value);
+        sql.setTimestamp(4, currentTs);
+        sql.setInt(5, recordInsertSeq.incrementAndGet());
+    }
+
+    private void bindUpdate(PreparedStatement sql, String key, String value, Timestamp currentTs) throws SQLException {
+        sql.setString(1, value);
+        sql.setTimestamp(2, currentTs);
+        sql.setInt(3, recordInsertSeq.incrementAndGet());
+        sql.setString(4, key);
+    }
+}
@@ -119,4 +119,48 @@ public void onCompletion(Throwable error, Void result) {
         assertEquals(store.toByteBuffer("value2secondSet"), values3.get(store.toByteBuffer("key2secondSet")));
     }
 
+    @Test
+    public void testSaveRestoreUpsertMode() throws Exception {
+        testSaveRestoreUpsertMode("sqlite", "0");
+    }
+
+    @Test
+    public void testSaveRestoreGenericUpsertMode() throws Exception {
+        testSaveRestoreUpsertMode("generic", "0");
+    }
+
+    @Test
+    public void testSaveRestoreUpsertModeWithGroupCommit() throws Exception {
+        testSaveRestoreUpsertMode("auto", "10");
+    }
+
+    private void testSaveRestoreUpsertMode(String dialect, String groupCommitInterval) throws Exception {
+        store.stop();
+        props.put("offset.storage.jdbc.offset.write.mode", "upsert");
+        props.put("offset.storage.jdbc.offset.upsert.dialect", dialect);
+        props.put("offset.storage.jdbc.offset.group.commit.interval.ms", groupCommitInterval);
+        config = new StandaloneConfig(props);
+        store = new JdbcOffsetBackingStore();
+        store.configure(config);
+        store.start();
+
+        final Map<ByteBuffer, ByteBuffer> updatedSet = new HashMap<>();
+        updatedSet.put(store.toByteBuffer("key1secondSet"), store.toByteBuffer("value1updated"));
+
+        store.set(firstSet, null).get();
+        store.set(secondSet, null).get();
+        store.set(updatedSet, null).get();
+        store.stop();
+
+        JdbcOffsetBackingStore restore = new JdbcOffsetBackingStore();
+        restore.configure(config);
+        restore.start();
+        Map<ByteBuffer, ByteBuffer> values = restore.get(Arrays.asList(store.toByteBuffer("key"), store.toByteBuffer("key1secondSet"),
+                store.toByteBuffer("key2secondSet"))).get();
+        assertEquals(store.toByteBuffer("value"), values.get(store.toByteBuffer("key")));
+        assertEquals(store.toByteBuffer("value1updated"), values.get(store.toByteBuffer("key1secondSet")));
+        assertEquals(store.toByteBuffer("value2secondSet"), values.get(store.toByteBuffer("key2secondSet")));
+        restore.stop();
+    }
+
 }
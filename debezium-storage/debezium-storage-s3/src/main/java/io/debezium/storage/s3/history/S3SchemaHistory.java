@@ -7,6 +7,7 @@
 
 import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 
 import org.apache.kafka.common.config.ConfigDef.Importance;
 import org.apache.kafka.common.config.ConfigDef.Type;
@@ -195,13 +196,22 @@ protected void doPreStoreRecord(HistoryRecord record) {
 
     @Override
     protected void doStoreRecord(HistoryRecord record) {
+        putObject(fromHistoryRecord(record));
+    }
+
+    @Override
+    protected void doRewriteRecords(List<HistoryRecord> records) {
+        putObject(fromHistoryRecords(records));
+    }
+
+    private void putObject(byte[] content) {
         try {
             PutObjectRequest request = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(objectName)
                     .contentType(OBJECT_CONTENT_TYPE)
                     .build();
-            client.putObject(request, RequestBody.fromBytes(fromHistoryRecord(record)));
+            client.putObject(request, RequestBody.fromBytes(content));
         }
         catch (S3Exception e) {
             throw new SchemaHistoryException("Can not store record to S3", e);